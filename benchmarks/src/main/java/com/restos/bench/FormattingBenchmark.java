@@ -0,0 +1,185 @@
+package com.restos.bench;
+
+import com.restos.model.Money;
+import com.restos.util.CurrencyFormatter;
+import com.restos.util.DateTimeUtil;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks currency and relative-time formatting used by every row label
+ * The baseline* methods format the same values the way CurrencyFormatter
+ * and DateTimeUtil used to (NumberFormat, DecimalFormat, DateTimeFormatter
+ * and String.format), one instance per benchmark thread.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormattingBenchmark {
+
+    private BigDecimal menuPrice;
+    private BigDecimal orderTotal;
+    private Money orderTotalMoney;
+    private double revenue;
+    private LocalDateTime minutesAgo;
+    private LocalDateTime hoursAgo;
+    private LocalDateTime weeksAgo;
+    private LocalDateTime orderTime;
+
+    // A menu's worth of prices, as rendered by the menu grid and cart
+    private Money[] menuPrices;
+    private double[] menuPriceValues;
+
+    private NumberFormat baselineCurrency;
+    private DecimalFormat baselineDecimal;
+    private DateTimeFormatter baselineDateTime;
+
+    @Setup
+    public void setup() {
+        menuPrice = new BigDecimal("25000.00");
+        orderTotal = new BigDecimal("1387500.00");
+        orderTotalMoney = Money.of(orderTotal);
+        revenue = 12_450_000d;
+
+        LocalDateTime now = LocalDateTime.now();
+        minutesAgo = now.minusMinutes(12);
+        hoursAgo = now.minusHours(5);
+        weeksAgo = now.minusWeeks(3);
+        orderTime = now.minusMinutes(7).minusSeconds(42);
+
+        menuPrices = new Money[40];
+        menuPriceValues = new double[menuPrices.length];
+        for (int i = 0; i < menuPrices.length; i++) {
+            menuPrices[i] = Money.of(5_000L + ((i * 37L) % 40) * 1_000L);
+            menuPriceValues[i] = menuPrices[i].doubleValue();
+        }
+
+        Locale indonesia = new Locale("id", "ID");
+        baselineCurrency = NumberFormat.getCurrencyInstance(indonesia);
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(indonesia);
+        symbols.setGroupingSeparator('.');
+        symbols.setDecimalSeparator(',');
+        baselineDecimal = new DecimalFormat("#,##0", symbols);
+        baselineDateTime = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    }
+
+    @Benchmark
+    public String baselineFormat() {
+        return baselineCurrency.format(orderTotal.doubleValue());
+    }
+
+    @Benchmark
+    public String baselineFormatShort() {
+        return "Rp " + baselineDecimal.format(orderTotal.doubleValue());
+    }
+
+    @Benchmark
+    public void baselineFormatMenuPrices(Blackhole blackhole) {
+        for (double price : menuPriceValues) {
+            blackhole.consume(baselineCurrency.format(price));
+        }
+    }
+
+    @Benchmark
+    public void formatMenuPrices(Blackhole blackhole) {
+        for (Money price : menuPrices) {
+            blackhole.consume(CurrencyFormatter.format(price));
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void formatMenuPricesFourThreads(Blackhole blackhole) {
+        for (Money price : menuPrices) {
+            blackhole.consume(CurrencyFormatter.format(price));
+        }
+    }
+
+    @Benchmark
+    public String baselineFormatDateTime() {
+        return orderTime.format(baselineDateTime);
+    }
+
+    @Benchmark
+    public String formatDateTime() {
+        return DateTimeUtil.formatDateTime(orderTime);
+    }
+
+    @Benchmark
+    public String baselineElapsedTime() {
+        long seconds = Duration.between(orderTime, LocalDateTime.now()).getSeconds();
+        return String.format("%02d:%02d", seconds / 60, seconds % 60);
+    }
+
+    @Benchmark
+    public String elapsedTime() {
+        return DateTimeUtil.getElapsedTime(orderTime);
+    }
+
+    @Benchmark
+    public String formatBigDecimal() {
+        return CurrencyFormatter.format(menuPrice);
+    }
+
+    @Benchmark
+    public String formatLargeBigDecimal() {
+        return CurrencyFormatter.format(orderTotal);
+    }
+
+    @Benchmark
+    public String formatMoney() {
+        return CurrencyFormatter.format(orderTotalMoney);
+    }
+
+    @Benchmark
+    public String formatDouble() {
+        return CurrencyFormatter.format(revenue);
+    }
+
+    @Benchmark
+    public String formatShortBigDecimal() {
+        return CurrencyFormatter.formatShort(orderTotal);
+    }
+
+    @Benchmark
+    public String formatShortMoney() {
+        return CurrencyFormatter.formatShort(orderTotalMoney);
+    }
+
+    @Benchmark
+    public String formatShortDouble() {
+        return CurrencyFormatter.formatShort(revenue);
+    }
+
+    @Benchmark
+    public String relativeTimeMinutes() {
+        return DateTimeUtil.getRelativeTime(minutesAgo);
+    }
+
+    @Benchmark
+    public String relativeTimeHours() {
+        return DateTimeUtil.getRelativeTime(hoursAgo);
+    }
+
+    @Benchmark
+    public String relativeTimeWeeks() {
+        return DateTimeUtil.getRelativeTime(weeksAgo);
+    }
+}
@@ -0,0 +1,68 @@
+package com.restos.bench;
+
+import com.restos.model.Category;
+import com.restos.model.Menu;
+import com.restos.model.Money;
+import com.restos.util.MenuFilter;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the menu catalog filtering and sorting done on every keystroke
+ * in the waiter order page search field
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuFilterBenchmark {
+
+    private static final String[] CATEGORY_NAMES = { "Makanan Berat", "Minuman", "Dessert", "Snack" };
+    private static final String[] WORDS = { "Nasi", "Mie", "Ayam", "Es", "Jus", "Kopi", "Sate", "Puding" };
+
+    @Param({ "50", "500" })
+    private int catalogSize;
+
+    @Param({ "", "es" })
+    private String searchText;
+
+    @Param({ "Nama A-Z", "Harga Tertinggi" })
+    private String sortOption;
+
+    private List<Menu> catalog;
+
+    @Setup
+    public void setup() {
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORY_NAMES.length; i++) {
+            categories.add(new Category(i + 1, CATEGORY_NAMES[i]));
+        }
+
+        catalog = new ArrayList<>(catalogSize);
+        for (int i = 0; i < catalogSize; i++) {
+            String name = WORDS[i % WORDS.length] + " " + WORDS[(i * 7) % WORDS.length] + " " + i;
+            Menu menu = new Menu(i + 1, name, Money.of(5_000L + ((i * 37L) % 40) * 1_000L));
+            menu.setCategory(categories.get(i % categories.size()));
+            catalog.add(menu);
+        }
+    }
+
+    @Benchmark
+    public List<Menu> filterAllCategories() {
+        return MenuFilter.filter(catalog, null, searchText, sortOption);
+    }
+
+    @Benchmark
+    public List<Menu> filterSingleCategory() {
+        return MenuFilter.filter(catalog, "Minuman", searchText, sortOption);
+    }
+}
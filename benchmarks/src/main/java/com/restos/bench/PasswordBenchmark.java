@@ -0,0 +1,46 @@
+package com.restos.bench;
+
+import com.restos.util.PasswordUtil;
+
+import org.mindrot.jbcrypt.BCrypt;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks password verification at login
+ * BCrypt cost dominates, so this runs with short iteration counts
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordBenchmark {
+
+    private static final String PASSWORD = "cashier123";
+
+    @Param({ "10", "12" })
+    private int cost;
+
+    private String storedHash;
+
+    @Setup
+    public void setup() {
+        storedHash = BCrypt.hashpw(PASSWORD, BCrypt.gensalt(cost));
+    }
+
+    @Benchmark
+    public boolean verifyCorrectPassword() {
+        return PasswordUtil.verifyPassword(PASSWORD, storedHash);
+    }
+
+    @Benchmark
+    public boolean verifyWrongPassword() {
+        return PasswordUtil.verifyPassword("wrong-password", storedHash);
+    }
+}
@@ -0,0 +1,140 @@
+package com.restos.bench;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+/**
+ * Builds in-memory ResultSets shaped like the DAO queries,
+ * so the row mappers can be benchmarked without a database
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class RowSetFixtures {
+
+    // Columns selected by OrderDAOImpl queries
+    private static final String[] ORDER_COLUMNS = {
+            "id", "table_id", "user_id", "customer_name", "order_type", "status",
+            "total_amount", "created_at", "updated_at",
+            "table_number", "capacity", "table_status",
+            "username", "full_name"
+    };
+    private static final int[] ORDER_TYPES = {
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.DECIMAL, Types.TIMESTAMP, Types.TIMESTAMP,
+            Types.VARCHAR, Types.INTEGER, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR
+    };
+
+    // Columns selected by OrderItemDAOImpl queries
+    private static final String[] ORDER_ITEM_COLUMNS = {
+            "id", "order_id", "menu_id", "quantity", "price", "subtotal",
+            "notes", "status", "created_at",
+            "menu_name", "menu_description", "menu_price",
+            "image_url", "is_available"
+    };
+    private static final int[] ORDER_ITEM_TYPES = {
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.DECIMAL, Types.DECIMAL,
+            Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP,
+            Types.VARCHAR, Types.VARCHAR, Types.DECIMAL,
+            Types.VARCHAR, Types.BOOLEAN
+    };
+
+    private static final String[] ORDER_STATUSES = { "pending", "processing", "delivered", "completed" };
+    private static final String[] ITEM_STATUSES = { "pending", "cooking", "served" };
+
+    /**
+     * Create a row set of orders joined with table and waiter
+     *
+     * @param rows Number of rows
+     * @return Row set positioned before the first row
+     */
+    public static CachedRowSet orders(int rows) throws SQLException {
+        CachedRowSet rs = create(ORDER_COLUMNS, ORDER_TYPES);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int i = 1; i <= rows; i++) {
+            rs.moveToInsertRow();
+            rs.updateInt("id", i);
+            rs.updateInt("table_id", (i % 12) + 1);
+            rs.updateInt("user_id", (i % 4) + 1);
+            rs.updateString("customer_name", "Tamu " + i);
+            rs.updateString("order_type", i % 5 == 0 ? "take_away" : "dine_in");
+            rs.updateString("status", ORDER_STATUSES[i % ORDER_STATUSES.length]);
+            rs.updateBigDecimal("total_amount", BigDecimal.valueOf(25_000L + (i * 1_500L)));
+            rs.updateTimestamp("created_at", now);
+            rs.updateTimestamp("updated_at", now);
+            rs.updateString("table_number", "T" + ((i % 12) + 1));
+            rs.updateInt("capacity", 4);
+            rs.updateString("table_status", "occupied");
+            rs.updateString("username", "waiter" + (i % 4));
+            rs.updateString("full_name", "Waiter Staff " + (i % 4));
+            rs.insertRow();
+        }
+
+        rs.moveToCurrentRow();
+        rs.beforeFirst();
+        return rs;
+    }
+
+    /**
+     * Create a row set of order items joined with menu
+     *
+     * @param rows Number of rows
+     * @return Row set positioned before the first row
+     */
+    public static CachedRowSet orderItems(int rows) throws SQLException {
+        CachedRowSet rs = create(ORDER_ITEM_COLUMNS, ORDER_ITEM_TYPES);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int i = 1; i <= rows; i++) {
+            BigDecimal price = BigDecimal.valueOf(5_000L + ((i % 14) * 2_500L));
+            int quantity = (i % 3) + 1;
+
+            rs.moveToInsertRow();
+            rs.updateInt("id", i);
+            rs.updateInt("order_id", (i / 4) + 1);
+            rs.updateInt("menu_id", (i % 14) + 1);
+            rs.updateInt("quantity", quantity);
+            rs.updateBigDecimal("price", price);
+            rs.updateBigDecimal("subtotal", price.multiply(BigDecimal.valueOf(quantity)));
+            rs.updateString("notes", i % 3 == 0 ? "Tanpa pedas" : null);
+            rs.updateString("status", ITEM_STATUSES[i % ITEM_STATUSES.length]);
+            rs.updateTimestamp("created_at", now);
+            rs.updateString("menu_name", "Menu " + ((i % 14) + 1));
+            rs.updateString("menu_description", "Deskripsi menu");
+            rs.updateBigDecimal("menu_price", price);
+            rs.updateString("image_url", null);
+            rs.updateBoolean("is_available", true);
+            rs.insertRow();
+        }
+
+        rs.moveToCurrentRow();
+        rs.beforeFirst();
+        return rs;
+    }
+
+    /**
+     * Create an empty row set with the given columns
+     */
+    private static CachedRowSet create(String[] columns, int[] types) throws SQLException {
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        metaData.setColumnCount(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            metaData.setColumnName(i + 1, columns[i]);
+            metaData.setColumnLabel(i + 1, columns[i]);
+            metaData.setColumnType(i + 1, types[i]);
+            metaData.setNullable(i + 1, RowSetMetaDataImpl.columnNullable);
+        }
+
+        CachedRowSet rs = RowSetProvider.newFactory().createCachedRowSet();
+        rs.setMetaData(metaData);
+        return rs;
+    }
+}
@@ -0,0 +1,206 @@
+package com.restos.bench;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Time-to-login-screen benchmark, with and without the AppCDS archive
+ * Starts the shaded JAR in fresh JVMs with -Drestos.startup.exitAfterLogin=true
+ * and reads the "Time to login screen" the application reports (ms since JVM
+ * start, so JVM boot and class loading are included). Runs alternate between
+ * the two modes so disk cache and CPU frequency drift affect both equally;
+ * the first run of each mode is a discarded warm-up.
+ *
+ * Create the archive first with scripts/restos-fast.sh --train. The archive
+ * run uses -Xshare:on, so an archive that does not match the JAR or JDK
+ * fails the run instead of being silently ignored.
+ *
+ * Usage: java -cp benchmarks/target/benchmarks.jar com.restos.bench.StartupBenchmark [options]
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class StartupBenchmark {
+
+    private static final Pattern LOGIN_TIME = Pattern.compile("Time to login screen: (\\d+) ms");
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("jar", "target/restos-desktop-1.0.0.jar");
+        DEFAULTS.put("archive", "");
+        DEFAULTS.put("runs", "10");
+        DEFAULTS.put("timeout-s", "60");
+        DEFAULTS.put("java", Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    }
+
+    private final Map<String, String> options;
+    private final Path jar;
+    private final Path archive;
+
+    private StartupBenchmark(Map<String, String> options) {
+        this.options = options;
+        this.jar = Path.of(options.get("jar")).toAbsolutePath();
+        String archiveOption = options.get("archive");
+        String jarName = jar.getFileName().toString();
+        this.archive = archiveOption.isEmpty()
+                ? jar.resolveSibling(jarName.substring(0, jarName.length() - ".jar".length()) + ".jsa")
+                : Path.of(archiveOption).toAbsolutePath();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        if (options == null) {
+            printUsage();
+            System.exit(2);
+            return;
+        }
+        new StartupBenchmark(options).run();
+    }
+
+    private void run() throws IOException, InterruptedException {
+        if (!Files.exists(jar)) {
+            System.err.println("JAR not found: " + jar + " (run mvn package first)");
+            System.exit(1);
+        }
+        if (!Files.exists(archive)) {
+            System.err.println("CDS archive not found: " + archive + " (run scripts/restos-fast.sh --train first)");
+            System.exit(1);
+        }
+
+        int runs = Integer.parseInt(options.get("runs"));
+        List<Long> plain = new ArrayList<>();
+        List<Long> shared = new ArrayList<>();
+
+        // Warm-up: fills the OS file cache for the JAR and the archive
+        launch(false);
+        launch(true);
+
+        for (int i = 1; i <= runs; i++) {
+            long without = launch(false);
+            long with = launch(true);
+            plain.add(without);
+            shared.add(with);
+            System.out.printf("run %2d: %6d ms without archive, %6d ms with archive%n", i, without, with);
+        }
+
+        System.out.println();
+        System.out.println("Time to login screen (ms since JVM start), " + runs + " runs");
+        System.out.printf("  %-16s %8s %8s %8s %8s%n", "mode", "min", "median", "mean", "max");
+        print("without archive", plain);
+        print("with archive", shared);
+
+        double speedup = (double) median(plain) / median(shared);
+        System.out.printf("Median speedup: %.2fx (%d ms saved)%n", speedup, median(plain) - median(shared));
+    }
+
+    /**
+     * Start the application once and wait for it to report the login screen
+     *
+     * @param useArchive Whether to map the AppCDS archive
+     * @return Milliseconds from JVM start to the login screen
+     */
+    private long launch(boolean useArchive) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(options.get("java"));
+        if (useArchive) {
+            command.add("-XX:SharedArchiveFile=" + archive);
+            command.add("-Xshare:on");
+        }
+        command.add("-Drestos.startup.exitAfterLogin=true");
+        command.add("-jar");
+        command.add(jar.toString());
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        long loginMillis = -1;
+        List<String> output = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.add(line);
+                Matcher matcher = LOGIN_TIME.matcher(line);
+                if (matcher.find()) {
+                    loginMillis = Long.parseLong(matcher.group(1));
+                }
+            }
+        }
+
+        if (!process.waitFor(Long.parseLong(options.get("timeout-s")), TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+        if (loginMillis < 0) {
+            output.forEach(System.err::println);
+            throw new IllegalStateException("Application did not report the login screen ("
+                    + (useArchive ? "with" : "without") + " archive)");
+        }
+        return loginMillis;
+    }
+
+    private static void print(String mode, List<Long> times) {
+        long sum = 0;
+        for (long time : times) {
+            sum += time;
+        }
+        System.out.printf("  %-16s %8d %8d %8d %8d%n", mode, Collections.min(times), median(times),
+                sum / times.size(), Collections.max(times));
+    }
+
+    private static long median(List<Long> times) {
+        List<Long> sorted = new ArrayList<>(times);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+
+    /**
+     * Parse --key value and --key=value options over the defaults
+     *
+     * @return Options, or null if the arguments are invalid
+     */
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>(DEFAULTS);
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                return null;
+            }
+
+            String key = arg.substring(2);
+            String value;
+            int eq = key.indexOf('=');
+            if (eq >= 0) {
+                value = key.substring(eq + 1);
+                key = key.substring(0, eq);
+            } else if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                value = args[++i];
+            } else {
+                return null;
+            }
+
+            if (!DEFAULTS.containsKey(key)) {
+                return null;
+            }
+            options.put(key, value);
+        }
+        return options;
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage: java -cp benchmarks.jar com.restos.bench.StartupBenchmark [options]");
+        DEFAULTS.forEach((key, value) -> System.out.printf("  --%-10s (default: %s)%n", key,
+                "archive".equals(key) ? "JAR path with .jsa" : value));
+    }
+}
@@ -0,0 +1,59 @@
+package com.restos.dao;
+
+import com.restos.bench.RowSetFixtures;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sql.rowset.CachedRowSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the DAO row mappers that run on every dashboard refresh
+ * Lives in com.restos.dao to reach the package-private mappers
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    // Typical kitchen queue / cashier list sizes
+    @Param({ "20", "200" })
+    private int rows;
+
+    private OrderDAOImpl orderDAO;
+    private OrderItemDAOImpl orderItemDAO;
+    private CachedRowSet orderRows;
+    private CachedRowSet orderItemRows;
+
+    @Setup
+    public void setup() throws SQLException {
+        orderDAO = new OrderDAOImpl();
+        orderItemDAO = new OrderItemDAOImpl();
+        orderRows = RowSetFixtures.orders(rows);
+        orderItemRows = RowSetFixtures.orderItems(rows);
+    }
+
+    @Benchmark
+    public void mapOrders(Blackhole blackhole) throws SQLException {
+        orderRows.beforeFirst();
+        while (orderRows.next()) {
+            blackhole.consume(orderDAO.mapResultSetToOrder(orderRows));
+        }
+    }
+
+    @Benchmark
+    public void mapOrderItems(Blackhole blackhole) throws SQLException {
+        orderItemRows.beforeFirst();
+        while (orderItemRows.next()) {
+            blackhole.consume(orderItemDAO.mapResultSetToOrderItem(orderItemRows));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.restos.loadgen;
+
+import com.restos.dao.*;
+import com.restos.model.Money;
+import com.restos.model.Order;
+import com.restos.model.OrderItem;
+import com.restos.model.Payment;
+import com.restos.service.DashboardPrefetch.CashierSnapshot;
+import com.restos.service.PaymentService;
+
+/**
+ * Simulated cashier: polls delivered orders like the CashierDashboard
+ * auto-refresh, opens the orders it owns and settles them
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class CashierTerminal extends SimulatedTerminal {
+
+    private static final String[] METHODS = { Payment.METHOD_CASH, Payment.METHOD_QRIS, Payment.METHOD_DEBIT };
+
+    private final int cashierId;
+    private final int terminals;
+    private final long pollMillis;
+
+    private final OrderItemDAO orderItemDAO = DAOFactory.getOrderItemDAO();
+    private final TableDAO tableDAO = DAOFactory.getTableDAO();
+    private final UserDAO userDAO = DAOFactory.getUserDAO();
+    private final MenuDAO menuDAO = DAOFactory.getMenuDAO();
+    private final PaymentService paymentService = new PaymentService();
+
+    /**
+     * Constructor
+     *
+     * @param workload   Measurement context
+     * @param index      Terminal index
+     * @param cashierId  Cashier user ID used for the payments
+     * @param terminals  Number of cashier terminals (orders are split by id)
+     * @param pollMillis Refresh interval
+     */
+    public CashierTerminal(Workload workload, int index, int cashierId, int terminals, long pollMillis) {
+        super(workload, index);
+        this.cashierId = cashierId;
+        this.terminals = terminals;
+        this.pollMillis = pollMillis;
+    }
+
+    @Override
+    protected void cycle() {
+        // Same load as the dashboard: queue with tables and waiters, and the stats
+        CashierSnapshot queue = workload.measure("cashier.refresh", CashierSnapshot::load);
+        if (queue == null) {
+            return;
+        }
+
+        for (Order order : queue.getDeliveredOrders()) {
+            if (order.getId() % terminals != index) {
+                continue;
+            }
+
+            workload.measure("cashier.selectOrder", () -> {
+                tableDAO.findById(order.getTableId());
+                userDAO.findById(order.getUserId());
+                for (OrderItem item : orderItemDAO.findByOrderId(order.getId())) {
+                    menuDAO.findById(item.getMenuId());
+                }
+            });
+
+            // Round the bill up to the next 10.000 like a customer paying cash
+            long total = order.getTotalAmount().getRupiah();
+            Money paid = Money.of(-Math.floorDiv(-total, 10_000L) * 10_000L);
+            String method = METHODS[random().nextInt(METHODS.length)];
+            workload.measure("cashier.settle", () -> {
+                Payment payment = paymentService.settle(order, cashierId, method, paid);
+                if (payment == null) {
+                    throw new IllegalStateException("payment for order #" + order.getId() + " was not saved");
+                }
+                paymentService.printReceipt(order, payment);
+                return payment;
+            });
+        }
+    }
+
+    @Override
+    protected long nextDelayMillis() {
+        return pollMillis;
+    }
+}
@@ -0,0 +1,102 @@
+package com.restos.loadgen;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Throw-away MariaDB server (MariaDB4j) with the load-generator schema,
+ * so a run does not need a local MySQL installation
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class EmbeddedDatabase {
+
+    private static final String DATABASE = "restaus_db";
+    private static final String SCHEMA = "/loadgen-schema.sql";
+
+    private DB db;
+    private String url;
+
+    /**
+     * Start the server and load the schema
+     *
+     * @param tables Number of restaurant tables to seed
+     */
+    public void start(int tables) throws Exception {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0);
+        if ("root".equals(System.getProperty("user.name"))) {
+            config.addArg("--user=root");
+        }
+
+        db = DB.newEmbeddedDB(config.build());
+        db.start();
+
+        // Create the database over JDBC (the bundled command line client needs extra native libraries)
+        String serverUrl = "jdbc:mysql://localhost:" + config.getPort() + "/";
+        try (Connection conn = DriverManager.getConnection(serverUrl, "root", "");
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE DATABASE " + DATABASE);
+        }
+        url = serverUrl + DATABASE;
+
+        try (Connection conn = DriverManager.getConnection(url, "root", "");
+             Statement stmt = conn.createStatement()) {
+            for (String sql : readSchema().split(";")) {
+                if (!sql.isBlank()) {
+                    stmt.execute(sql);
+                }
+            }
+            for (int i = 1; i <= tables; i++) {
+                stmt.execute(String.format(
+                        "INSERT INTO tables (table_number, capacity) VALUES ('T%02d', %d)", i, 2 + (i % 3) * 2));
+            }
+        }
+    }
+
+    /**
+     * Get the JDBC URL of the running server
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Stop the server and delete its data
+     */
+    public synchronized void stop() {
+        if (db != null) {
+            try {
+                db.stop();
+            } catch (Exception e) {
+                System.err.println("Error stopping embedded database: " + e.getMessage());
+            }
+            db = null;
+        }
+    }
+
+    private String readSchema() throws IOException, SQLException {
+        try (InputStream input = EmbeddedDatabase.class.getResourceAsStream(SCHEMA)) {
+            if (input == null) {
+                throw new SQLException("Unable to find " + SCHEMA);
+            }
+            // Drop comment lines before splitting on ';'
+            StringBuilder sql = new StringBuilder();
+            for (String line : new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n")) {
+                if (!line.trim().startsWith("--")) {
+                    sql.append(line).append('\n');
+                }
+            }
+            return sql.toString();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.restos.loadgen;
+
+import com.restos.model.Order;
+import com.restos.model.OrderItem;
+import com.restos.service.DashboardPrefetch.KitchenSnapshot;
+import com.restos.service.OrderService;
+
+import java.util.List;
+
+/**
+ * Simulated kitchen display: polls the order queue like the
+ * KitchenDashboard auto-refresh and advances the orders it owns
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class KitchenTerminal extends SimulatedTerminal {
+
+    private final int terminals;
+    private final long pollMillis;
+
+    private final OrderService orderService = new OrderService();
+
+    /**
+     * Constructor
+     *
+     * @param workload   Measurement context
+     * @param index      Terminal index
+     * @param terminals  Number of kitchen terminals (orders are split by id)
+     * @param pollMillis Refresh interval
+     */
+    public KitchenTerminal(Workload workload, int index, int terminals, long pollMillis) {
+        super(workload, index);
+        this.terminals = terminals;
+        this.pollMillis = pollMillis;
+    }
+
+    @Override
+    protected void cycle() {
+        // Same load as the dashboard (menu names come joined with the items)
+        KitchenSnapshot queue = workload.measure("kitchen.refresh", KitchenSnapshot::load);
+        if (queue == null) {
+            return;
+        }
+
+        for (Order order : queue.getOrders()) {
+            if (order.getId() % terminals != index) {
+                continue;
+            }
+            advance(order, queue.getItems(order));
+        }
+    }
+
+    /**
+     * Move an order one step forward, as a cook pressing the card button
+     */
+    private void advance(Order order, List<OrderItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        if (items.stream().anyMatch(i -> OrderItem.STATUS_PENDING.equals(i.getStatus()))) {
+            workload.measure("kitchen.startCooking", () -> orderService.startCookingAll(order.getId(), items));
+        } else if (items.stream().anyMatch(i -> OrderItem.STATUS_COOKING.equals(i.getStatus()))) {
+            workload.measure("kitchen.completeItems", () -> orderService.completeAllItems(items));
+        } else {
+            workload.measure("kitchen.markDelivered", () -> orderService.markDelivered(order.getId()));
+        }
+    }
+
+    @Override
+    protected long nextDelayMillis() {
+        return pollMillis;
+    }
+}
@@ -0,0 +1,274 @@
+package com.restos.loadgen;
+
+import com.restos.config.DatabaseConfig;
+import com.restos.dao.DAOFactory;
+import com.restos.dao.UserDAO;
+import com.restos.metrics.MetricsRegistry;
+import com.restos.model.User;
+import com.restos.print.PrintSpooler;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Headless restaurant workload simulator
+ * Runs N waiters, K kitchen displays and C cashiers against a local
+ * MySQL database (or an embedded MariaDB with --embedded) and prints
+ * throughput, latency percentiles and query counts per operation
+ *
+ * Usage: java -jar loadgen.jar [--option value ...]
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class LoadGenerator {
+
+    private static final Map<String, String> DEFAULTS = new HashMap<>();
+
+    static {
+        DEFAULTS.put("db-url", "jdbc:mysql://localhost:3306/restaus_db");
+        DEFAULTS.put("db-user", "root");
+        DEFAULTS.put("db-password", "");
+        DEFAULTS.put("waiters", "4");
+        DEFAULTS.put("kitchens", "2");
+        DEFAULTS.put("cashiers", "2");
+        DEFAULTS.put("rate", "1.0");
+        DEFAULTS.put("kitchen-poll-ms", "5000");
+        DEFAULTS.put("cashier-poll-ms", "10000");
+        DEFAULTS.put("duration", "120");
+        DEFAULTS.put("warmup", "15");
+        DEFAULTS.put("pool-size", "");
+        DEFAULTS.put("embedded", "false");
+        DEFAULTS.put("tables", "30");
+        DEFAULTS.put("metrics-csv", "");
+        DEFAULTS.put("printer", "false");
+        DEFAULTS.put("printer-delay-ms", "0");
+    }
+
+    private final Map<String, String> options;
+    private final int waiters;
+    private final int kitchens;
+    private final int cashiers;
+    private final double rate;
+    private final long kitchenPoll;
+    private final long cashierPoll;
+    private final long duration;
+    private final long warmup;
+    private final String poolSize;
+
+    private LoadGenerator(Map<String, String> options) {
+        this.options = options;
+        this.waiters = Integer.parseInt(options.get("waiters"));
+        this.kitchens = Integer.parseInt(options.get("kitchens"));
+        this.cashiers = Integer.parseInt(options.get("cashiers"));
+        this.rate = Double.parseDouble(options.get("rate"));
+        this.kitchenPoll = Long.parseLong(options.get("kitchen-poll-ms"));
+        this.cashierPoll = Long.parseLong(options.get("cashier-poll-ms"));
+        this.duration = Long.parseLong(options.get("duration"));
+        this.warmup = Long.parseLong(options.get("warmup"));
+        this.poolSize = options.get("pool-size").isEmpty()
+                ? String.valueOf(waiters + kitchens + cashiers)
+                : options.get("pool-size");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        if (options == null) {
+            printUsage();
+            System.exit(2);
+            return;
+        }
+        LoadGenerator generator = new LoadGenerator(options);
+
+        String dbUrl = options.get("db-url");
+        EmbeddedDatabase embedded = null;
+        if (Boolean.parseBoolean(options.get("embedded"))) {
+            embedded = new EmbeddedDatabase();
+            Runtime.getRuntime().addShutdownHook(new Thread(embedded::stop));
+        }
+
+        try {
+            if (embedded != null) {
+                embedded.start(Integer.parseInt(options.get("tables")));
+                dbUrl = embedded.getUrl();
+            }
+            generator.run(dbUrl);
+        } finally {
+            // Stop the embedded server, its process watcher would otherwise keep the JVM alive
+            if (embedded != null) {
+                embedded.stop();
+            }
+        }
+    }
+
+    /**
+     * Run the simulation against the given database and print the report
+     *
+     * @param dbUrl JDBC URL of the database under test
+     */
+    private void run(String dbUrl) throws Exception {
+        // Point the application's DatabaseConfig at the database under test;
+        // its statement tracer attributes queries to each measured operation
+        System.setProperty("db.url", dbUrl);
+        System.setProperty("db.trace.enabled", "true");
+        System.setProperty("db.username", options.get("db-user"));
+        System.setProperty("db.password", options.get("db-password"));
+        System.setProperty("db.pool.size", poolSize);
+
+        // Kitchen tickets and receipts go to a local stand-in printer
+        StandInPrinter printer = null;
+        if (Boolean.parseBoolean(options.get("printer"))) {
+            printer = new StandInPrinter(Long.parseLong(options.get("printer-delay-ms")));
+            System.setProperty("printer.kitchen", printer.getAddress());
+            System.setProperty("printer.receipt", printer.getAddress());
+        }
+
+        DatabaseConfig db = DatabaseConfig.getInstance();
+        if (!db.testConnection()) {
+            System.err.println("Cannot connect to " + dbUrl);
+            return;
+        }
+
+        UserDAO userDAO = DAOFactory.getUserDAO();
+        List<User> waiterUsers = userDAO.findByRole("waiter");
+        List<User> cashierUsers = userDAO.findByRole("cashier");
+        if (waiterUsers.isEmpty() || cashierUsers.isEmpty()) {
+            System.err.println("The database needs at least one waiter and one cashier user");
+            return;
+        }
+
+        System.out.printf("Simulating %d waiters, %d kitchen displays, %d cashiers at %.2f orders/s "
+                + "(warm-up %ds, measure %ds, pool %s)%n", waiters, kitchens, cashiers, rate, warmup, duration, poolSize);
+
+        Workload workload = new Workload();
+        workload.startMeasurementAfter(warmup * 1_000_000_000L);
+
+        Set<Integer> claimedTables = ConcurrentHashMap.newKeySet();
+        List<SimulatedTerminal> terminals = new ArrayList<>();
+        for (int i = 0; i < waiters; i++) {
+            int waiterId = waiterUsers.get(i % waiterUsers.size()).getId();
+            terminals.add(new WaiterTerminal(workload, i, waiterId, rate / waiters, claimedTables));
+        }
+        for (int i = 0; i < kitchens; i++) {
+            terminals.add(new KitchenTerminal(workload, i, kitchens, kitchenPoll));
+        }
+        for (int i = 0; i < cashiers; i++) {
+            int cashierId = cashierUsers.get(i % cashierUsers.size()).getId();
+            terminals.add(new CashierTerminal(workload, i, cashierId, cashiers, cashierPoll));
+        }
+
+        List<Thread> threads = new ArrayList<>();
+        for (SimulatedTerminal terminal : terminals) {
+            Thread thread = new Thread(terminal, terminal.getClass().getSimpleName() + "-" + terminal.index);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+
+        // DAO/service metrics cover the same window as the report
+        Thread.sleep(warmup * 1000L);
+        MetricsRegistry.getInstance().reset();
+        Thread.sleep(duration * 1000L);
+        workload.stopMeasurement();
+
+        terminals.forEach(SimulatedTerminal::stop);
+        for (Thread thread : threads) {
+            thread.interrupt();
+            thread.join(5000);
+        }
+
+        printReport(workload);
+        System.out.println(db.getPool());
+        if (db.getReplicas() != null) {
+            System.out.println(db.getReplicas());
+        }
+        if (printer != null) {
+            awaitPrinting();
+            System.out.println(printer);
+            printer.stop();
+        }
+
+        String metricsCsv = options.get("metrics-csv");
+        if (!metricsCsv.isEmpty()) {
+            MetricsRegistry.getInstance().exportCsv(Path.of(metricsCsv));
+            System.out.println("DAO/service metrics written to " + metricsCsv);
+        }
+        db.closeConnection();
+    }
+
+    /**
+     * Give the print spooler a few seconds to send what is still queued
+     */
+    private static void awaitPrinting() throws InterruptedException {
+        PrintSpooler spooler = PrintSpooler.getInstance();
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((spooler.getPending(PrintSpooler.KITCHEN) > 0 || spooler.getPending(PrintSpooler.RECEIPT) > 0)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+    }
+
+    /**
+     * Print the per-operation report
+     */
+    private static void printReport(Workload workload) {
+        double seconds = workload.getMeasuredSeconds();
+
+        System.out.println();
+        System.out.printf("%-24s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "ops/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "queries");
+        for (OperationStats stats : workload.getOperations()) {
+            double[] p = stats.percentilesMillis(50, 95, 99, 100);
+            System.out.printf("%-24s %8d %7d %9.2f %9.2f %9.2f %9.2f %9.2f %9.1f%n",
+                    stats.getName(), stats.getCount(), stats.getErrors(), stats.getCount() / seconds,
+                    p[0], p[1], p[2], p[3], stats.getQueriesPerOperation());
+        }
+        System.out.printf("Measured over %.1f s%n", seconds);
+    }
+
+    /**
+     * Parse --key value and --key=value options over the defaults
+     *
+     * @return Options, or null if the arguments are invalid
+     */
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>(DEFAULTS);
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                return null;
+            }
+
+            String key = arg.substring(2);
+            String value;
+            int eq = key.indexOf('=');
+            if (eq >= 0) {
+                value = key.substring(eq + 1);
+                key = key.substring(0, eq);
+            } else if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                value = args[++i];
+            } else {
+                // Flag without a value, e.g. --embedded
+                value = "true";
+            }
+
+            if (!DEFAULTS.containsKey(key)) {
+                return null;
+            }
+            options.put(key, value);
+        }
+        return options;
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage: java -jar loadgen.jar [options]");
+        DEFAULTS.keySet().stream().sorted().forEach(key ->
+                System.out.printf("  --%-16s (default: %s)%n", key,
+                        "pool-size".equals(key) ? "waiters + kitchens + cashiers" : DEFAULTS.get(key)));
+    }
+}
@@ -0,0 +1,81 @@
+package com.restos.loadgen;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples and query counts for a single simulated operation
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class OperationStats {
+
+    private final String name;
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+    private long queries;
+
+    public OperationStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Record one completed operation
+     *
+     * @param nanos   Elapsed time in nanoseconds
+     * @param queries Statements executed by the operation
+     * @param failed  Whether the operation threw an exception
+     */
+    public synchronized void record(long nanos, long queries, boolean failed) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        this.queries += queries;
+        if (failed) {
+            errors++;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public synchronized long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Get the average number of statements per operation
+     */
+    public synchronized double getQueriesPerOperation() {
+        return count == 0 ? 0 : (double) queries / count;
+    }
+
+    /**
+     * Get latency percentiles (nearest rank)
+     *
+     * @param percentiles Percentiles between 0 and 100
+     * @return Latencies in milliseconds, in the same order
+     */
+    public synchronized double[] percentilesMillis(double... percentiles) {
+        double[] result = new double[percentiles.length];
+        if (count == 0) {
+            return result;
+        }
+
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        for (int i = 0; i < percentiles.length; i++) {
+            int rank = (int) Math.ceil(percentiles[i] / 100.0 * count);
+            int index = Math.min(count - 1, Math.max(0, rank - 1));
+            result[i] = sorted[index] / 1_000_000.0;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,69 @@
+package com.restos.loadgen;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Base class for a simulated restaurant terminal running on its own thread
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public abstract class SimulatedTerminal implements Runnable {
+
+    protected final Workload workload;
+    protected final int index;
+    private volatile boolean running = true;
+
+    protected SimulatedTerminal(Workload workload, int index) {
+        this.workload = workload;
+        this.index = index;
+    }
+
+    /**
+     * Run one cycle of the terminal (one arrival or one poll)
+     */
+    protected abstract void cycle();
+
+    /**
+     * Get the pause before the next cycle
+     *
+     * @return Delay in milliseconds
+     */
+    protected abstract long nextDelayMillis();
+
+    @Override
+    public void run() {
+        // Spread terminals so they do not all fire at the same instant
+        if (!pause(random().nextLong(Math.max(1, nextDelayMillis())))) {
+            return;
+        }
+
+        while (running) {
+            cycle();
+            if (!pause(nextDelayMillis())) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Ask the terminal to stop after the current cycle
+     */
+    public void stop() {
+        running = false;
+    }
+
+    protected ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+
+    private boolean pause(long millis) {
+        try {
+            Thread.sleep(millis);
+            return running;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
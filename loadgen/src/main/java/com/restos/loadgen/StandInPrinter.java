@@ -0,0 +1,96 @@
+package com.restos.loadgen;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for a raw TCP (port 9100) receipt/kitchen printer
+ * Accepts print connections on a loopback port, discards the bytes and
+ * counts connections, bytes and paper cuts (one per ticket). An optional
+ * per-connection delay imitates a slow printer.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class StandInPrinter implements Runnable {
+
+    private final ServerSocket server;
+    private final long delayMillis;
+
+    private final AtomicLong connections = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong cuts = new AtomicLong();
+
+    /**
+     * Listen on a free loopback port
+     * @param delayMillis Delay before each connection is read
+     */
+    public StandInPrinter(long delayMillis) throws IOException {
+        this.server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.delayMillis = delayMillis;
+
+        Thread thread = new Thread(this, "stand-in-printer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Printer address for the printer.* settings
+     */
+    public String getAddress() {
+        return "tcp://127.0.0.1:" + server.getLocalPort();
+    }
+
+    @Override
+    public void run() {
+        while (!server.isClosed()) {
+            try (Socket socket = server.accept()) {
+                connections.incrementAndGet();
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+                read(socket.getInputStream());
+            } catch (IOException e) {
+                if (!server.isClosed()) {
+                    System.err.println("Stand-in printer: " + e.getMessage());
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void read(InputStream in) throws IOException {
+        byte[] buffer = new byte[8192];
+        // Cut command is GS V 66 0; remember the last bytes across reads
+        int previous = 0;
+        int n;
+        while ((n = in.read(buffer)) > 0) {
+            bytes.addAndGet(n);
+            for (int i = 0; i < n; i++) {
+                previous = (previous << 8) | (buffer[i] & 0xFF);
+                if (previous == 0x1D564200) {
+                    cuts.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    public void stop() {
+        try {
+            server.close();
+        } catch (IOException e) {
+            System.err.println("Error closing stand-in printer: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Stand-in printer: %d tickets in %d connections, %.1f KB",
+                cuts.get(), connections.get(), bytes.get() / 1024.0);
+    }
+}
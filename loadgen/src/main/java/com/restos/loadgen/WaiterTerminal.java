@@ -0,0 +1,123 @@
+package com.restos.loadgen;
+
+import com.restos.dao.*;
+import com.restos.model.Menu;
+import com.restos.model.Order;
+import com.restos.model.OrderItem;
+import com.restos.model.Table;
+import com.restos.service.OrderService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Simulated waiter: opens the table grid, opens the order page and
+ * submits an order, following the WaiterDashboard / NewOrder screens
+ * Orders arrive as a Poisson process
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class WaiterTerminal extends SimulatedTerminal {
+
+    private final int waiterId;
+    private final double meanIntervalMillis;
+    private final Set<Integer> claimedTables;
+
+    private final TableDAO tableDAO = DAOFactory.getTableDAO();
+    private final CategoryDAO categoryDAO = DAOFactory.getCategoryDAO();
+    private final MenuDAO menuDAO = DAOFactory.getMenuDAO();
+    private final InventoryDAO inventoryDAO = DAOFactory.getInventoryDAO();
+    private final OrderService orderService = new OrderService();
+
+    /**
+     * Constructor
+     *
+     * @param workload      Measurement context
+     * @param index         Terminal index
+     * @param waiterId      Waiter user ID used for the orders
+     * @param ordersPerSec  Arrival rate handled by this waiter
+     * @param claimedTables Tables currently being ordered by any waiter
+     */
+    public WaiterTerminal(Workload workload, int index, int waiterId, double ordersPerSec, Set<Integer> claimedTables) {
+        super(workload, index);
+        this.waiterId = waiterId;
+        this.meanIntervalMillis = 1000.0 / ordersPerSec;
+        this.claimedTables = claimedTables;
+    }
+
+    @Override
+    protected void cycle() {
+        List<Table> tables = workload.measure("waiter.tableGrid", () -> tableDAO.findAll());
+        if (tables == null || tables.isEmpty()) {
+            return;
+        }
+
+        // Take a free table, or fall back to a take-away order
+        Table table = null;
+        for (Table candidate : tables) {
+            if (Table.STATUS_AVAILABLE.equals(candidate.getStatus()) && claimedTables.add(candidate.getId())) {
+                table = candidate;
+                break;
+            }
+        }
+        boolean dineIn = table != null;
+        if (!dineIn) {
+            table = tables.get(random().nextInt(tables.size()));
+        }
+
+        try {
+            List<Menu> menus = workload.measure("waiter.openOrderPage", () -> {
+                categoryDAO.findAll();
+                List<Menu> active = menuDAO.findAllActive();
+                // One stock lookup per menu card
+                for (Menu menu : active) {
+                    inventoryDAO.findByMenuId(menu.getId());
+                }
+                return active;
+            });
+            if (menus == null || menus.isEmpty()) {
+                return;
+            }
+
+            Order order = new Order();
+            order.setUserId(waiterId);
+            order.setCustomerName("Tamu " + index + "-" + System.nanoTime() % 10_000);
+            order.setOrderType(dineIn ? Order.TYPE_DINE_IN : Order.TYPE_TAKE_AWAY);
+
+            List<OrderItem> items = pickItems(menus);
+            Table orderTable = table;
+            workload.measure("waiter.submitOrder", () -> orderService.submitOrder(order, orderTable, items));
+        } finally {
+            if (dineIn) {
+                claimedTables.remove(table.getId());
+            }
+        }
+    }
+
+    /**
+     * Build a cart of 1 to 4 distinct menus
+     */
+    private List<OrderItem> pickItems(List<Menu> menus) {
+        List<Menu> candidates = new ArrayList<>(menus);
+        int lines = 1 + random().nextInt(Math.min(4, candidates.size()));
+
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            Menu menu = candidates.remove(random().nextInt(candidates.size()));
+            OrderItem item = new OrderItem();
+            item.setMenuId(menu.getId());
+            item.setQuantity(1 + random().nextInt(3));
+            item.setPrice(menu.getPrice());
+            items.add(item);
+        }
+        return items;
+    }
+
+    @Override
+    protected long nextDelayMillis() {
+        // Exponential inter-arrival time
+        return (long) (-Math.log(1.0 - random().nextDouble()) * meanIntervalMillis);
+    }
+}
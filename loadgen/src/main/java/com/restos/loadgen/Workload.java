@@ -0,0 +1,96 @@
+package com.restos.loadgen;
+
+import com.restos.metrics.QueryScope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Shared measurement context for all simulated terminals
+ * Times operations and attributes executed statements to them
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class Workload {
+
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+    private volatile long measureFromNanos;
+    private volatile long measureToNanos = Long.MAX_VALUE;
+
+    /**
+     * Start counting samples after the warm-up period
+     *
+     * @param warmupNanos Warm-up duration in nanoseconds
+     */
+    public void startMeasurementAfter(long warmupNanos) {
+        measureFromNanos = System.nanoTime() + warmupNanos;
+    }
+
+    /**
+     * Stop counting samples (operations still in flight are ignored)
+     */
+    public void stopMeasurement() {
+        measureToNanos = System.nanoTime();
+    }
+
+    /**
+     * Run and measure an operation
+     *
+     * @param name      Operation name, e.g. "waiter.submitOrder"
+     * @param operation Operation body
+     * @return Operation result, or null if it failed
+     */
+    public <T> T measure(String name, Supplier<T> operation) {
+        QueryScope scope = QueryScope.open(name);
+        long start = System.nanoTime();
+        boolean failed = false;
+        T result = null;
+
+        try {
+            result = operation.get();
+        } catch (RuntimeException e) {
+            failed = true;
+            System.err.println("[" + Thread.currentThread().getName() + "] " + name + " failed: " + e.getMessage());
+        } finally {
+            scope.close();
+        }
+
+        long end = System.nanoTime();
+        if (start >= measureFromNanos && end <= measureToNanos) {
+            operations.computeIfAbsent(name, OperationStats::new)
+                    .record(end - start, scope.getStatementCount(), failed);
+        }
+        return result;
+    }
+
+    /**
+     * Run and measure an operation without a result
+     */
+    public void measure(String name, Runnable operation) {
+        measure(name, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Get the measured window in seconds
+     */
+    public double getMeasuredSeconds() {
+        long end = measureToNanos == Long.MAX_VALUE ? System.nanoTime() : measureToNanos;
+        return Math.max(0, end - measureFromNanos) / 1e9;
+    }
+
+    /**
+     * Get statistics of all operations sorted by name
+     */
+    public List<OperationStats> getOperations() {
+        List<OperationStats> list = new ArrayList<>(operations.values());
+        list.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return list;
+    }
+}
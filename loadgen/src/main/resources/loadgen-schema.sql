@@ -0,0 +1,125 @@
+-- Schema and seed data for the embedded load-generator database
+-- Column names follow the DAO queries in com.restos.dao
+
+CREATE TABLE users (
+    id INT PRIMARY KEY AUTO_INCREMENT,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    password_hash VARCHAR(255) NOT NULL,
+    role ENUM('admin', 'waiter', 'cashier', 'kitchen') NOT NULL,
+    full_name VARCHAR(100),
+    email VARCHAR(100),
+    phone VARCHAR(20),
+    is_active BOOLEAN DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+CREATE TABLE categories (
+    id INT PRIMARY KEY AUTO_INCREMENT,
+    name VARCHAR(50) NOT NULL,
+    icon VARCHAR(50),
+    sort_order INT DEFAULT 0
+);
+
+CREATE TABLE menus (
+    id INT PRIMARY KEY AUTO_INCREMENT,
+    category_id INT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    description TEXT,
+    price DECIMAL(10, 2) NOT NULL,
+    image_url VARCHAR(255),
+    is_active BOOLEAN DEFAULT TRUE,
+    is_available BOOLEAN DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (category_id) REFERENCES categories(id)
+);
+
+CREATE TABLE tables (
+    id INT PRIMARY KEY AUTO_INCREMENT,
+    table_number VARCHAR(10) NOT NULL UNIQUE,
+    capacity INT NOT NULL,
+    status ENUM('available', 'reserved', 'occupied') DEFAULT 'available',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE inventories (
+    id INT PRIMARY KEY AUTO_INCREMENT,
+    menu_id INT NOT NULL UNIQUE,
+    daily_stock INT DEFAULT 0,
+    remaining_stock INT DEFAULT 0,
+    last_updated TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (menu_id) REFERENCES menus(id) ON DELETE CASCADE
+);
+
+CREATE TABLE orders (
+    id INT PRIMARY KEY AUTO_INCREMENT,
+    table_id INT,
+    user_id INT NOT NULL,
+    customer_name VARCHAR(50),
+    order_type ENUM('dine_in', 'take_away') NOT NULL DEFAULT 'dine_in',
+    status ENUM('pending', 'processing', 'delivered', 'completed', 'cancelled') DEFAULT 'pending',
+    total_amount DECIMAL(10, 2) DEFAULT 0.00,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (table_id) REFERENCES tables(id),
+    FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+CREATE TABLE order_items (
+    id INT PRIMARY KEY AUTO_INCREMENT,
+    order_id INT NOT NULL,
+    menu_id INT NOT NULL,
+    quantity INT NOT NULL DEFAULT 1,
+    price DECIMAL(10, 2) NOT NULL,
+    subtotal DECIMAL(10, 2) NOT NULL,
+    notes VARCHAR(255),
+    status ENUM('pending', 'cooking', 'served') DEFAULT 'pending',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (order_id) REFERENCES orders(id) ON DELETE CASCADE,
+    FOREIGN KEY (menu_id) REFERENCES menus(id)
+);
+
+CREATE TABLE payments (
+    id INT PRIMARY KEY AUTO_INCREMENT,
+    order_id INT NOT NULL UNIQUE,
+    user_id INT NOT NULL,
+    payment_method ENUM('cash', 'qris', 'debit') DEFAULT 'cash',
+    amount_paid DECIMAL(10, 2) NOT NULL,
+    change_amount DECIMAL(10, 2) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (order_id) REFERENCES orders(id),
+    FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+CREATE INDEX idx_orders_status ON orders(status);
+CREATE INDEX idx_orders_created ON orders(created_at);
+CREATE INDEX idx_tables_status ON tables(status);
+
+INSERT INTO categories (name, sort_order) VALUES ('Makanan Berat', 1), ('Minuman', 2), ('Dessert', 3);
+
+INSERT INTO users (username, password_hash, role, full_name) VALUES
+('admin', 'admin123', 'admin', 'Administrator'),
+('waiter', 'waiter123', 'waiter', 'Waiter Staff'),
+('waiter2', 'waiter123', 'waiter', 'Waiter Staff 2'),
+('kitchen', 'kitchen123', 'kitchen', 'Kitchen Staff'),
+('cashier', 'cashier123', 'cashier', 'Cashier Staff'),
+('cashier2', 'cashier123', 'cashier', 'Cashier Staff 2');
+
+INSERT INTO menus (category_id, name, description, price, is_active) VALUES
+(1, 'Nasi Goreng Spesial', 'Nasi goreng dengan telur, ayam, dan sayuran', 25000.00, TRUE),
+(1, 'Mie Goreng Seafood', 'Mie goreng dengan udang, cumi, dan sayuran', 28000.00, TRUE),
+(1, 'Ayam Bakar Madu', 'Ayam bakar dengan saus madu spesial', 35000.00, TRUE),
+(1, 'Sate Ayam', 'Sate ayam 10 tusuk dengan bumbu kacang', 30000.00, TRUE),
+(1, 'Nasi Rendang', 'Nasi putih dengan rendang daging sapi', 40000.00, TRUE),
+(2, 'Es Teh Manis', 'Teh manis dingin segar', 5000.00, TRUE),
+(2, 'Es Jeruk', 'Jus jeruk segar dengan es', 8000.00, TRUE),
+(2, 'Kopi Hitam', 'Kopi hitam original', 10000.00, TRUE),
+(2, 'Cappuccino', 'Kopi cappuccino dengan foam susu', 15000.00, TRUE),
+(2, 'Jus Alpukat', 'Jus alpukat segar dengan susu', 12000.00, TRUE),
+(3, 'Es Krim Vanilla', 'Es krim vanilla premium 2 scoop', 15000.00, TRUE),
+(3, 'Pisang Goreng Coklat', 'Pisang goreng dengan topping coklat', 12000.00, TRUE),
+(3, 'Puding Karamel', 'Puding karamel lembut', 10000.00, TRUE),
+(3, 'Brownies Coklat', 'Brownies coklat hangat dengan es krim', 18000.00, TRUE);
+
+INSERT INTO inventories (menu_id, daily_stock, remaining_stock)
+SELECT id, 100000, 100000 FROM menus;
@@ -0,0 +1,42 @@
+@echo off
+rem Restos fast start: launch the shaded JAR with an AppCDS archive
+rem
+rem The first start (or --train) does a training run that shows the login
+rem screen, opens every role dashboard and exits, writing the loaded classes
+rem to the archive. Run with --train again after installing a new JAR or JDK;
+rem an archive that does not match is ignored by the JVM.
+rem
+rem Environment:
+rem   RESTOS_JAR          shaded JAR (default target\restos-desktop-1.0.0.jar)
+rem   RESTOS_CDS_ARCHIVE  archive file (default target\restos-desktop-1.0.0.jsa)
+rem   JAVA_HOME           JDK to use (must be the same for training and launch)
+rem   JAVA_OPTS           extra JVM options
+
+setlocal
+set "BASE_DIR=%~dp0.."
+if "%RESTOS_JAR%"=="" set "RESTOS_JAR=%BASE_DIR%\target\restos-desktop-1.0.0.jar"
+if "%RESTOS_CDS_ARCHIVE%"=="" set "RESTOS_CDS_ARCHIVE=%BASE_DIR%\target\restos-desktop-1.0.0.jsa"
+
+set "JAVA=java"
+if not "%JAVA_HOME%"=="" set "JAVA=%JAVA_HOME%\bin\java"
+
+if not exist "%RESTOS_JAR%" (
+    echo JAR tidak ditemukan: %RESTOS_JAR% ^(jalankan mvn package terlebih dahulu^) 1>&2
+    exit /b 1
+)
+
+set "TRAIN="
+if "%~1"=="--train" (
+    set "TRAIN=1"
+    shift
+)
+if not exist "%RESTOS_CDS_ARCHIVE%" set "TRAIN=1"
+
+if defined TRAIN (
+    echo Membuat arsip CDS: %RESTOS_CDS_ARCHIVE%
+    if exist "%RESTOS_CDS_ARCHIVE%" del "%RESTOS_CDS_ARCHIVE%"
+    "%JAVA%" %JAVA_OPTS% -XX:ArchiveClassesAtExit="%RESTOS_CDS_ARCHIVE%" -Drestos.cds.train=true -jar "%RESTOS_JAR%"
+)
+
+"%JAVA%" %JAVA_OPTS% -XX:SharedArchiveFile="%RESTOS_CDS_ARCHIVE%" -jar "%RESTOS_JAR%" %1 %2 %3 %4 %5 %6 %7 %8 %9
+endlocal
@@ -0,0 +1,48 @@
+#!/bin/sh
+# Restos fast start: launch the shaded JAR with an AppCDS archive
+#
+# The first start (or --train, or a JAR newer than the archive) does a
+# training run that shows the login screen, opens every role dashboard
+# and exits, writing the loaded classes to the archive. Later starts map
+# the archive instead of loading and verifying those classes again.
+# If the archive does not match the JAR or JDK, the JVM ignores it.
+#
+# Environment:
+#   RESTOS_JAR          shaded JAR (default target/restos-desktop-1.0.0.jar)
+#   RESTOS_CDS_ARCHIVE  archive file (default next to the JAR, .jsa)
+#   JAVA_HOME           JDK to use (must be the same for training and launch)
+#   JAVA_OPTS           extra JVM options
+
+BASE_DIR=$(cd "$(dirname "$0")/.." && pwd)
+JAR=${RESTOS_JAR:-$BASE_DIR/target/restos-desktop-1.0.0.jar}
+ARCHIVE=${RESTOS_CDS_ARCHIVE:-${JAR%.jar}.jsa}
+
+if [ -n "$JAVA_HOME" ]; then
+    JAVA="$JAVA_HOME/bin/java"
+else
+    JAVA=java
+fi
+
+if [ ! -f "$JAR" ]; then
+    echo "JAR tidak ditemukan: $JAR (jalankan mvn package terlebih dahulu)" >&2
+    exit 1
+fi
+
+TRAIN=false
+if [ "$1" = "--train" ]; then
+    TRAIN=true
+    shift
+elif [ ! -f "$ARCHIVE" ] || [ "$JAR" -nt "$ARCHIVE" ]; then
+    TRAIN=true
+fi
+
+if [ "$TRAIN" = true ]; then
+    echo "Membuat arsip CDS: $ARCHIVE"
+    rm -f "$ARCHIVE"
+    # shellcheck disable=SC2086
+    "$JAVA" $JAVA_OPTS -XX:ArchiveClassesAtExit="$ARCHIVE" -Drestos.cds.train=true -jar "$JAR" \
+        || echo "Training run gagal, aplikasi dijalankan tanpa arsip" >&2
+fi
+
+# shellcheck disable=SC2086
+exec "$JAVA" $JAVA_OPTS -XX:SharedArchiveFile="$ARCHIVE" -jar "$JAR" "$@"
@@ -111,12 +111,12 @@ INSERT INTO categories (name, sort_order) VALUES ('Makanan Berat', 1), ('Minuman
 INSERT INTO tables (table_number, capacity) VALUES ('T01', 4), ('T02', 2), ('T03', 6);
 
 -- Default Users (Password: admin123, waiter123, kitchen123, cashier123)
--- Password hashed using SHA-256
+-- Password hashed using BCrypt (cost 10, rehashed to the calibrated cost on first login)
 INSERT INTO users (username, password_hash, role, full_name) VALUES 
-('admin', '240be518fabd2724ddb6f04eeb1da5967448d7e831c08c8fa822809f74c720a9', 'admin', 'Administrator'),
-('waiter', '4e41d9c99d26c1e7c2f6c6c7e1f8c8e5c5e5e5e5e5e5e5e5e5e5e5e5e5e5e5e5', 'waiter', 'Waiter Staff'),
-('kitchen', '8c6976e5b5410415bde908bd4dee15dfb167a9c873fc4bb8a81f6f2ab448a918', 'kitchen', 'Kitchen Staff'),
-('cashier', '8d969eef6ecad3c29a3a629280e686cf0c3f5d5a86aff3ca12020c923adc6c92', 'cashier', 'Cashier Staff');
+('admin', '$2a$10$LpVwV3Chl/MR81R3cDA5v.ncOL7XBGgv1Zdx62gdLyLziJDLe5B6S', 'admin', 'Administrator'),
+('waiter', '$2a$10$YdJitIca8qeJHpyL6nk.N.gdZGCoeOtoVl2WM5k4oVZ.hCntVCmH6', 'waiter', 'Waiter Staff'),
+('kitchen', '$2a$10$FFvUmYbjkyi2i1GJX/j0LuinuaiTRppSPcGnaqtiNaxZAHfX6o.sS', 'kitchen', 'Kitchen Staff'),
+('cashier', '$2a$10$l/Q6.MRth3Jx8.rhjLfNbOetSlTDib1kC.IxfwxR8wqaIpIOnTf.m', 'cashier', 'Cashier Staff');
 
 -- Sample Menu Items
 INSERT INTO menus (category_id, name, description, price, is_active) VALUES 
@@ -1,12 +1,21 @@
 package com.restos;
 
+import com.restos.api.ApiServer;
 import com.restos.config.DatabaseConfig;
+import com.restos.dao.DAOFactory;
+import com.restos.metrics.FxStallDetector;
+import com.restos.metrics.StartupTimeline;
+import com.restos.service.AuthService;
+import com.restos.service.OrderArchiveService;
+import com.restos.service.PasswordHashingService;
+import com.restos.sync.InvalidationBus;
 import com.restos.util.AlertUtil;
+import com.restos.util.ViewCache;
 
 import javafx.application.Application;
 import javafx.application.Platform;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
+import javafx.css.CssParser;
+import javafx.css.Stylesheet;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.scene.input.KeyCode;
@@ -14,7 +23,19 @@ import javafx.scene.input.KeyCodeCombination;
 import javafx.scene.input.KeyCombination;
 import javafx.stage.Stage;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Main Application Entry Point for Restos Desktop POS
@@ -26,6 +47,17 @@ public class App extends Application {
 
     private static Stage primaryStage;
 
+    // View currently shown in the primary stage
+    private static ViewCache.View currentView;
+
+    // Resolved stylesheet URLs per module CSS
+    private static final Map<String, List<String>> STYLESHEETS = new ConcurrentHashMap<>();
+
+    // Module stylesheets resolved during startup
+    private static final String[] MODULE_CSS = {
+            "/css/login.css", "/css/dashboard.css", "/css/waiter.css", "/css/kitchen.css", "/css/cashier.css"
+    };
+
     // Window dimensions
     private static final double MIN_WIDTH = 1024;
     private static final double MIN_HEIGHT = 768;
@@ -40,24 +72,23 @@ public class App extends Application {
     @Override
     public void start(Stage stage) {
         primaryStage = stage;
+        StartupTimeline.mark("fx.start");
 
-        try {
-            // Test database connection first
-            if (!testDatabaseConnection()) {
-                AlertUtil.showError("Database Error",
-                        "Tidak dapat terhubung ke database.\n" +
-                                "Pastikan MySQL server berjalan dan konfigurasi database benar.");
-                Platform.exit();
-                return;
-            }
+        // Watch the FX thread for stalls caused by blocking work
+        FxStallDetector.start();
+
+        // The database probe and warm-ups run while the login view is built
+        CompletableFuture<Void> background = startBackgroundTasks();
 
+        try {
             // Load the login view
-            Parent root = FXMLLoader.load(getClass().getResource("/fxml/login.fxml"));
+            long start = System.nanoTime();
+            ViewCache.View view = ViewCache.getInstance().get("/fxml/login.fxml");
+            currentView = view;
+            StartupTimeline.record("login.fxml", start);
 
-            Scene scene = new Scene(root, PREF_WIDTH, PREF_HEIGHT);
-            scene.getStylesheets().addAll(
-                    getClass().getResource("/css/main.css").toExternalForm(),
-                    getClass().getResource("/css/components.css").toExternalForm());
+            Scene scene = new Scene(view.getRoot(), PREF_WIDTH, PREF_HEIGHT);
+            scene.getStylesheets().addAll(getStylesheets(getModuleCss("/fxml/login.fxml")));
 
             // Setup keyboard shortcuts
             setupGlobalShortcuts(scene);
@@ -79,21 +110,103 @@ public class App extends Application {
 
             stage.centerOnScreen();
             stage.show();
+            StartupTimeline.mark("login.shown");
 
             System.out.println(APP_NAME + " v" + APP_VERSION + " started successfully.");
 
+            // Startup benchmark runs stop here (see StartupBenchmark)
+            if (Boolean.getBoolean("restos.startup.exitAfterLogin")) {
+                System.out.println("Time to login screen: " + StartupTimeline.getUptimeMillis() + " ms");
+                Platform.exit();
+                System.exit(0);
+            }
+
         } catch (Exception e) {
             e.printStackTrace();
             AlertUtil.showError("Startup Error",
                     "Gagal memulai aplikasi: " + e.getMessage());
             Platform.exit();
+            return;
+        }
+
+        background.whenComplete((result, error) -> StartupTimeline.report(APP_VERSION));
+
+        if (CdsTrainingRun.isEnabled()) {
+            background.thenRun(() -> Platform.runLater(CdsTrainingRun::start));
+        }
+    }
+
+    /**
+     * Start the startup work that does not need the FX thread:
+     * JDBC driver loading and the database probe, stylesheet resolution,
+     * the menu/category catalog warm-up, password hash calibration and
+     * the legacy password migration, then the local API server when configured
+     *
+     * @return Future completing when all startup work is done
+     */
+    private CompletableFuture<Void> startBackgroundTasks() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "startup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        CompletableFuture<Boolean> database = CompletableFuture.supplyAsync(() -> {
+            StartupTimeline.time("db.driver", App::loadDatabaseDriver);
+            return StartupTimeline.time("db.probe", App::testDatabaseConnection);
+        }, executor);
+
+        CompletableFuture<Void> hashing = CompletableFuture.runAsync(
+                () -> StartupTimeline.time("hash.calibrate", PasswordHashingService.getInstance()::calibrate),
+                executor);
+
+        CompletableFuture<Void> catalog = database.thenAccept(connected -> {
+            if (connected) {
+                StartupTimeline.time("catalog.warmup", App::warmUpCatalog);
+                ApiServer.startIfConfigured();
+                InvalidationBus.getInstance().startIfConfigured();
+                OrderArchiveService.getInstance().startIfConfigured();
+            } else {
+                Platform.runLater(() -> {
+                    AlertUtil.showError("Database Error",
+                            "Tidak dapat terhubung ke database.\n" +
+                                    "Pastikan MySQL server berjalan dan konfigurasi database benar.");
+                    Platform.exit();
+                });
+            }
+        });
+
+        CompletableFuture<Void> css = CompletableFuture.runAsync(
+                () -> StartupTimeline.time("css", App::preloadStylesheets), executor);
+
+        // Legacy passwords are converted with the calibrated cost
+        CompletableFuture<Void> passwords = database.thenAcceptBoth(hashing, (connected, ignored) -> {
+            if (connected) {
+                StartupTimeline.time("password.migration", App::migrateLegacyPasswords);
+            }
+        });
+
+        // Queued tasks still run; the threads end once they are done
+        executor.shutdown();
+        return CompletableFuture.allOf(catalog, css, passwords);
+    }
+
+    /**
+     * Load the JDBC driver classes ahead of the first connection
+     */
+    private static void loadDatabaseDriver() {
+        try {
+            DatabaseConfig.getInstance().loadDriver();
+        } catch (Exception e) {
+            System.err.println("Error loading JDBC driver: " + e.getMessage());
         }
     }
 
     /**
      * Test database connection on startup
      */
-    private boolean testDatabaseConnection() {
+    private static boolean testDatabaseConnection() {
         try {
             return DatabaseConfig.getInstance().testConnection();
         } catch (Exception e) {
@@ -102,6 +215,60 @@ public class App extends Application {
         }
     }
 
+    /**
+     * Run the menu and category queries once so the first menu screen
+     * finds the DAO code loaded and pooled connections open
+     */
+    private static void warmUpCatalog() {
+        try {
+            DAOFactory.getCategoryDAO().findAll();
+            DAOFactory.getMenuDAO().findAllActive();
+        } catch (Exception e) {
+            System.err.println("Error warming up catalog: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Convert plain text passwords left from older versions to BCrypt
+     */
+    private static void migrateLegacyPasswords() {
+        try {
+            new AuthService().migrateLegacyPasswords();
+        } catch (Exception e) {
+            System.err.println("Error migrating passwords: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Resolve the stylesheet URLs of every module and read each sheet
+     * once the way JavaFX will (binary .bss when the build produced one,
+     * otherwise the .css text), so that code is loaded before the first
+     * dashboard
+     */
+    private static void preloadStylesheets() {
+        Set<String> loaded = new HashSet<>();
+        for (String cssPath : MODULE_CSS) {
+            for (String sheet : getStylesheets(cssPath)) {
+                if (loaded.add(sheet)) {
+                    try {
+                        Stylesheet stylesheet = null;
+                        try {
+                            String binary = sheet.substring(0, sheet.length() - ".css".length()) + ".bss";
+                            stylesheet = Stylesheet.loadBinary(new URL(binary));
+                        } catch (IOException e) {
+                            // No binary CSS in this build, JavaFX will parse the text
+                        }
+                        if (stylesheet == null) {
+                            new CssParser().parse(new URL(sheet));
+                        }
+                    } catch (IOException e) {
+                        System.err.println("Error loading stylesheet " + sheet + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Load application icon
      */
@@ -144,8 +311,14 @@ public class App extends Application {
                 "Apakah Anda yakin ingin keluar dari " + APP_NAME + "?");
 
         if (confirm) {
+            // Stop serving devices before the database goes away
+            ApiServer.stop();
+            InvalidationBus.getInstance().stop();
+            OrderArchiveService.getInstance().stop();
+
             // Close database connection
             DatabaseConfig.getInstance().closeConnection();
+            FxStallDetector.stop();
 
             System.out.println(APP_NAME + " closed.");
             Platform.exit();
@@ -164,37 +337,14 @@ public class App extends Application {
 
     /**
      * Switch to a new scene
+     * Views with a ViewLifecycle controller are taken from the ViewCache
+     * and keep their scene; the previous view is deactivated
      * 
      * @param fxmlPath Path to the FXML file
      * @param title    Window title
      */
     public static void switchScene(String fxmlPath, String title) {
-        try {
-            Parent root = FXMLLoader.load(App.class.getResource(fxmlPath));
-            Scene scene = new Scene(root, PREF_WIDTH, PREF_HEIGHT);
-            scene.getStylesheets().addAll(
-                    App.class.getResource("/css/main.css").toExternalForm(),
-                    App.class.getResource("/css/components.css").toExternalForm());
-
-            // Add module-specific CSS if exists
-            String moduleCss = getModuleCss(fxmlPath);
-            if (moduleCss != null) {
-                try {
-                    scene.getStylesheets().add(App.class.getResource(moduleCss).toExternalForm());
-                } catch (Exception e) {
-                    // Module CSS not found, continue without it
-                }
-            }
-
-            primaryStage.setTitle(APP_NAME + " - " + title);
-            primaryStage.setScene(scene);
-            primaryStage.centerOnScreen();
-
-        } catch (Exception e) {
-            e.printStackTrace();
-            AlertUtil.showError("Navigation Error",
-                    "Gagal memuat halaman: " + e.getMessage());
-        }
+        switchScene(fxmlPath, title, getModuleCss(fxmlPath));
     }
 
     /**
@@ -209,7 +359,7 @@ public class App extends Application {
             return "/css/kitchen.css";
         } else if (fxmlPath.contains("/cashier/")) {
             return "/css/cashier.css";
-        } else if (fxmlPath.contains("login")) {
+        } else if (fxmlPath.contains("login") || fxmlPath.contains("register")) {
             return "/css/login.css";
         }
         return null;
@@ -224,20 +374,28 @@ public class App extends Application {
      */
     public static void switchScene(String fxmlPath, String title, String cssPath) {
         try {
-            Parent root = FXMLLoader.load(App.class.getResource(fxmlPath));
-            Scene scene = new Scene(root, PREF_WIDTH, PREF_HEIGHT);
-            scene.getStylesheets().addAll(
-                    App.class.getResource("/css/main.css").toExternalForm(),
-                    App.class.getResource("/css/components.css").toExternalForm());
-
-            if (cssPath != null) {
-                scene.getStylesheets().add(App.class.getResource(cssPath).toExternalForm());
+            ViewCache.View view = ViewCache.getInstance().get(fxmlPath);
+
+            Scene scene = view.getScene();
+            if (scene == null) {
+                scene = new Scene(view.getRoot(), PREF_WIDTH, PREF_HEIGHT);
+                scene.getStylesheets().addAll(getStylesheets(cssPath));
+                if (view.isCacheable()) {
+                    view.setScene(scene);
+                }
+            }
+
+            if (currentView != null && currentView != view) {
+                currentView.deactivate();
             }
+            currentView = view;
 
             primaryStage.setTitle(APP_NAME + " - " + title);
             primaryStage.setScene(scene);
             primaryStage.centerOnScreen();
 
+            view.activate();
+
         } catch (Exception e) {
             e.printStackTrace();
             AlertUtil.showError("Navigation Error",
@@ -245,6 +403,41 @@ public class App extends Application {
         }
     }
 
+    /**
+     * Get the resolved stylesheet URLs for a module CSS, in cascade order
+     * (later sheets win). The FXML roots no longer list stylesheets, so
+     * the order here reproduces what the root and scene sheets gave
+     * together: main.css over components.css, except in the cashier module
+     */
+    private static List<String> getStylesheets(String cssPath) {
+        return STYLESHEETS.computeIfAbsent(cssPath == null ? "" : cssPath, key -> {
+            List<String> paths = new ArrayList<>();
+            if ("/css/cashier.css".equals(key)) {
+                paths.add("/css/main.css");
+                paths.add("/css/components.css");
+            } else {
+                paths.add("/css/components.css");
+                paths.add("/css/main.css");
+            }
+            if ("/css/waiter.css".equals(key) || "/css/kitchen.css".equals(key)) {
+                paths.add("/css/dashboard.css");
+            }
+            if (!key.isEmpty()) {
+                paths.add(key);
+            }
+
+            List<String> sheets = new ArrayList<>();
+            for (String path : paths) {
+                // Add the sheet if it exists
+                URL url = App.class.getResource(path);
+                if (url != null) {
+                    sheets.add(url.toExternalForm());
+                }
+            }
+            return sheets;
+        });
+    }
+
     /**
      * Get preferred width
      */
@@ -263,6 +456,7 @@ public class App extends Application {
     public void stop() {
         // Cleanup on application stop
         DatabaseConfig.getInstance().closeConnection();
+        FxStallDetector.stop();
         System.out.println(APP_NAME + " stopped.");
     }
 
@@ -272,6 +466,7 @@ public class App extends Application {
      * @param args Command line arguments
      */
     public static void main(String[] args) {
+        StartupTimeline.mark("main");
         launch(args);
     }
 }
@@ -0,0 +1,115 @@
+package com.restos;
+
+import com.restos.model.User;
+import com.restos.service.AuthService;
+import com.restos.service.PasswordHashingService;
+import com.restos.util.SessionManager;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Class-data-sharing training run (-Drestos.cds.train=true)
+ * Started by scripts/restos-fast with -XX:ArchiveClassesAtExit: after
+ * the login screen it runs a login attempt, opens every role dashboard
+ * and admin page with a training session user, then exits so the JVM
+ * writes the classes it loaded to the AppCDS archive
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+final class CdsTrainingRun {
+
+    // Time each view stays on screen so its data loads and it renders
+    private static final long STEP_MILLIS = Long.getLong("restos.cds.step.ms", 1500);
+
+    private static final String[][] VIEWS = {
+            { "admin", "/fxml/admin/dashboard.fxml", "Admin Dashboard" },
+            { "admin", "/fxml/admin/menu-management.fxml", "Manajemen Menu" },
+            { "admin", "/fxml/admin/table-management.fxml", "Manajemen Meja" },
+            { "admin", "/fxml/admin/inventory-management.fxml", "Manajemen Inventori" },
+            { "admin", "/fxml/admin/user-management.fxml", "Manajemen User" },
+            { "admin", "/fxml/admin/diagnostics.fxml", "Diagnostik" },
+            { "waiter", "/fxml/waiter/dashboard.fxml", "Waiter Dashboard" },
+            { "waiter", "/fxml/waiter/new-order.fxml", "Pesanan Baru" },
+            { "kitchen", "/fxml/kitchen/dashboard.fxml", "Kitchen Display" },
+            { "cashier", "/fxml/cashier/dashboard.fxml", "Cashier POS" },
+            { null, "/fxml/register.fxml", "Registrasi" }
+    };
+
+    private final List<Runnable> steps = new ArrayList<>();
+
+    private CdsTrainingRun() {
+    }
+
+    static boolean isEnabled() {
+        return Boolean.getBoolean("restos.cds.train");
+    }
+
+    /**
+     * Run the login attempt in the background, then walk the views (FX thread)
+     */
+    static void start() {
+        System.out.println("CDS training run: exercising login and " + VIEWS.length + " views");
+        CompletableFuture.runAsync(CdsTrainingRun::exerciseLogin)
+                .whenComplete((result, error) -> Platform.runLater(() -> new CdsTrainingRun().walk()));
+    }
+
+    /**
+     * Go through the login code path: the user query and a BCrypt check.
+     * Uses restos.cds.user / restos.cds.password when given; an unknown
+     * user still runs the query
+     */
+    private static void exerciseLogin() {
+        try {
+            new AuthService().login(System.getProperty("restos.cds.user", "cds-training"),
+                    System.getProperty("restos.cds.password", "cds-training"));
+            PasswordHashingService hashing = PasswordHashingService.getInstance();
+            hashing.verify("cds-training", hashing.hash("cds-training"));
+        } catch (Exception e) {
+            System.err.println("CDS training login failed: " + e.getMessage());
+        }
+    }
+
+    private void walk() {
+        for (String[] view : VIEWS) {
+            steps.add(() -> {
+                setSessionRole(view[0]);
+                App.switchScene(view[1], view[2]);
+            });
+        }
+        next();
+    }
+
+    private void next() {
+        if (steps.isEmpty()) {
+            finish();
+            return;
+        }
+        steps.remove(0).run();
+        PauseTransition pause = new PauseTransition(Duration.millis(STEP_MILLIS));
+        pause.setOnFinished(event -> next());
+        pause.play();
+    }
+
+    private static void setSessionRole(String role) {
+        SessionManager session = SessionManager.getInstance();
+        if (role == null) {
+            session.clearSession();
+        } else if (!role.equals(session.getCurrentUserRole())) {
+            session.setCurrentUser(new User(0, "cds-training", role, "CDS Training"));
+        }
+    }
+
+    private static void finish() {
+        SessionManager.getInstance().clearSession();
+        System.out.println("CDS training run complete.");
+        Platform.exit();
+        System.exit(0);
+    }
+}
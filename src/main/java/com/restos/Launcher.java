@@ -0,0 +1,20 @@
+package com.restos;
+
+/**
+ * Entry point of the shaded JAR
+ * The JavaFX launcher refuses to start a main class that extends
+ * Application when JavaFX is on the class path instead of the module
+ * path, so java -jar starts here and hands over to App
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public final class Launcher {
+
+    private Launcher() {
+    }
+
+    public static void main(String[] args) {
+        App.main(args);
+    }
+}
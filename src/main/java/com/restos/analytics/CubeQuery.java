@@ -0,0 +1,50 @@
+package com.restos.analytics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Slice of the sales cube to aggregate: the dimensions to group by and,
+ * per dimension, the values to keep (dictionary codes, see
+ * SalesCube.getLabels). No group-by gives one total row.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public final class CubeQuery {
+
+    private final Set<Dimension> groupBy = new LinkedHashSet<>();
+    private final Map<Dimension, Set<Integer>> filters = new EnumMap<>(Dimension.class);
+
+    /**
+     * Group by dimensions, in column order
+     */
+    public CubeQuery groupBy(Dimension... dimensions) {
+        Collections.addAll(groupBy, dimensions);
+        return this;
+    }
+
+    /**
+     * Keep only rows whose value of a dimension is one of the given codes
+     */
+    public CubeQuery filter(Dimension dimension, int... codes) {
+        Set<Integer> values = filters.computeIfAbsent(dimension, d -> new LinkedHashSet<>());
+        for (int code : codes) {
+            values.add(code);
+        }
+        return this;
+    }
+
+    public List<Dimension> getGroupBy() {
+        return new ArrayList<>(groupBy);
+    }
+
+    public Map<Dimension, Set<Integer>> getFilters() {
+        return Collections.unmodifiableMap(filters);
+    }
+}
@@ -0,0 +1,102 @@
+package com.restos.analytics;
+
+import com.restos.model.Money;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a cube query: one row per combination of the group-by values
+ * that has sales, highest revenue first
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public final class CubeResult {
+
+    private final List<Dimension> groupBy;
+    private final List<Row> rows;
+    private final Row total;
+    private final long scannedItems;
+    private final long elapsedNanos;
+
+    CubeResult(List<Dimension> groupBy, List<Row> rows, Row total, long scannedItems, long elapsedNanos) {
+        this.groupBy = groupBy;
+        this.rows = rows;
+        this.total = total;
+        this.scannedItems = scannedItems;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public List<Dimension> getGroupBy() {
+        return Collections.unmodifiableList(groupBy);
+    }
+
+    public List<Row> getRows() {
+        return Collections.unmodifiableList(rows);
+    }
+
+    /**
+     * @return Sum of all rows (the items that passed the filters)
+     */
+    public Row getTotal() {
+        return total;
+    }
+
+    /**
+     * @return Items in the cube, filtered out ones included
+     */
+    public long getScannedItems() {
+        return scannedItems;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * One group: its dimension values and measures
+     */
+    public static final class Row {
+        private final String[] labels;
+        private final long items;
+        private final long quantity;
+        private final long revenue;
+
+        Row(String[] labels, long items, long quantity, long revenue) {
+            this.labels = labels;
+            this.items = items;
+            this.quantity = quantity;
+            this.revenue = revenue;
+        }
+
+        /**
+         * @param index Position of the dimension in the query's group-by
+         */
+        public String getLabel(int index) {
+            return labels[index];
+        }
+
+        /**
+         * @return Order lines
+         */
+        public long getItems() {
+            return items;
+        }
+
+        /**
+         * @return Portions sold
+         */
+        public long getQuantity() {
+            return quantity;
+        }
+
+        public Money getRevenue() {
+            return Money.of(revenue);
+        }
+
+        long getRevenueRupiah() {
+            return revenue;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.restos.analytics;
+
+/**
+ * Dimensions of the sales cube
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public enum Dimension {
+    HOUR("Jam"),
+    WEEKDAY("Hari"),
+    CATEGORY("Kategori"),
+    MENU("Menu"),
+    WAITER("Waiter"),
+    ORDER_TYPE("Tipe Pesanan");
+
+    private final String label;
+
+    Dimension(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
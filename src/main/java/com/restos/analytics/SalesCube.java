@@ -0,0 +1,433 @@
+package com.restos.analytics;
+
+import com.restos.dao.ReportDAO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Sales Cube
+ * The items of completed orders in a date range, held column by column
+ * in primitive arrays: every dimension is dictionary-encoded into a
+ * short[] of codes and the measures are an int[] of portions and a
+ * long[] of whole rupiah, about 20 bytes per item. A query scans the
+ * columns in parallel on the common fork/join pool; each task groups
+ * its slice of rows and the partial groups are added up on the way back.
+ *
+ * A cube is read-only once built and may be queried from any thread.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public final class SalesCube {
+
+    // Rows one task scans before the range is split no further
+    private static final int SCAN_THRESHOLD = 1 << 15;
+    // Up to this many groups are counted in an array instead of a map
+    private static final int DENSE_GROUPS = 1 << 12;
+    // Codes are kept in shorts and read back unsigned
+    private static final int MAX_CODES = 1 << 16;
+
+    private static final String[] WEEKDAYS = { "Senin", "Selasa", "Rabu", "Kamis", "Jumat", "Sabtu", "Minggu" };
+    private static final String[] ORDER_TYPES = { "Dine In", "Take Away" };
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int rows;
+    private final short[][] dimensions;
+    private final String[][] labels;
+    private final int[] quantity;
+    private final long[] revenue;
+
+    private SalesCube(LocalDate startDate, LocalDate endDate, int rows, short[][] dimensions, String[][] labels,
+            int[] quantity, long[] revenue) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.rows = rows;
+        this.dimensions = dimensions;
+        this.labels = labels;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * @return Number of items in the cube
+     */
+    public int getRowCount() {
+        return rows;
+    }
+
+    /**
+     * Get the values of a dimension; a value's code is its index
+     */
+    public List<String> getLabels(Dimension dimension) {
+        return Collections.unmodifiableList(Arrays.asList(labels[dimension.ordinal()]));
+    }
+
+    /**
+     * @return Approximate size of the columns in bytes
+     */
+    public long getMemoryBytes() {
+        return (long) rows * (Dimension.values().length * Short.BYTES + Integer.BYTES + Long.BYTES);
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Aggregate portions and revenue of the items that pass the query's
+     * filters, grouped by its group-by dimensions
+     *
+     * @param query Query
+     * @return Groups, highest revenue first
+     * @throws IllegalArgumentException if the group-by has too many combinations
+     */
+    public CubeResult query(CubeQuery query) {
+        long start = System.nanoTime();
+        List<Dimension> groupBy = query.getGroupBy();
+        Plan plan = plan(groupBy, query.getFilters());
+
+        Groups groups = rows == 0 ? new Groups(plan.dense ? (int) plan.groups : -1)
+                : ForkJoinPool.commonPool().invoke(new Scan(plan, 0, rows));
+
+        List<CubeResult.Row> result = new ArrayList<>();
+        long[] total = new long[3];
+        groups.forEach((key, measures) -> {
+            result.add(new CubeResult.Row(decode(plan, groupBy, key), measures[0], measures[1], measures[2]));
+            for (int i = 0; i < total.length; i++) {
+                total[i] += measures[i];
+            }
+        });
+        result.sort((a, b) -> Long.compare(b.getRevenueRupiah(), a.getRevenueRupiah()));
+
+        return new CubeResult(groupBy, result, new CubeResult.Row(new String[0], total[0], total[1], total[2]),
+                rows, System.nanoTime() - start);
+    }
+
+    private Plan plan(List<Dimension> groupBy, Map<Dimension, Set<Integer>> filters) {
+        Plan plan = new Plan();
+
+        plan.groupColumns = new short[groupBy.size()][];
+        plan.radix = new int[groupBy.size()];
+        long groups = 1;
+        for (int i = 0; i < groupBy.size(); i++) {
+            int dimension = groupBy.get(i).ordinal();
+            plan.groupColumns[i] = dimensions[dimension];
+            plan.radix[i] = Math.max(1, labels[dimension].length);
+            try {
+                groups = Math.multiplyExact(groups, plan.radix[i]);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Terlalu banyak kombinasi dimensi");
+            }
+        }
+        plan.groups = groups;
+        plan.dense = groups <= DENSE_GROUPS;
+
+        plan.filterColumns = new short[filters.size()][];
+        plan.filterMasks = new boolean[filters.size()][];
+        int i = 0;
+        for (Map.Entry<Dimension, Set<Integer>> filter : filters.entrySet()) {
+            int dimension = filter.getKey().ordinal();
+            boolean[] mask = new boolean[labels[dimension].length];
+            for (int code : filter.getValue()) {
+                if (code >= 0 && code < mask.length) {
+                    mask[code] = true;
+                }
+            }
+            plan.filterColumns[i] = dimensions[dimension];
+            plan.filterMasks[i] = mask;
+            i++;
+        }
+        return plan;
+    }
+
+    private String[] decode(Plan plan, List<Dimension> groupBy, long key) {
+        String[] values = new String[groupBy.size()];
+        for (int i = values.length - 1; i >= 0; i--) {
+            int code = (int) (key % plan.radix[i]);
+            key /= plan.radix[i];
+            values[i] = labels[groupBy.get(i).ordinal()][code];
+        }
+        return values;
+    }
+
+    /**
+     * Columns and lookup tables of one query, shared by its scan tasks
+     */
+    private static final class Plan {
+        short[][] groupColumns;
+        int[] radix;
+        long groups;
+        boolean dense;
+        short[][] filterColumns;
+        boolean[][] filterMasks;
+    }
+
+    /**
+     * Scan of a range of rows, split in halves until small enough
+     */
+    private final class Scan extends RecursiveTask<Groups> {
+        private final Plan plan;
+        private final int from;
+        private final int to;
+
+        Scan(Plan plan, int from, int to) {
+            this.plan = plan;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Groups compute() {
+            if (to - from > SCAN_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                Scan left = new Scan(plan, from, middle);
+                left.fork();
+                Groups right = new Scan(plan, middle, to).compute();
+                return left.join().merge(right);
+            }
+
+            boolean dense = plan.dense;
+            Groups groups = new Groups(dense ? (int) plan.groups : -1);
+            short[][] filterColumns = plan.filterColumns;
+            boolean[][] filterMasks = plan.filterMasks;
+            short[][] groupColumns = plan.groupColumns;
+            int[] radix = plan.radix;
+
+            rows:
+            for (int row = from; row < to; row++) {
+                for (int f = 0; f < filterColumns.length; f++) {
+                    if (!filterMasks[f][filterColumns[f][row] & 0xFFFF]) {
+                        continue rows;
+                    }
+                }
+                long key = 0;
+                for (int g = 0; g < groupColumns.length; g++) {
+                    key = key * radix[g] + (groupColumns[g][row] & 0xFFFF);
+                }
+                // Inline for the array case; the table may grow, so take its array after the lookup
+                int offset = (dense ? (int) key : groups.slot(key)) * 3;
+                long[] measures = groups.measures;
+                measures[offset]++;
+                measures[offset + 1] += quantity[row];
+                measures[offset + 2] += revenue[row];
+            }
+            return groups;
+        }
+    }
+
+    /**
+     * Item count, portions and revenue per group key: indexed by the key
+     * when the number of possible groups is small, otherwise in an
+     * open-addressing table of primitive keys, so neither case boxes
+     */
+    private static final class Groups {
+        private static final long EMPTY = -1;
+
+        private final boolean dense;
+        private long[] keys;
+        // Three per slot: items, portions, revenue
+        private long[] measures;
+        private int size;
+
+        Groups(int denseSize) {
+            this.dense = denseSize >= 0;
+            int slots = dense ? denseSize : 64;
+            this.measures = new long[slots * 3];
+            if (!dense) {
+                this.keys = new long[slots];
+                Arrays.fill(keys, EMPTY);
+            }
+        }
+
+        void add(long key, long items, long quantity, long revenue) {
+            int offset = (dense ? (int) key : slot(key)) * 3;
+            measures[offset] += items;
+            measures[offset + 1] += quantity;
+            measures[offset + 2] += revenue;
+        }
+
+        Groups merge(Groups other) {
+            if (dense) {
+                for (int i = 0; i < measures.length; i++) {
+                    measures[i] += other.measures[i];
+                }
+            } else {
+                other.forEach((key, values) -> add(key, values[0], values[1], values[2]));
+            }
+            return this;
+        }
+
+        void forEach(GroupConsumer consumer) {
+            for (int slot = 0; slot * 3 < measures.length; slot++) {
+                if (dense ? measures[slot * 3] > 0 : keys[slot] != EMPTY) {
+                    consumer.accept(dense ? slot : keys[slot], Arrays.copyOfRange(measures, slot * 3, slot * 3 + 3));
+                }
+            }
+        }
+
+        int slot(long key) {
+            int mask = keys.length - 1;
+            int slot = (int) (key * 0x9E3779B97F4A7C15L >>> 40) & mask;
+            while (keys[slot] != key) {
+                if (keys[slot] == EMPTY) {
+                    if (size * 2 >= keys.length) {
+                        rehash();
+                        return slot(key);
+                    }
+                    keys[slot] = key;
+                    size++;
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void rehash() {
+            long[] oldKeys = keys;
+            long[] oldMeasures = measures;
+            keys = new long[oldKeys.length * 2];
+            Arrays.fill(keys, EMPTY);
+            measures = new long[keys.length * 3];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int offset = slot(oldKeys[i]) * 3;
+                    System.arraycopy(oldMeasures, i * 3, measures, offset, 3);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface GroupConsumer {
+        void accept(long key, long[] measures);
+    }
+
+    // ==================== BUILDING ====================
+
+    /**
+     * Collects the items streamed by ReportDAO.streamSales
+     */
+    public static final class Builder implements ReportDAO.SaleHandler {
+
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final Dictionary categories = new Dictionary();
+        private final Dictionary menus = new Dictionary();
+        private final Dictionary waiters = new Dictionary();
+
+        private int rows;
+        private short[][] dimensions = new short[Dimension.values().length][1024];
+        private int[] quantity = new int[1024];
+        private long[] revenue = new long[1024];
+
+        public Builder(LocalDate startDate, LocalDate endDate) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+
+        @Override
+        public void handle(int hour, int weekday, int categoryId, int menuId, int waiterId, boolean takeAway,
+                int quantity, long revenue) {
+            if (rows == this.quantity.length) {
+                grow();
+            }
+            dimensions[Dimension.HOUR.ordinal()][rows] = (short) hour;
+            dimensions[Dimension.WEEKDAY.ordinal()][rows] = (short) weekday;
+            dimensions[Dimension.CATEGORY.ordinal()][rows] = categories.encode(categoryId);
+            dimensions[Dimension.MENU.ordinal()][rows] = menus.encode(menuId);
+            dimensions[Dimension.WAITER.ordinal()][rows] = waiters.encode(waiterId);
+            dimensions[Dimension.ORDER_TYPE.ordinal()][rows] = (short) (takeAway ? 1 : 0);
+            this.quantity[rows] = quantity;
+            this.revenue[rows] = revenue;
+            rows++;
+        }
+
+        /**
+         * Build the cube
+         *
+         * @param categoryNames Category names by ID
+         * @param menuNames     Menu names by ID
+         * @param waiterNames   Waiter names by user ID
+         * @return Cube of the items handled so far
+         */
+        public SalesCube build(Map<Integer, String> categoryNames, Map<Integer, String> menuNames,
+                Map<Integer, String> waiterNames) {
+            String[][] labels = new String[Dimension.values().length][];
+            String[] hours = new String[24];
+            for (int hour = 0; hour < hours.length; hour++) {
+                hours[hour] = String.format("%02d:00", hour);
+            }
+            labels[Dimension.HOUR.ordinal()] = hours;
+            labels[Dimension.WEEKDAY.ordinal()] = WEEKDAYS.clone();
+            labels[Dimension.CATEGORY.ordinal()] = categories.labels(categoryNames, "Tanpa kategori", "Kategori #");
+            labels[Dimension.MENU.ordinal()] = menus.labels(menuNames, "Menu #0", "Menu #");
+            labels[Dimension.WAITER.ordinal()] = waiters.labels(waiterNames, "User #0", "User #");
+            labels[Dimension.ORDER_TYPE.ordinal()] = ORDER_TYPES.clone();
+
+            short[][] columns = new short[dimensions.length][];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = Arrays.copyOf(dimensions[i], rows);
+            }
+            return new SalesCube(startDate, endDate, rows, columns, labels,
+                    Arrays.copyOf(quantity, rows), Arrays.copyOf(revenue, rows));
+        }
+
+        private void grow() {
+            int capacity = quantity.length * 2;
+            for (int i = 0; i < dimensions.length; i++) {
+                dimensions[i] = Arrays.copyOf(dimensions[i], capacity);
+            }
+            quantity = Arrays.copyOf(quantity, capacity);
+            revenue = Arrays.copyOf(revenue, capacity);
+        }
+    }
+
+    /**
+     * Codes of a dimension keyed by database ID, in order of first sight
+     */
+    private static final class Dictionary {
+        private final Map<Integer, Short> codes = new HashMap<>();
+        private final List<Integer> ids = new ArrayList<>();
+
+        short encode(int id) {
+            Short code = codes.get(id);
+            if (code == null) {
+                if (ids.size() == MAX_CODES) {
+                    throw new IllegalStateException("Terlalu banyak nilai dimensi");
+                }
+                code = (short) ids.size();
+                codes.put(id, code);
+                ids.add(id);
+            }
+            return code;
+        }
+
+        String[] labels(Map<Integer, String> names, String none, String unknownPrefix) {
+            String[] labels = new String[ids.size()];
+            for (int code = 0; code < labels.length; code++) {
+                int id = ids.get(code);
+                String name = names.get(id);
+                labels[code] = name != null ? name : id == 0 ? none : unknownPrefix + id;
+            }
+            return labels;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.restos.api;
+
+/**
+ * Request error with the HTTP status to answer with
+ * The message is sent to the client in the error body.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class ApiException extends RuntimeException {
+
+    private final int status;
+
+    public ApiException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public static ApiException badRequest(String message) {
+        return new ApiException(400, message);
+    }
+
+    public static ApiException notFound(String message) {
+        return new ApiException(404, message);
+    }
+
+    public static ApiException conflict(String message) {
+        return new ApiException(409, message);
+    }
+}
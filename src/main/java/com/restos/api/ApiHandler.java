@@ -0,0 +1,121 @@
+package com.restos.api;
+
+import com.restos.metrics.MetricsRegistry;
+import com.restos.model.User;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+
+/**
+ * Base of the API handlers: checks the bearer token, maps errors to JSON
+ * responses and records one metric per handler ("Api.orders", ...)
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public abstract class ApiHandler implements HttpHandler {
+
+    private final String name;
+    private final ApiSessions sessions;
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+    /**
+     * @param name     Metric name suffix
+     * @param sessions Sessions to check tokens against, or null for a public handler
+     */
+    protected ApiHandler(String name, ApiSessions sessions) {
+        this.name = name;
+        this.sessions = sessions;
+    }
+
+    @Override
+    public final void handle(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        boolean failed = false;
+        ApiRequest request = new ApiRequest(exchange);
+        try {
+            if (sessions != null) {
+                User user = sessions.get(bearerToken(request));
+                if (user == null) {
+                    throw new ApiException(401, "Silakan login terlebih dahulu");
+                }
+                request.setUser(user);
+            }
+            handle(request);
+            if (!request.hasResponded()) {
+                throw ApiException.notFound("Tidak ditemukan");
+            }
+        } catch (ApiException e) {
+            failed = e.getStatus() >= 500;
+            sendError(request, e.getStatus(), e.getMessage());
+        } catch (Exception e) {
+            failed = true;
+            System.err.println("Error handling API request " + exchange.getRequestMethod() + " "
+                    + exchange.getRequestURI().getPath() + ": " + e);
+            sendError(request, 500, "Terjadi kesalahan pada server");
+        } finally {
+            if (!request.isDetached()) {
+                exchange.close();
+            }
+            metrics.operation("Api." + name).record(System.nanoTime() - start, 1, failed);
+        }
+    }
+
+    /**
+     * Handle a request; answer with one of the request's respond methods.
+     * A request that gets no response is answered with 404.
+     */
+    protected abstract void handle(ApiRequest request) throws IOException;
+
+    /**
+     * Allow the request for the given roles; admins are always allowed
+     * @throws ApiException 403 otherwise
+     */
+    protected static void requireRole(ApiRequest request, String... roles) {
+        User user = request.getUser();
+        if (user == null || user.isAdmin()) {
+            return;
+        }
+        for (String role : roles) {
+            if (role.equalsIgnoreCase(user.getRole())) {
+                return;
+            }
+        }
+        throw new ApiException(403, "Akses ditolak untuk role " + user.getRole());
+    }
+
+    /**
+     * Reject a method other than the expected one
+     * @throws ApiException 405
+     */
+    protected static void requireMethod(ApiRequest request, String method) {
+        if (!method.equals(request.getMethod())) {
+            throw new ApiException(405, "Method " + request.getMethod() + " tidak didukung");
+        }
+    }
+
+    /**
+     * Get the session token from the Authorization header, or from the
+     * access_token query parameter for clients that cannot set headers
+     * (browser EventSource)
+     */
+    static String bearerToken(ApiRequest request) {
+        String header = request.getHeader("Authorization");
+        if (header != null && header.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            return header.substring(7).trim();
+        }
+        return request.getQuery("access_token");
+    }
+
+    private static void sendError(ApiRequest request, int status, String message) {
+        if (request.hasResponded()) {
+            return;
+        }
+        try {
+            request.respondError(status, message);
+        } catch (IOException e) {
+            // Client went away
+        }
+    }
+}
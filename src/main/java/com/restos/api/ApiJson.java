@@ -0,0 +1,118 @@
+package com.restos.api;
+
+import com.restos.model.Category;
+import com.restos.model.Menu;
+import com.restos.model.Order;
+import com.restos.model.OrderItem;
+import com.restos.model.Payment;
+import com.restos.model.Table;
+import com.restos.model.User;
+
+import java.util.List;
+
+/**
+ * JSON shapes of the models sent by the API
+ * Field names are camelCase; money is whole rupiah.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+final class ApiJson {
+
+    private ApiJson() {
+    }
+
+    static void user(JsonWriter json, User user) {
+        json.beginObject()
+                .name("id").value(user.getId())
+                .name("username").value(user.getUsername())
+                .name("name").value(user.getDisplayName())
+                .name("role").value(user.getRole())
+                .endObject();
+    }
+
+    static void category(JsonWriter json, Category category) {
+        json.beginObject()
+                .name("id").value(category.getId())
+                .name("name").value(category.getName())
+                .name("icon").value(category.getIcon())
+                .name("sortOrder").value(category.getSortOrder())
+                .endObject();
+    }
+
+    static void menu(JsonWriter json, Menu menu) {
+        json.beginObject()
+                .name("id").value(menu.getId())
+                .name("categoryId").value(menu.getCategoryId())
+                .name("name").value(menu.getName())
+                .name("description").value(menu.getDescription())
+                .name("price").value(menu.getPrice())
+                .name("imageUrl").value(menu.getImageUrl())
+                .endObject();
+    }
+
+    static void table(JsonWriter json, Table table) {
+        json.beginObject()
+                .name("id").value(table.getId())
+                .name("number").value(table.getTableNumber())
+                .name("capacity").value(table.getCapacity())
+                .name("status").value(table.getStatus())
+                .endObject();
+    }
+
+    /**
+     * Write an order with its items (when loaded)
+     */
+    static void order(JsonWriter json, Order order) {
+        json.beginObject()
+                .name("id").value(order.getId())
+                .name("tableId");
+        if (order.getTableId() != null) {
+            json.value(order.getTableId());
+        } else {
+            json.nullValue();
+        }
+        json.name("tableNumber").value(order.getTable() != null ? order.getTable().getTableNumber() : null)
+                .name("waiterId").value(order.getUserId())
+                .name("customerName").value(order.getCustomerName())
+                .name("orderType").value(order.getOrderType())
+                .name("status").value(order.getStatus())
+                .name("totalAmount").value(order.getTotalAmount())
+                .name("createdAt").value(order.getCreatedAt());
+
+        List<OrderItem> items = order.getOrderItems();
+        if (items != null && !items.isEmpty()) {
+            json.name("items").beginArray();
+            for (OrderItem item : items) {
+                item(json, item);
+            }
+            json.endArray();
+        }
+        json.endObject();
+    }
+
+    static void item(JsonWriter json, OrderItem item) {
+        json.beginObject()
+                .name("id").value(item.getId())
+                .name("menuId").value(item.getMenuId())
+                .name("menuName").value(item.getMenu() != null ? item.getMenuName() : null)
+                .name("quantity").value(item.getQuantity())
+                .name("price").value(item.getPrice())
+                .name("subtotal").value(item.getSubtotal())
+                .name("notes").value(item.getNotes())
+                .name("status").value(item.getStatus())
+                .endObject();
+    }
+
+    static void payment(JsonWriter json, Payment payment) {
+        json.beginObject()
+                .name("id").value(payment.getId())
+                .name("orderId").value(payment.getOrderId())
+                .name("cashierId").value(payment.getCashierId())
+                .name("method").value(payment.getPaymentMethod())
+                .name("amountPaid").value(payment.getAmountPaid())
+                .name("changeAmount").value(payment.getChangeAmount())
+                .name("transactionDate").value(payment.getTransactionDate())
+                .endObject();
+    }
+}
@@ -0,0 +1,293 @@
+package com.restos.api;
+
+import com.restos.model.User;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One API request: path segments below the handler's context, the JSON
+ * body, the signed-in user and the response methods
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class ApiRequest {
+
+    // Request bodies are small orders and payments
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    private final HttpExchange exchange;
+    private final List<String> segments;
+    private User user;
+    private boolean responded;
+    private boolean detached;
+
+    ApiRequest(HttpExchange exchange) {
+        this.exchange = exchange;
+        this.segments = split(exchange.getRequestURI().getPath()
+                .substring(exchange.getHttpContext().getPath().length()));
+    }
+
+    public String getMethod() {
+        return exchange.getRequestMethod();
+    }
+
+    /**
+     * Path below the context, e.g. ["12", "payment"] for /api/orders/12/payment
+     */
+    public List<String> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Get a path segment as an id
+     * @throws ApiException 404 if the segment is not a number
+     */
+    public int getId(int segment) {
+        try {
+            return Integer.parseInt(segments.get(segment));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw ApiException.notFound("Tidak ditemukan");
+        }
+    }
+
+    public String getHeader(String name) {
+        return exchange.getRequestHeaders().getFirst(name);
+    }
+
+    /**
+     * Get a query parameter (no percent-decoding; values are plain words)
+     */
+    public String getQuery(String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return pair.substring(eq + 1);
+            }
+        }
+        return null;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    void setUser(User user) {
+        this.user = user;
+    }
+
+    /**
+     * Read the body as a JSON object
+     * @throws ApiException 400 if the body is missing, too large or not a JSON object
+     */
+    public Map<String, Object> readObject() throws IOException {
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readNBytes(MAX_BODY_BYTES + 1);
+        }
+        if (body.length > MAX_BODY_BYTES) {
+            throw new ApiException(413, "Request terlalu besar");
+        }
+        Object value;
+        try {
+            value = JsonReader.parse(new String(body, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw ApiException.badRequest("JSON tidak valid: " + e.getMessage());
+        }
+        return asObject(value, "Body harus berupa objek JSON");
+    }
+
+    // ==================== BODY FIELDS ====================
+
+    /**
+     * Check that a parsed JSON value is an object
+     * @param value   Value from JsonReader
+     * @param message Error message when it is not
+     * @throws ApiException 400 if the value is not a JSON object
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> asObject(Object value, String message) {
+        if (!(value instanceof Map)) {
+            throw ApiException.badRequest(message);
+        }
+        // JsonReader only creates maps with string keys
+        return (Map<String, Object>) value;
+    }
+
+    public static String getString(Map<String, Object> body, String name, boolean required) {
+        Object value = body.get(name);
+        if (value == null) {
+            if (required) {
+                throw ApiException.badRequest("'" + name + "' wajib diisi");
+            }
+            return null;
+        }
+        if (!(value instanceof String)) {
+            throw ApiException.badRequest("'" + name + "' harus berupa teks");
+        }
+        return (String) value;
+    }
+
+    public static long getLong(Map<String, Object> body, String name) {
+        Object value = body.get(name);
+        if (!(value instanceof Long)) {
+            throw ApiException.badRequest("'" + name + "' harus berupa bilangan bulat");
+        }
+        return (Long) value;
+    }
+
+    public static int getInt(Map<String, Object> body, String name) {
+        long value = getLong(body, name);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw ApiException.badRequest("'" + name + "' di luar jangkauan");
+        }
+        return (int) value;
+    }
+
+    // ==================== RESPONSES ====================
+
+    public void respond(int status, JsonWriter json) throws IOException {
+        respond(status, json, null);
+    }
+
+    /**
+     * Send a JSON response
+     * @param status HTTP status
+     * @param json   Body
+     * @param etag   Entity tag, or null
+     */
+    public void respond(int status, JsonWriter json, String etag) throws IOException {
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", "application/json; charset=utf-8");
+        if (etag != null) {
+            headers.set("ETag", etag);
+            headers.set("Cache-Control", "no-cache");
+        }
+        sendHeaders(status, json.size());
+        try (OutputStream out = exchange.getResponseBody()) {
+            json.writeTo(out);
+        }
+    }
+
+    /**
+     * Send a prepared JSON body (e.g. a cached catalog)
+     */
+    public void respond(int status, byte[] body, String etag) throws IOException {
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", "application/json; charset=utf-8");
+        if (etag != null) {
+            headers.set("ETag", etag);
+            headers.set("Cache-Control", "no-cache");
+        }
+        sendHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Send a response without a body (204, 304)
+     */
+    public void respondEmpty(int status, String etag) throws IOException {
+        if (etag != null) {
+            exchange.getResponseHeaders().set("ETag", etag);
+        }
+        sendHeaders(status, -1);
+    }
+
+    /**
+     * Start a streamed response of unknown length (chunked)
+     * @param contentType Content type of the stream
+     * @return Response body; the handler writes and flushes it until done
+     */
+    public OutputStream openStream(String contentType) throws IOException {
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", contentType);
+        headers.set("Cache-Control", "no-cache");
+        sendHeaders(200, 0);
+        return exchange.getResponseBody();
+    }
+
+    /**
+     * Check If-None-Match against the current entity tag
+     */
+    public boolean isNotModified(String etag) {
+        String match = getHeader("If-None-Match");
+        if (match == null) {
+            return false;
+        }
+        for (String candidate : match.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || tag.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean hasResponded() {
+        return responded;
+    }
+
+    /**
+     * Keep the exchange open after the handler returns; whoever took the
+     * request over must close it
+     */
+    void detach() {
+        detached = true;
+    }
+
+    boolean isDetached() {
+        return detached;
+    }
+
+    /**
+     * Close a detached request
+     */
+    void close() {
+        exchange.close();
+    }
+
+    void respondError(int status, String message) throws IOException {
+        JsonWriter json = new JsonWriter(128);
+        json.beginObject().name("error").value(message).endObject();
+        respond(status, json);
+    }
+
+    /**
+     * Finish reading the request before answering: the server keeps the
+     * connection open only when the request body was read to the end by
+     * the time the response is complete
+     */
+    private void sendHeaders(int status, long length) throws IOException {
+        responded = true;
+        exchange.getRequestBody().close();
+        exchange.sendResponseHeaders(status, length);
+    }
+
+    private static List<String> split(String path) {
+        List<String> segments = new ArrayList<>(4);
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments.isEmpty() ? Collections.emptyList() : segments;
+    }
+}
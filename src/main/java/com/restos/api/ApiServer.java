@@ -0,0 +1,195 @@
+package com.restos.api;
+
+import com.restos.config.DatabaseConfig;
+import com.restos.dao.CategoryDAO;
+import com.restos.dao.DAOFactory;
+import com.restos.dao.MenuDAO;
+import com.restos.model.Category;
+import com.restos.model.Menu;
+import com.restos.sync.Invalidation;
+import com.restos.sync.InvalidationBus;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Local HTTP/JSON API for tablets and handhelds on the restaurant network
+ *
+ * POST /api/auth/login, /api/auth/logout
+ * GET  /api/categories, /api/menu  (cached, ETag / If-None-Match)
+ * GET  /api/tables
+ * GET/POST /api/orders, POST /api/orders/{id}/payment
+ * GET/POST /api/kitchen
+ * GET  /api/events  (server-sent order events)
+ *
+ * Configured in database.properties (or with -Dapi.*): api.port (empty or 0
+ * disables the server), api.bind, api.threads, api.session.idle.minutes,
+ * api.catalog.ttl.ms, api.events.buffer and api.events.max.streams.
+ * Requests run on virtual threads when the runtime has them, otherwise on
+ * a fixed pool of api.threads daemon threads. Open event streams have
+ * their own threads (at most api.events.max.streams), so they never use up
+ * the request pool. Menu changes announced on the InvalidationBus drop the
+ * cached menu before its TTL runs out.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public final class ApiServer {
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+    private static EventStreamApi eventStream;
+    private static Consumer<Invalidation> catalogInvalidation;
+
+    private ApiServer() {
+    }
+
+    /**
+     * Start the server when api.port is set
+     * @return true if the server is running
+     */
+    public static synchronized boolean startIfConfigured() {
+        int port = DatabaseConfig.getInstance().getIntProperty("api.port", 0);
+        if (port <= 0) {
+            return false;
+        }
+        try {
+            start(port);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error starting API server on port " + port + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Start the server
+     * @param port Port to listen on (0 picks a free port)
+     * @throws IOException if the port cannot be bound
+     */
+    public static synchronized void start(int port) throws IOException {
+        if (server != null) {
+            return;
+        }
+        DatabaseConfig config = DatabaseConfig.getInstance();
+        String bind = config.getProperty("api.bind");
+        InetSocketAddress address = bind == null || bind.isBlank()
+                ? new InetSocketAddress(port)
+                : new InetSocketAddress(bind.trim(), port);
+
+        ApiSessions sessions = new ApiSessions(config.getIntProperty("api.session.idle.minutes", 720));
+        long catalogTtl = config.getIntProperty("api.catalog.ttl.ms", 5000);
+
+        CatalogApi categories = new CatalogApi("categories", sessions, catalogTtl, ApiServer::writeCategories);
+        CatalogApi menu = new CatalogApi("menu", sessions, catalogTtl, ApiServer::writeMenu);
+
+        HttpServer http = HttpServer.create(address, 0);
+        http.createContext("/api/auth", new AuthApi(sessions));
+        http.createContext("/api/categories", categories);
+        http.createContext("/api/menu", menu);
+        http.createContext("/api/tables", new TableApi(sessions));
+        http.createContext("/api/orders", new OrderApi(sessions));
+        http.createContext("/api/kitchen", new KitchenApi(sessions));
+        EventStreamApi events = new EventStreamApi(sessions, config.getIntProperty("api.events.buffer", 256),
+                config.getIntProperty("api.events.max.streams", 32));
+        http.createContext("/api/events", events);
+
+        executor = createExecutor(config.getIntProperty("api.threads", 64));
+        http.setExecutor(executor);
+        http.start();
+        server = http;
+        eventStream = events;
+
+        catalogInvalidation = invalidation -> {
+            if (invalidation.isAll()) {
+                categories.invalidate();
+                menu.invalidate();
+            } else if (invalidation.getEntity() == Invalidation.MENU) {
+                menu.invalidate();
+            }
+        };
+        InvalidationBus.getInstance().subscribe(catalogInvalidation);
+        System.out.println("API server listening on " + http.getAddress());
+    }
+
+    /**
+     * Stop the server, giving running requests a second to finish;
+     * event streams are ended after that
+     */
+    public static synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        InvalidationBus.getInstance().unsubscribe(catalogInvalidation);
+        catalogInvalidation = null;
+        server.stop(1);
+        eventStream.close();
+        executor.shutdownNow();
+        server = null;
+        executor = null;
+        eventStream = null;
+    }
+
+    /**
+     * @return Port the server listens on, or -1 if it is not running
+     */
+    public static synchronized int getPort() {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    /**
+     * Run only the API (back-office machine without the desktop UI)
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0])
+                : DatabaseConfig.getInstance().getIntProperty("api.port", 8080);
+        if (!DatabaseConfig.getInstance().testConnection()) {
+            System.err.println("Cannot connect to the database");
+            System.exit(1);
+        }
+        start(port);
+    }
+
+    /**
+     * One virtual thread per request on runtimes that have them (Java 21+),
+     * otherwise a fixed pool: handlers block on JDBC, so the pool is sized
+     * for waiting devices rather than for CPUs
+     */
+    private static ExecutorService createExecutor(int threads) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger count = new AtomicInteger();
+            return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+                Thread thread = new Thread(runnable, "api-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private static void writeCategories(JsonWriter json) {
+        CategoryDAO categoryDAO = DAOFactory.getCategoryDAO();
+        json.beginArray();
+        for (Category category : categoryDAO.findAll()) {
+            ApiJson.category(json, category);
+        }
+        json.endArray();
+    }
+
+    private static void writeMenu(JsonWriter json) {
+        MenuDAO menuDAO = DAOFactory.getMenuDAO();
+        json.beginArray();
+        for (Menu menu : menuDAO.findAllActive()) {
+            ApiJson.menu(json, menu);
+        }
+        json.endArray();
+    }
+}
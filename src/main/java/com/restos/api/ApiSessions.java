@@ -0,0 +1,91 @@
+package com.restos.api;
+
+import com.restos.model.User;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * API Sessions
+ * Bearer tokens handed out by /api/auth/login. A token stays valid while it
+ * is used; it expires after api.session.idle.minutes without requests.
+ * Sessions live in memory, so devices sign in again after a restart.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class ApiSessions {
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final SecureRandom random = new SecureRandom();
+    private final long idleNanos;
+
+    /**
+     * @param idleMinutes Minutes without requests before a token expires
+     */
+    public ApiSessions(long idleMinutes) {
+        this.idleNanos = idleMinutes * 60_000_000_000L;
+    }
+
+    /**
+     * Start a session
+     * @param user Signed-in user
+     * @return Token for the Authorization header
+     */
+    public String open(User user) {
+        removeExpired();
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        sessions.put(token, new Session(user));
+        return token;
+    }
+
+    /**
+     * Get the user of a token and keep the session alive
+     * @param token Token
+     * @return User, or null if the token is unknown or expired
+     */
+    public User get(String token) {
+        if (token == null) {
+            return null;
+        }
+        Session session = sessions.get(token);
+        if (session == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (now - session.lastUsed > idleNanos) {
+            sessions.remove(token);
+            return null;
+        }
+        session.lastUsed = now;
+        return session.user;
+    }
+
+    public void close(String token) {
+        if (token != null) {
+            sessions.remove(token);
+        }
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    private void removeExpired() {
+        long now = System.nanoTime();
+        sessions.values().removeIf(session -> now - session.lastUsed > idleNanos);
+    }
+
+    private static final class Session {
+        private final User user;
+        private volatile long lastUsed = System.nanoTime();
+
+        Session(User user) {
+            this.user = user;
+        }
+    }
+}
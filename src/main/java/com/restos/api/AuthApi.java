@@ -0,0 +1,55 @@
+package com.restos.api;
+
+import com.restos.model.User;
+import com.restos.service.AuthService;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * POST /api/auth/login {username, password} -> {token, user}
+ * POST /api/auth/logout (with the token) -> 204
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+class AuthApi extends ApiHandler {
+
+    private final ApiSessions sessions;
+    private final AuthService authService = new AuthService();
+
+    AuthApi(ApiSessions sessions) {
+        // Public: the token is checked here for logout only
+        super("auth", null);
+        this.sessions = sessions;
+    }
+
+    @Override
+    protected void handle(ApiRequest request) throws IOException {
+        requireMethod(request, "POST");
+        if (request.getSegments().equals(List.of("logout"))) {
+            sessions.close(bearerToken(request));
+            request.respondEmpty(204, null);
+            return;
+        }
+        if (!request.getSegments().equals(List.of("login"))) {
+            return;
+        }
+
+        Map<String, Object> body = request.readObject();
+        String username = ApiRequest.getString(body, "username", true);
+        String password = ApiRequest.getString(body, "password", true);
+
+        User user = authService.login(username, password);
+        if (user == null) {
+            throw new ApiException(401, "Username atau password salah");
+        }
+
+        JsonWriter json = new JsonWriter(256);
+        json.beginObject().name("token").value(sessions.open(user)).name("user");
+        ApiJson.user(json, user);
+        json.endObject();
+        request.respond(200, json);
+    }
+}
@@ -0,0 +1,93 @@
+package com.restos.api;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Read-mostly catalog resource (GET /api/menu, GET /api/categories)
+ * The rendered JSON is shared by all devices and reloaded from the
+ * database at most once per api.catalog.ttl.ms. Responses carry an ETag
+ * of the body, so a device that already has the current catalog gets
+ * 304 Not Modified without a body.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+class CatalogApi extends ApiHandler {
+
+    private final Consumer<JsonWriter> renderer;
+    private final long ttlNanos;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param name     Resource name (metric name)
+     * @param sessions Sessions
+     * @param ttlMillis Maximum age of the shared JSON
+     * @param renderer Writes the resource from the database
+     */
+    CatalogApi(String name, ApiSessions sessions, long ttlMillis, Consumer<JsonWriter> renderer) {
+        super(name, sessions);
+        this.renderer = renderer;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+    }
+
+    @Override
+    protected void handle(ApiRequest request) throws IOException {
+        requireMethod(request, "GET");
+        if (!request.getSegments().isEmpty()) {
+            return;
+        }
+        Snapshot current = current();
+        if (request.isNotModified(current.etag)) {
+            request.respondEmpty(304, current.etag);
+        } else {
+            request.respond(200, current.body, current.etag);
+        }
+    }
+
+    /**
+     * Drop the shared JSON so the next request reloads it
+     */
+    void invalidate() {
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && System.nanoTime() - current.loadedAt < ttlNanos) {
+            return current;
+        }
+        synchronized (this) {
+            // Another request may have reloaded it while this one waited
+            current = snapshot;
+            if (current != null && System.nanoTime() - current.loadedAt < ttlNanos) {
+                return current;
+            }
+            JsonWriter json = new JsonWriter(8192);
+            renderer.accept(json);
+            byte[] body = json.toByteArray();
+
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            String etag = "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(body.length) + "\"";
+
+            current = new Snapshot(body, etag, System.nanoTime());
+            snapshot = current;
+            return current;
+        }
+    }
+
+    private static final class Snapshot {
+        private final byte[] body;
+        private final String etag;
+        private final long loadedAt;
+
+        Snapshot(byte[] body, String etag, long loadedAt) {
+            this.body = body;
+            this.etag = etag;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.restos.api;
+
+import com.restos.event.EventBus;
+import com.restos.event.OrderEvent;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * GET /api/events -> server-sent event stream of order events
+ *
+ * The stream starts with a "ready" event carrying the current event id;
+ * a client loads its state after it and then applies the events. Each
+ * client has its own bounded buffer: a client that falls too far behind
+ * (or reconnects with a Last-Event-ID that is no longer kept) gets a
+ * "resync" event and reloads instead of holding up the services.
+ *
+ * Open streams run on their own threads, not on the request pool: the
+ * request thread only sends the headers and hands the stream over. At
+ * most maxStreams streams are open at once; further clients get 503 and
+ * retry, so streams can never take the threads that serve orders and
+ * payments.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+class EventStreamApi extends ApiHandler {
+
+    private static final long HEARTBEAT_SECONDS = 15;
+    private static final int MAX_BATCH = 64;
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final EventBus events = EventBus.getInstance();
+    private final int bufferSize;
+    private final Semaphore slots;
+    private final ExecutorService streams;
+
+    /**
+     * @param bufferSize Events a client may fall behind before it has to resync
+     * @param maxStreams Streams open at once
+     */
+    EventStreamApi(ApiSessions sessions, int bufferSize, int maxStreams) {
+        super("events", sessions);
+        this.bufferSize = Math.max(1, bufferSize);
+        this.slots = new Semaphore(Math.max(1, maxStreams));
+        AtomicInteger count = new AtomicInteger();
+        this.streams = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "api-events-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * End all open streams
+     */
+    void close() {
+        streams.shutdownNow();
+    }
+
+    @Override
+    protected void handle(ApiRequest request) throws IOException {
+        requireMethod(request, "GET");
+        if (!request.getSegments().isEmpty()) {
+            return;
+        }
+
+        if (!slots.tryAcquire()) {
+            throw new ApiException(503, "Terlalu banyak aliran event terbuka, coba lagi nanti");
+        }
+
+        Subscriber subscriber = new Subscriber(bufferSize);
+        events.subscribe(subscriber);
+        boolean handedOver = false;
+        try {
+            OutputStream out = request.openStream("text/event-stream; charset=utf-8");
+            streams.execute(() -> run(request, out, subscriber));
+            request.detach();
+            handedOver = true;
+        } catch (IOException | RejectedExecutionException e) {
+            // Client went away, or the server is stopping
+        } finally {
+            if (!handedOver) {
+                events.unsubscribe(subscriber);
+                slots.release();
+            }
+        }
+    }
+
+    /**
+     * Stream thread: writes events until the client disconnects or the
+     * server stops
+     */
+    private void run(ApiRequest request, OutputStream out, Subscriber subscriber) {
+        try {
+            stream(request, out, subscriber);
+        } catch (IOException e) {
+            // Client disconnected
+        } catch (InterruptedException e) {
+            // Server stopping
+        } finally {
+            events.unsubscribe(subscriber);
+            request.close();
+            slots.release();
+        }
+    }
+
+    private void stream(ApiRequest request, OutputStream out, Subscriber subscriber)
+            throws IOException, InterruptedException {
+        JsonWriter json = new JsonWriter(256);
+
+        // Subscribed first, so nothing published from here on is missed
+        long lastSent = lastEventId(request);
+        List<OrderEvent> missed = lastSent >= 0 ? events.since(lastSent) : null;
+        if (missed != null) {
+            for (OrderEvent event : missed) {
+                write(out, json, event);
+                lastSent = event.getSequence();
+            }
+        } else {
+            // A new client starts from here; a reconnecting one missed more than is kept
+            String type = lastSent >= 0 ? "resync" : "ready";
+            lastSent = events.getLastSequence();
+            writeControl(out, type, lastSent);
+        }
+        out.flush();
+
+        List<OrderEvent> batch = new ArrayList<>(MAX_BATCH);
+        while (true) {
+            OrderEvent first = subscriber.queue.poll(HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+            if (subscriber.overflowed) {
+                subscriber.overflowed = false;
+                subscriber.queue.clear();
+                lastSent = events.getLastSequence();
+                writeControl(out, "resync", lastSent);
+            } else if (first == null) {
+                // Comment line; keeps proxies and the client's timeout from closing an idle stream
+                out.write(HEARTBEAT);
+            } else {
+                batch.add(first);
+                subscriber.queue.drainTo(batch, MAX_BATCH - 1);
+                for (OrderEvent event : batch) {
+                    // Skip what was replayed or came before the ready event
+                    if (event.getSequence() > lastSent) {
+                        write(out, json, event);
+                        lastSent = event.getSequence();
+                    }
+                }
+                batch.clear();
+            }
+            out.flush();
+        }
+    }
+
+    /**
+     * Id of the last event a reconnecting client has, or -1 for a new client
+     */
+    private static long lastEventId(ApiRequest request) {
+        String lastEventId = request.getHeader("Last-Event-ID");
+        if (lastEventId == null) {
+            lastEventId = request.getQuery("lastEventId");
+        }
+        if (lastEventId == null) {
+            return -1;
+        }
+        try {
+            return Math.max(-1, Long.parseLong(lastEventId.trim()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static void write(OutputStream out, JsonWriter json, OrderEvent event) throws IOException {
+        json.reset().beginObject()
+                .name("orderId").value(event.getOrderId());
+        if (event.getItemId() > 0) {
+            json.name("itemId").value(event.getItemId());
+        }
+        if (event.getTableId() != null) {
+            json.name("tableId").value(event.getTableId());
+        }
+        json.name("status").value(event.getStatus())
+                .name("time").value(event.getTime())
+                .endObject();
+
+        out.write(("id: " + event.getSequence() + "\nevent: " + event.getType() + "\ndata: ")
+                .getBytes(StandardCharsets.US_ASCII));
+        json.writeTo(out);
+        out.write('\n');
+        out.write('\n');
+    }
+
+    private static void writeControl(OutputStream out, String type, long sequence) throws IOException {
+        out.write(("id: " + sequence + "\nevent: " + type + "\ndata: {}\n\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Bounded buffer of one client, filled on the publishing thread
+     */
+    private static final class Subscriber implements Consumer<OrderEvent> {
+        private final BlockingQueue<OrderEvent> queue;
+        private volatile boolean overflowed;
+
+        Subscriber(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        @Override
+        public void accept(OrderEvent event) {
+            if (!queue.offer(event)) {
+                overflowed = true;
+            }
+        }
+    }
+}
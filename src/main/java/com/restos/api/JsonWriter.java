@@ -0,0 +1,299 @@
+package com.restos.api;
+
+import com.restos.model.Money;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * JSON Writer
+ * Streams JSON straight into a growable UTF-8 byte buffer: no object
+ * tree, no reflection and no intermediate strings for numbers. Commas
+ * are placed automatically; nesting is limited to 63 levels.
+ *
+ * Money is written as a number of whole rupiah and datetimes as ISO
+ * local datetimes (2026-01-17T14:30:00).
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class JsonWriter {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = { 'n', 'u', 'l', 'l' };
+    private static final byte[] TRUE = { 't', 'r', 'u', 'e' };
+    private static final byte[] FALSE = { 'f', 'a', 'l', 's', 'e' };
+
+    private byte[] buffer;
+    private int size;
+
+    // Bit n set: the container at depth n already has an element
+    private long hasElement;
+    private int depth;
+    // A name was just written, the value follows without a comma
+    private boolean afterName;
+
+    public JsonWriter() {
+        this(1024);
+    }
+
+    public JsonWriter(int capacity) {
+        this.buffer = new byte[capacity];
+    }
+
+    public JsonWriter beginObject() {
+        separator();
+        return open('{');
+    }
+
+    public JsonWriter endObject() {
+        return close('}');
+    }
+
+    public JsonWriter beginArray() {
+        separator();
+        return open('[');
+    }
+
+    public JsonWriter endArray() {
+        return close(']');
+    }
+
+    /**
+     * Write an object member name; the next call writes its value
+     */
+    public JsonWriter name(String name) {
+        separator();
+        string(name);
+        write(':');
+        afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        separator();
+        if (value == null) {
+            write(NULL);
+        } else {
+            string(value);
+        }
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        separator();
+        if (value == Long.MIN_VALUE) {
+            ascii(Long.toString(value));
+            return this;
+        }
+        if (value < 0) {
+            write('-');
+            value = -value;
+        }
+        ensure(19);
+        int start = size;
+        do {
+            buffer[size++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        // Digits were written backwards
+        for (int i = start, j = size - 1; i < j; i++, j--) {
+            byte b = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = b;
+        }
+        return this;
+    }
+
+    public JsonWriter value(boolean value) {
+        separator();
+        write(value ? TRUE : FALSE);
+        return this;
+    }
+
+    public JsonWriter value(Money value) {
+        return value != null ? value(value.getRupiah()) : nullValue();
+    }
+
+    public JsonWriter value(LocalDateTime value) {
+        separator();
+        if (value == null) {
+            write(NULL);
+            return this;
+        }
+        ensure(21);
+        buffer[size++] = '"';
+        digits(value.getYear(), 4);
+        buffer[size++] = '-';
+        digits(value.getMonthValue(), 2);
+        buffer[size++] = '-';
+        digits(value.getDayOfMonth(), 2);
+        buffer[size++] = 'T';
+        digits(value.getHour(), 2);
+        buffer[size++] = ':';
+        digits(value.getMinute(), 2);
+        buffer[size++] = ':';
+        digits(value.getSecond(), 2);
+        buffer[size++] = '"';
+        return this;
+    }
+
+    public JsonWriter nullValue() {
+        separator();
+        write(NULL);
+        return this;
+    }
+
+    /**
+     * Clear the buffer to write another document
+     */
+    public JsonWriter reset() {
+        size = 0;
+        depth = 0;
+        hasElement = 0;
+        afterName = false;
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, size, StandardCharsets.UTF_8);
+    }
+
+    // ==================== INTERNALS ====================
+
+    private JsonWriter open(char bracket) {
+        if (depth >= 63) {
+            throw new IllegalStateException("JSON nested too deep");
+        }
+        write(bracket);
+        depth++;
+        hasElement &= ~(1L << depth);
+        return this;
+    }
+
+    private JsonWriter close(char bracket) {
+        if (depth == 0) {
+            throw new IllegalStateException("No open JSON container");
+        }
+        depth--;
+        write(bracket);
+        return this;
+    }
+
+    /**
+     * Write the comma before an element when the container already has one
+     */
+    private void separator() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        long bit = 1L << depth;
+        if ((hasElement & bit) != 0) {
+            write(',');
+        } else {
+            hasElement |= bit;
+        }
+    }
+
+    private void string(String s) {
+        int length = s.length();
+        // Worst case: every char becomes \\u00XX or three UTF-8 bytes
+        ensure(length * 6 + 2);
+        byte[] b = buffer;
+        int n = size;
+        b[n++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                b[n++] = (byte) c;
+            } else if (c == '"' || c == '\\') {
+                b[n++] = '\\';
+                b[n++] = (byte) c;
+            } else if (c == '\n') {
+                b[n++] = '\\';
+                b[n++] = 'n';
+            } else if (c == '\r') {
+                b[n++] = '\\';
+                b[n++] = 'r';
+            } else if (c == '\t') {
+                b[n++] = '\\';
+                b[n++] = 't';
+            } else if (c < 0x20) {
+                b[n++] = '\\';
+                b[n++] = 'u';
+                b[n++] = '0';
+                b[n++] = '0';
+                b[n++] = HEX[c >> 4];
+                b[n++] = HEX[c & 0xF];
+            } else if (c < 0x800) {
+                b[n++] = (byte) (0xC0 | (c >> 6));
+                b[n++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                b[n++] = (byte) (0xF0 | (cp >> 18));
+                b[n++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                b[n++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                b[n++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogate
+                b[n++] = '?';
+            } else {
+                b[n++] = (byte) (0xE0 | (c >> 12));
+                b[n++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                b[n++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        b[n++] = '"';
+        size = n;
+    }
+
+    private void digits(int value, int width) {
+        for (int i = width - 1; i >= 0; i--) {
+            buffer[size + i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += width;
+    }
+
+    private void ascii(String s) {
+        ensure(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            buffer[size++] = (byte) s.charAt(i);
+        }
+    }
+
+    private void write(char c) {
+        ensure(1);
+        buffer[size++] = (byte) c;
+    }
+
+    private void write(byte[] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
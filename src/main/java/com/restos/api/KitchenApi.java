@@ -0,0 +1,108 @@
+package com.restos.api;
+
+import com.restos.dao.DAOFactory;
+import com.restos.dao.OrderDAO;
+import com.restos.dao.OrderItemDAO;
+import com.restos.model.Order;
+import com.restos.model.OrderItem;
+import com.restos.service.OrderService;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kitchen queue for kitchen displays
+ * GET  /api/kitchen                        -> pending and processing orders with their items
+ * POST /api/kitchen/orders/{id}/start      -> start cooking all pending items
+ * POST /api/kitchen/orders/{id}/complete   -> serve all cooking items
+ * POST /api/kitchen/orders/{id}/deliver    -> mark the order as delivered
+ * POST /api/kitchen/items/{id}/status {status}
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+class KitchenApi extends ApiHandler {
+
+    private final OrderDAO orderDAO = DAOFactory.getOrderDAO();
+    private final OrderItemDAO orderItemDAO = DAOFactory.getOrderItemDAO();
+    private final OrderService orderService = new OrderService();
+
+    KitchenApi(ApiSessions sessions) {
+        super("kitchen", sessions);
+    }
+
+    @Override
+    protected void handle(ApiRequest request) throws IOException {
+        requireRole(request, "kitchen");
+        List<String> segments = request.getSegments();
+
+        if (segments.isEmpty()) {
+            requireMethod(request, "GET");
+            List<Order> orders = orderDAO.findForKitchen();
+            JsonWriter json = new JsonWriter(4096);
+            json.beginArray();
+            for (Order order : orders) {
+                ApiJson.order(json, order);
+            }
+            json.endArray();
+            request.respond(200, json);
+        } else if (segments.size() == 3 && segments.get(0).equals("orders")) {
+            requireMethod(request, "POST");
+            updateOrder(request, request.getId(1), segments.get(2));
+        } else if (segments.size() == 3 && segments.get(0).equals("items") && segments.get(2).equals("status")) {
+            requireMethod(request, "POST");
+            updateItem(request, request.getId(1));
+        }
+    }
+
+    private void updateOrder(ApiRequest request, int orderId, String action) throws IOException {
+        Order order = orderDAO.findByIdWithItems(orderId);
+        if (order == null) {
+            throw ApiException.notFound("Pesanan tidak ditemukan");
+        }
+        if (!order.isPending() && !order.isProcessing()) {
+            throw ApiException.conflict("Pesanan sudah " + order.getStatus());
+        }
+
+        switch (action) {
+            case "start":
+                orderService.startCookingAll(orderId, order.getOrderItems());
+                break;
+            case "complete":
+                orderService.completeAllItems(order.getOrderItems());
+                break;
+            case "deliver":
+                orderService.markDelivered(orderId);
+                break;
+            default:
+                return;
+        }
+
+        JsonWriter json = new JsonWriter(1024);
+        ApiJson.order(json, orderDAO.findByIdWithItems(orderId));
+        request.respond(200, json);
+    }
+
+    private void updateItem(ApiRequest request, int itemId) throws IOException {
+        Map<String, Object> body = request.readObject();
+        String status = ApiRequest.getString(body, "status", true);
+        if (!status.equals(OrderItem.STATUS_PENDING) && !status.equals(OrderItem.STATUS_COOKING)
+                && !status.equals(OrderItem.STATUS_SERVED)) {
+            throw ApiException.badRequest("Status item tidak valid: " + status);
+        }
+
+        OrderItem item = orderItemDAO.findById(itemId);
+        if (item == null) {
+            throw ApiException.notFound("Item tidak ditemukan");
+        }
+        if (!orderService.updateItemStatus(item, status)) {
+            throw new ApiException(500, "Status item tidak dapat diubah");
+        }
+        item.setStatus(status);
+
+        JsonWriter json = new JsonWriter(256);
+        ApiJson.item(json, item);
+        request.respond(200, json);
+    }
+}
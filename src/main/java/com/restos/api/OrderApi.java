@@ -0,0 +1,254 @@
+package com.restos.api;
+
+import com.restos.dao.DAOFactory;
+import com.restos.dao.MenuDAO;
+import com.restos.dao.OrderDAO;
+import com.restos.dao.TableDAO;
+import com.restos.model.Menu;
+import com.restos.model.Money;
+import com.restos.model.Order;
+import com.restos.model.OrderItem;
+import com.restos.model.Payment;
+import com.restos.model.Table;
+import com.restos.service.OrderHistoryService;
+import com.restos.service.OrderService;
+import com.restos.service.PaymentService;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Orders for waiter handhelds and cashier tablets
+ * GET  /api/orders[?status=delivered]  -> orders (without items)
+ * GET  /api/orders?from=2026-01-01&to=2026-01-31 -> orders of a date range, archived ones included
+ * GET  /api/orders/{id}                -> order with items, also when archived
+ * POST /api/orders {tableId, customerName, orderType, items: [{menuId, quantity, notes}]}
+ * POST /api/orders/{id}/payment {method, amountPaid}
+ *
+ * Prices are always taken from the menu, never from the request.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+class OrderApi extends ApiHandler {
+
+    private static final int MAX_ITEMS = 100;
+    private static final int MAX_QUANTITY = 99;
+    // A history request is answered in one response
+    private static final int MAX_RANGE_DAYS = 92;
+
+    private final OrderDAO orderDAO = DAOFactory.getOrderDAO();
+    private final MenuDAO menuDAO = DAOFactory.getMenuDAO();
+    private final TableDAO tableDAO = DAOFactory.getTableDAO();
+    private final OrderService orderService = new OrderService();
+    private final OrderHistoryService historyService = new OrderHistoryService();
+    private final PaymentService paymentService = new PaymentService();
+
+    // Tables being ordered for and orders being paid; a second device gets 409
+    private final Set<Integer> claimedTables = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> settlingOrders = ConcurrentHashMap.newKeySet();
+
+    OrderApi(ApiSessions sessions) {
+        super("orders", sessions);
+    }
+
+    @Override
+    protected void handle(ApiRequest request) throws IOException {
+        List<String> segments = request.getSegments();
+        if (segments.isEmpty()) {
+            if ("POST".equals(request.getMethod())) {
+                create(request);
+            } else {
+                requireMethod(request, "GET");
+                list(request);
+            }
+        } else if (segments.size() == 1) {
+            requireMethod(request, "GET");
+            get(request, request.getId(0));
+        } else if (segments.size() == 2 && segments.get(1).equals("payment")) {
+            requireMethod(request, "POST");
+            pay(request, request.getId(0));
+        }
+    }
+
+    private void list(ApiRequest request) throws IOException {
+        String status = request.getQuery("status");
+        String from = request.getQuery("from");
+        List<Order> orders;
+        if (from != null) {
+            LocalDate startDate = date(from);
+            String to = request.getQuery("to");
+            LocalDate endDate = to != null ? date(to) : startDate;
+            if (endDate.isBefore(startDate) || endDate.isAfter(startDate.plusDays(MAX_RANGE_DAYS - 1))) {
+                throw ApiException.badRequest("Rentang tanggal harus 1 sampai " + MAX_RANGE_DAYS + " hari");
+            }
+            orders = historyService.findByDateRange(startDate, endDate);
+        } else {
+            orders = status != null ? orderDAO.findByStatus(status) : orderDAO.findToday();
+        }
+
+        JsonWriter json = new JsonWriter(256 * orders.size() + 16);
+        json.beginArray();
+        for (Order order : orders) {
+            ApiJson.order(json, order);
+        }
+        json.endArray();
+        request.respond(200, json);
+    }
+
+    private void get(ApiRequest request, int orderId) throws IOException {
+        Order order = historyService.findByIdWithItems(orderId);
+        if (order == null) {
+            throw ApiException.notFound("Pesanan tidak ditemukan");
+        }
+        JsonWriter json = new JsonWriter(1024);
+        ApiJson.order(json, order);
+        request.respond(200, json);
+    }
+
+    private void create(ApiRequest request) throws IOException {
+        requireRole(request, "waiter");
+        Map<String, Object> body = request.readObject();
+
+        String orderType = ApiRequest.getString(body, "orderType", false);
+        if (orderType == null) {
+            orderType = Order.TYPE_DINE_IN;
+        } else if (!orderType.equals(Order.TYPE_DINE_IN) && !orderType.equals(Order.TYPE_TAKE_AWAY)) {
+            throw ApiException.badRequest("Tipe pesanan tidak valid: " + orderType);
+        }
+        int tableId = ApiRequest.getInt(body, "tableId");
+        String customerName = ApiRequest.getString(body, "customerName", false);
+        List<OrderItem> items = readItems(body.get("items"));
+
+        if (!claimedTables.add(tableId)) {
+            throw ApiException.conflict("Meja sedang dipesan dari perangkat lain");
+        }
+        try {
+            Table table = tableDAO.findById(tableId);
+            if (table == null) {
+                throw ApiException.badRequest("Meja tidak ditemukan");
+            }
+            if (Order.TYPE_DINE_IN.equals(orderType) && !table.isAvailable()) {
+                throw ApiException.conflict("Meja " + table.getTableNumber() + " tidak tersedia");
+            }
+
+            Order order = new Order();
+            order.setUserId(request.getUser().getId());
+            order.setCustomerName(customerName != null && !customerName.isBlank() ? customerName.trim() : null);
+            order.setOrderType(orderType);
+
+            try {
+                orderService.submitOrder(order, table, items);
+            } catch (IllegalStateException e) {
+                throw new ApiException(500, e.getMessage());
+            }
+            // Reload for the ids and timestamps set by the database
+            Order saved = orderDAO.findByIdWithItems(order.getId());
+
+            JsonWriter json = new JsonWriter(1024);
+            ApiJson.order(json, saved != null ? saved : order);
+            request.respond(201, json);
+        } finally {
+            claimedTables.remove(tableId);
+        }
+    }
+
+    /**
+     * Build order items from the request, priced from the active menu
+     */
+    private List<OrderItem> readItems(Object value) {
+        if (!(value instanceof List) || ((List<?>) value).isEmpty()) {
+            throw ApiException.badRequest("'items' wajib berisi minimal satu item");
+        }
+        List<?> entries = (List<?>) value;
+        if (entries.size() > MAX_ITEMS) {
+            throw ApiException.badRequest("Maksimal " + MAX_ITEMS + " item per pesanan");
+        }
+
+        Map<Integer, Menu> menus = new HashMap<>();
+        for (Menu menu : menuDAO.findAllActive()) {
+            menus.put(menu.getId(), menu);
+        }
+
+        List<OrderItem> items = new ArrayList<>(entries.size());
+        for (Object entry : entries) {
+            Map<String, Object> fields = ApiRequest.asObject(entry, "Item harus berupa objek JSON");
+            int menuId = ApiRequest.getInt(fields, "menuId");
+            int quantity = ApiRequest.getInt(fields, "quantity");
+            if (quantity < 1 || quantity > MAX_QUANTITY) {
+                throw ApiException.badRequest("Jumlah harus 1 sampai " + MAX_QUANTITY);
+            }
+            Menu menu = menus.get(menuId);
+            if (menu == null) {
+                throw ApiException.badRequest("Menu " + menuId + " tidak tersedia");
+            }
+
+            OrderItem item = new OrderItem();
+            item.setMenu(menu);
+            item.setQuantity(quantity);
+            item.setPrice(menu.getPrice());
+            item.setNotes(ApiRequest.getString(fields, "notes", false));
+            items.add(item);
+        }
+        return items;
+    }
+
+    private static LocalDate date(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw ApiException.badRequest("Tanggal tidak valid: " + value);
+        }
+    }
+
+    private void pay(ApiRequest request, int orderId) throws IOException {
+        requireRole(request, "cashier");
+        Map<String, Object> body = request.readObject();
+
+        String method = ApiRequest.getString(body, "method", true);
+        if (!method.equals(Payment.METHOD_CASH) && !method.equals(Payment.METHOD_QRIS)
+                && !method.equals(Payment.METHOD_DEBIT)) {
+            throw ApiException.badRequest("Metode pembayaran tidak valid: " + method);
+        }
+
+        if (!settlingOrders.add(orderId)) {
+            throw ApiException.conflict("Pesanan sedang dibayar dari perangkat lain");
+        }
+        try {
+            Order order = orderDAO.findById(orderId);
+            if (order == null) {
+                throw ApiException.notFound("Pesanan tidak ditemukan");
+            }
+            if (!order.isDelivered()) {
+                throw ApiException.conflict("Pesanan belum siap dibayar (status " + order.getStatus() + ")");
+            }
+
+            // Non-cash payments are for the exact total unless stated
+            Money amountPaid = body.containsKey("amountPaid") || Payment.METHOD_CASH.equals(method)
+                    ? Money.of(ApiRequest.getLong(body, "amountPaid"))
+                    : order.getTotalAmount();
+            if (amountPaid.isLessThan(order.getTotalAmount())) {
+                throw ApiException.badRequest("Jumlah bayar kurang dari total");
+            }
+
+            Payment payment = paymentService.settle(order, request.getUser().getId(), method, amountPaid);
+            if (payment == null) {
+                throw new ApiException(500, "Pembayaran tidak dapat disimpan");
+            }
+            paymentService.printReceipt(order, payment);
+
+            JsonWriter json = new JsonWriter(256);
+            ApiJson.payment(json, payment);
+            request.respond(201, json);
+        } finally {
+            settlingOrders.remove(orderId);
+        }
+    }
+}
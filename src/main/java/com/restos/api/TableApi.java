@@ -0,0 +1,42 @@
+package com.restos.api;
+
+import com.restos.dao.DAOFactory;
+import com.restos.dao.TableDAO;
+import com.restos.model.Table;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * GET /api/tables[?status=available] -> current table status
+ * Not cached: table status changes with every order and payment.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+class TableApi extends ApiHandler {
+
+    private final TableDAO tableDAO = DAOFactory.getTableDAO();
+
+    TableApi(ApiSessions sessions) {
+        super("tables", sessions);
+    }
+
+    @Override
+    protected void handle(ApiRequest request) throws IOException {
+        requireMethod(request, "GET");
+        if (!request.getSegments().isEmpty()) {
+            return;
+        }
+        String status = request.getQuery("status");
+        List<Table> tables = status != null ? tableDAO.findByStatus(status) : tableDAO.findAll();
+
+        JsonWriter json = new JsonWriter(64 * tables.size() + 16);
+        json.beginArray();
+        for (Table table : tables) {
+            ApiJson.table(json, table);
+        }
+        json.endArray();
+        request.respond(200, json);
+    }
+}
@@ -0,0 +1,40 @@
+package com.restos.config;
+
+/**
+ * One outlet and the database it runs on
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public final class Branch {
+
+    private final String id;
+    private final String name;
+    private final boolean local;
+
+    Branch(String id, String name, boolean local) {
+        this.id = id;
+        this.name = name;
+        this.local = local;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return true for the branch of this terminal (db.url)
+     */
+    public boolean isLocal() {
+        return local;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -1,15 +1,25 @@
 package com.restos.config;
 
+import com.restos.metrics.JdbcTracer;
+import com.restos.util.SessionManager;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
  * Database Configuration and Connection Manager
  * Handles MySQL database connections for the Restos application
+ * Connections come from the primary, except for @ReadMostly DAO calls
+ * when read replicas are configured (db.replica.urls), and for DAO calls
+ * made on behalf of another branch (db.branches), which use that branch's
+ * own database
  * 
  * @author Restos Team
  * @version 1.0.0
@@ -18,7 +28,15 @@ public class DatabaseConfig {
 
     private static DatabaseConfig instance;
     private Properties properties;
-    private Connection connection;
+    private ConnectionPool pool;
+    private volatile ReplicaSet replicas;
+    private final Map<String, ConnectionPool> branchPools = new HashMap<>();
+    private JdbcTracer tracer;
+
+    // Set by the DAO routing proxy while a @ReadMostly method runs on this thread
+    private static final ThreadLocal<Boolean> READ_MOSTLY = new ThreadLocal<>();
+    // Branch whose database DAO calls on this thread use (null: this terminal's branch)
+    private static final ThreadLocal<String> BRANCH = new ThreadLocal<>();
 
     // Configuration keys
     private static final String PROPS_FILE = "/config/database.properties";
@@ -26,6 +44,19 @@ public class DatabaseConfig {
     private static final String KEY_USERNAME = "db.username";
     private static final String KEY_PASSWORD = "db.password";
     private static final String KEY_DRIVER = "db.driver";
+    private static final String KEY_POOL_SIZE = "db.pool.size";
+    private static final String KEY_POOL_TIMEOUT = "db.pool.timeout";
+    private static final String KEY_TRACE_ENABLED = "db.trace.enabled";
+    private static final String KEY_TRACE_SLOW_MS = "db.trace.slow.ms";
+    private static final String KEY_REPLICA_URLS = "db.replica.urls";
+    private static final String KEY_REPLICA_MAX_LAG = "db.replica.max.lag.seconds";
+    private static final String KEY_REPLICA_CHECK_MS = "db.replica.check.ms";
+    private static final String KEY_BRANCH_ID = "db.branch.id";
+    private static final String KEY_BRANCH_NAME = "db.branch.name";
+    private static final String KEY_BRANCHES = "db.branches";
+    private static final String KEY_BRANCH_POOL_SIZE = "db.branch.pool.size";
+    private static final String KEY_BRANCH_TIMEOUT = "db.branch.timeout.ms";
+    private static final String DEFAULT_BRANCH_ID = "local";
 
     /**
      * Private constructor for Singleton pattern
@@ -61,6 +92,21 @@ public class DatabaseConfig {
         } catch (IOException e) {
             System.err.println("Error loading database properties: " + e.getMessage());
             setDefaultProperties();
+        } finally {
+            applySystemOverrides();
+        }
+    }
+
+    /**
+     * Let -Ddb.*, -Dprinter.*, -Dapi.* and -Dsync.* system properties override the configuration
+     * file (used by the load generator and for pointing at another server)
+     */
+    private void applySystemOverrides() {
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith("db.") || key.startsWith("printer.") || key.startsWith("api.")
+                    || key.startsWith("sync.")) {
+                properties.setProperty(key, System.getProperty(key));
+            }
         }
     }
 
@@ -76,50 +122,260 @@ public class DatabaseConfig {
 
     /**
      * Get database connection
-     * Creates a new connection if none exists or if existing connection is closed
+     * Borrows a connection from the pool; closing it returns it to the pool
      * 
      * @return Active database connection
      * @throws SQLException if connection fails
      */
     public Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            try {
-                // Load JDBC driver
-                Class.forName(properties.getProperty(KEY_DRIVER));
-                
-                // Build connection URL with additional parameters
-                String url = properties.getProperty(KEY_URL);
-                if (!url.contains("?")) {
-                    url += "?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=Asia/Jakarta";
-                }
-                
-                // Create connection
-                connection = DriverManager.getConnection(
-                    url,
+        ConnectionPool primary = getPool();
+        String branch = BRANCH.get();
+        if (branch != null) {
+            Connection connection = getBranchPool(branch).getConnection();
+            return tracer != null ? tracer.wrap(connection) : connection;
+        }
+        ReplicaSet readReplicas = replicas;
+        Connection connection = null;
+        if (readReplicas != null && READ_MOSTLY.get() == Boolean.TRUE) {
+            connection = readReplicas.getConnection();
+        }
+        if (connection == null) {
+            connection = primary.getConnection();
+        }
+        return tracer != null ? tracer.wrap(connection) : connection;
+    }
+
+    /**
+     * Mark whether the DAO call running on this thread may read from a replica
+     * @param readMostly true for a @ReadMostly call
+     * @return Previous value, to restore when the call returns
+     */
+    public static boolean setReadMostly(boolean readMostly) {
+        Boolean previous = READ_MOSTLY.get();
+        READ_MOSTLY.set(readMostly);
+        return previous == Boolean.TRUE;
+    }
+
+    /**
+     * Make the DAO calls on this thread use another branch's database
+     * @param branchId Branch ID, or null for the branch the current user signed
+     *                 in at (this terminal's branch when nobody is signed in)
+     * @return Previous branch ID, to restore when done
+     */
+    public static String setBranch(String branchId) {
+        String previous = BRANCH.get();
+        if (branchId == null) {
+            branchId = SessionManager.getInstance().getCurrentBranchId();
+        }
+        if (branchId == null || branchId.equals(getInstance().getLocalBranchId())) {
+            BRANCH.remove();
+        } else {
+            BRANCH.set(branchId);
+        }
+        return previous;
+    }
+
+    /**
+     * Get the ID of this terminal's branch (db.branch.id)
+     * @return Branch ID
+     */
+    public String getLocalBranchId() {
+        String id = properties.getProperty(KEY_BRANCH_ID, "").trim();
+        return id.isEmpty() ? DEFAULT_BRANCH_ID : id;
+    }
+
+    /**
+     * Get all branches: this terminal's first, then those in db.branches
+     * that have a db.branch.&lt;id&gt;.url
+     * @return Branches
+     */
+    public List<Branch> getBranches() {
+        List<Branch> branches = new ArrayList<>();
+        String localId = getLocalBranchId();
+        branches.add(new Branch(localId, properties.getProperty(KEY_BRANCH_NAME, localId).trim(), true));
+        for (String id : properties.getProperty(KEY_BRANCHES, "").split(",")) {
+            id = id.trim();
+            if (id.isEmpty() || id.equals(localId)) {
+                continue;
+            }
+            if (getBranchUrl(id) == null) {
+                System.err.println("Branch '" + id + "' has no db.branch." + id + ".url, skipped");
+                continue;
+            }
+            branches.add(new Branch(id, properties.getProperty("db.branch." + id + ".name", id).trim(), false));
+        }
+        return branches;
+    }
+
+    /**
+     * Get how long a report may wait for one branch
+     * @return Timeout in milliseconds
+     */
+    public int getBranchTimeoutMillis() {
+        return getIntProperty(KEY_BRANCH_TIMEOUT, 5000);
+    }
+
+    /**
+     * Get the pool of another branch's database, creating it on first use
+     * Connections time out after db.branch.timeout.ms, so a branch that
+     * is down or slow cannot hold a report thread for long
+     * @param branchId Branch ID
+     * @return Connection pool
+     * @throws SQLException if the branch is not configured
+     */
+    public synchronized ConnectionPool getBranchPool(String branchId) throws SQLException {
+        ConnectionPool branchPool = branchPools.get(branchId);
+        if (branchPool == null) {
+            String url = getBranchUrl(branchId);
+            if (url == null) {
+                throw new SQLException("Unknown branch '" + branchId + "'");
+            }
+            int timeout = getBranchTimeoutMillis();
+            url = withConnectionParameters(url);
+            if (!url.contains("connectTimeout=")) {
+                url += "&connectTimeout=" + timeout;
+            }
+            if (!url.contains("socketTimeout=")) {
+                url += "&socketTimeout=" + timeout;
+            }
+            String prefix = "db.branch." + branchId + ".";
+            branchPool = new ConnectionPool(
+                "branch-" + branchId,
+                url,
+                properties.getProperty(prefix + "username", properties.getProperty(KEY_USERNAME)),
+                properties.getProperty(prefix + "password", properties.getProperty(KEY_PASSWORD)),
+                getIntProperty(KEY_BRANCH_POOL_SIZE, 2),
+                timeout
+            );
+            branchPools.put(branchId, branchPool);
+        }
+        return branchPool;
+    }
+
+    private String getBranchUrl(String branchId) {
+        String url = properties.getProperty("db.branch." + branchId + ".url", "").trim();
+        return url.isEmpty() ? null : url;
+    }
+
+    /**
+     * Record that this terminal changed data, so its reads stay on the
+     * primary until the replicas have the change
+     */
+    public void markWrite() {
+        ReplicaSet current = replicas;
+        if (current != null) {
+            current.markWrite();
+        }
+    }
+
+    /**
+     * @return true if db.replica.urls lists at least one replica
+     */
+    public boolean hasReplicas() {
+        return !getReplicaUrls().isEmpty();
+    }
+
+    /**
+     * Get the read replicas (created with the pool)
+     * @return Replicas, or null if none are configured or the pool is not open
+     */
+    public ReplicaSet getReplicas() {
+        return replicas;
+    }
+
+    private List<String> getReplicaUrls() {
+        List<String> urls = new ArrayList<>();
+        String value = properties.getProperty(KEY_REPLICA_URLS, "");
+        for (String url : value.split(",")) {
+            if (!url.isBlank()) {
+                urls.add(withConnectionParameters(url.trim()));
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * Add the default connection parameters to a URL that has none
+     */
+    private static String withConnectionParameters(String url) {
+        if (!url.contains("?")) {
+            url += "?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=Asia/Jakarta";
+        }
+        return url;
+    }
+
+    /**
+     * Get the connection pool, creating it on first use
+     * @return Connection pool
+     * @throws SQLException if the JDBC driver cannot be loaded
+     */
+    public synchronized ConnectionPool getPool() throws SQLException {
+        if (pool == null) {
+            loadDriver();
+
+            // Build connection URL with additional parameters
+            String url = withConnectionParameters(properties.getProperty(KEY_URL));
+
+            pool = new ConnectionPool(
+                "main",
+                url,
+                properties.getProperty(KEY_USERNAME),
+                properties.getProperty(KEY_PASSWORD),
+                getIntProperty(KEY_POOL_SIZE, 10),
+                getIntProperty(KEY_POOL_TIMEOUT, 30000)
+            );
+
+            List<String> replicaUrls = getReplicaUrls();
+            if (!replicaUrls.isEmpty()) {
+                replicas = new ReplicaSet(
+                    replicaUrls,
                     properties.getProperty(KEY_USERNAME),
-                    properties.getProperty(KEY_PASSWORD)
+                    properties.getProperty(KEY_PASSWORD),
+                    getIntProperty(KEY_POOL_SIZE, 10),
+                    getIntProperty(KEY_REPLICA_MAX_LAG, 5),
+                    getIntProperty(KEY_REPLICA_CHECK_MS, 2000)
                 );
-                
-                System.out.println("Database connection established successfully.");
-                
-            } catch (ClassNotFoundException e) {
-                throw new SQLException("MySQL JDBC Driver not found: " + e.getMessage());
+            }
+
+            // Statement tracing: slow-query log and per-action statement counts
+            if (!"false".equalsIgnoreCase(properties.getProperty(KEY_TRACE_ENABLED))) {
+                tracer = new JdbcTracer(getIntProperty(KEY_TRACE_SLOW_MS, 200));
             }
         }
-        return connection;
+        return pool;
     }
 
     /**
-     * Close the database connection
+     * Load the JDBC driver class
+     * Called at startup on a background thread so the driver's class
+     * loading does not delay the first connection
+     *
+     * @throws SQLException if the JDBC driver cannot be loaded
      */
-    public void closeConnection() {
-        if (connection != null) {
-            try {
-                connection.close();
-                System.out.println("Database connection closed.");
-            } catch (SQLException e) {
-                System.err.println("Error closing database connection: " + e.getMessage());
+    public void loadDriver() throws SQLException {
+        try {
+            Class.forName(properties.getProperty(KEY_DRIVER));
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("MySQL JDBC Driver not found: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Close the database connection pool
+     */
+    public synchronized void closeConnection() {
+        for (ConnectionPool branchPool : branchPools.values()) {
+            branchPool.close();
+        }
+        branchPools.clear();
+        if (pool != null) {
+            if (replicas != null) {
+                replicas.close();
+                replicas = null;
             }
+            pool.close();
+            pool = null;
+            System.out.println("Database connection closed.");
         }
     }
 
@@ -128,8 +384,7 @@ public class DatabaseConfig {
      * @return true if connection is successful, false otherwise
      */
     public boolean testConnection() {
-        try {
-            Connection conn = getConnection();
+        try (Connection conn = getConnection()) {
             if (conn != null && !conn.isClosed()) {
                 System.out.println("Database connection test: SUCCESS");
                 return true;
@@ -149,6 +404,20 @@ public class DatabaseConfig {
         return properties.getProperty(key);
     }
 
+    /**
+     * Get an integer property value
+     * @param key Property key
+     * @param defaultValue Value used when missing or invalid
+     * @return Property value
+     */
+    public int getIntProperty(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(properties.getProperty(key, "").trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
     /**
      * Get database URL
      * @return Database URL string
@@ -0,0 +1,240 @@
+package com.restos.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read replicas of the primary database
+ * Serves the connections of @ReadMostly DAO calls. A background thread
+ * checks each replica's replication lag; a replica that lags more than
+ * the allowed seconds, has stopped replicating or cannot be reached is
+ * skipped until it recovers. With no usable replica, and for a while
+ * after this terminal wrote something, reads go to the primary.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class ReplicaSet {
+
+    // A replica without a free connection is skipped rather than waited for
+    private static final long BORROW_TIMEOUT_MS = 1000;
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final int maxLagSeconds;
+    private final long checkIntervalMs;
+    private final long stickyNanos;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Thread monitor;
+    private volatile boolean closed;
+
+    // Until this System.nanoTime(), reads stay on the primary
+    private volatile long stickyUntil = System.nanoTime();
+
+    // Statistics
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+
+    /**
+     * Constructor
+     *
+     * @param urls            JDBC URLs of the replicas
+     * @param username        Database username
+     * @param password        Database password
+     * @param poolSize        Maximum open connections per replica
+     * @param maxLagSeconds   Largest replication lag a replica may have to serve reads
+     * @param checkIntervalMs Time between lag checks
+     */
+    public ReplicaSet(List<String> urls, String username, String password, int poolSize,
+            int maxLagSeconds, long checkIntervalMs) {
+        for (int i = 0; i < urls.size(); i++) {
+            replicas.add(new Replica(new ConnectionPool("replica-" + (i + 1), urls.get(i), username, password,
+                    poolSize, BORROW_TIMEOUT_MS)));
+        }
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkIntervalMs = Math.max(100, checkIntervalMs);
+        // A change is on every usable replica once they are at most maxLagSeconds
+        // behind; lag is reported in whole seconds, so allow one more
+        this.stickyNanos = TimeUnit.SECONDS.toNanos(maxLagSeconds + 1L);
+
+        monitor = new Thread(this::monitor, "db-replica-monitor");
+        monitor.setDaemon(true);
+        monitor.start();
+    }
+
+    /**
+     * Borrow a connection from a usable replica
+     *
+     * @return Replica connection, or null when the read must go to the primary
+     */
+    public Connection getConnection() {
+        if (closed || System.nanoTime() - stickyUntil < 0) {
+            primaryReads.increment();
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.usable) {
+                continue;
+            }
+            try {
+                Connection connection = replica.pool.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                // Exhausted or unreachable: try the next one, the monitor decides if it is down
+                System.err.println("Error borrowing from " + replica.pool.getName() + ": " + e.getMessage());
+            }
+        }
+        primaryReads.increment();
+        return null;
+    }
+
+    /**
+     * Keep this terminal's reads on the primary until its change has
+     * reached the replicas
+     */
+    public void markWrite() {
+        stickyUntil = System.nanoTime() + stickyNanos;
+    }
+
+    /**
+     * Stop the lag checks and close the replica pools
+     */
+    public void close() {
+        closed = true;
+        monitor.interrupt();
+        for (Replica replica : replicas) {
+            replica.pool.close();
+        }
+    }
+
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    public int getUsableCount() {
+        int usable = 0;
+        for (Replica replica : replicas) {
+            if (replica.usable) {
+                usable++;
+            }
+        }
+        return usable;
+    }
+
+    public long getReplicaReads() {
+        return replicaReads.sum();
+    }
+
+    public long getPrimaryReads() {
+        return primaryReads.sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ReplicaSet{reads=").append(getReplicaReads())
+                .append(", onPrimary=").append(getPrimaryReads());
+        for (Replica replica : replicas) {
+            sb.append(", ").append(replica.pool.getName()).append('=')
+                    .append(replica.usable ? "lag " + replica.lagSeconds + "s" : "unusable");
+        }
+        return sb.append('}').toString();
+    }
+
+    // ==================== LAG CHECKS ====================
+
+    private void monitor() {
+        while (!closed) {
+            for (Replica replica : replicas) {
+                check(replica);
+            }
+            try {
+                Thread.sleep(checkIntervalMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void check(Replica replica) {
+        boolean first = !replica.checked;
+        replica.checked = true;
+        int lag;
+        try (Connection connection = replica.pool.getConnection()) {
+            lag = readLag(connection);
+        } catch (SQLException e) {
+            if (first || replica.usable) {
+                System.err.println("Replica " + replica.pool.getName() + " unreachable: " + e.getMessage());
+            }
+            replica.usable = false;
+            replica.lagSeconds = -1;
+            return;
+        }
+
+        boolean usable = lag <= maxLagSeconds;
+        if (first || usable != replica.usable) {
+            System.out.println("Replica " + replica.pool.getName() + (usable ? " in use" : " skipped") + ", "
+                    + (lag == Integer.MAX_VALUE ? "replication stopped" : "lag " + lag + " s"));
+        }
+        replica.lagSeconds = lag;
+        replica.usable = usable;
+    }
+
+    /**
+     * Read the replication lag in seconds
+     *
+     * @return Lag, Integer.MAX_VALUE if replication is stopped, or 0 for a
+     *         server that is not a replica (a copy kept current some other way)
+     */
+    private static int readLag(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            ResultSet rs;
+            try {
+                rs = stmt.executeQuery("SHOW REPLICA STATUS");
+            } catch (SQLException e) {
+                // MySQL before 8.0.22
+                rs = stmt.executeQuery("SHOW SLAVE STATUS");
+            }
+            try (ResultSet status = rs) {
+                if (!status.next()) {
+                    return 0;
+                }
+                // MySQL 8.0.22+ renamed the column; MariaDB did not
+                ResultSetMetaData meta = status.getMetaData();
+                for (int i = 1; i <= meta.getColumnCount(); i++) {
+                    String column = meta.getColumnLabel(i);
+                    if ("Seconds_Behind_Source".equalsIgnoreCase(column)
+                            || "Seconds_Behind_Master".equalsIgnoreCase(column)) {
+                        long lag = status.getLong(i);
+                        return status.wasNull() ? Integer.MAX_VALUE : (int) Math.min(lag, Integer.MAX_VALUE);
+                    }
+                }
+                throw new SQLException("Replica status has no lag column");
+            }
+        }
+    }
+
+    /**
+     * One replica and its last check result
+     */
+    private static class Replica {
+        final ConnectionPool pool;
+        // Not used until the first check
+        volatile boolean usable;
+        volatile int lagSeconds = -1;
+        boolean checked;
+
+        Replica(ConnectionPool pool) {
+            this.pool = pool;
+        }
+    }
+}
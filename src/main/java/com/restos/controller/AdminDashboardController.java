@@ -1,26 +1,26 @@
 package com.restos.controller;
 
 import com.restos.App;
-import com.restos.dao.*;
+import com.restos.model.Money;
 import com.restos.model.Order;
-import com.restos.model.Table;
 import com.restos.model.User;
+import com.restos.service.DashboardPrefetch;
+import com.restos.service.DashboardPrefetch.AdminSnapshot;
 import com.restos.util.AlertUtil;
 import com.restos.util.CurrencyFormatter;
 import com.restos.util.DateTimeUtil;
 import com.restos.util.SessionManager;
 import com.restos.util.UIFeedback;
+import com.restos.util.ViewCache;
+import com.restos.util.ViewLifecycle;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
 import javafx.geometry.Pos;
-import javafx.scene.Parent;
 import javafx.scene.chart.BarChart;
 import javafx.scene.chart.CategoryAxis;
 import javafx.scene.chart.NumberAxis;
@@ -48,7 +48,7 @@ import java.util.ResourceBundle;
  * @author Restos Team
  * @version 1.0.0
  */
-public class AdminDashboardController implements Initializable {
+public class AdminDashboardController implements Initializable, ViewLifecycle {
 
     // Sidebar Navigation Buttons
     @FXML
@@ -63,6 +63,10 @@ public class AdminDashboardController implements Initializable {
     private Button navInventory;
     @FXML
     private Button navReport;
+    @FXML
+    private Button navAnalytics;
+    @FXML
+    private Button navDiagnostics;
 
     // User Info Labels
     @FXML
@@ -132,48 +136,46 @@ public class AdminDashboardController implements Initializable {
     @FXML
     private NumberAxis chartYAxis;
 
-    // DAOs
-    private OrderDAO orderDAO;
-    private TableDAO tableDAO;
-    private MenuDAO menuDAO;
-    private PaymentDAO paymentDAO;
-
     // Timeline for auto-refresh
     private Timeline refreshTimeline;
 
     // Navigation buttons list for styling
     private Button[] navButtons;
 
+    // Sub-page currently shown in the content area
+    private ViewCache.View currentPage;
+
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        // Initialize DAOs
-        orderDAO = new OrderDAOImpl();
-        tableDAO = new TableDAOImpl();
-        menuDAO = new MenuDAOImpl();
-        paymentDAO = new PaymentDAOImpl();
-
         // Store nav buttons
-        navButtons = new Button[] { navDashboard, navMenu, navTable, navUser, navInventory, navReport };
-
-        // Setup user info
-        setupUserInfo();
+        navButtons = new Button[] { navDashboard, navMenu, navTable, navUser, navInventory, navReport, navAnalytics,
+                navDiagnostics };
 
         // Setup table columns
         setupTableColumns();
 
-        // Load initial data
-        loadDashboardData();
-
         // Setup auto-refresh (every 30 seconds)
         setupAutoRefresh();
 
-        // Update date/time
-        updateDateTime();
-
         // Setup keyboard shortcuts
         setupKeyboardShortcuts();
     }
 
+    @Override
+    public void onActivate() {
+        // Session user may have changed since the view was cached
+        setupUserInfo();
+        showDashboard(DashboardPrefetch.take(AdminSnapshot.class));
+        updateDateTime();
+        refreshTimeline.play();
+    }
+
+    @Override
+    public void onDeactivate() {
+        refreshTimeline.stop();
+        deactivateCurrentPage();
+    }
+
     /**
      * Setup keyboard shortcuts
      */
@@ -278,32 +280,39 @@ public class AdminDashboardController implements Initializable {
      * Load dashboard data (stats, recent orders, popular menus)
      */
     private void loadDashboardData() {
-        // Load stats
-        loadStats();
+        showDashboardData(AdminSnapshot.load());
+    }
 
-        // Load weekly chart
-        loadWeeklyChart();
+    /**
+     * Show the dashboard data of a snapshot
+     */
+    private void showDashboardData(AdminSnapshot snapshot) {
+        // Stats
+        showStats(snapshot);
+
+        // Weekly chart
+        showWeeklyChart(snapshot.getWeeklyRevenue());
 
-        // Load recent orders
-        loadRecentOrders();
+        // Recent orders
+        recentOrdersTable.setItems(FXCollections.observableArrayList(snapshot.getRecentOrders()));
 
-        // Load popular menus
-        loadPopularMenus();
+        // Popular menus
+        showPopularMenus(snapshot.getPopularMenus());
     }
 
     /**
-     * Load dashboard statistics
+     * Show dashboard statistics
      */
-    private void loadStats() {
+    private void showStats(AdminSnapshot snapshot) {
         // Revenue
-        double todayRevenue = paymentDAO.getTodayRevenue();
+        Money todayRevenue = snapshot.getTodayRevenue();
         revenueLabel.setText(CurrencyFormatter.format(todayRevenue));
 
-        // Calculate yesterday's revenue for comparison
-        double yesterdayRevenue = orderDAO.getRevenueByDateRange(
-                LocalDate.now().minusDays(1), LocalDate.now().minusDays(1));
-        if (yesterdayRevenue > 0) {
-            double changePercent = ((todayRevenue - yesterdayRevenue) / yesterdayRevenue) * 100;
+        // Compare with yesterday's revenue
+        Money yesterdayRevenue = snapshot.getYesterdayRevenue();
+        if (yesterdayRevenue.getRupiah() > 0) {
+            double changePercent = todayRevenue.minus(yesterdayRevenue).getRupiah() * 100.0
+                    / yesterdayRevenue.getRupiah();
             String sign = changePercent >= 0 ? "+" : "";
             revenueChangeLabel.setText(String.format("%s%.1f%% dari kemarin", sign, changePercent));
         } else {
@@ -311,34 +320,27 @@ public class AdminDashboardController implements Initializable {
         }
 
         // Orders
-        int todayOrders = orderDAO.countToday();
+        int todayOrders = snapshot.getTodayOrders();
         ordersLabel.setText(String.valueOf(todayOrders));
         ordersChangeLabel.setText(todayOrders + " pesanan hari ini");
 
         // Tables
-        List<Table> allTables = tableDAO.findAll();
-        List<Table> occupiedTables = tableDAO.findByStatus(Table.STATUS_OCCUPIED);
-        int total = allTables.size();
-        int occupied = occupiedTables.size();
+        int total = snapshot.getTotalTables();
+        int occupied = snapshot.getOccupiedTables();
         tablesLabel.setText(occupied + "/" + total);
         tablesChangeLabel.setText((total - occupied) + " meja tersedia");
 
         // Pending orders
-        int pendingCount = orderDAO.countByStatus(Order.STATUS_PENDING);
-        int processingCount = orderDAO.countByStatus(Order.STATUS_PROCESSING);
-        pendingLabel.setText(String.valueOf(pendingCount + processingCount));
+        pendingLabel.setText(String.valueOf(snapshot.getOpenOrders()));
         pendingChangeLabel.setText("Menunggu diproses");
     }
 
     /**
-     * Load weekly sales chart
+     * Show weekly sales chart
      */
-    private void loadWeeklyChart() {
+    private void showWeeklyChart(Map<LocalDate, Double> weeklyData) {
         weeklyChart.getData().clear();
 
-        // Get weekly revenue data
-        Map<LocalDate, Double> weeklyData = orderDAO.getWeeklyRevenue();
-
         XYChart.Series<String, Number> series = new XYChart.Series<>();
         series.setName("Pendapatan");
 
@@ -357,37 +359,15 @@ public class AdminDashboardController implements Initializable {
         weeklyChart.setLegendVisible(false);
         chartYAxis.setLabel("Pendapatan (Ribu Rp)");
         chartXAxis.setLabel("");
-
-        // Apply custom color to bars
-        for (XYChart.Data<String, Number> data : series.getData()) {
-            if (data.getNode() != null) {
-                data.getNode().setStyle("-fx-bar-fill: #F97316;");
-            }
-        }
-    }
-
-    /**
-     * Load recent orders into table
-     */
-    private void loadRecentOrders() {
-        List<Order> todayOrders = orderDAO.findToday();
-        // Limit to 10 recent orders
-        if (todayOrders.size() > 10) {
-            todayOrders = todayOrders.subList(0, 10);
-        }
-        ObservableList<Order> orderList = FXCollections.observableArrayList(todayOrders);
-        recentOrdersTable.setItems(orderList);
     }
 
     /**
-     * Load popular menus
+     * Show popular menus
      */
-    private void loadPopularMenus() {
+    private void showPopularMenus(List<com.restos.model.Menu> menus) {
         popularMenusContainer.getChildren().clear();
 
         // For now, show placeholder - in real implementation, query most sold items
-        List<com.restos.model.Menu> menus = menuDAO.findAll();
-
         if (menus.isEmpty()) {
             Label emptyLabel = new Label("Belum ada data menu");
             emptyLabel.getStyleClass().add("text-secondary");
@@ -395,9 +375,7 @@ public class AdminDashboardController implements Initializable {
             return;
         }
 
-        // Show top 5 menus (in real app, sort by sales)
-        int count = Math.min(5, menus.size());
-        for (int i = 0; i < count; i++) {
+        for (int i = 0; i < menus.size(); i++) {
             com.restos.model.Menu menu = menus.get(i);
             HBox itemBox = createPopularMenuItem(i + 1, menu.getName(), "Tersedia");
             popularMenusContainer.getChildren().add(itemBox);
@@ -435,7 +413,6 @@ public class AdminDashboardController implements Initializable {
             updateDateTime();
         }));
         refreshTimeline.setCycleCount(Timeline.INDEFINITE);
-        refreshTimeline.play();
     }
 
     /**
@@ -469,16 +446,29 @@ public class AdminDashboardController implements Initializable {
 
     @FXML
     private void showDashboard() {
+        showDashboard(null);
+    }
+
+    /**
+     * Show the dashboard page
+     * @param snapshot Prefetched dashboard data, or null to load it now
+     */
+    private void showDashboard(AdminSnapshot snapshot) {
         setActiveNavButton(navDashboard);
         pageTitle.setText("Dashboard");
         pageSubtitle.setText("Selamat datang di Admin Panel");
 
         // Show dashboard content
+        deactivateCurrentPage();
         contentArea.getChildren().clear();
         contentArea.getChildren().add(dashboardContent);
 
         // Reload data
-        loadDashboardData();
+        if (snapshot != null) {
+            showDashboardData(snapshot);
+        } else {
+            loadDashboardData();
+        }
     }
 
     @FXML
@@ -517,36 +507,38 @@ public class AdminDashboardController implements Initializable {
     private void showReports() {
         setActiveNavButton(navReport);
         pageTitle.setText("Laporan");
-        pageSubtitle.setText("Lihat laporan penjualan");
-
-        // Show placeholder for now
-        VBox placeholder = new VBox(20);
-        placeholder.setAlignment(Pos.CENTER);
-        placeholder.getStyleClass().add("empty-state");
+        pageSubtitle.setText("Export laporan penjualan");
+        loadPage("/fxml/admin/reports.fxml");
+    }
 
-        Label icon = new Label("📊");
-        icon.getStyleClass().add("empty-state-icon");
-        Label text = new Label("Fitur laporan akan segera hadir");
-        text.getStyleClass().add("empty-state-text");
+    @FXML
+    private void showAnalytics() {
+        setActiveNavButton(navAnalytics);
+        pageTitle.setText("Analitik");
+        pageSubtitle.setText("Penjualan per jam, hari, kategori, menu dan waiter");
+        loadPage("/fxml/admin/analytics.fxml");
+    }
 
-        placeholder.getChildren().addAll(icon, text);
-        contentArea.getChildren().clear();
-        contentArea.getChildren().add(placeholder);
+    @FXML
+    private void showDiagnostics() {
+        setActiveNavButton(navDiagnostics);
+        pageTitle.setText("Diagnostik");
+        pageSubtitle.setText("Kinerja query dan koneksi database");
+        loadPage("/fxml/admin/diagnostics.fxml");
     }
 
     /**
      * Load a page into content area
+     * Pages are taken from the ViewCache and activated when shown
      */
     private void loadPage(String fxmlPath) {
+        deactivateCurrentPage();
         try {
-            URL resource = getClass().getResource(fxmlPath);
-            if (resource != null) {
-                Parent page = FXMLLoader.load(resource);
-                contentArea.getChildren().clear();
-                contentArea.getChildren().add(page);
-            } else {
-                showComingSoon(fxmlPath);
-            }
+            ViewCache.View page = ViewCache.getInstance().get(fxmlPath);
+            contentArea.getChildren().clear();
+            contentArea.getChildren().add(page.getRoot());
+            currentPage = page;
+            page.activate();
         } catch (IOException e) {
             System.err.println("Error loading page: " + fxmlPath);
             e.printStackTrace();
@@ -554,6 +546,16 @@ public class AdminDashboardController implements Initializable {
         }
     }
 
+    /**
+     * Deactivate the sub-page being replaced
+     */
+    private void deactivateCurrentPage() {
+        if (currentPage != null) {
+            currentPage.deactivate();
+            currentPage = null;
+        }
+    }
+
     /**
      * Show coming soon placeholder
      */
@@ -592,12 +594,14 @@ public class AdminDashboardController implements Initializable {
     }
 
     @FXML
-    private void handleLogout() {
-        // Stop refresh timeline
-        if (refreshTimeline != null) {
-            refreshTimeline.stop();
-        }
+    private void handleSwitchUser() {
+        // Keep this session (and its views) open for a PIN switch back
+        SessionManager.getInstance().suspend();
+        App.switchScene("/fxml/login.fxml", "Login - Restos POS");
+    }
 
+    @FXML
+    private void handleLogout() {
         // Confirm logout
         boolean confirm = AlertUtil.showConfirmation("Konfirmasi Logout",
                 "Apakah Anda yakin ingin keluar?");
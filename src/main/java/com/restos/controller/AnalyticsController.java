@@ -0,0 +1,263 @@
+package com.restos.controller;
+
+import com.restos.analytics.CubeQuery;
+import com.restos.analytics.CubeResult;
+import com.restos.analytics.Dimension;
+import com.restos.analytics.SalesCube;
+import com.restos.service.AnalyticsService;
+import com.restos.util.AlertUtil;
+import com.restos.util.CurrencyFormatter;
+import com.restos.util.ViewLifecycle;
+
+import javafx.application.Platform;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.concurrent.Task;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.control.*;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.HBox;
+import javafx.util.StringConverter;
+
+import java.net.URL;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Controller for the Analytics Page
+ * Loads the sales of a date range into a SalesCube once, then regroups
+ * and filters it in memory whenever a group-by or filter changes
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class AnalyticsController implements Initializable, ViewLifecycle {
+
+    // Filter value meaning "all"
+    private static final int ALL = -1;
+
+    @FXML
+    private DatePicker startDatePicker;
+    @FXML
+    private DatePicker endDatePicker;
+    @FXML
+    private Button loadButton;
+    @FXML
+    private HBox groupByBox;
+    @FXML
+    private FlowPane filterBox;
+    @FXML
+    private TableView<CubeResult.Row> resultTable;
+    @FXML
+    private Label totalLabel;
+    @FXML
+    private Label statusLabel;
+
+    private final Map<Dimension, CheckBox> groupByChecks = new EnumMap<>(Dimension.class);
+    private final Map<Dimension, ComboBox<Integer>> filterCombos = new EnumMap<>(Dimension.class);
+
+    private SalesCube cube;
+    private long loadMillis;
+    // Only the latest query's result is shown
+    private int querySequence;
+
+    @Override
+    public void initialize(URL location, ResourceBundle resources) {
+        for (Dimension dimension : Dimension.values()) {
+            CheckBox check = new CheckBox(dimension.getLabel());
+            check.setSelected(dimension == Dimension.CATEGORY);
+            check.setOnAction(event -> runQuery());
+            groupByChecks.put(dimension, check);
+            groupByBox.getChildren().add(check);
+
+            ComboBox<Integer> combo = new ComboBox<>();
+            combo.setPrefWidth(170);
+            combo.setDisable(true);
+            combo.setOnAction(event -> runQuery());
+            filterCombos.put(dimension, combo);
+            filterBox.getChildren().add(combo);
+        }
+        handleThisMonth();
+    }
+
+    @Override
+    public void onActivate() {
+        // The loaded cube is kept while the page is hidden
+    }
+
+    // ==================== ACTION HANDLERS ====================
+
+    @FXML
+    private void handleLastWeek() {
+        LocalDate today = LocalDate.now();
+        startDatePicker.setValue(today.minusDays(6));
+        endDatePicker.setValue(today);
+    }
+
+    @FXML
+    private void handleThisMonth() {
+        LocalDate today = LocalDate.now();
+        startDatePicker.setValue(today.withDayOfMonth(1));
+        endDatePicker.setValue(today);
+    }
+
+    @FXML
+    private void handleLoad() {
+        LocalDate startDate = startDatePicker.getValue();
+        LocalDate endDate = endDatePicker.getValue();
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            AlertUtil.showWarning("Peringatan", "Pilih rentang tanggal yang valid");
+            return;
+        }
+
+        long start = System.nanoTime();
+        Task<SalesCube> task = new Task<>() {
+            @Override
+            protected SalesCube call() throws Exception {
+                return AnalyticsService.getInstance().load(startDate, endDate);
+            }
+        };
+        task.setOnSucceeded(event -> {
+            loadButton.setDisable(false);
+            loadMillis = (System.nanoTime() - start) / 1_000_000;
+            showCube(task.getValue());
+        });
+        task.setOnFailed(event -> {
+            loadButton.setDisable(false);
+            System.err.println("Error loading sales cube: " + task.getException().getMessage());
+            statusLabel.setText("Gagal memuat data");
+            AlertUtil.showError("Error", "Gagal memuat data penjualan: " + task.getException().getMessage());
+        });
+
+        loadButton.setDisable(true);
+        statusLabel.setText("Memuat data penjualan...");
+
+        Thread thread = new Thread(task, "analytics-load");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // ==================== CUBE ====================
+
+    /**
+     * Show a freshly loaded cube: refill the filters with its values
+     */
+    private void showCube(SalesCube loaded) {
+        cube = loaded;
+        for (Map.Entry<Dimension, ComboBox<Integer>> entry : filterCombos.entrySet()) {
+            fillFilter(entry.getValue(), entry.getKey(), loaded.getLabels(entry.getKey()));
+        }
+        runQuery();
+    }
+
+    private void fillFilter(ComboBox<Integer> combo, Dimension dimension, List<String> labels) {
+        List<Integer> codes = new ArrayList<>();
+        for (int code = 0; code < labels.size(); code++) {
+            codes.add(code);
+        }
+        // Hours and weekdays keep their natural order
+        if (dimension != Dimension.HOUR && dimension != Dimension.WEEKDAY) {
+            codes.sort(Comparator.comparing(labels::get, String.CASE_INSENSITIVE_ORDER));
+        }
+        codes.add(0, ALL);
+
+        // Replacing the items fires the action handler; the query runs once afterwards
+        combo.setOnAction(null);
+        combo.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(Integer code) {
+                if (code == null || code == ALL) {
+                    return "Semua " + dimension.getLabel().toLowerCase();
+                }
+                return labels.get(code);
+            }
+
+            @Override
+            public Integer fromString(String string) {
+                return null;
+            }
+        });
+        combo.getItems().setAll(codes);
+        combo.getSelectionModel().selectFirst();
+        combo.setDisable(false);
+        combo.setOnAction(event -> runQuery());
+    }
+
+    /**
+     * Aggregate the cube for the current group-by and filters off the FX
+     * thread; scans of large cubes take longer than a frame
+     */
+    private void runQuery() {
+        if (cube == null) {
+            return;
+        }
+        CubeQuery query = new CubeQuery();
+        for (Dimension dimension : Dimension.values()) {
+            if (groupByChecks.get(dimension).isSelected()) {
+                query.groupBy(dimension);
+            }
+            Integer code = filterCombos.get(dimension).getValue();
+            if (code != null && code != ALL) {
+                query.filter(dimension, code);
+            }
+        }
+
+        SalesCube current = cube;
+        int sequence = ++querySequence;
+        CompletableFuture.supplyAsync(() -> AnalyticsService.getInstance().query(current, query))
+                .whenComplete((result, error) -> Platform.runLater(() -> {
+                    if (sequence != querySequence) {
+                        return;
+                    }
+                    if (error != null) {
+                        Throwable cause = error.getCause() != null ? error.getCause() : error;
+                        statusLabel.setText("Query gagal: " + cause.getMessage());
+                        return;
+                    }
+                    showResult(current, result);
+                }));
+    }
+
+    private void showResult(SalesCube current, CubeResult result) {
+        List<TableColumn<CubeResult.Row, ?>> columns = new ArrayList<>();
+        List<Dimension> groupBy = result.getGroupBy();
+        for (int i = 0; i < groupBy.size(); i++) {
+            int index = i;
+            columns.add(column(groupBy.get(i).getLabel(), 160, false, row -> row.getLabel(index)));
+        }
+        long totalRevenue = result.getTotal().getRevenue().getRupiah();
+        columns.add(column("Item", 90, true, row -> String.format("%,d", row.getItems())));
+        columns.add(column("Porsi", 90, true, row -> String.format("%,d", row.getQuantity())));
+        columns.add(column("Pendapatan", 150, true, row -> CurrencyFormatter.format(row.getRevenue())));
+        columns.add(column("%", 70, true, row -> totalRevenue == 0 ? "-"
+                : String.format("%.1f", row.getRevenue().getRupiah() * 100.0 / totalRevenue)));
+
+        resultTable.getColumns().setAll(columns);
+        resultTable.getItems().setAll(result.getRows());
+
+        CubeResult.Row total = result.getTotal();
+        totalLabel.setText(String.format("Total: %,d item, %,d porsi, pendapatan %s",
+                total.getItems(), total.getQuantity(), CurrencyFormatter.format(total.getRevenue())));
+        statusLabel.setText(String.format("%,d item %s – %s dimuat dalam %,d ms · %,d grup dalam %.1f ms",
+                current.getRowCount(), current.getStartDate(), current.getEndDate(), loadMillis,
+                result.getRows().size(), result.getElapsedNanos() / 1e6));
+    }
+
+    private static TableColumn<CubeResult.Row, String> column(String title, double width, boolean numeric,
+            Function<CubeResult.Row, String> text) {
+        TableColumn<CubeResult.Row, String> column = new TableColumn<>(title);
+        column.setPrefWidth(width);
+        if (numeric) {
+            column.getStyleClass().add("numeric-column");
+        }
+        column.setCellValueFactory(data -> new SimpleStringProperty(text.apply(data.getValue())));
+        return column;
+    }
+}
@@ -1,19 +1,30 @@
 package com.restos.controller;
 
+import com.restos.App;
 import com.restos.dao.*;
+import com.restos.event.EventBus;
+import com.restos.event.OrderEvent;
+import com.restos.metrics.QueryScope;
 import com.restos.model.*;
+import com.restos.service.DashboardPrefetch;
+import com.restos.service.DashboardPrefetch.CashierSnapshot;
+import com.restos.service.PaymentService;
+import com.restos.service.ReceiptRenderer;
+import com.restos.sync.Invalidation;
+import com.restos.sync.InvalidationBus;
 import com.restos.util.AlertUtil;
 import com.restos.util.CurrencyFormatter;
 import com.restos.util.SessionManager;
 import com.restos.util.UIFeedback;
+import com.restos.util.WarmupSample;
+import com.restos.util.ViewLifecycle;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.input.KeyCode;
@@ -25,21 +36,24 @@ import javafx.stage.StageStyle;
 import javafx.util.Duration;
 
 import java.io.File;
-import java.io.FileWriter;
-import java.io.PrintWriter;
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * Controller for Cashier/POS Dashboard
- * Handles payment processing and receipt generation
+ * Handles payment processing and receipt generation. Orders delivered or
+ * paid on any terminal show up through order events; the timeline only
+ * catches anything missed.
  * 
  * @author Restos Team
  * @version 1.0.0
  */
-public class CashierDashboardController {
+public class CashierDashboardController implements ViewLifecycle {
 
     // FXML Components - Sidebar
     @FXML
@@ -96,12 +110,13 @@ public class CashierDashboardController {
     private HBox quickAmountContainer;
 
     // DAOs
-    private final OrderDAO orderDAO = new OrderDAOImpl();
-    private final OrderItemDAO orderItemDAO = new OrderItemDAOImpl();
-    private final PaymentDAO paymentDAO = new PaymentDAOImpl();
-    private final TableDAO tableDAO = new TableDAOImpl();
-    private final UserDAO userDAO = new UserDAOImpl();
-    private final MenuDAO menuDAO = new MenuDAOImpl();
+    private final OrderDAO orderDAO = DAOFactory.getOrderDAO();
+    private final OrderItemDAO orderItemDAO = DAOFactory.getOrderItemDAO();
+    private final PaymentDAO paymentDAO = DAOFactory.getPaymentDAO();
+    private final TableDAO tableDAO = DAOFactory.getTableDAO();
+    private final UserDAO userDAO = DAOFactory.getUserDAO();
+    private final MenuDAO menuDAO = DAOFactory.getMenuDAO();
+    private final PaymentService paymentService = new PaymentService();
 
     // State
     private Order selectedOrder;
@@ -109,19 +124,27 @@ public class CashierDashboardController {
     private VBox selectedOrderRow;
     private Timeline autoRefresh;
 
+    // Order events and reconnects of the sync hub queue one reload
+    private final AtomicBoolean reloadQueued = new AtomicBoolean();
+    private final Consumer<OrderEvent> orderEventListener = event -> {
+        String type = event.getType();
+        if (OrderEvent.ORDER_DELIVERED.equals(type) || OrderEvent.PAYMENT_SETTLED.equals(type)
+                || OrderEvent.ORDER_UPDATED.equals(type)) {
+            queueReload();
+        }
+    };
+    private final Consumer<Invalidation> invalidationListener = invalidation -> {
+        if (invalidation.isAll()) {
+            queueReload();
+        }
+    };
+
     // Date formatters
     private final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
     private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
 
     @FXML
     public void initialize() {
-        // Set user info
-        User currentUser = SessionManager.getInstance().getCurrentUser();
-        if (currentUser != null) {
-            userNameLabel.setText(currentUser.getFullName());
-            userRoleLabel.setText("Cashier");
-        }
-
         // Setup search field listener
         searchField.textProperty().addListener((obs, oldVal, newVal) -> filterOrders(newVal));
 
@@ -134,20 +157,54 @@ public class CashierDashboardController {
             calculateChange();
         });
 
-        // Initial load
-        loadDeliveredOrders();
-        updateStats();
-
-        // Show empty state in payment panel
-        showEmptyPaymentPanel();
-
-        // Setup auto-refresh every 10 seconds
+        // Setup auto-refresh every minute
         setupAutoRefresh();
 
         // Setup keyboard shortcuts
         setupKeyboardShortcuts();
     }
 
+    @Override
+    public void onActivate() {
+        // Set user info
+        User currentUser = SessionManager.getInstance().getCurrentUser();
+        if (currentUser != null) {
+            userNameLabel.setText(currentUser.getFullName());
+            userRoleLabel.setText("Cashier");
+        }
+
+        // Drop any selection left from the previous session
+        cancelSelection();
+
+        // Subscribed before loading, so no change falls in between
+        EventBus.getInstance().subscribe(orderEventListener);
+        InvalidationBus.getInstance().subscribe(invalidationListener);
+        CashierSnapshot snapshot = DashboardPrefetch.take(CashierSnapshot.class);
+        if (snapshot == null) {
+            snapshot = CashierSnapshot.load();
+        }
+        showDeliveredOrders(snapshot);
+        showStats(snapshot.getDeliveredOrders().size(), snapshot.getPaymentsToday(), snapshot.getRevenueToday());
+        autoRefresh.play();
+    }
+
+    @Override
+    public void onDeactivate() {
+        EventBus.getInstance().unsubscribe(orderEventListener);
+        InvalidationBus.getInstance().unsubscribe(invalidationListener);
+        autoRefresh.stop();
+    }
+
+    @Override
+    public void warmUp(WarmupSample sample) {
+        for (Order order : sample.getOrders()) {
+            createOrderRow(order, null, null);
+            for (OrderItem item : sample.getItems(order)) {
+                createItemRow(item, item.getMenu());
+            }
+        }
+    }
+
     /**
      * Setup keyboard shortcuts
      */
@@ -176,29 +233,50 @@ public class CashierDashboardController {
      * Setup auto-refresh timer
      */
     private void setupAutoRefresh() {
-        autoRefresh = new Timeline(new KeyFrame(Duration.seconds(10), e -> {
+        autoRefresh = new Timeline(new KeyFrame(Duration.minutes(1), e -> {
             loadDeliveredOrders();
             updateStats();
         }));
         autoRefresh.setCycleCount(Timeline.INDEFINITE);
-        autoRefresh.play();
     }
 
     /**
      * Load delivered orders waiting for payment
      */
     private void loadDeliveredOrders() {
-        orderListContainer.getChildren().clear();
+        // Anything queued before this load is included in it
+        reloadQueued.set(false);
+        showDeliveredOrders(CashierSnapshot.load());
+    }
 
-        List<Order> deliveredOrders = orderDAO.findByStatus(Order.STATUS_DELIVERED);
+    /**
+     * Reload the list on the FX thread, keeping the search; called on the
+     * publishing thread, so a burst of events reloads only once
+     */
+    private void queueReload() {
+        if (reloadQueued.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                if (reloadQueued.getAndSet(false)) {
+                    filterOrders(searchField.getText());
+                    updateStats();
+                }
+            });
+        }
+    }
+
+    /**
+     * Show the delivered orders of a snapshot
+     */
+    private void showDeliveredOrders(CashierSnapshot snapshot) {
+        orderListContainer.getChildren().clear();
 
-        if (deliveredOrders.isEmpty()) {
+        if (snapshot.getDeliveredOrders().isEmpty()) {
             showEmptyOrderList();
             return;
         }
 
-        for (Order order : deliveredOrders) {
-            VBox orderRow = createOrderRow(order);
+        for (Order order : snapshot.getDeliveredOrders()) {
+            VBox orderRow = createOrderRow(order, snapshot.getTable(order), snapshot.getWaiter(order));
             orderListContainer.getChildren().add(orderRow);
         }
     }
@@ -226,7 +304,7 @@ public class CashierDashboardController {
             String orderId = String.valueOf(order.getId());
 
             if (tableNum.contains(search) || waiterName.contains(search) || orderId.contains(search)) {
-                VBox orderRow = createOrderRow(order);
+                VBox orderRow = createOrderRow(order, table, waiter);
                 orderListContainer.getChildren().add(orderRow);
             }
         }
@@ -239,15 +317,11 @@ public class CashierDashboardController {
     /**
      * Create order row for the list
      */
-    private VBox createOrderRow(Order order) {
+    private VBox createOrderRow(Order order, Table table, User waiter) {
         VBox row = new VBox(5);
         row.getStyleClass().add("order-row");
         row.setPadding(new Insets(12, 15, 12, 15));
 
-        // Get related data
-        Table table = tableDAO.findById(order.getTableId());
-        User waiter = userDAO.findById(order.getUserId());
-
         // Top row: Order ID and Status
         HBox topRow = new HBox(10);
         topRow.setAlignment(Pos.CENTER_LEFT);
@@ -289,7 +363,7 @@ public class CashierDashboardController {
         waiterLabel.getStyleClass().add("order-waiter");
 
         Label typeLabel = new Label(order.getOrderType().equals(Order.TYPE_DINE_IN) ? "Dine In" : "Take Away");
-        typeLabel.setStyle("-fx-font-size: 11px; -fx-text-fill: #9CA3AF;");
+        typeLabel.getStyleClass().add("order-type");
 
         bottomRow.getChildren().addAll(waiterLabel, typeLabel);
 
@@ -388,8 +462,7 @@ public class CashierDashboardController {
         HBox.setHgrow(nameBox, Priority.ALWAYS);
 
         // Subtotal
-        BigDecimal subtotal = item.getPriceAtTime().multiply(BigDecimal.valueOf(item.getQuantity()));
-        Label priceLabel = new Label(CurrencyFormatter.format(subtotal));
+        Label priceLabel = new Label(CurrencyFormatter.format(item.getPriceAtTime().times(item.getQuantity())));
         priceLabel.getStyleClass().add("item-price");
 
         row.getChildren().addAll(nameBox, priceLabel);
@@ -400,15 +473,15 @@ public class CashierDashboardController {
     /**
      * Setup quick amount buttons based on total
      */
-    private void setupQuickAmountButtons(BigDecimal total) {
+    private void setupQuickAmountButtons(Money total) {
         quickAmountContainer.getChildren().clear();
 
         // Calculate suggested amounts
-        long totalValue = total.longValue();
+        long totalValue = total.getRupiah();
         long[] suggestions = calculateSuggestedAmounts(totalValue);
 
         for (long amount : suggestions) {
-            Button btn = new Button(CurrencyFormatter.formatShort(BigDecimal.valueOf(amount)));
+            Button btn = new Button(CurrencyFormatter.formatShort(Money.of(amount)));
             btn.getStyleClass().add("quick-amount-btn");
             btn.setOnAction(e -> {
                 amountPaidField.setText(String.valueOf(amount));
@@ -497,7 +570,7 @@ public class CashierDashboardController {
 
         // For non-cash payments, auto-fill exact amount
         if (!Payment.METHOD_CASH.equals(method) && selectedOrder != null) {
-            amountPaidField.setText(String.valueOf(selectedOrder.getTotalAmount().longValue()));
+            amountPaidField.setText(String.valueOf(selectedOrder.getTotalAmount().getRupiah()));
             calculateChange();
         }
     }
@@ -518,16 +591,15 @@ public class CashierDashboardController {
         }
 
         try {
-            BigDecimal amountPaid = new BigDecimal(amountText);
-            BigDecimal total = selectedOrder.getTotalAmount();
-            BigDecimal change = amountPaid.subtract(total);
+            // Runs on every keystroke; stay in long arithmetic
+            long change = Long.parseLong(amountText) - selectedOrder.getTotalAmount().getRupiah();
 
-            if (change.compareTo(BigDecimal.ZERO) >= 0) {
-                changeLabel.setText(CurrencyFormatter.format(change));
+            if (change >= 0) {
+                changeLabel.setText(CurrencyFormatter.format(Money.of(change)));
                 changeContainer.getStyleClass().remove("change-error");
                 processPaymentBtn.setDisable(false);
             } else {
-                changeLabel.setText("- " + CurrencyFormatter.format(change.abs()));
+                changeLabel.setText("- " + CurrencyFormatter.format(Money.of(-change)));
                 changeContainer.getStyleClass().add("change-error");
                 processPaymentBtn.setDisable(true);
             }
@@ -553,45 +625,33 @@ public class CashierDashboardController {
             return;
         }
 
-        BigDecimal amountPaid;
+        Money amountPaid;
         try {
-            amountPaid = new BigDecimal(amountText);
+            amountPaid = Money.of(Long.parseLong(amountText));
         } catch (NumberFormatException e) {
             AlertUtil.showError("Invalid Amount", "Please enter a valid amount.");
             return;
         }
 
-        BigDecimal total = selectedOrder.getTotalAmount();
-        if (amountPaid.compareTo(total) < 0) {
+        Money total = selectedOrder.getTotalAmount();
+        if (amountPaid.isLessThan(total)) {
             AlertUtil.showError("Insufficient Amount", "The amount paid is less than the total.");
             return;
         }
 
         // Calculate change
-        BigDecimal change = amountPaid.subtract(total);
-
-        // Create payment
-        Payment payment = new Payment();
-        payment.setOrderId(selectedOrder.getId());
-        payment.setCashierId(SessionManager.getInstance().getCurrentUser().getId());
-        payment.setPaymentMethod(selectedPaymentMethod);
-        payment.setAmountPaid(amountPaid);
-        payment.setChangeAmount(change);
-        payment.setTransactionDate(LocalDateTime.now());
-
-        // Save payment
-        int paymentId = paymentDAO.insert(payment);
-
-        if (paymentId > 0) {
-            // Update order status to completed
-            orderDAO.updateStatus(selectedOrder.getId(), Order.STATUS_COMPLETED);
-
-            // Update table status to available (for dine-in)
-            if (Order.TYPE_DINE_IN.equals(selectedOrder.getOrderType())) {
-                tableDAO.updateStatus(selectedOrder.getTableId(), Table.STATUS_AVAILABLE);
-            }
+        Money change = amountPaid.minus(total);
+
+        // Save payment, complete the order and free the table
+        Payment payment;
+        try (QueryScope scope = QueryScope.open("settle payment", 3)) {
+            payment = paymentService.settle(selectedOrder,
+                    SessionManager.getInstance().getCurrentUser().getId(), selectedPaymentMethod, amountPaid);
+        }
 
-            payment.setId(paymentId);
+        if (payment != null) {
+            // Print the receipt in the background (if a receipt printer is configured)
+            paymentService.printReceipt(selectedOrder, payment);
 
             // Show success and offer receipt
             boolean showReceipt = AlertUtil.showConfirm(
@@ -626,11 +686,8 @@ public class CashierDashboardController {
         modal.initStyle(StageStyle.TRANSPARENT);
         modal.setTitle("Receipt");
 
-        // Get related data
-        Table table = tableDAO.findById(order.getTableId());
-        User waiter = userDAO.findById(order.getUserId());
-        User cashier = userDAO.findById(payment.getCashierId());
-        List<OrderItem> items = orderItemDAO.findByOrderId(order.getId());
+        // Everything printed on the receipt, loaded once
+        Receipt receipt = paymentService.buildReceipt(order, payment);
 
         // Build receipt content
         VBox receiptContainer = new VBox();
@@ -643,13 +700,13 @@ public class CashierDashboardController {
         header.setAlignment(Pos.CENTER);
 
         Label logoLabel = new Label("🍽️ RESTOS");
-        logoLabel.setStyle("-fx-font-size: 24px; -fx-font-weight: bold; -fx-text-fill: white;");
+        logoLabel.getStyleClass().add("receipt-logo");
 
         Label addressLabel = new Label("Jl. Restoran No. 123, Jakarta");
-        addressLabel.setStyle("-fx-font-size: 12px; -fx-text-fill: rgba(255,255,255,0.8);");
+        addressLabel.getStyleClass().add("receipt-header-info");
 
         Label phoneLabel = new Label("Tel: (021) 123-4567");
-        phoneLabel.setStyle("-fx-font-size: 12px; -fx-text-fill: rgba(255,255,255,0.8);");
+        phoneLabel.getStyleClass().add("receipt-header-info");
 
         header.getChildren().addAll(logoLabel, addressLabel, phoneLabel);
 
@@ -663,11 +720,11 @@ public class CashierDashboardController {
         infoGrid.setHgap(10);
         infoGrid.setVgap(5);
 
-        addReceiptRow(infoGrid, 0, "Order #", String.valueOf(order.getId()));
-        addReceiptRow(infoGrid, 1, "Date", payment.getTransactionDate().format(dateTimeFormatter));
-        addReceiptRow(infoGrid, 2, "Table", table != null ? String.valueOf(table.getTableNumber()) : "N/A");
-        addReceiptRow(infoGrid, 3, "Waiter", waiter != null ? waiter.getFullName() : "Unknown");
-        addReceiptRow(infoGrid, 4, "Cashier", cashier != null ? cashier.getFullName() : "Unknown");
+        addReceiptRow(infoGrid, 0, "Order #", String.valueOf(receipt.getOrderId()));
+        addReceiptRow(infoGrid, 1, "Date", receipt.getTransactionDate().format(dateTimeFormatter));
+        addReceiptRow(infoGrid, 2, "Table", receipt.getTableNumber());
+        addReceiptRow(infoGrid, 3, "Waiter", receipt.getWaiterName());
+        addReceiptRow(infoGrid, 4, "Cashier", receipt.getCashierName());
 
         body.getChildren().add(infoGrid);
 
@@ -676,27 +733,23 @@ public class CashierDashboardController {
 
         // Items
         VBox itemsBox = new VBox(5);
-        for (OrderItem item : items) {
-            com.restos.model.Menu menu = menuDAO.findById(item.getMenuId());
-            if (menu != null) {
-                HBox itemRow = new HBox(10);
-                itemRow.setAlignment(Pos.CENTER_LEFT);
-
-                VBox nameBox = new VBox();
-                Label nameLbl = new Label(menu.getName());
-                nameLbl.setStyle("-fx-font-size: 13px;");
-                Label qtyLbl = new Label(item.getQuantity() + " x " + CurrencyFormatter.format(item.getPriceAtTime()));
-                qtyLbl.setStyle("-fx-font-size: 11px; -fx-text-fill: #6B7280;");
-                nameBox.getChildren().addAll(nameLbl, qtyLbl);
-                HBox.setHgrow(nameBox, Priority.ALWAYS);
-
-                BigDecimal subtotal = item.getPriceAtTime().multiply(BigDecimal.valueOf(item.getQuantity()));
-                Label priceLbl = new Label(CurrencyFormatter.format(subtotal));
-                priceLbl.setStyle("-fx-font-size: 13px; -fx-font-weight: bold;");
-
-                itemRow.getChildren().addAll(nameBox, priceLbl);
-                itemsBox.getChildren().add(itemRow);
-            }
+        for (Receipt.Line line : receipt.getLines()) {
+            HBox itemRow = new HBox(10);
+            itemRow.setAlignment(Pos.CENTER_LEFT);
+
+            VBox nameBox = new VBox();
+            Label nameLbl = new Label(line.getName());
+            nameLbl.getStyleClass().add("receipt-item-name");
+            Label qtyLbl = new Label(line.getQuantity() + " x " + CurrencyFormatter.format(line.getUnitPrice()));
+            qtyLbl.getStyleClass().add("receipt-item-qty");
+            nameBox.getChildren().addAll(nameLbl, qtyLbl);
+            HBox.setHgrow(nameBox, Priority.ALWAYS);
+
+            Label priceLbl = new Label(CurrencyFormatter.format(line.getSubtotal()));
+            priceLbl.getStyleClass().add("receipt-item-price");
+
+            itemRow.getChildren().addAll(nameBox, priceLbl);
+            itemsBox.getChildren().add(itemRow);
         }
         body.getChildren().add(itemsBox);
 
@@ -709,23 +762,23 @@ public class CashierDashboardController {
         totalsGrid.setVgap(8);
 
         Label totalLbl = new Label("TOTAL");
-        totalLbl.setStyle("-fx-font-size: 14px; -fx-font-weight: bold;");
-        Label totalVal = new Label(CurrencyFormatter.format(order.getTotalAmount()));
-        totalVal.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: #F97316;");
+        totalLbl.getStyleClass().add("receipt-total-label");
+        Label totalVal = new Label(CurrencyFormatter.format(receipt.getTotalAmount()));
+        totalVal.getStyleClass().addAll("receipt-total-value", "receipt-total-amount");
         totalsGrid.add(totalLbl, 0, 0);
         totalsGrid.add(totalVal, 1, 0);
         GridPane.setHgrow(totalVal, Priority.ALWAYS);
         totalVal.setMaxWidth(Double.MAX_VALUE);
         totalVal.setAlignment(Pos.CENTER_RIGHT);
 
-        String methodText = payment.getPaymentMethod().toUpperCase();
+        String methodText = receipt.getPaymentMethod().toUpperCase();
         addReceiptRow(totalsGrid, 1, "Payment", methodText);
-        addReceiptRow(totalsGrid, 2, "Paid", CurrencyFormatter.format(payment.getAmountPaid()));
+        addReceiptRow(totalsGrid, 2, "Paid", CurrencyFormatter.format(receipt.getAmountPaid()));
 
         Label changeLbl = new Label("Change");
-        changeLbl.setStyle("-fx-font-size: 14px; -fx-font-weight: bold;");
-        Label changeVal = new Label(CurrencyFormatter.format(payment.getChangeAmount()));
-        changeVal.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: #22C55E;");
+        changeLbl.getStyleClass().add("receipt-total-label");
+        Label changeVal = new Label(CurrencyFormatter.format(receipt.getChangeAmount()));
+        changeVal.getStyleClass().addAll("receipt-total-value", "receipt-change-amount");
         changeVal.setMaxWidth(Double.MAX_VALUE);
         changeVal.setAlignment(Pos.CENTER_RIGHT);
         totalsGrid.add(changeLbl, 0, 3);
@@ -740,18 +793,18 @@ public class CashierDashboardController {
         footer.setPadding(new Insets(15));
 
         Label thankYou = new Label("Thank you for dining with us!");
-        thankYou.setStyle("-fx-font-size: 12px; -fx-text-fill: #6B7280;");
+        thankYou.getStyleClass().add("receipt-thanks");
 
         HBox buttonBox = new HBox(10);
         buttonBox.setAlignment(Pos.CENTER);
 
         Button printBtn = new Button("🖨️ Print");
         printBtn.getStyleClass().add("receipt-btn");
-        printBtn.setOnAction(e -> printReceipt(order, payment, items));
+        printBtn.setOnAction(e -> printReceipt(receipt));
 
         Button saveBtn = new Button("💾 Save PDF");
         saveBtn.getStyleClass().add("receipt-btn");
-        saveBtn.setOnAction(e -> saveReceiptAsPDF(order, payment, items, modal));
+        saveBtn.setOnAction(e -> saveReceiptAsPDF(receipt, modal));
 
         Button closeBtn = new Button("Close");
         closeBtn.getStyleClass().add("cancel-btn");
@@ -784,9 +837,9 @@ public class CashierDashboardController {
      */
     private void addReceiptRow(GridPane grid, int row, String label, String value) {
         Label lblNode = new Label(label);
-        lblNode.setStyle("-fx-font-size: 12px; -fx-text-fill: #6B7280;");
+        lblNode.getStyleClass().add("receipt-row-label");
         Label valNode = new Label(value);
-        valNode.setStyle("-fx-font-size: 12px; -fx-font-weight: bold;");
+        valNode.getStyleClass().add("receipt-row-value");
         valNode.setMaxWidth(Double.MAX_VALUE);
         valNode.setAlignment(Pos.CENTER_RIGHT);
         GridPane.setHgrow(valNode, Priority.ALWAYS);
@@ -802,81 +855,79 @@ public class CashierDashboardController {
         HBox divider = new HBox();
         divider.getStyleClass().add("receipt-divider");
         divider.setPrefHeight(1);
-        divider.setStyle("-fx-border-color: #E5E7EB; -fx-border-style: dashed; -fx-border-width: 1 0 0 0;");
         return divider;
     }
 
     /**
-     * Print receipt (placeholder - would need printer integration)
+     * Send the receipt to the receipt printer again
      */
-    private void printReceipt(Order order, Payment payment, List<OrderItem> items) {
-        AlertUtil.showInfo("Print",
-                "Receipt would be sent to thermal printer.\n(Printer integration not implemented in demo)");
+    private void printReceipt(Receipt receipt) {
+        if (paymentService.printReceipt(receipt)) {
+            AlertUtil.showInfo("Print", "Receipt sent to the printer.");
+        } else {
+            AlertUtil.showWarning("Print",
+                    "No receipt printer is configured or its queue is full.\nUse Save PDF instead.");
+        }
     }
 
     /**
-     * Save receipt as text file (simulated PDF)
+     * Save receipt as PDF (rendered in the background)
      */
-    private void saveReceiptAsPDF(Order order, Payment payment, List<OrderItem> items, Stage modal) {
+    private void saveReceiptAsPDF(Receipt receipt, Stage modal) {
         FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Save Receipt");
-        fileChooser.setInitialFileName("receipt_" + order.getId() + ".txt");
-        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Text Files", "*.txt"));
+        fileChooser.setInitialFileName("receipt_" + receipt.getOrderId() + ".pdf");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("PDF Files", "*.pdf"));
 
         File file = fileChooser.showSaveDialog(modal);
         if (file != null) {
-            try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
-                Table table = tableDAO.findById(order.getTableId());
-                User waiter = userDAO.findById(order.getUserId());
-                User cashier = userDAO.findById(payment.getCashierId());
-
-                writer.println("================================");
-                writer.println("          🍽️ RESTOS            ");
-                writer.println("   Jl. Restoran No. 123, Jakarta");
-                writer.println("      Tel: (021) 123-4567       ");
-                writer.println("================================");
-                writer.println();
-                writer.println("Order #: " + order.getId());
-                writer.println("Date: " + payment.getTransactionDate().format(dateTimeFormatter));
-                writer.println("Table: " + (table != null ? table.getTableNumber() : "N/A"));
-                writer.println("Waiter: " + (waiter != null ? waiter.getFullName() : "Unknown"));
-                writer.println("Cashier: " + (cashier != null ? cashier.getFullName() : "Unknown"));
-                writer.println();
-                writer.println("--------------------------------");
-                writer.println("Items:");
-                writer.println("--------------------------------");
-
-                for (OrderItem item : items) {
-                    com.restos.model.Menu menu = menuDAO.findById(item.getMenuId());
-                    if (menu != null) {
-                        BigDecimal subtotal = item.getPriceAtTime().multiply(BigDecimal.valueOf(item.getQuantity()));
-                        writer.printf("%s%n", menu.getName());
-                        writer.printf("  %d x %s = %s%n",
-                                item.getQuantity(),
-                                CurrencyFormatter.format(item.getPriceAtTime()),
-                                CurrencyFormatter.format(subtotal));
-                    }
-                }
+            ReceiptRenderer.getInstance().renderAsync(receipt, file)
+                    .whenComplete((result, error) -> Platform.runLater(() -> {
+                        if (error != null) {
+                            AlertUtil.showError("Error", "Failed to save receipt: " + cause(error).getMessage());
+                        } else {
+                            AlertUtil.showInfo("Saved", "Receipt saved successfully!");
+                        }
+                    }));
+        }
+    }
 
-                writer.println();
-                writer.println("--------------------------------");
-                writer.println("TOTAL: " + CurrencyFormatter.format(order.getTotalAmount()));
-                writer.println("Payment: " + payment.getPaymentMethod().toUpperCase());
-                writer.println("Paid: " + CurrencyFormatter.format(payment.getAmountPaid()));
-                writer.println("Change: " + CurrencyFormatter.format(payment.getChangeAmount()));
-                writer.println("================================");
-                writer.println();
-                writer.println("  Thank you for dining with us!");
-                writer.println();
-
-                AlertUtil.showInfo("Saved", "Receipt saved successfully!");
-
-            } catch (Exception e) {
-                AlertUtil.showError("Error", "Failed to save receipt: " + e.getMessage());
-            }
+    /**
+     * Reprint all of today's receipts into one PDF
+     */
+    @FXML
+    private void handleReprintReceipts() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Reprint Receipts");
+        fileChooser.setInitialFileName("receipts_" + LocalDate.now() + ".pdf");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("PDF Files", "*.pdf"));
+
+        File file = fileChooser.showSaveDialog(orderListContainer.getScene().getWindow());
+        if (file != null) {
+            // The receipts are read and built on the renderer thread, which
+            // also finds out whether there are any
+            Iterator<Receipt> receipts = paymentService.receiptsFor(LocalDate.now());
+            ReceiptRenderer.getInstance().renderBatchAsync(receipts, file)
+                    .whenComplete((count, error) -> Platform.runLater(() -> {
+                        Throwable cause = error != null ? cause(error) : null;
+                        if (cause instanceof IllegalArgumentException) {
+                            AlertUtil.showInfo("Reprint", "No payments today yet.");
+                        } else if (cause != null) {
+                            AlertUtil.showError("Error", "Failed to save receipts: " + cause.getMessage());
+                        } else {
+                            AlertUtil.showInfo("Saved", count + " receipts saved to " + file.getName());
+                        }
+                    }));
         }
     }
 
+    /**
+     * Unwrap the exception a CompletableFuture completed with
+     */
+    private static Throwable cause(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
     /**
      * Cancel current selection
      */
@@ -966,20 +1017,14 @@ public class CashierDashboardController {
     private void updateStats() {
         // Pending orders (delivered, awaiting payment)
         List<Order> pending = orderDAO.findByStatus(Order.STATUS_DELIVERED);
-        pendingCountLabel.setText(String.valueOf(pending.size()));
-
-        // Completed today
-        List<Payment> todayPayments = paymentDAO.findToday();
-        completedCountLabel.setText(String.valueOf(todayPayments.size()));
-
-        // Today's revenue
-        BigDecimal revenue = BigDecimal.ZERO;
-        for (Payment p : todayPayments) {
-            Order order = orderDAO.findById(p.getOrderId());
-            if (order != null) {
-                revenue = revenue.add(order.getTotalAmount());
-            }
-        }
+
+        // Completed today and today's revenue
+        showStats(pending.size(), paymentDAO.countToday(), paymentDAO.getTodayRevenue());
+    }
+
+    private void showStats(int pendingCount, int completedCount, Money revenue) {
+        pendingCountLabel.setText(String.valueOf(pendingCount));
+        completedCountLabel.setText(String.valueOf(completedCount));
         todayRevenueLabel.setText(CurrencyFormatter.formatShort(revenue));
     }
 
@@ -992,32 +1037,24 @@ public class CashierDashboardController {
         updateStats();
     }
 
+    /**
+     * Switch user handler: the cashier stays signed in and can come back with a PIN
+     */
+    @FXML
+    private void handleSwitchUser() {
+        SessionManager.getInstance().suspend();
+        App.switchScene("/fxml/login.fxml", "Login - Restos POS");
+    }
+
     /**
      * Logout handler
      */
     @FXML
     private void handleLogout() {
-        if (autoRefresh != null) {
-            autoRefresh.stop();
-        }
-
         boolean confirm = AlertUtil.showConfirm("Logout", "Are you sure you want to logout?");
         if (confirm) {
             SessionManager.getInstance().clearSession();
-            try {
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/login.fxml"));
-                Parent root = loader.load();
-
-                Stage stage = (Stage) userNameLabel.getScene().getWindow();
-                Scene scene = new Scene(root);
-                scene.getStylesheets().add(getClass().getResource("/css/login.css").toExternalForm());
-                stage.setScene(scene);
-                stage.setTitle("Restos - Login");
-                stage.centerOnScreen();
-            } catch (Exception e) {
-                e.printStackTrace();
-                AlertUtil.showError("Error", "Failed to logout: " + e.getMessage());
-            }
+            App.switchScene("/fxml/login.fxml", "Login - Restos POS");
         }
     }
 
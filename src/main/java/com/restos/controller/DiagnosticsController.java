@@ -0,0 +1,274 @@
+package com.restos.controller;
+
+import com.restos.config.ConnectionPool;
+import com.restos.config.ReplicaSet;
+import com.restos.config.DatabaseConfig;
+import com.restos.metrics.FxStallDetector;
+import com.restos.metrics.MetricsRegistry;
+import com.restos.metrics.OperationMetrics;
+import com.restos.util.AlertUtil;
+import com.restos.util.DateTimeUtil;
+import com.restos.util.ViewCache;
+import com.restos.util.ViewLifecycle;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.control.*;
+import javafx.stage.FileChooser;
+import javafx.util.Duration;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.function.Function;
+
+/**
+ * Controller for the Diagnostics Page
+ * Shows DAO/service call metrics and connection pool statistics
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class DiagnosticsController implements Initializable, ViewLifecycle {
+
+    @FXML
+    private CheckBox autoRefreshCheck;
+    @FXML
+    private TableView<OperationMetrics.Snapshot> metricsTable;
+
+    @FXML
+    private TableColumn<OperationMetrics.Snapshot, String> colOperation;
+    @FXML
+    private TableColumn<OperationMetrics.Snapshot, String> colCalls;
+    @FXML
+    private TableColumn<OperationMetrics.Snapshot, String> colErrors;
+    @FXML
+    private TableColumn<OperationMetrics.Snapshot, String> colRows;
+    @FXML
+    private TableColumn<OperationMetrics.Snapshot, String> colMean;
+    @FXML
+    private TableColumn<OperationMetrics.Snapshot, String> colP50;
+    @FXML
+    private TableColumn<OperationMetrics.Snapshot, String> colP95;
+    @FXML
+    private TableColumn<OperationMetrics.Snapshot, String> colP99;
+    @FXML
+    private TableColumn<OperationMetrics.Snapshot, String> colMax;
+    @FXML
+    private TableColumn<OperationMetrics.Snapshot, String> colTotal;
+
+    @FXML
+    private Label poolActiveLabel;
+    @FXML
+    private Label poolIdleLabel;
+    @FXML
+    private Label poolOpenLabel;
+    @FXML
+    private Label poolBorrowLabel;
+    @FXML
+    private Label poolWaitLabel;
+    @FXML
+    private Label poolTimeoutLabel;
+    @FXML
+    private Label poolReplicaLabel;
+    @FXML
+    private Label viewCacheLabel;
+
+    @FXML
+    private Label operationCountLabel;
+    @FXML
+    private Label errorCountLabel;
+    @FXML
+    private Label fxStallLabel;
+    @FXML
+    private Label sinceLabel;
+
+    private MetricsRegistry registry;
+    private ObservableList<OperationMetrics.Snapshot> snapshotList;
+    private Timeline refreshTimeline;
+
+    @Override
+    public void initialize(URL location, ResourceBundle resources) {
+        registry = MetricsRegistry.getInstance();
+        snapshotList = FXCollections.observableArrayList();
+
+        setupTableColumns();
+        setupAutoRefresh();
+    }
+
+    /**
+     * Setup table columns
+     */
+    private void setupTableColumns() {
+        colOperation.setCellValueFactory(data -> new SimpleStringProperty(data.getValue().getName()));
+        bind(colCalls, s -> String.valueOf(s.getCalls()));
+        bind(colErrors, s -> String.valueOf(s.getErrors()));
+        bind(colRows, s -> String.valueOf(s.getRows()));
+        bind(colMean, s -> formatMicros(s.getMean()));
+        bind(colP50, s -> formatMicros(s.getP50()));
+        bind(colP95, s -> formatMicros(s.getP95()));
+        bind(colP99, s -> formatMicros(s.getP99()));
+        bind(colMax, s -> formatMicros(s.getMax()));
+        bind(colTotal, s -> formatMicros(s.getTotal()));
+
+        metricsTable.setItems(snapshotList);
+    }
+
+    private void bind(TableColumn<OperationMetrics.Snapshot, String> column,
+                      Function<OperationMetrics.Snapshot, String> value) {
+        column.setCellValueFactory(data -> new SimpleStringProperty(value.apply(data.getValue())));
+    }
+
+    /**
+     * Setup auto refresh; it only runs while the page is shown
+     */
+    private void setupAutoRefresh() {
+        refreshTimeline = new Timeline(new KeyFrame(Duration.seconds(5), event -> loadMetrics()));
+        refreshTimeline.setCycleCount(Timeline.INDEFINITE);
+    }
+
+    @Override
+    public void onActivate() {
+        loadMetrics();
+        if (autoRefreshCheck.isSelected()) {
+            refreshTimeline.play();
+        }
+    }
+
+    @Override
+    public void onDeactivate() {
+        refreshTimeline.stop();
+    }
+
+    /**
+     * Load metrics and pool statistics
+     */
+    private void loadMetrics() {
+        List<OperationMetrics.Snapshot> snapshots = registry.snapshot();
+        snapshotList.setAll(snapshots);
+
+        long errors = snapshots.stream().mapToLong(OperationMetrics.Snapshot::getErrors).sum();
+        operationCountLabel.setText("Operasi: " + snapshots.size());
+        errorCountLabel.setText("Total error: " + errors);
+        sinceLabel.setText("Sejak: " + DateTimeUtil.formatDateTime(registry.getSince()));
+
+        updatePoolStats();
+        updateStallStats();
+        updateViewCacheStats();
+    }
+
+    private void updateViewCacheStats() {
+        ViewCache cache = ViewCache.getInstance();
+        viewCacheLabel.setText(String.format(Locale.ROOT,
+                "Cache tampilan: %d tampilan, hit %d, miss %d, preload %d, load rata-rata %.0f ms",
+                cache.getSize(), cache.getHits(), cache.getMisses(), cache.getPreloads(),
+                cache.getAverageLoadMillis()));
+    }
+
+    private void updateStallStats() {
+        FxStallDetector detector = FxStallDetector.getInstance();
+        if (detector == null) {
+            fxStallLabel.setText("UI macet: -");
+            return;
+        }
+        String text = "UI macet (>" + detector.getThresholdMillis() + " ms): " + detector.getStallCount();
+        if (detector.getStallCount() > 0) {
+            text += ", maks " + detector.getMaxStallMillis() + " ms di " + detector.getTopBlocker();
+        }
+        fxStallLabel.setText(text);
+    }
+
+    private void updatePoolStats() {
+        ConnectionPool pool;
+        try {
+            pool = DatabaseConfig.getInstance().getPool();
+        } catch (SQLException e) {
+            System.err.println("Error reading pool stats: " + e.getMessage());
+            poolActiveLabel.setText("Koneksi database tidak tersedia");
+            return;
+        }
+        poolActiveLabel.setText("Koneksi aktif: " + pool.getActiveCount());
+        poolIdleLabel.setText("Idle: " + pool.getIdleCount());
+        poolOpenLabel.setText("Terbuka: " + pool.getOpenCount() + "/" + pool.getMaxSize());
+        poolBorrowLabel.setText("Peminjaman: " + pool.getBorrowCount());
+        poolWaitLabel.setText("Rata-rata tunggu: " + formatMicros(pool.getAverageWaitMicros()));
+        poolTimeoutLabel.setText("Timeout: " + pool.getTimeoutCount());
+
+        ReplicaSet replicas = DatabaseConfig.getInstance().getReplicas();
+        if (replicas == null) {
+            poolReplicaLabel.setText("Replika: tidak ada");
+        } else {
+            poolReplicaLabel.setText("Replika: " + replicas.getUsableCount() + "/" + replicas.getReplicaCount()
+                    + " aktif, " + replicas.getReplicaReads() + " baca, " + replicas.getPrimaryReads()
+                    + " ke primary");
+        }
+    }
+
+    /**
+     * Format a duration in microseconds using the most readable unit
+     */
+    private static String formatMicros(double micros) {
+        if (micros >= 1_000_000) {
+            return String.format(Locale.ROOT, "%.2f s", micros / 1_000_000);
+        }
+        if (micros >= 1_000) {
+            return String.format(Locale.ROOT, "%.1f ms", micros / 1_000);
+        }
+        return String.format(Locale.ROOT, "%.0f µs", micros);
+    }
+
+    // ==================== ACTION HANDLERS ====================
+
+    @FXML
+    private void handleRefresh() {
+        loadMetrics();
+    }
+
+    @FXML
+    private void handleAutoRefresh() {
+        if (autoRefreshCheck.isSelected()) {
+            refreshTimeline.play();
+        } else {
+            refreshTimeline.stop();
+        }
+    }
+
+    @FXML
+    private void handleReset() {
+        if (AlertUtil.showConfirmation("Reset Metrik", "Hapus semua data metrik yang sudah terkumpul?")) {
+            registry.reset();
+            loadMetrics();
+        }
+    }
+
+    @FXML
+    private void handleExport() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Export Metrik");
+        fileChooser.setInitialFileName("restos-metrics-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV Files", "*.csv"));
+
+        File file = fileChooser.showSaveDialog(metricsTable.getScene().getWindow());
+        if (file != null) {
+            try {
+                registry.exportCsv(file.toPath());
+                AlertUtil.showSuccess("Berhasil", "Metrik disimpan ke " + file.getName());
+            } catch (IOException e) {
+                System.err.println("Error exporting metrics: " + e.getMessage());
+                AlertUtil.showError("Error", "Gagal menyimpan metrik: " + e.getMessage());
+            }
+        }
+    }
+}
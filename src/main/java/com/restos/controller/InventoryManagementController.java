@@ -4,7 +4,10 @@ import com.restos.dao.*;
 import com.restos.model.Category;
 import com.restos.model.Inventory;
 import com.restos.model.Menu;
+import com.restos.sync.Invalidation;
+import com.restos.sync.InvalidationBus;
 import com.restos.util.AlertUtil;
+import com.restos.util.ViewLifecycle;
 
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -30,7 +33,7 @@ import java.util.ResourceBundle;
  * @author Restos Team
  * @version 1.0.0
  */
-public class InventoryManagementController implements Initializable {
+public class InventoryManagementController implements Initializable, ViewLifecycle {
 
     @FXML
     private TextField searchField;
@@ -70,6 +73,7 @@ public class InventoryManagementController implements Initializable {
     private InventoryDAO inventoryDAO;
     private MenuDAO menuDAO;
     private CategoryDAO categoryDAO;
+    private final InvalidationBus invalidations = InvalidationBus.getInstance();
     private ObservableList<Inventory> inventoryList;
     private List<Inventory> allInventory;
 
@@ -77,13 +81,17 @@ public class InventoryManagementController implements Initializable {
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        inventoryDAO = new InventoryDAOImpl();
-        menuDAO = new MenuDAOImpl();
-        categoryDAO = new CategoryDAOImpl();
+        inventoryDAO = DAOFactory.getInventoryDAO();
+        menuDAO = DAOFactory.getMenuDAO();
+        categoryDAO = DAOFactory.getCategoryDAO();
         inventoryList = FXCollections.observableArrayList();
 
         setupFilters();
         setupTableColumns();
+    }
+
+    @Override
+    public void onActivate() {
         loadInventoryData();
     }
 
@@ -329,6 +337,7 @@ public class InventoryManagementController implements Initializable {
             int resetCount = 0;
             for (Inventory inv : allInventory) {
                 if (inventoryDAO.updateStock(inv.getId(), inv.getDailyStock())) {
+                    invalidations.publish(Invalidation.INVENTORY, inv.getMenuId());
                     resetCount++;
                 }
             }
@@ -359,6 +368,7 @@ public class InventoryManagementController implements Initializable {
 
                 int newStock = inventory.getRemainingStock() + addAmount;
                 if (inventoryDAO.updateStock(inventory.getId(), newStock)) {
+                    invalidations.publish(Invalidation.INVENTORY, inventory.getMenuId());
                     AlertUtil.showInfo("Sukses", "Stok berhasil ditambahkan");
                     loadInventoryData();
                 } else {
@@ -378,6 +388,7 @@ public class InventoryManagementController implements Initializable {
 
         if (confirm) {
             if (inventoryDAO.delete(inventory.getId())) {
+                invalidations.publish(Invalidation.INVENTORY, inventory.getMenuId());
                 AlertUtil.showInfo("Sukses", "Inventaris berhasil dihapus");
                 loadInventoryData();
             } else {
@@ -493,6 +504,7 @@ public class InventoryManagementController implements Initializable {
             }
 
             if (success) {
+                invalidations.publish(Invalidation.INVENTORY, inv.getMenuId());
                 AlertUtil.showInfo("Sukses",
                         "Inventaris berhasil " + (existingInventory == null ? "ditambahkan" : "diperbarui"));
                 loadInventoryData();
@@ -2,14 +2,24 @@ package com.restos.controller;
 
 import com.restos.App;
 import com.restos.dao.*;
+import com.restos.event.EventBus;
+import com.restos.event.OrderEvent;
 import com.restos.model.*;
+import com.restos.service.DashboardPrefetch;
+import com.restos.service.DashboardPrefetch.KitchenSnapshot;
+import com.restos.service.OrderService;
+import com.restos.sync.Invalidation;
+import com.restos.sync.InvalidationBus;
 import com.restos.util.AlertUtil;
 import com.restos.util.DateTimeUtil;
 import com.restos.util.SessionManager;
 import com.restos.util.UIFeedback;
+import com.restos.util.WarmupSample;
+import com.restos.util.ViewLifecycle;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.geometry.Insets;
@@ -23,16 +33,20 @@ import java.net.URL;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * Controller for Kitchen Display System (KDS)
- * Handles order queue display and status updates
+ * Handles order queue display and status updates. The queue reloads when
+ * an order event arrives from this or another terminal; the timeline only
+ * updates the waiting times and catches anything missed.
  * 
  * @author Restos Team
  * @version 1.0.0
  */
-public class KitchenDashboardController implements Initializable {
+public class KitchenDashboardController implements Initializable, ViewLifecycle {
 
     // Filter Buttons
     @FXML
@@ -73,13 +87,25 @@ public class KitchenDashboardController implements Initializable {
     private FlowPane orderCardsContainer;
 
     // DAOs
-    private OrderDAO orderDAO;
-    private OrderItemDAO orderItemDAO;
     private MenuDAO menuDAO;
+    private OrderService orderService;
 
     // Auto-refresh timeline
     private Timeline refreshTimeline;
 
+    // Order events and reconnects of the sync hub queue one reload
+    private final AtomicBoolean reloadQueued = new AtomicBoolean();
+    private final Consumer<OrderEvent> orderEventListener = event -> {
+        if (!OrderEvent.PAYMENT_SETTLED.equals(event.getType())) {
+            queueReload();
+        }
+    };
+    private final Consumer<Invalidation> invalidationListener = invalidation -> {
+        if (invalidation.isAll()) {
+            queueReload();
+        }
+    };
+
     // Filter buttons array
     private Button[] filterButtons;
 
@@ -88,20 +114,46 @@ public class KitchenDashboardController implements Initializable {
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        orderDAO = new OrderDAOImpl();
-        orderItemDAO = new OrderItemDAOImpl();
-        menuDAO = new MenuDAOImpl();
+        menuDAO = DAOFactory.getMenuDAO();
+        orderService = new OrderService();
 
         filterButtons = new Button[] { filterAll, filterPending, filterCooking, filterServed };
 
-        setupUserInfo();
-        loadOrderQueue();
-        updateStats();
         setupAutoRefresh();
-        updateDateTime();
         setupKeyboardShortcuts();
     }
 
+    @Override
+    public void onActivate() {
+        setupUserInfo();
+        // Subscribed before loading, so no change falls in between
+        EventBus.getInstance().subscribe(orderEventListener);
+        InvalidationBus.getInstance().subscribe(invalidationListener);
+        KitchenSnapshot snapshot = DashboardPrefetch.take(KitchenSnapshot.class);
+        if (snapshot == null) {
+            snapshot = KitchenSnapshot.load();
+        }
+        showOrderQueue(snapshot);
+        updateDateTime();
+        refreshTimeline.play();
+    }
+
+    @Override
+    public void onDeactivate() {
+        EventBus.getInstance().unsubscribe(orderEventListener);
+        InvalidationBus.getInstance().unsubscribe(invalidationListener);
+        refreshTimeline.stop();
+    }
+
+    @Override
+    public void warmUp(WarmupSample sample) {
+        for (Order order : sample.getOrders()) {
+            List<OrderItem> items = sample.getItems(order);
+            filterItems(items);
+            createOrderCard(order, items);
+        }
+    }
+
     /**
      * Setup keyboard shortcuts
      */
@@ -132,19 +184,38 @@ public class KitchenDashboardController implements Initializable {
     }
 
     /**
-     * Load order queue based on current filter
+     * Load order queue based on current filter, and the stat cards with it
      */
     private void loadOrderQueue() {
-        orderCardsContainer.getChildren().clear();
+        // Anything queued before this load is included in it
+        reloadQueued.set(false);
+        showOrderQueue(KitchenSnapshot.load());
+    }
 
-        // Get orders for kitchen (pending and processing)
-        List<Order> kitchenOrders = orderDAO.findForKitchen();
+    /**
+     * Reload the queue on the FX thread; called on the publishing thread,
+     * so a burst of events (e.g. "start all") reloads only once
+     */
+    private void queueReload() {
+        if (reloadQueued.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                if (reloadQueued.get()) {
+                    loadOrderQueue();
+                }
+            });
+        }
+    }
 
-        // Sort by created_at (oldest first - FIFO)
-        kitchenOrders.sort(Comparator.comparing(Order::getCreatedAt));
+    /**
+     * Show the order queue of a snapshot based on current filter, and its
+     * item counts on the stat cards
+     */
+    private void showOrderQueue(KitchenSnapshot snapshot) {
+        showStats(snapshot.getKitchenItems());
+        orderCardsContainer.getChildren().clear();
 
         // Filter based on current filter
-        List<Order> filteredOrders = filterOrders(kitchenOrders);
+        List<Order> filteredOrders = filterOrders(snapshot);
 
         if (filteredOrders.isEmpty()) {
             showEmptyState();
@@ -153,11 +224,8 @@ public class KitchenDashboardController implements Initializable {
 
         // Create order cards
         for (Order order : filteredOrders) {
-            // Load order items
-            List<OrderItem> items = orderItemDAO.findByOrderId(order.getId());
-
             // Filter items based on current filter
-            List<OrderItem> filteredItems = filterItems(items);
+            List<OrderItem> filteredItems = filterItems(snapshot.getItems(order));
 
             if (!filteredItems.isEmpty()) {
                 VBox card = createOrderCard(order, filteredItems);
@@ -173,16 +241,14 @@ public class KitchenDashboardController implements Initializable {
     /**
      * Filter orders based on current filter
      */
-    private List<Order> filterOrders(List<Order> orders) {
+    private List<Order> filterOrders(KitchenSnapshot snapshot) {
         if ("all".equals(currentFilter)) {
-            return orders;
+            return snapshot.getOrders();
         }
 
-        return orders.stream()
-                .filter(order -> {
-                    List<OrderItem> items = orderItemDAO.findByOrderId(order.getId());
-                    return items.stream().anyMatch(item -> matchesFilter(item.getStatus()));
-                })
+        return snapshot.getOrders().stream()
+                .filter(order -> snapshot.getItems(order).stream()
+                        .anyMatch(item -> matchesFilter(item.getStatus())))
                 .collect(Collectors.toList());
     }
 
@@ -332,8 +398,8 @@ public class KitchenDashboardController implements Initializable {
         VBox itemInfo = new VBox(2);
         HBox.setHgrow(itemInfo, Priority.ALWAYS);
 
-        // Get menu name
-        com.restos.model.Menu menu = menuDAO.findById(item.getMenuId());
+        // Get menu name (joined by findByOrderId, look it up otherwise)
+        com.restos.model.Menu menu = item.getMenu() != null ? item.getMenu() : menuDAO.findById(item.getMenuId());
         String menuName = menu != null ? menu.getName() : "Item #" + item.getMenuId();
 
         Label nameLabel = new Label(menuName);
@@ -420,10 +486,9 @@ public class KitchenDashboardController implements Initializable {
      * Update single item status
      */
     private void updateItemStatus(OrderItem item, String newStatus) {
-        boolean success = orderItemDAO.updateStatus(item.getId(), newStatus);
+        boolean success = orderService.updateItemStatus(item, newStatus);
         if (success) {
             loadOrderQueue();
-            updateStats();
         } else {
             AlertUtil.showError("Error", "Gagal mengubah status item");
         }
@@ -433,41 +498,27 @@ public class KitchenDashboardController implements Initializable {
      * Start cooking all pending items in order
      */
     private void startCookingAll(int orderId, List<OrderItem> items) {
-        for (OrderItem item : items) {
-            if (OrderItem.STATUS_PENDING.equals(item.getStatus())) {
-                orderItemDAO.updateStatus(item.getId(), OrderItem.STATUS_COOKING);
-            }
-        }
-
-        // Update order status to processing
-        orderDAO.updateStatus(orderId, Order.STATUS_PROCESSING);
+        orderService.startCookingAll(orderId, items);
 
         loadOrderQueue();
-        updateStats();
     }
 
     /**
      * Complete all cooking items in order
      */
     private void completeAllItems(int orderId, List<OrderItem> items) {
-        for (OrderItem item : items) {
-            if (OrderItem.STATUS_COOKING.equals(item.getStatus())) {
-                orderItemDAO.updateStatus(item.getId(), OrderItem.STATUS_SERVED);
-            }
-        }
+        orderService.completeAllItems(items);
         loadOrderQueue();
-        updateStats();
     }
 
     /**
      * Mark order as delivered
      */
     private void markOrderDelivered(Order order) {
-        boolean success = orderDAO.updateStatus(order.getId(), Order.STATUS_DELIVERED);
+        boolean success = orderService.markDelivered(order.getId());
         if (success) {
             AlertUtil.showInfo("Sukses", "Order #" + order.getId() + " siap diantar ke pelanggan!");
             loadOrderQueue();
-            updateStats();
         } else {
             AlertUtil.showError("Error", "Gagal mengubah status pesanan");
         }
@@ -490,12 +541,7 @@ public class KitchenDashboardController implements Initializable {
         orderCardsContainer.getChildren().add(emptyState);
     }
 
-    /**
-     * Update statistics counts
-     */
-    private void updateStats() {
-        List<OrderItem> kitchenItems = orderItemDAO.findForKitchen();
-
+    private void showStats(List<OrderItem> kitchenItems) {
         long pending = kitchenItems.stream()
                 .filter(i -> OrderItem.STATUS_PENDING.equals(i.getStatus())).count();
         long cooking = kitchenItems.stream()
@@ -509,16 +555,14 @@ public class KitchenDashboardController implements Initializable {
     }
 
     /**
-     * Setup auto-refresh timeline (every 5 seconds)
+     * Setup auto-refresh timeline (every minute, for the waiting times)
      */
     private void setupAutoRefresh() {
-        refreshTimeline = new Timeline(new KeyFrame(Duration.seconds(5), event -> {
+        refreshTimeline = new Timeline(new KeyFrame(Duration.minutes(1), event -> {
             loadOrderQueue();
-            updateStats();
             updateDateTime();
         }));
         refreshTimeline.setCycleCount(Timeline.INDEFINITE);
-        refreshTimeline.play();
     }
 
     /**
@@ -576,16 +620,18 @@ public class KitchenDashboardController implements Initializable {
     @FXML
     private void handleRefresh() {
         loadOrderQueue();
-        updateStats();
         updateDateTime();
     }
 
     @FXML
-    private void handleLogout() {
-        if (refreshTimeline != null) {
-            refreshTimeline.stop();
-        }
+    private void handleSwitchUser() {
+        // Keep this session (and its views) open for a PIN switch back
+        SessionManager.getInstance().suspend();
+        App.switchScene("/fxml/login.fxml", "Login - Restos POS");
+    }
 
+    @FXML
+    private void handleLogout() {
         boolean confirm = AlertUtil.showConfirmation("Konfirmasi Logout",
                 "Apakah Anda yakin ingin keluar?");
 
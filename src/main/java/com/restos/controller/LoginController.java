@@ -1,11 +1,15 @@
 package com.restos.controller;
 
 import com.restos.App;
+import com.restos.metrics.MetricsRegistry;
 import com.restos.model.User;
 import com.restos.service.AuthService;
+import com.restos.service.DashboardPrefetch;
+import com.restos.service.JitWarmup;
 import com.restos.util.SessionManager;
 import com.restos.util.UIFeedback;
 import com.restos.util.ValidationUtil;
+import com.restos.util.ViewCache;
 
 import javafx.application.Platform;
 import javafx.concurrent.Task;
@@ -17,14 +21,18 @@ import javafx.scene.control.PasswordField;
 import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 
 import java.net.URL;
+import java.util.List;
 import java.util.ResourceBundle;
 
 /**
  * Controller for Login Page
- * Handles user authentication and role-based routing
+ * Handles user authentication and role-based routing, and quick
+ * switching back to users who are still signed in on this terminal
  * 
  * @author Restos Team
  * @version 1.0.0
@@ -49,14 +57,35 @@ public class LoginController implements Initializable {
     @FXML
     private VBox loginContainer;
 
+    @FXML
+    private PasswordField newPinField;
+
+    @FXML
+    private VBox sessionsBox;
+
+    @FXML
+    private FlowPane sessionTiles;
+
+    @FXML
+    private HBox pinBox;
+
+    @FXML
+    private PasswordField pinField;
+
     private AuthService authService;
 
+    // Signed-in user picked for a PIN switch
+    private User selectedUser;
+
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         authService = new AuthService();
 
-        // Clear any previous session
-        SessionManager.getInstance().clearSession();
+        // Leave the previous user's session open for a quick switch back
+        SessionManager.getInstance().suspend();
+
+        // Show users who are still signed in on this terminal
+        refreshSessions();
 
         // Focus on username field
         Platform.runLater(() -> usernameField.requestFocus());
@@ -65,6 +94,93 @@ public class LoginController implements Initializable {
         setupKeyboardShortcuts();
     }
 
+    /**
+     * Rebuild the tiles of users with a live session
+     */
+    private void refreshSessions() {
+        List<User> users = SessionManager.getInstance().getActiveUsers();
+        sessionTiles.getChildren().clear();
+        selectedUser = null;
+        pinField.clear();
+        pinBox.setVisible(false);
+        pinBox.setManaged(false);
+
+        for (User user : users) {
+            Button tile = new Button(user.getFullName() + "\n" + user.getRole());
+            tile.getStyleClass().add("session-tile");
+            tile.setOnAction(event -> selectSession(user, tile));
+            sessionTiles.getChildren().add(tile);
+        }
+
+        sessionsBox.setVisible(!users.isEmpty());
+        sessionsBox.setManaged(!users.isEmpty());
+    }
+
+    /**
+     * Pick a signed-in user; users without a PIN continue with their password
+     */
+    private void selectSession(User user, Button tile) {
+        hideError();
+        sessionTiles.getChildren().forEach(node -> node.getStyleClass().remove("session-tile-selected"));
+
+        if (!SessionManager.getInstance().hasPin(user.getId())) {
+            selectedUser = null;
+            pinBox.setVisible(false);
+            pinBox.setManaged(false);
+            usernameField.setText(user.getUsername());
+            passwordField.requestFocus();
+            return;
+        }
+
+        selectedUser = user;
+        tile.getStyleClass().add("session-tile-selected");
+        pinField.clear();
+        pinBox.setVisible(true);
+        pinBox.setManaged(true);
+        pinField.requestFocus();
+    }
+
+    /**
+     * Resume the selected user's session with their PIN. The dashboard is
+     * still in the user's view cache, so nothing is loaded from disk or the
+     * database before it is shown
+     */
+    @FXML
+    private void handleSwitch() {
+        if (selectedUser == null) {
+            return;
+        }
+        User user = selectedUser;
+        SessionManager sessionManager = SessionManager.getInstance();
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+        long start = System.nanoTime();
+        if (sessionManager.switchTo(user.getId(), pinField.getText())) {
+            String fxmlPath = getDashboardPath(user.getRole());
+            App.switchScene(fxmlPath, getDashboardTitle(user.getRole()));
+            metrics.operation("SessionManager.switch").record(System.nanoTime() - start, 0, false);
+
+            preloadNextViews(user.getRole());
+            JitWarmup.start(fxmlPath);
+            return;
+        }
+
+        metrics.operation("SessionManager.switch").recordError();
+        if (!sessionManager.hasPin(user.getId())) {
+            // Too many wrong PINs: the session was closed
+            refreshSessions();
+            usernameField.setText(user.getUsername());
+            passwordField.requestFocus();
+            showError("PIN salah terlalu banyak, silakan login dengan password.");
+            return;
+        }
+
+        showError("PIN salah!");
+        UIFeedback.shake(pinField);
+        pinField.clear();
+        pinField.requestFocus();
+    }
+
     /**
      * Setup keyboard shortcuts for login form
      */
@@ -91,6 +207,7 @@ public class LoginController implements Initializable {
     private void handleLogin() {
         String username = usernameField.getText().trim();
         String password = passwordField.getText();
+        String pin = newPinField.getText();
 
         // Validate input
         if (ValidationUtil.isEmpty(username)) {
@@ -107,6 +224,13 @@ public class LoginController implements Initializable {
             return;
         }
 
+        if (!ValidationUtil.isEmpty(pin) && !ValidationUtil.isValidPin(pin)) {
+            showError("PIN harus 4-6 digit angka!");
+            UIFeedback.shake(newPinField);
+            newPinField.requestFocus();
+            return;
+        }
+
         // Show loading state
         setLoading(true);
         hideError();
@@ -115,15 +239,20 @@ public class LoginController implements Initializable {
         Task<User> loginTask = new Task<>() {
             @Override
             protected User call() throws Exception {
-                return authService.login(username, password);
+                User user = authService.login(username, password);
+                if (user != null) {
+                    // Load the dashboard's data while its FXML is parsed
+                    DashboardPrefetch.start(user.getRole());
+                }
+                return user;
             }
         };
 
         loginTask.setOnSucceeded(event -> {
             User user = loginTask.getValue();
             if (user != null) {
-                // Save user to session
-                SessionManager.getInstance().setCurrentUser(user);
+                // Save user to session (resumes an open session of the same user)
+                SessionManager.getInstance().startSession(user, pin);
 
                 // Route to appropriate dashboard based on role
                 routeToDashboard(user.getRole());
@@ -154,35 +283,72 @@ public class LoginController implements Initializable {
      * @param role User role
      */
     private void routeToDashboard(String role) {
-        String fxmlPath;
-        String title;
+        String fxmlPath = getDashboardPath(role);
+        if (fxmlPath == null) {
+            showError("Role tidak dikenali: " + role);
+            setLoading(false);
+            return;
+        }
+        String title = getDashboardTitle(role);
 
+        Platform.runLater(() -> {
+            App.switchScene(fxmlPath, title);
+            preloadNextViews(role);
+            JitWarmup.start(fxmlPath);
+        });
+    }
+
+    /**
+     * Get the dashboard FXML path of a role
+     *
+     * @param role User role
+     * @return FXML path or null if the role is unknown
+     */
+    private static String getDashboardPath(String role) {
         switch (role.toLowerCase()) {
             case "admin":
-                fxmlPath = "/fxml/admin/dashboard.fxml";
-                title = "Admin Dashboard";
-                break;
+                return "/fxml/admin/dashboard.fxml";
             case "waiter":
-                fxmlPath = "/fxml/waiter/dashboard.fxml";
-                title = "Waiter Dashboard";
-                break;
+                return "/fxml/waiter/dashboard.fxml";
             case "kitchen":
-                fxmlPath = "/fxml/kitchen/dashboard.fxml";
-                title = "Kitchen Display";
-                break;
+                return "/fxml/kitchen/dashboard.fxml";
             case "cashier":
-                fxmlPath = "/fxml/cashier/dashboard.fxml";
-                title = "Cashier POS";
-                break;
+                return "/fxml/cashier/dashboard.fxml";
             default:
-                showError("Role tidak dikenali: " + role);
-                setLoading(false);
-                return;
+                return null;
         }
+    }
 
-        Platform.runLater(() -> {
-            App.switchScene(fxmlPath, title);
-        });
+    private static String getDashboardTitle(String role) {
+        switch (role.toLowerCase()) {
+            case "admin":
+                return "Admin Dashboard";
+            case "waiter":
+                return "Waiter Dashboard";
+            case "kitchen":
+                return "Kitchen Display";
+            default:
+                return "Cashier POS";
+        }
+    }
+
+    /**
+     * Preload the pages the user is likely to open next in the background
+     * (disable with -Drestos.view.preload=false)
+     *
+     * @param role User role
+     */
+    private void preloadNextViews(String role) {
+        if (!Boolean.parseBoolean(System.getProperty("restos.view.preload", "true"))) {
+            return;
+        }
+        if ("admin".equalsIgnoreCase(role)) {
+            ViewCache.getInstance().preload(
+                    "/fxml/admin/menu-management.fxml",
+                    "/fxml/admin/table-management.fxml",
+                    "/fxml/admin/inventory-management.fxml",
+                    "/fxml/admin/user-management.fxml");
+        }
     }
 
     /**
@@ -220,6 +386,7 @@ public class LoginController implements Initializable {
             loadingIndicator.setManaged(loading);
             usernameField.setDisable(loading);
             passwordField.setDisable(loading);
+            newPinField.setDisable(loading);
         });
     }
 
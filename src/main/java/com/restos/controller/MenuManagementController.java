@@ -3,8 +3,12 @@ package com.restos.controller;
 import com.restos.dao.*;
 import com.restos.model.Category;
 import com.restos.model.Menu;
+import com.restos.model.Money;
+import com.restos.sync.Invalidation;
+import com.restos.sync.InvalidationBus;
 import com.restos.util.AlertUtil;
 import com.restos.util.CurrencyFormatter;
+import com.restos.util.ViewLifecycle;
 
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -18,7 +22,6 @@ import javafx.scene.control.*;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 
-import java.math.BigDecimal;
 import java.net.URL;
 import java.util.List;
 import java.util.Optional;
@@ -31,7 +34,7 @@ import java.util.ResourceBundle;
  * @author Restos Team
  * @version 1.0.0
  */
-public class MenuManagementController implements Initializable {
+public class MenuManagementController implements Initializable, ViewLifecycle {
 
     @FXML
     private TextField searchField;
@@ -61,16 +64,21 @@ public class MenuManagementController implements Initializable {
 
     private MenuDAO menuDAO;
     private CategoryDAO categoryDAO;
+    private final InvalidationBus invalidations = InvalidationBus.getInstance();
     private ObservableList<Menu> menuList;
     private FilteredList<Menu> filteredList;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        menuDAO = new MenuDAOImpl();
-        categoryDAO = new CategoryDAOImpl();
+        menuDAO = DAOFactory.getMenuDAO();
+        categoryDAO = DAOFactory.getCategoryDAO();
 
         setupTableColumns();
         setupCategoryFilter();
+    }
+
+    @Override
+    public void onActivate() {
         loadMenuData();
     }
 
@@ -244,6 +252,7 @@ public class MenuManagementController implements Initializable {
 
         if (confirm) {
             if (menuDAO.delete(menu.getId())) {
+                invalidations.publish(Invalidation.MENU, menu.getId());
                 AlertUtil.showInfo("Sukses", "Menu berhasil dihapus");
                 loadMenuData();
             } else {
@@ -255,6 +264,7 @@ public class MenuManagementController implements Initializable {
     private void handleToggleStatus(Menu menu) {
         boolean newStatus = !menu.isActive();
         if (menuDAO.updateStatus(menu.getId(), newStatus)) {
+            invalidations.publish(Invalidation.MENU, menu.getId());
             menu.setActive(newStatus);
             menuTable.refresh();
             updateStats();
@@ -376,7 +386,7 @@ public class MenuManagementController implements Initializable {
                     menu.setName(nameField.getText().trim());
                     menu.setDescription(descField.getText().trim());
                     menu.setCategoryId(categoryCombo.getValue().getId());
-                    menu.setPrice(new BigDecimal(priceField.getText().trim()));
+                    menu.setPrice(Money.parse(priceField.getText()));
                     menu.setImageUrl(imageField.getText().trim());
                     menu.setActive(activeCheck.isSelected());
                     return menu;
@@ -391,14 +401,17 @@ public class MenuManagementController implements Initializable {
         Optional<Menu> result = dialog.showAndWait();
         result.ifPresent(menu -> {
             boolean success;
+            int menuId;
             if (existingMenu == null) {
-                int insertedId = menuDAO.insert(menu);
-                success = insertedId > 0;
+                menuId = menuDAO.insert(menu);
+                success = menuId > 0;
             } else {
+                menuId = menu.getId();
                 success = menuDAO.update(menu);
             }
 
             if (success) {
+                invalidations.publish(Invalidation.MENU, menuId);
                 AlertUtil.showInfo("Sukses", "Menu berhasil " + (existingMenu == null ? "ditambahkan" : "diperbarui"));
                 loadMenuData();
             } else {
@@ -1,12 +1,18 @@
 package com.restos.controller;
 
 import com.restos.dao.*;
+import com.restos.metrics.QueryScope;
 import com.restos.model.*;
 import com.restos.model.Menu;
+import com.restos.service.OrderService;
+import com.restos.sync.Invalidation;
+import com.restos.sync.InvalidationBus;
 import com.restos.util.AlertUtil;
 import com.restos.util.CurrencyFormatter;
+import com.restos.util.MenuFilter;
 import com.restos.util.SessionManager;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.geometry.Insets;
@@ -14,9 +20,9 @@ import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 
-import java.math.BigDecimal;
 import java.net.URL;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Controller for New Order Page
@@ -74,10 +80,9 @@ public class NewOrderController implements Initializable {
     // DAOs
     private MenuDAO menuDAO;
     private CategoryDAO categoryDAO;
-    private OrderDAO orderDAO;
     private OrderItemDAO orderItemDAO;
-    private TableDAO tableDAO;
     private InventoryDAO inventoryDAO;
+    private OrderService orderService;
 
     // State
     private Table currentTable;
@@ -91,17 +96,23 @@ public class NewOrderController implements Initializable {
     // Cart items: Map<menuId, CartItem>
     private Map<Integer, CartItem> cartItems = new LinkedHashMap<>();
 
+    // Cards in the grid: Map<menuId, card>, to redraw one card when its stock changes
+    private final Map<Integer, VBox> menuCards = new HashMap<>();
+
+    // Menu and stock changes from this and other terminals, while the page is shown
+    private final Consumer<Invalidation> invalidationListener = invalidation -> Platform
+            .runLater(() -> handleInvalidation(invalidation));
+
     // Toggle Group for order type
     private ToggleGroup orderTypeGroup;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        menuDAO = new MenuDAOImpl();
-        categoryDAO = new CategoryDAOImpl();
-        orderDAO = new OrderDAOImpl();
-        orderItemDAO = new OrderItemDAOImpl();
-        tableDAO = new TableDAOImpl();
-        inventoryDAO = new InventoryDAOImpl();
+        menuDAO = DAOFactory.getMenuDAO();
+        categoryDAO = DAOFactory.getCategoryDAO();
+        orderItemDAO = DAOFactory.getOrderItemDAO();
+        inventoryDAO = DAOFactory.getInventoryDAO();
+        orderService = new OrderService();
 
         // Setup toggle group
         orderTypeGroup = new ToggleGroup();
@@ -113,10 +124,19 @@ public class NewOrderController implements Initializable {
         searchField.textProperty().addListener((obs, oldVal, newVal) -> filterMenus());
 
         // Setup sort combo
-        sortCombo.getItems().addAll("Nama A-Z", "Nama Z-A", "Harga Terendah", "Harga Tertinggi");
-        sortCombo.setValue("Nama A-Z");
+        sortCombo.getItems().addAll(MenuFilter.getSortOptions());
+        sortCombo.setValue(MenuFilter.SORT_NAME_ASC);
         sortCombo.setOnAction(e -> filterMenus());
 
+        // Listen for changes only while the page is in a window
+        menuGrid.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene != null) {
+                InvalidationBus.getInstance().subscribe(invalidationListener);
+            } else {
+                InvalidationBus.getInstance().unsubscribe(invalidationListener);
+            }
+        });
+
         // Load data
         loadCategories();
         loadMenus();
@@ -222,50 +242,18 @@ public class NewOrderController implements Initializable {
      * Load menus
      */
     private void loadMenus() {
-        allMenus = menuDAO.findAllActive();
-        filterMenus();
+        try (QueryScope scope = QueryScope.open("open order page", 5)) {
+            allMenus = menuDAO.findAllActive();
+            filterMenus();
+        }
     }
 
     /**
      * Filter menus based on search, category, and sort
      */
     private void filterMenus() {
-        String searchText = searchField.getText().toLowerCase().trim();
-        String sortOption = sortCombo.getValue();
-
-        List<Menu> filtered = new ArrayList<>();
-        for (Menu menu : allMenus) {
-            // Category filter
-            if (selectedCategory != null && !selectedCategory.equals(menu.getCategoryName())) {
-                continue;
-            }
-
-            // Search filter
-            if (!searchText.isEmpty() && !menu.getName().toLowerCase().contains(searchText)) {
-                continue;
-            }
-
-            filtered.add(menu);
-        }
-
-        // Sort
-        if (sortOption != null) {
-            switch (sortOption) {
-                case "Nama A-Z":
-                    filtered.sort(Comparator.comparing(Menu::getName));
-                    break;
-                case "Nama Z-A":
-                    filtered.sort(Comparator.comparing(Menu::getName).reversed());
-                    break;
-                case "Harga Terendah":
-                    filtered.sort(Comparator.comparing(Menu::getPrice));
-                    break;
-                case "Harga Tertinggi":
-                    filtered.sort(Comparator.comparing(Menu::getPrice).reversed());
-                    break;
-            }
-        }
-
+        List<Menu> filtered = MenuFilter.filter(allMenus, selectedCategory,
+                searchField.getText(), sortCombo.getValue());
         displayMenus(filtered);
     }
 
@@ -274,6 +262,7 @@ public class NewOrderController implements Initializable {
      */
     private void displayMenus(List<Menu> menus) {
         menuGrid.getChildren().clear();
+        menuCards.clear();
 
         if (menus.isEmpty()) {
             VBox emptyState = new VBox(12);
@@ -281,9 +270,9 @@ public class NewOrderController implements Initializable {
             emptyState.setPadding(new Insets(48));
 
             Label icon = new Label("🔍");
-            icon.setStyle("-fx-font-size: 48px; -fx-opacity: 0.5;");
+            icon.getStyleClass().add("empty-message-icon");
             Label text = new Label("Tidak ada menu ditemukan");
-            text.setStyle("-fx-font-size: 16px; -fx-text-fill: #6b7280;");
+            text.getStyleClass().add("empty-message");
 
             emptyState.getChildren().addAll(icon, text);
             menuGrid.getChildren().add(emptyState);
@@ -292,10 +281,59 @@ public class NewOrderController implements Initializable {
 
         for (Menu menu : menus) {
             VBox card = createMenuCard(menu);
+            menuCards.put(menu.getId(), card);
             menuGrid.getChildren().add(card);
         }
     }
 
+    /**
+     * Apply a menu or stock change: reload only the changed menu, or
+     * redraw only its card when just the stock changed
+     */
+    private void handleInvalidation(Invalidation invalidation) {
+        if (allMenus == null) {
+            return;
+        }
+        if (invalidation.isAll()) {
+            loadMenus();
+        } else if (invalidation.getEntity() == Invalidation.MENU) {
+            reloadMenu(invalidation.getId());
+        } else if (invalidation.getEntity() == Invalidation.INVENTORY) {
+            redrawMenuCard(invalidation.getId());
+        }
+    }
+
+    private void reloadMenu(int menuId) {
+        Menu menu = menuDAO.findById(menuId);
+        allMenus.removeIf(m -> m.getId() == menuId);
+        if (menu != null && menu.isActive()) {
+            allMenus.add(menu);
+        }
+
+        CartItem cartItem = cartItems.get(menuId);
+        if (cartItem != null && menu != null) {
+            cartItem.menu = menu;
+            updateCartUI();
+        }
+        filterMenus();
+    }
+
+    private void redrawMenuCard(int menuId) {
+        VBox card = menuCards.get(menuId);
+        int index = card != null ? menuGrid.getChildren().indexOf(card) : -1;
+        if (index < 0) {
+            return;
+        }
+        for (Menu menu : allMenus) {
+            if (menu.getId() == menuId) {
+                VBox updated = createMenuCard(menu);
+                menuCards.put(menuId, updated);
+                menuGrid.getChildren().set(index, updated);
+                return;
+            }
+        }
+    }
+
     /**
      * Create a menu card
      */
@@ -315,21 +353,18 @@ public class NewOrderController implements Initializable {
         StackPane imagePlaceholder = new StackPane();
         imagePlaceholder.getStyleClass().add("menu-image-placeholder");
         Label foodIcon = new Label(getCategoryIcon(menu.getCategoryName()));
-        foodIcon.setStyle("-fx-font-size: 40px;");
         imagePlaceholder.getChildren().add(foodIcon);
 
         // Stock badge
         if (isOutOfStock) {
             Label outLabel = new Label("Habis");
-            outLabel.setStyle(
-                    "-fx-background-color: #ef4444; -fx-text-fill: white; -fx-padding: 4 8; -fx-background-radius: 4; -fx-font-size: 11px;");
+            outLabel.getStyleClass().addAll("menu-stock-badge", "menu-stock-badge-out");
             StackPane.setAlignment(outLabel, Pos.TOP_RIGHT);
             StackPane.setMargin(outLabel, new Insets(8));
             imagePlaceholder.getChildren().add(outLabel);
         } else if (stock <= 5) {
             Label lowLabel = new Label("Sisa " + stock);
-            lowLabel.setStyle(
-                    "-fx-background-color: #f97316; -fx-text-fill: white; -fx-padding: 4 8; -fx-background-radius: 4; -fx-font-size: 11px;");
+            lowLabel.getStyleClass().addAll("menu-stock-badge", "menu-stock-badge-low");
             StackPane.setAlignment(lowLabel, Pos.TOP_RIGHT);
             StackPane.setMargin(lowLabel, new Insets(8));
             imagePlaceholder.getChildren().add(lowLabel);
@@ -432,7 +467,7 @@ public class NewOrderController implements Initializable {
         HBox.setHgrow(nameLabel, Priority.ALWAYS);
 
         Button removeBtn = new Button("🗑️");
-        removeBtn.setStyle("-fx-background-color: transparent; -fx-cursor: hand;");
+        removeBtn.getStyleClass().add("cart-remove-btn");
         removeBtn.setOnAction(e -> {
             cartItems.remove(item.menu.getId());
             updateCartUI();
@@ -475,7 +510,7 @@ public class NewOrderController implements Initializable {
         Region spacer = new Region();
         HBox.setHgrow(spacer, Priority.ALWAYS);
 
-        Label subtotalLabel = new Label(CurrencyFormatter.format(item.getSubtotal()));
+        Label subtotalLabel = new Label(CurrencyFormatter.format(Money.of(item.getSubtotal())));
         subtotalLabel.getStyleClass().add("cart-item-subtotal");
 
         qtyRow.getChildren().addAll(minusBtn, qtyLabel, plusBtn, spacer, subtotalLabel);
@@ -483,7 +518,7 @@ public class NewOrderController implements Initializable {
         // Notes field
         TextField notesField = new TextField(item.notes);
         notesField.setPromptText("Catatan item...");
-        notesField.setStyle("-fx-font-size: 11px;");
+        notesField.getStyleClass().add("cart-notes-field");
         notesField.textProperty().addListener((obs, old, newVal) -> item.notes = newVal);
 
         container.getChildren().addAll(topRow, priceLabel, qtyRow, notesField);
@@ -497,17 +532,17 @@ public class NewOrderController implements Initializable {
      * Update totals
      */
     private void updateTotals() {
-        BigDecimal subtotal = BigDecimal.ZERO;
+        // Sum in rupiah; only the three labels get Money values
+        long subtotal = 0;
         for (CartItem item : cartItems.values()) {
-            subtotal = subtotal.add(item.getSubtotal());
+            subtotal += item.getSubtotal();
         }
 
-        BigDecimal tax = subtotal.multiply(BigDecimal.valueOf(0.10));
-        BigDecimal total = subtotal.add(tax);
+        long total = OrderService.calculateTotal(subtotal);
 
-        subtotalLabel.setText(CurrencyFormatter.format(subtotal));
-        taxLabel.setText(CurrencyFormatter.format(tax));
-        totalLabel.setText(CurrencyFormatter.format(total));
+        subtotalLabel.setText(CurrencyFormatter.format(Money.of(subtotal)));
+        taxLabel.setText(CurrencyFormatter.format(Money.of(total - subtotal)));
+        totalLabel.setText(CurrencyFormatter.format(Money.of(total)));
 
         // Enable/disable submit button
         submitButton.setDisable(cartItems.isEmpty());
@@ -564,61 +599,30 @@ public class NewOrderController implements Initializable {
         try {
             User currentUser = SessionManager.getInstance().getCurrentUser();
 
-            // Calculate totals
-            BigDecimal subtotal = BigDecimal.ZERO;
-            for (CartItem item : cartItems.values()) {
-                subtotal = subtotal.add(item.getSubtotal());
-            }
-            BigDecimal tax = subtotal.multiply(BigDecimal.valueOf(0.10));
-            BigDecimal total = subtotal.add(tax);
-
             // Create or update order
             Order order;
             if (existingOrder != null) {
                 order = existingOrder;
-                order.setTotalAmount(total);
-                // Notes stored in first order item if needed
-                orderDAO.update(order);
             } else {
                 order = new Order();
-                order.setTableId(currentTable.getId());
                 order.setUserId(currentUser.getId());
                 order.setCustomerName(customerName);
                 order.setOrderType(dineInToggle.isSelected() ? Order.TYPE_DINE_IN : Order.TYPE_TAKE_AWAY);
-                order.setStatus(Order.STATUS_PENDING);
-                order.setTotalAmount(total);
-
-                int orderId = orderDAO.insert(order);
-                order.setId(orderId);
-
-                // Update table status
-                currentTable.setStatus(Table.STATUS_OCCUPIED);
-                tableDAO.update(currentTable);
-            }
-
-            // Insert/update order items
-            if (existingOrder != null) {
-                // Delete old items first
-                orderItemDAO.deleteByOrderId(order.getId());
             }
 
+            List<OrderItem> items = new ArrayList<>();
             for (CartItem item : cartItems.values()) {
                 OrderItem orderItem = new OrderItem();
-                orderItem.setOrderId(order.getId());
-                orderItem.setMenuId(item.menu.getId());
+                orderItem.setMenu(item.menu);
                 orderItem.setQuantity(item.quantity);
                 orderItem.setPrice(item.menu.getPrice());
                 orderItem.setNotes(item.notes);
-                orderItem.setStatus(OrderItem.STATUS_PENDING);
-
-                orderItemDAO.insert(orderItem);
+                items.add(orderItem);
+            }
 
-                // Update inventory stock
-                Inventory inv = inventoryDAO.findByMenuId(item.menu.getId());
-                if (inv != null) {
-                    int newStock = Math.max(0, inv.getRemainingStock() - item.quantity);
-                    inventoryDAO.updateStock(inv.getId(), newStock);
-                }
+            // Order row, table, and per item: insert, stock lookup and update
+            try (QueryScope scope = QueryScope.open("submit order", 4 + 3 * items.size())) {
+                orderService.submitOrder(order, currentTable, items);
             }
 
             AlertUtil.showInfo("Sukses", "Pesanan berhasil dikirim!\nOrder #" + order.getId());
@@ -649,8 +653,8 @@ public class NewOrderController implements Initializable {
             this.notes = notes;
         }
 
-        BigDecimal getSubtotal() {
-            return menu.getPrice().multiply(BigDecimal.valueOf(quantity));
+        long getSubtotal() {
+            return menu.getPrice().getRupiah() * quantity;
         }
     }
 }
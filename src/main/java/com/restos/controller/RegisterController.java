@@ -1,9 +1,10 @@
 package com.restos.controller;
 
 import com.restos.App;
+import com.restos.dao.DAOFactory;
 import com.restos.dao.UserDAO;
-import com.restos.dao.UserDAOImpl;
 import com.restos.model.User;
+import com.restos.service.PasswordHashingService;
 import com.restos.util.UIFeedback;
 import com.restos.util.ValidationUtil;
 
@@ -16,8 +17,6 @@ import javafx.scene.control.*;
 import javafx.scene.input.KeyCode;
 
 import java.net.URL;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.ResourceBundle;
 
 /**
@@ -66,7 +65,7 @@ public class RegisterController implements Initializable {
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        userDAO = new UserDAOImpl();
+        userDAO = DAOFactory.getUserDAO();
 
         // Setup role combobox
         setupRoleComboBox();
@@ -221,7 +220,7 @@ public class RegisterController implements Initializable {
                 newUser.setEmail(ValidationUtil.isEmpty(email) ? null : email);
                 newUser.setPhone(ValidationUtil.isEmpty(phone) ? null : phone);
                 newUser.setRole(role.toLowerCase());
-                newUser.setPasswordHash(password); // Store plain text password
+                newUser.setPasswordHash(PasswordHashingService.getInstance().hash(password));
                 newUser.setActive(true);
 
                 // Insert user and return success status
@@ -270,27 +269,6 @@ public class RegisterController implements Initializable {
         App.switchScene("/fxml/login.fxml", "Login");
     }
 
-    /**
-     * Hash password using SHA-256
-     */
-    private String hashPassword(String password) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] hash = md.digest(password.getBytes());
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1)
-                    hexString.append('0');
-                hexString.append(hex);
-            }
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            // Fallback to plain text if hashing fails
-            return password;
-        }
-    }
-
     /**
      * Clear all form fields
      */
@@ -310,7 +288,8 @@ public class RegisterController implements Initializable {
     private void showError(String message) {
         Platform.runLater(() -> {
             messageLabel.setText(message);
-            messageLabel.setStyle("-fx-text-fill: #ef4444;");
+            messageLabel.getStyleClass().removeAll("login-error", "login-success");
+            messageLabel.getStyleClass().add("login-error");
             messageLabel.setVisible(true);
             messageLabel.setManaged(true);
         });
@@ -322,7 +301,8 @@ public class RegisterController implements Initializable {
     private void showSuccess(String message) {
         Platform.runLater(() -> {
             messageLabel.setText(message);
-            messageLabel.setStyle("-fx-text-fill: #22c55e;");
+            messageLabel.getStyleClass().removeAll("login-error", "login-success");
+            messageLabel.getStyleClass().add("login-success");
             messageLabel.setVisible(true);
             messageLabel.setManaged(true);
         });
@@ -0,0 +1,338 @@
+package com.restos.controller;
+
+import com.restos.dao.ReportDAO.Report;
+import com.restos.model.SalesSummary;
+import com.restos.model.SalesSummary.MenuSales;
+import com.restos.service.FederatedReportService;
+import com.restos.service.FederatedReportService.BranchResult;
+import com.restos.service.FederatedReportService.FederatedReport;
+import com.restos.service.ReportExporter;
+import com.restos.service.ReportExporter.Format;
+import com.restos.util.AlertUtil;
+import com.restos.util.CurrencyFormatter;
+import com.restos.util.ViewLifecycle;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.concurrent.Task;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.control.*;
+import javafx.scene.control.TableColumn.CellDataFeatures;
+import javafx.stage.FileChooser;
+import javafx.util.Callback;
+import javafx.util.StringConverter;
+
+import java.io.File;
+import java.net.URL;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Controller for the Reports Page
+ * Exports payments, orders or order items over a date range to CSV or
+ * PDF in the background, with progress and cancellation, and summarizes
+ * the sales of all branches over the same range
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class ReportsController implements Initializable, ViewLifecycle {
+
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    @FXML
+    private ComboBox<Report> reportCombo;
+    @FXML
+    private ComboBox<Format> formatCombo;
+    @FXML
+    private DatePicker startDatePicker;
+    @FXML
+    private DatePicker endDatePicker;
+    @FXML
+    private Button exportButton;
+    @FXML
+    private Button cancelButton;
+    @FXML
+    private ProgressBar progressBar;
+    @FXML
+    private Label statusLabel;
+
+    @FXML
+    private Button summaryButton;
+    @FXML
+    private TableView<BranchResult> branchTable;
+    @FXML
+    private TableColumn<BranchResult, String> colBranch;
+    @FXML
+    private TableColumn<BranchResult, String> colBranchStatus;
+    @FXML
+    private TableColumn<BranchResult, String> colBranchOrders;
+    @FXML
+    private TableColumn<BranchResult, String> colBranchCompleted;
+    @FXML
+    private TableColumn<BranchResult, String> colBranchRevenue;
+    @FXML
+    private TableColumn<BranchResult, String> colBranchTime;
+    @FXML
+    private Label branchTotalLabel;
+    @FXML
+    private Label bestSellerLabel;
+
+    // Export in progress, or null
+    private ExportTask exportTask;
+
+    @Override
+    public void initialize(URL location, ResourceBundle resources) {
+        reportCombo.getItems().setAll(Report.values());
+        reportCombo.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(Report report) {
+                return report != null ? report.getTitle() : "";
+            }
+
+            @Override
+            public Report fromString(String string) {
+                return null;
+            }
+        });
+        reportCombo.getSelectionModel().selectFirst();
+
+        formatCombo.getItems().setAll(Format.values());
+        formatCombo.getSelectionModel().selectFirst();
+
+        setupBranchTable();
+        handleThisMonth();
+    }
+
+    private void setupBranchTable() {
+        colBranch.setCellValueFactory(data -> new SimpleStringProperty(data.getValue().getBranch().getName()));
+        colBranchStatus.setCellValueFactory(data -> new SimpleStringProperty(statusText(data.getValue())));
+        colBranchOrders.setCellValueFactory(summaryCell(summary -> String.format("%,d", summary.getOrderCount())));
+        colBranchCompleted.setCellValueFactory(
+                summaryCell(summary -> String.format("%,d", summary.getCompletedOrders())));
+        colBranchRevenue.setCellValueFactory(summaryCell(summary -> CurrencyFormatter.format(summary.getRevenue())));
+        colBranchTime.setCellValueFactory(data -> new SimpleStringProperty(
+                data.getValue().getElapsedMillis() >= 0 ? data.getValue().getElapsedMillis() + " ms" : "-"));
+    }
+
+    /**
+     * Cell value of a summary column; "-" for a branch that did not answer
+     */
+    private static Callback<CellDataFeatures<BranchResult, String>, ObservableValue<String>> summaryCell(
+            Function<SalesSummary, String> text) {
+        return data -> {
+            SalesSummary summary = data.getValue().getSummary();
+            return new SimpleStringProperty(summary != null ? text.apply(summary) : "-");
+        };
+    }
+
+    private static String statusText(BranchResult result) {
+        switch (result.getStatus()) {
+            case OK:
+                return "✓ OK";
+            case TIMEOUT:
+                return "⏱ " + result.getError();
+            default:
+                return "✖ Gagal: " + result.getError();
+        }
+    }
+
+    @Override
+    public void onActivate() {
+        // Nothing to load; an export keeps running while the page is hidden
+        // and its progress is still here when the admin comes back
+    }
+
+    // ==================== ACTION HANDLERS ====================
+
+    @FXML
+    private void handleToday() {
+        LocalDate today = LocalDate.now();
+        startDatePicker.setValue(today);
+        endDatePicker.setValue(today);
+    }
+
+    @FXML
+    private void handleThisMonth() {
+        LocalDate today = LocalDate.now();
+        startDatePicker.setValue(today.withDayOfMonth(1));
+        endDatePicker.setValue(today);
+    }
+
+    @FXML
+    private void handleExport() {
+        Report report = reportCombo.getValue();
+        Format format = formatCombo.getValue();
+        LocalDate startDate = startDatePicker.getValue();
+        LocalDate endDate = endDatePicker.getValue();
+
+        if (report == null || format == null || startDate == null || endDate == null) {
+            AlertUtil.showWarning("Peringatan", "Pilih laporan, format dan rentang tanggal");
+            return;
+        }
+        if (startDate.isAfter(endDate)) {
+            AlertUtil.showWarning("Peringatan", "Tanggal awal tidak boleh setelah tanggal akhir");
+            return;
+        }
+
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Export " + report.getTitle());
+        fileChooser.setInitialFileName("laporan-" + report.name().toLowerCase(Locale.ROOT).replace('_', '-')
+                + "-" + startDate.format(FILE_DATE) + "-" + endDate.format(FILE_DATE) + "." + format.getExtension());
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter(
+                format.name() + " Files", "*." + format.getExtension()));
+
+        File file = fileChooser.showSaveDialog(exportButton.getScene().getWindow());
+        if (file != null) {
+            startExport(report, format, startDate, endDate, file);
+        }
+    }
+
+    @FXML
+    private void handleCancel() {
+        if (exportTask != null) {
+            // No interrupt: it would close the file channel mid-write
+            exportTask.cancel(false);
+        }
+    }
+
+    @FXML
+    private void handleBranchSummary() {
+        LocalDate startDate = startDatePicker.getValue();
+        LocalDate endDate = endDatePicker.getValue();
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            AlertUtil.showWarning("Peringatan", "Pilih rentang tanggal yang valid");
+            return;
+        }
+
+        Task<FederatedReport> task = new Task<>() {
+            @Override
+            protected FederatedReport call() {
+                return FederatedReportService.getInstance().summarize(startDate, endDate);
+            }
+        };
+        task.setOnSucceeded(event -> {
+            summaryButton.setDisable(false);
+            showBranchSummary(task.getValue());
+        });
+        task.setOnFailed(event -> {
+            summaryButton.setDisable(false);
+            System.err.println("Error summarizing branches: " + task.getException().getMessage());
+            branchTotalLabel.setText("Ringkasan gagal: " + task.getException().getMessage());
+        });
+
+        summaryButton.setDisable(true);
+        branchTotalLabel.setText("Menghitung ringkasan...");
+        bestSellerLabel.setText("");
+
+        Thread thread = new Thread(task, "branch-summary");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void showBranchSummary(FederatedReport report) {
+        branchTable.getItems().setAll(report.getResults());
+
+        SalesSummary total = report.getTotal();
+        String text = String.format("Total: %,d pesanan, %,d selesai, pendapatan %s",
+                total.getOrderCount(), total.getCompletedOrders(), CurrencyFormatter.format(total.getRevenue()));
+        if (!report.isComplete()) {
+            text += " — belum termasuk " + report.getMissingBranches().stream()
+                    .map(Object::toString).collect(Collectors.joining(", "));
+        }
+        branchTotalLabel.setText(text);
+
+        List<MenuSales> bestSellers = total.getBestSellers(5);
+        bestSellerLabel.setText(bestSellers.isEmpty() ? "Belum ada menu terjual"
+                : "Terlaris: " + bestSellers.stream()
+                        .map(sales -> sales.getName() + " (" + sales.getQuantity() + ")")
+                        .collect(Collectors.joining(", ")));
+    }
+
+    /**
+     * Run the export on a background thread
+     */
+    private void startExport(Report report, Format format, LocalDate startDate, LocalDate endDate, File file) {
+        ExportTask task = new ExportTask(report, format, startDate, endDate, file);
+
+        task.setOnSucceeded(event -> {
+            finishExport();
+            statusLabel.setText(String.format("Selesai: %,d baris disimpan ke %s", task.getValue(), file.getName()));
+        });
+
+        task.setOnCancelled(event -> {
+            finishExport();
+            statusLabel.setText("Export dibatalkan");
+        });
+
+        task.setOnFailed(event -> {
+            finishExport();
+            Throwable exception = task.getException();
+            System.err.println("Error exporting report: " + exception.getMessage());
+            statusLabel.setText("Export gagal");
+            AlertUtil.showError("Error", "Gagal export laporan: " + exception.getMessage());
+        });
+
+        exportTask = task;
+        progressBar.progressProperty().bind(task.progressProperty());
+        statusLabel.textProperty().bind(task.messageProperty());
+        progressBar.setVisible(true);
+        exportButton.setDisable(true);
+        cancelButton.setDisable(false);
+
+        Thread thread = new Thread(task, "report-export");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void finishExport() {
+        progressBar.progressProperty().unbind();
+        statusLabel.textProperty().unbind();
+        progressBar.setVisible(false);
+        exportButton.setDisable(false);
+        cancelButton.setDisable(true);
+        exportTask = null;
+    }
+
+    /**
+     * Export task; the task itself is the exporter's listener, so its
+     * cancel() stops the export
+     */
+    private static final class ExportTask extends Task<Integer> implements ReportExporter.Listener {
+        private final Report report;
+        private final Format format;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final File file;
+
+        ExportTask(Report report, Format format, LocalDate startDate, LocalDate endDate, File file) {
+            this.report = report;
+            this.format = format;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.file = file;
+        }
+
+        @Override
+        protected Integer call() throws Exception {
+            return ReportExporter.getInstance().export(report, format, startDate, endDate, file.toPath(), this);
+        }
+
+        @Override
+        public void progress(int done, int total) {
+            if (total > 0) {
+                updateProgress(done, total);
+                updateMessage(String.format("%,d / %,d baris", done, total));
+            } else {
+                updateProgress(-1, 1);
+                updateMessage(String.format("%,d baris", done));
+            }
+        }
+    }
+}
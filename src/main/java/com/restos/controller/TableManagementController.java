@@ -1,9 +1,10 @@
 package com.restos.controller;
 
+import com.restos.dao.DAOFactory;
 import com.restos.dao.TableDAO;
-import com.restos.dao.TableDAOImpl;
 import com.restos.model.Table;
 import com.restos.util.AlertUtil;
+import com.restos.util.ViewLifecycle;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -26,7 +27,7 @@ import java.util.ResourceBundle;
  * @author Restos Team
  * @version 1.0.0
  */
-public class TableManagementController implements Initializable {
+public class TableManagementController implements Initializable, ViewLifecycle {
 
     @FXML
     private TextField searchField;
@@ -49,9 +50,13 @@ public class TableManagementController implements Initializable {
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        tableDAO = new TableDAOImpl();
+        tableDAO = DAOFactory.getTableDAO();
 
         setupStatusFilter();
+    }
+
+    @Override
+    public void onActivate() {
         loadTableData();
     }
 
@@ -90,7 +95,7 @@ public class TableManagementController implements Initializable {
             emptyState.setPadding(new Insets(40));
 
             Label icon = new Label("🪑");
-            icon.setStyle("-fx-font-size: 48px;");
+            icon.getStyleClass().add("table-tile-empty-icon");
             Label text = new Label("Belum ada meja");
             text.getStyleClass().add("text-secondary");
             Button addBtn = new Button("Tambah Meja Pertama");
@@ -117,43 +122,43 @@ public class TableManagementController implements Initializable {
         card.setPrefHeight(160);
         card.setAlignment(Pos.CENTER);
         card.setPadding(new Insets(16));
-        card.getStyleClass().add("card");
+        card.getStyleClass().addAll("card", "table-tile");
 
         // Set border color based on status
-        String borderColor;
+        String borderStyle;
         String statusText;
         String statusStyle;
 
         switch (table.getStatus()) {
             case Table.STATUS_OCCUPIED:
-                borderColor = "#ef4444";
+                borderStyle = "table-tile-occupied";
                 statusText = "Terisi";
                 statusStyle = "status-cancelled";
                 break;
             case Table.STATUS_RESERVED:
-                borderColor = "#f97316";
+                borderStyle = "table-tile-reserved";
                 statusText = "Dipesan";
                 statusStyle = "status-pending";
                 break;
             default:
-                borderColor = "#22c55e";
+                borderStyle = "table-tile-available";
                 statusText = "Tersedia";
                 statusStyle = "status-completed";
         }
 
-        card.setStyle("-fx-border-color: " + borderColor + "; -fx-border-width: 2px; -fx-border-radius: 12px;");
+        card.getStyleClass().add(borderStyle);
 
         // Table icon
         Label icon = new Label("🪑");
-        icon.setStyle("-fx-font-size: 32px;");
+        icon.getStyleClass().add("table-tile-icon");
 
         // Table number
         Label numberLabel = new Label(table.getTableNumber());
-        numberLabel.setStyle("-fx-font-size: 18px; -fx-font-weight: bold; -fx-text-fill: #111827;");
+        numberLabel.getStyleClass().add("table-tile-number");
 
         // Capacity
         Label capacityLabel = new Label("👥 " + table.getCapacity() + " orang");
-        capacityLabel.setStyle("-fx-font-size: 12px; -fx-text-fill: #6b7280;");
+        capacityLabel.getStyleClass().add("table-tile-capacity");
 
         // Status badge
         Label statusLabel = new Label(statusText);
@@ -1,12 +1,14 @@
 package com.restos.controller;
 
+import com.restos.dao.DAOFactory;
 import com.restos.dao.UserDAO;
-import com.restos.dao.UserDAOImpl;
 import com.restos.model.User;
 import com.restos.service.AuthService;
 import com.restos.util.AlertUtil;
 import com.restos.util.SessionManager;
+import com.restos.util.ViewLifecycle;
 
+import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +22,7 @@ import java.net.URL;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.ResourceBundle;
 
 /**
@@ -29,7 +32,7 @@ import java.util.ResourceBundle;
  * @author Restos Team
  * @version 1.0.0
  */
-public class UserManagementController implements Initializable {
+public class UserManagementController implements Initializable, ViewLifecycle {
 
     @FXML
     private TextField searchField;
@@ -81,12 +84,16 @@ public class UserManagementController implements Initializable {
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        userDAO = new UserDAOImpl();
+        userDAO = DAOFactory.getUserDAO();
         authService = new AuthService();
         userList = FXCollections.observableArrayList();
 
         setupFilters();
         setupTableColumns();
+    }
+
+    @Override
+    public void onActivate() {
         loadUserData();
     }
 
@@ -371,11 +378,15 @@ public class UserManagementController implements Initializable {
                 return;
             }
 
-            if (authService.resetPassword(user.getId(), newPassword)) {
-                AlertUtil.showInfo("Sukses", "Password berhasil direset");
-            } else {
-                AlertUtil.showError("Error", "Gagal mereset password");
-            }
+            // Hashing takes a few hundred ms; keep the FX thread free
+            authService.resetPasswordAsync(user.getId(), newPassword)
+                    .whenComplete((reset, error) -> Platform.runLater(() -> {
+                        if (error == null && reset) {
+                            AlertUtil.showInfo("Sukses", "Password berhasil direset");
+                        } else {
+                            AlertUtil.showError("Error", "Gagal mereset password");
+                        }
+                    }));
         });
     }
 
@@ -508,36 +519,43 @@ public class UserManagementController implements Initializable {
                 return;
             }
 
-            boolean success;
+            // Password hashing runs on the hashing pool, results come back on the FX thread
+            CompletableFuture<Boolean> saved;
             if (existingUser == null) {
                 // New user - register via AuthService to hash password
-                int id = authService.register(
+                saved = authService.registerAsync(
                         user.getName(),
                         user.getEmail(),
                         user.getPassword(),
                         user.getPhone(),
-                        user.getRole());
-                success = id > 0;
-
-                if (success && !user.getIsActive()) {
-                    userDAO.setActive(id, false);
-                }
+                        user.getRole())
+                        .thenApply(id -> {
+                            if (id > 0 && !user.getIsActive()) {
+                                userDAO.setActive(id, false);
+                            }
+                            return id > 0;
+                        });
             } else {
                 // Update existing user
-                success = userDAO.update(user);
+                boolean updated = userDAO.update(user);
 
                 // If password was changed
-                if (success && user.getPassword() != null && !user.getPassword().isEmpty()) {
-                    authService.resetPassword(user.getId(), user.getPassword());
+                if (updated && user.getPassword() != null && !user.getPassword().isEmpty()) {
+                    saved = authService.resetPasswordAsync(user.getId(), user.getPassword());
+                } else {
+                    saved = CompletableFuture.completedFuture(updated);
                 }
             }
 
-            if (success) {
-                AlertUtil.showInfo("Sukses", "User berhasil " + (existingUser == null ? "ditambahkan" : "diperbarui"));
-                loadUserData();
-            } else {
-                AlertUtil.showError("Error", "Gagal menyimpan user");
-            }
+            saved.whenComplete((success, error) -> Platform.runLater(() -> {
+                if (error == null && success) {
+                    AlertUtil.showInfo("Sukses",
+                            "User berhasil " + (existingUser == null ? "ditambahkan" : "diperbarui"));
+                    loadUserData();
+                } else {
+                    AlertUtil.showError("Error", "Gagal menyimpan user");
+                }
+            }));
         });
     }
 }
@@ -5,10 +5,14 @@ import com.restos.dao.*;
 import com.restos.model.Order;
 import com.restos.model.Table;
 import com.restos.model.User;
+import com.restos.service.DashboardPrefetch;
+import com.restos.service.DashboardPrefetch.WaiterSnapshot;
 import com.restos.util.AlertUtil;
 import com.restos.util.DateTimeUtil;
 import com.restos.util.SessionManager;
 import com.restos.util.UIFeedback;
+import com.restos.util.WarmupSample;
+import com.restos.util.ViewLifecycle;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
@@ -36,7 +40,7 @@ import java.util.ResourceBundle;
  * @author Restos Team
  * @version 1.0.0
  */
-public class WaiterDashboardController implements Initializable {
+public class WaiterDashboardController implements Initializable, ViewLifecycle {
 
     // Navigation Buttons
     @FXML
@@ -81,7 +85,6 @@ public class WaiterDashboardController implements Initializable {
     private Label reservedTablesLabel;
 
     // DAOs
-    private TableDAO tableDAO;
     private OrderDAO orderDAO;
 
     // Auto-refresh timeline
@@ -92,18 +95,37 @@ public class WaiterDashboardController implements Initializable {
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        tableDAO = new TableDAOImpl();
-        orderDAO = new OrderDAOImpl();
+        orderDAO = DAOFactory.getOrderDAO();
 
         navButtons = new Button[] { navTables, navOrders, navHistory };
 
-        setupUserInfo();
-        loadTableGrid();
         setupAutoRefresh();
-        updateDateTime();
         setupKeyboardShortcuts();
     }
 
+    @Override
+    public void onActivate() {
+        setupUserInfo();
+        showTables(DashboardPrefetch.take(WaiterSnapshot.class));
+        updateDateTime();
+        refreshTimeline.play();
+    }
+
+    @Override
+    public void onDeactivate() {
+        refreshTimeline.stop();
+    }
+
+    @Override
+    public void warmUp(WarmupSample sample) {
+        for (Table table : sample.getTables()) {
+            createTableCard(table);
+        }
+        for (Order order : sample.getOrders()) {
+            createOrderCard(order);
+        }
+    }
+
     /**
      * Setup keyboard shortcuts
      */
@@ -137,9 +159,14 @@ public class WaiterDashboardController implements Initializable {
      * Load table grid with all tables
      */
     private void loadTableGrid() {
-        tableGrid.getChildren().clear();
+        showTableGrid(WaiterSnapshot.load().getTables());
+    }
 
-        List<Table> tables = tableDAO.findAll();
+    /**
+     * Show table cards and stats
+     */
+    private void showTableGrid(List<Table> tables) {
+        tableGrid.getChildren().clear();
 
         // Update stats
         int total = tables.size();
@@ -160,7 +187,7 @@ public class WaiterDashboardController implements Initializable {
 
         if (tables.isEmpty()) {
             Label emptyLabel = new Label("Belum ada meja tersedia");
-            emptyLabel.setStyle("-fx-font-size: 16px; -fx-text-fill: #6b7280;");
+            emptyLabel.getStyleClass().add("empty-message");
             tableGrid.getChildren().add(emptyLabel);
         }
     }
@@ -333,7 +360,6 @@ public class WaiterDashboardController implements Initializable {
             updateDateTime();
         }));
         refreshTimeline.setCycleCount(Timeline.INDEFINITE);
-        refreshTimeline.play();
     }
 
     /**
@@ -367,6 +393,14 @@ public class WaiterDashboardController implements Initializable {
 
     @FXML
     private void showTables() {
+        showTables(null);
+    }
+
+    /**
+     * Show the table grid page
+     * @param snapshot Prefetched table grid, or null to load it now
+     */
+    private void showTables(WaiterSnapshot snapshot) {
         setActiveNavButton(navTables);
         pageTitle.setText("Pilih Meja");
         pageSubtitle.setText("Klik meja untuk membuat pesanan baru");
@@ -374,7 +408,11 @@ public class WaiterDashboardController implements Initializable {
         contentArea.getChildren().clear();
         contentArea.getChildren().add(tableGridContent);
 
-        loadTableGrid();
+        if (snapshot != null) {
+            showTableGrid(snapshot.getTables());
+        } else {
+            loadTableGrid();
+        }
     }
 
     @FXML
@@ -408,7 +446,7 @@ public class WaiterDashboardController implements Initializable {
 
         ScrollPane scrollPane = new ScrollPane(ordersContent);
         scrollPane.setFitToWidth(true);
-        scrollPane.setStyle("-fx-background-color: transparent;");
+        scrollPane.getStyleClass().add("table-scroll");
 
         contentArea.getChildren().clear();
         contentArea.getChildren().add(scrollPane);
@@ -422,16 +460,15 @@ public class WaiterDashboardController implements Initializable {
         card.setAlignment(Pos.CENTER_LEFT);
         card.getStyleClass().add("order-card");
         card.setPadding(new Insets(16));
-        card.setStyle("-fx-background-color: white; -fx-background-radius: 12px;");
 
         VBox info = new VBox(4);
         Label idLabel = new Label("Order #" + order.getId());
-        idLabel.setStyle("-fx-font-weight: bold; -fx-font-size: 16px;");
+        idLabel.getStyleClass().add("order-id");
 
         String tableInfo = order.getTable() != null ? "Meja " + order.getTable().getTableNumber()
                 : order.getOrderType();
         Label tableLabel = new Label(tableInfo + " • " + order.getCustomerName());
-        tableLabel.setStyle("-fx-text-fill: #6b7280;");
+        tableLabel.getStyleClass().add("order-table");
 
         info.getChildren().addAll(idLabel, tableLabel);
 
@@ -486,11 +523,14 @@ public class WaiterDashboardController implements Initializable {
     }
 
     @FXML
-    private void handleLogout() {
-        if (refreshTimeline != null) {
-            refreshTimeline.stop();
-        }
+    private void handleSwitchUser() {
+        // Keep this session (and its views) open for a PIN switch back
+        SessionManager.getInstance().suspend();
+        App.switchScene("/fxml/login.fxml", "Login - Restos POS");
+    }
 
+    @FXML
+    private void handleLogout() {
         boolean confirm = AlertUtil.showConfirmation("Konfirmasi Logout",
                 "Apakah Anda yakin ingin keluar?");
 
@@ -0,0 +1,57 @@
+package com.restos.dao;
+
+import com.restos.model.Order;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Data Access Object interface for archived orders
+ * Finished orders are moved out of the live tables into monthly archive
+ * tables; the other DAOs only see the live set.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public interface ArchiveDAO {
+
+    /**
+     * Find the months that have archive tables
+     *
+     * @return Archived months, oldest first
+     */
+    @ReadMostly
+    List<YearMonth> findArchivedMonths();
+
+    /**
+     * Find archived orders by date range
+     * Only the archive tables of months in the range are read.
+     *
+     * @param startDate Start date
+     * @param endDate   End date
+     * @return List of archived orders in date range, newest first
+     */
+    @ReadMostly
+    List<Order> findByDateRange(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Find an archived order by ID with items loaded
+     *
+     * @param id Order ID
+     * @return Order with items or null if it is not archived
+     */
+    @ReadMostly
+    Order findByIdWithItems(int id);
+
+    /**
+     * Move a batch of completed and cancelled orders, with their items
+     * and payments, into the archive tables of their month
+     *
+     * @param before Orders created before this time are moved
+     * @param limit  Largest number of orders to move
+     * @return Number of orders moved (0 when none are left) or -1 if failed
+     */
+    @Write
+    int archiveBatch(LocalDateTime before, int limit);
+}
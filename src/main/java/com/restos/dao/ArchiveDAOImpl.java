@@ -0,0 +1,222 @@
+package com.restos.dao;
+
+import com.restos.config.DatabaseConfig;
+import com.restos.model.Order;
+import com.restos.model.OrderItem;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of ArchiveDAO interface
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class ArchiveDAOImpl implements ArchiveDAO {
+
+    private static final String ORDER_COLUMNS = "o.id, o.table_id, o.user_id, o.customer_name, " +
+            "o.order_type, o.status, o.total_amount, o.created_at, o.updated_at, " +
+            "t.table_number, t.capacity, t.status as table_status, " +
+            "u.username, u.full_name ";
+    // %1$s is the archive suffix of the month
+    private static final String ORDERS_FROM = "FROM orders%1$s o " +
+            "LEFT JOIN tables t ON o.table_id = t.id " +
+            "LEFT JOIN users u ON o.user_id = u.id ";
+    private static final String ORDERS_SELECT = "SELECT " + ORDER_COLUMNS + ORDERS_FROM;
+    // %2$d is the month's position in the list of archived months
+    private static final String ORDER_BY_ID = "SELECT %2$d AS archive_month, " + ORDER_COLUMNS + ORDERS_FROM +
+            "WHERE o.id = ?";
+    private static final String ITEMS_SELECT = "SELECT oi.id, oi.order_id, oi.menu_id, oi.quantity, oi.price, " +
+            "oi.subtotal, oi.notes, oi.status, oi.created_at, " +
+            "m.name as menu_name, m.description as menu_description, m.price as menu_price, " +
+            "m.image_url, m.is_available " +
+            "FROM order_items%1$s oi " +
+            "LEFT JOIN menus m ON oi.menu_id = m.id " +
+            "WHERE oi.order_id = ? " +
+            "ORDER BY oi.created_at ASC";
+
+    private final DatabaseConfig dbConfig;
+    // Archived rows have the columns of the live ones
+    private final OrderDAOImpl orderMapper;
+    private final OrderItemDAOImpl itemMapper;
+
+    public ArchiveDAOImpl() {
+        this.dbConfig = DatabaseConfig.getInstance();
+        this.orderMapper = new OrderDAOImpl();
+        this.itemMapper = new OrderItemDAOImpl();
+    }
+
+    @Override
+    public List<YearMonth> findArchivedMonths() {
+        try (Connection conn = dbConfig.getConnection()) {
+            return ArchiveTables.months(conn);
+        } catch (SQLException e) {
+            System.err.println("Error finding archived months: " + e.getMessage());
+        }
+
+        return new ArrayList<>();
+    }
+
+    @Override
+    public List<Order> findByDateRange(LocalDate startDate, LocalDate endDate) {
+        List<Order> orders = new ArrayList<>();
+        String sql = ORDERS_SELECT + "WHERE o.created_at >= ? AND o.created_at < ? ORDER BY o.created_at DESC";
+
+        try (Connection conn = dbConfig.getConnection()) {
+            List<YearMonth> months = ArchiveTables.months(conn, startDate, endDate);
+            // Newest month first, like the order within a month
+            Collections.reverse(months);
+            for (YearMonth month : months) {
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        String.format(sql, ArchiveTables.suffix(month)))) {
+
+                    stmt.setTimestamp(1, Timestamp.valueOf(startDate.atStartOfDay()));
+                    stmt.setTimestamp(2, Timestamp.valueOf(endDate.plusDays(1).atStartOfDay()));
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            orders.add(orderMapper.mapResultSetToOrder(rs));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error finding archived orders by date range: " + e.getMessage());
+        }
+
+        return orders;
+    }
+
+    @Override
+    public Order findByIdWithItems(int id) {
+        try (Connection conn = dbConfig.getConnection()) {
+            List<YearMonth> months = ArchiveTables.months(conn);
+            if (months.isEmpty()) {
+                return null;
+            }
+
+            // One statement over every archived month; the order is in at most one of them
+            StringBuilder sql = new StringBuilder();
+            for (int i = 0; i < months.size(); i++) {
+                if (i > 0) {
+                    sql.append(" UNION ALL ");
+                }
+                sql.append(String.format(ORDER_BY_ID, ArchiveTables.suffix(months.get(i)), i));
+            }
+
+            Order order = null;
+            YearMonth month = null;
+            try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+                for (int i = 0; i < months.size(); i++) {
+                    stmt.setInt(i + 1, id);
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        month = months.get(rs.getInt("archive_month"));
+                        order = orderMapper.mapResultSetToOrder(rs);
+                    }
+                }
+            }
+            if (order == null) {
+                return null;
+            }
+
+            List<OrderItem> items = new ArrayList<>();
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    String.format(ITEMS_SELECT, ArchiveTables.suffix(month)))) {
+                stmt.setInt(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        items.add(itemMapper.mapResultSetToOrderItem(rs));
+                    }
+                }
+            }
+            order.setOrderItems(items);
+            return order;
+
+        } catch (SQLException e) {
+            System.err.println("Error finding archived order by ID: " + e.getMessage());
+        }
+
+        return null;
+    }
+
+    @Override
+    public int archiveBatch(LocalDateTime before, int limit) {
+        String sql = "SELECT id, created_at FROM orders " +
+                "WHERE status IN (?, ?) AND created_at < ? ORDER BY created_at LIMIT ?";
+
+        try (Connection conn = dbConfig.getConnection()) {
+            Map<YearMonth, List<Integer>> batch = new LinkedHashMap<>();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, Order.STATUS_COMPLETED);
+                stmt.setString(2, Order.STATUS_CANCELLED);
+                stmt.setTimestamp(3, Timestamp.valueOf(before));
+                stmt.setInt(4, limit);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        YearMonth month = YearMonth.from(rs.getTimestamp(2).toLocalDateTime());
+                        batch.computeIfAbsent(month, m -> new ArrayList<>()).add(rs.getInt(1));
+                    }
+                }
+            }
+
+            int moved = 0;
+            for (Map.Entry<YearMonth, List<Integer>> entry : batch.entrySet()) {
+                ArchiveTables.create(conn, entry.getKey());
+                moved += move(conn, ArchiveTables.suffix(entry.getKey()), entry.getValue());
+            }
+            return moved;
+
+        } catch (SQLException e) {
+            System.err.println("Error archiving orders: " + e.getMessage());
+        }
+
+        return -1;
+    }
+
+    /**
+     * Copy orders with their items and payment into the archive tables
+     * and delete them from the live ones, all or nothing
+     */
+    private int move(Connection conn, String suffix, List<Integer> orderIds) throws SQLException {
+        StringBuilder in = new StringBuilder("(");
+        for (int i = 0; i < orderIds.size(); i++) {
+            in.append(i == 0 ? "?" : ", ?");
+        }
+        in.append(')');
+
+        String[] statements = {
+                "INSERT INTO orders" + suffix + " SELECT * FROM orders WHERE id IN " + in,
+                "INSERT INTO order_items" + suffix + " SELECT * FROM order_items WHERE order_id IN " + in,
+                "INSERT INTO payments" + suffix + " SELECT * FROM payments WHERE order_id IN " + in,
+                // Payments and items reference the orders
+                "DELETE FROM payments WHERE order_id IN " + in,
+                "DELETE FROM order_items WHERE order_id IN " + in,
+                "DELETE FROM orders WHERE id IN " + in
+        };
+
+        conn.setAutoCommit(false);
+        int moved = 0;
+        for (String statement : statements) {
+            try (PreparedStatement stmt = conn.prepareStatement(statement)) {
+                for (int i = 0; i < orderIds.size(); i++) {
+                    stmt.setInt(i + 1, orderIds.get(i));
+                }
+                moved = stmt.executeUpdate();
+            }
+        }
+        conn.commit();
+        conn.setAutoCommit(true);
+
+        // Rows deleted by the last statement
+        return moved;
+    }
+}
@@ -0,0 +1,100 @@
+package com.restos.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Monthly archive tables of orders, order items and payments
+ * Archived orders of a month live in orders_archive_yyyyMM,
+ * order_items_archive_yyyyMM and payments_archive_yyyyMM (the month of
+ * the order, also for its items and payment). The tables are created
+ * with CREATE TABLE ... LIKE, so they have the columns and indexes of the
+ * live tables but no foreign keys; a later change to a live table must be
+ * applied to the archive tables too.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+final class ArchiveTables {
+
+    // A month is listed once its orders table exists, so that one is created last
+    private static final String[] TABLES = { "order_items", "payments", "orders" };
+
+    private static final String ARCHIVE = "_archive_";
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private ArchiveTables() {
+    }
+
+    /**
+     * Suffix that turns a live table name into the month's archive table
+     * ("orders" + suffix = "orders_archive_202601"); the live tables have
+     * the empty suffix
+     */
+    static String suffix(YearMonth month) {
+        return ARCHIVE + MONTH.format(month);
+    }
+
+    /**
+     * List the archived months, oldest first
+     */
+    static List<YearMonth> months(Connection conn) throws SQLException {
+        String sql = "SELECT TABLE_NAME FROM information_schema.TABLES " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME LIKE ?";
+        String prefix = "orders" + ARCHIVE;
+        List<YearMonth> months = new ArrayList<>();
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, prefix.replace("_", "\\_") + "%");
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    try {
+                        months.add(YearMonth.parse(rs.getString(1).substring(prefix.length()), MONTH));
+                    } catch (DateTimeParseException e) {
+                        // Not one of ours
+                    }
+                }
+            }
+        }
+
+        Collections.sort(months);
+        return months;
+    }
+
+    /**
+     * List the archived months that hold orders created in a date range
+     *
+     * @param startDate Start date (inclusive)
+     * @param endDate   End date (inclusive)
+     * @return Months overlapping the range, oldest first
+     */
+    static List<YearMonth> months(Connection conn, LocalDate startDate, LocalDate endDate) throws SQLException {
+        YearMonth first = YearMonth.from(startDate);
+        YearMonth last = YearMonth.from(endDate);
+        List<YearMonth> months = months(conn);
+        months.removeIf(month -> month.isBefore(first) || month.isAfter(last));
+        return months;
+    }
+
+    /**
+     * Create the archive tables of a month if they do not exist yet
+     * (DDL commits any open transaction, so call this outside of one)
+     */
+    static void create(Connection conn, YearMonth month) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            for (String table : TABLES) {
+                stmt.execute("CREATE TABLE IF NOT EXISTS " + table + suffix(month) + " LIKE " + table);
+            }
+        }
+    }
+}
@@ -40,6 +40,7 @@ public interface CategoryDAO {
      * @param category Category to insert
      * @return Generated ID or -1 if failed
      */
+    @Write
     int insert(Category category);
 
     /**
@@ -48,6 +49,7 @@ public interface CategoryDAO {
      * @param category Category to update
      * @return true if successful
      */
+    @Write
     boolean update(Category category);
 
     /**
@@ -57,6 +59,7 @@ public interface CategoryDAO {
      * @param sortOrder New sort order
      * @return true if successful
      */
+    @Write
     boolean updateSortOrder(int id, int sortOrder);
 
     /**
@@ -65,6 +68,7 @@ public interface CategoryDAO {
      * @param id Category ID
      * @return true if successful
      */
+    @Write
     boolean delete(int id);
 
     /**
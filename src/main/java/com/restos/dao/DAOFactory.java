@@ -0,0 +1,67 @@
+package com.restos.dao;
+
+import com.restos.config.DatabaseConfig;
+import com.restos.metrics.MetricsProxy;
+
+/**
+ * DAO Factory
+ * Creates DAO instances wrapped with metrics instrumentation (and with
+ * replica routing when read replicas are configured); controllers and
+ * services should obtain DAOs here instead of instantiating the
+ * implementations directly
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class DAOFactory {
+
+    private DAOFactory() {
+    }
+
+    public static UserDAO getUserDAO() {
+        return create(UserDAO.class, new UserDAOImpl());
+    }
+
+    public static CategoryDAO getCategoryDAO() {
+        return create(CategoryDAO.class, new CategoryDAOImpl());
+    }
+
+    public static MenuDAO getMenuDAO() {
+        return create(MenuDAO.class, new MenuDAOImpl());
+    }
+
+    public static TableDAO getTableDAO() {
+        return create(TableDAO.class, new TableDAOImpl());
+    }
+
+    public static InventoryDAO getInventoryDAO() {
+        return create(InventoryDAO.class, new InventoryDAOImpl());
+    }
+
+    public static OrderDAO getOrderDAO() {
+        return create(OrderDAO.class, new OrderDAOImpl());
+    }
+
+    public static OrderItemDAO getOrderItemDAO() {
+        return create(OrderItemDAO.class, new OrderItemDAOImpl());
+    }
+
+    public static PaymentDAO getPaymentDAO() {
+        return create(PaymentDAO.class, new PaymentDAOImpl());
+    }
+
+    public static ReportDAO getReportDAO() {
+        return create(ReportDAO.class, new ReportDAOImpl());
+    }
+
+    public static ArchiveDAO getArchiveDAO() {
+        return create(ArchiveDAO.class, new ArchiveDAOImpl());
+    }
+
+    private static <T> T create(Class<T> type, T dao) {
+        if (DatabaseConfig.getInstance().hasReplicas()) {
+            dao = ReplicaRouting.wrap(type, dao);
+        }
+        return MetricsProxy.wrap(type, dao);
+    }
+}
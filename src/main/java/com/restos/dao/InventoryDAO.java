@@ -55,6 +55,7 @@ public interface InventoryDAO {
      * @param inventory Inventory to insert
      * @return Generated ID or -1 if failed
      */
+    @Write
     int insert(Inventory inventory);
 
     /**
@@ -63,6 +64,7 @@ public interface InventoryDAO {
      * @param inventory Inventory to update
      * @return true if successful
      */
+    @Write
     boolean update(Inventory inventory);
 
     /**
@@ -72,6 +74,7 @@ public interface InventoryDAO {
      * @param remainingStock New remaining stock
      * @return true if successful
      */
+    @Write
     boolean updateRemainingStock(int menuId, int remainingStock);
 
     /**
@@ -81,6 +84,7 @@ public interface InventoryDAO {
      * @param stock New remaining stock value
      * @return true if successful
      */
+    @Write
     boolean updateStock(int id, int stock);
 
     /**
@@ -90,6 +94,7 @@ public interface InventoryDAO {
      * @param quantity Quantity to decrease
      * @return true if successful
      */
+    @Write
     boolean decreaseStock(int menuId, int quantity);
 
     /**
@@ -99,6 +104,7 @@ public interface InventoryDAO {
      * @param quantity Quantity to increase
      * @return true if successful
      */
+    @Write
     boolean increaseStock(int menuId, int quantity);
 
     /**
@@ -106,6 +112,7 @@ public interface InventoryDAO {
      * 
      * @return Number of records updated
      */
+    @Write
     int resetAllStocks();
 
     /**
@@ -114,6 +121,7 @@ public interface InventoryDAO {
      * @param id Inventory ID
      * @return true if successful
      */
+    @Write
     boolean delete(int id);
 
     /**
@@ -122,6 +130,7 @@ public interface InventoryDAO {
      * @param menuId Menu ID
      * @return true if successful
      */
+    @Write
     boolean deleteByMenuId(int menuId);
 
     /**
@@ -3,6 +3,7 @@ package com.restos.dao;
 import com.restos.config.DatabaseConfig;
 import com.restos.model.Inventory;
 import com.restos.model.Menu;
+import com.restos.model.Money;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -378,7 +379,7 @@ public class InventoryDAOImpl implements InventoryDAO {
             Menu menu = new Menu();
             menu.setId(rs.getInt("menu_id"));
             menu.setName(menuName);
-            menu.setPrice(rs.getBigDecimal("menu_price"));
+            menu.setPrice(Money.of(rs.getBigDecimal("menu_price")));
             inventory.setMenu(menu);
         }
 
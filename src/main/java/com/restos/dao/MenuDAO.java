@@ -63,6 +63,7 @@ public interface MenuDAO {
      * @param menu Menu to insert
      * @return Generated ID or -1 if failed
      */
+    @Write
     int insert(Menu menu);
 
     /**
@@ -71,6 +72,7 @@ public interface MenuDAO {
      * @param menu Menu to update
      * @return true if successful
      */
+    @Write
     boolean update(Menu menu);
 
     /**
@@ -80,6 +82,7 @@ public interface MenuDAO {
      * @param isActive New active status
      * @return true if successful
      */
+    @Write
     boolean updateStatus(int id, boolean isActive);
 
     /**
@@ -88,6 +91,7 @@ public interface MenuDAO {
      * @param id Menu ID
      * @return true if successful
      */
+    @Write
     boolean delete(int id);
 
     /**
@@ -3,6 +3,7 @@ package com.restos.dao;
 import com.restos.config.DatabaseConfig;
 import com.restos.model.Category;
 import com.restos.model.Menu;
+import com.restos.model.Money;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -177,7 +178,7 @@ public class MenuDAOImpl implements MenuDAO {
             stmt.setInt(1, menu.getCategoryId());
             stmt.setString(2, menu.getName());
             stmt.setString(3, menu.getDescription());
-            stmt.setBigDecimal(4, menu.getPrice());
+            stmt.setBigDecimal(4, menu.getPrice().toBigDecimal());
             stmt.setString(5, menu.getImageUrl());
             stmt.setBoolean(6, menu.isActive());
 
@@ -206,7 +207,7 @@ public class MenuDAOImpl implements MenuDAO {
             stmt.setInt(1, menu.getCategoryId());
             stmt.setString(2, menu.getName());
             stmt.setString(3, menu.getDescription());
-            stmt.setBigDecimal(4, menu.getPrice());
+            stmt.setBigDecimal(4, menu.getPrice().toBigDecimal());
             stmt.setString(5, menu.getImageUrl());
             stmt.setBoolean(6, menu.isActive());
             stmt.setInt(7, menu.getId());
@@ -312,13 +313,13 @@ public class MenuDAOImpl implements MenuDAO {
     /**
      * Map ResultSet row to Menu object
      */
-    private Menu mapResultSetToMenu(ResultSet rs) throws SQLException {
+    Menu mapResultSetToMenu(ResultSet rs) throws SQLException {
         Menu menu = new Menu();
         menu.setId(rs.getInt("id"));
         menu.setCategoryId(rs.getInt("category_id"));
         menu.setName(rs.getString("name"));
         menu.setDescription(rs.getString("description"));
-        menu.setPrice(rs.getBigDecimal("price"));
+        menu.setPrice(Money.of(rs.getBigDecimal("price")));
         menu.setImageUrl(rs.getString("image_url"));
         menu.setActive(rs.getBoolean("is_active"));
 
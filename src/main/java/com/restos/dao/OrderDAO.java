@@ -1,5 +1,6 @@
 package com.restos.dao;
 
+import com.restos.model.Money;
 import com.restos.model.Order;
 import java.time.LocalDate;
 import java.util.List;
@@ -81,6 +82,7 @@ public interface OrderDAO {
      * @param endDate   End date
      * @return List of orders in date range
      */
+    @ReadMostly
     List<Order> findByDateRange(LocalDate startDate, LocalDate endDate);
 
     /**
@@ -103,6 +105,7 @@ public interface OrderDAO {
      * @param order Order to insert
      * @return Generated ID or -1 if failed
      */
+    @Write
     int insert(Order order);
 
     /**
@@ -111,6 +114,7 @@ public interface OrderDAO {
      * @param order Order to update
      * @return true if successful
      */
+    @Write
     boolean update(Order order);
 
     /**
@@ -120,6 +124,7 @@ public interface OrderDAO {
      * @param status New status
      * @return true if successful
      */
+    @Write
     boolean updateStatus(int id, String status);
 
     /**
@@ -129,7 +134,8 @@ public interface OrderDAO {
      * @param totalAmount New total amount
      * @return true if successful
      */
-    boolean updateTotalAmount(int id, java.math.BigDecimal totalAmount);
+    @Write
+    boolean updateTotalAmount(int id, Money totalAmount);
 
     /**
      * Delete order by ID
@@ -137,6 +143,7 @@ public interface OrderDAO {
      * @param id Order ID
      * @return true if successful
      */
+    @Write
     boolean delete(int id);
 
     /**
@@ -159,6 +166,7 @@ public interface OrderDAO {
      * 
      * @return Today's order count
      */
+    @ReadMostly
     int countToday();
 
     /**
@@ -166,6 +174,7 @@ public interface OrderDAO {
      * 
      * @return Today's total revenue
      */
+    @ReadMostly
     double getTodayRevenue();
 
     /**
@@ -175,13 +184,15 @@ public interface OrderDAO {
      * @param endDate   End date
      * @return Total revenue in date range
      */
-    double getRevenueByDateRange(LocalDate startDate, LocalDate endDate);
+    @ReadMostly
+    Money getRevenueByDateRange(LocalDate startDate, LocalDate endDate);
 
     /**
      * Get daily revenue for the last 7 days
      * 
      * @return Map of date to revenue amount
      */
+    @ReadMostly
     java.util.Map<LocalDate, Double> getWeeklyRevenue();
 
     /**
@@ -190,5 +201,6 @@ public interface OrderDAO {
      * @param date The date to count orders for
      * @return Number of orders on that date
      */
+    @ReadMostly
     int countByDate(LocalDate date);
 }
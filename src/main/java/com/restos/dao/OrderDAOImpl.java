@@ -1,7 +1,9 @@
 package com.restos.dao;
 
 import com.restos.config.DatabaseConfig;
+import com.restos.model.Money;
 import com.restos.model.Order;
+import com.restos.model.OrderItem;
 import com.restos.model.Table;
 import com.restos.model.User;
 
@@ -9,7 +11,9 @@ import java.math.BigDecimal;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of OrderDAO interface
@@ -24,7 +28,7 @@ public class OrderDAOImpl implements OrderDAO {
 
     public OrderDAOImpl() {
         this.dbConfig = DatabaseConfig.getInstance();
-        this.orderItemDAO = new OrderItemDAOImpl();
+        this.orderItemDAO = DAOFactory.getOrderItemDAO();
     }
 
     @Override
@@ -274,14 +278,13 @@ public class OrderDAOImpl implements OrderDAO {
                 ResultSet rs = stmt.executeQuery(sql)) {
 
             while (rs.next()) {
-                Order order = mapResultSetToOrder(rs);
-                order.setOrderItems(orderItemDAO.findByOrderId(order.getId()));
-                orders.add(order);
+                orders.add(mapResultSetToOrder(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error finding orders for kitchen: " + e.getMessage());
         }
 
+        attachItems(orders);
         return orders;
     }
 
@@ -304,14 +307,13 @@ public class OrderDAOImpl implements OrderDAO {
                 ResultSet rs = stmt.executeQuery(sql)) {
 
             while (rs.next()) {
-                Order order = mapResultSetToOrder(rs);
-                order.setOrderItems(orderItemDAO.findByOrderId(order.getId()));
-                orders.add(order);
+                orders.add(mapResultSetToOrder(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error finding orders awaiting payment: " + e.getMessage());
         }
 
+        attachItems(orders);
         return orders;
     }
 
@@ -331,7 +333,7 @@ public class OrderDAOImpl implements OrderDAO {
             stmt.setString(3, order.getCustomerName());
             stmt.setString(4, order.getOrderType());
             stmt.setString(5, order.getStatus() != null ? order.getStatus() : Order.STATUS_PENDING);
-            stmt.setBigDecimal(6, order.getTotalAmount() != null ? order.getTotalAmount() : BigDecimal.ZERO);
+            stmt.setBigDecimal(6, order.getTotalAmount() != null ? order.getTotalAmount().toBigDecimal() : BigDecimal.ZERO);
 
             int rowsAffected = stmt.executeUpdate();
             if (rowsAffected > 0) {
@@ -365,7 +367,7 @@ public class OrderDAOImpl implements OrderDAO {
             stmt.setString(3, order.getCustomerName());
             stmt.setString(4, order.getOrderType());
             stmt.setString(5, order.getStatus());
-            stmt.setBigDecimal(6, order.getTotalAmount());
+            stmt.setBigDecimal(6, order.getTotalAmount().toBigDecimal());
             stmt.setInt(7, order.getId());
 
             return stmt.executeUpdate() > 0;
@@ -395,13 +397,13 @@ public class OrderDAOImpl implements OrderDAO {
     }
 
     @Override
-    public boolean updateTotalAmount(int id, BigDecimal totalAmount) {
+    public boolean updateTotalAmount(int id, Money totalAmount) {
         String sql = "UPDATE orders SET total_amount = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
 
         try (Connection conn = dbConfig.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
-            stmt.setBigDecimal(1, totalAmount);
+            stmt.setBigDecimal(1, totalAmount.toBigDecimal());
             stmt.setInt(2, id);
 
             return stmt.executeUpdate() > 0;
@@ -504,7 +506,7 @@ public class OrderDAOImpl implements OrderDAO {
     }
 
     @Override
-    public double getRevenueByDateRange(LocalDate startDate, LocalDate endDate) {
+    public Money getRevenueByDateRange(LocalDate startDate, LocalDate endDate) {
         String sql = "SELECT COALESCE(SUM(total_amount), 0) FROM orders " +
                 "WHERE DATE(created_at) BETWEEN ? AND ? AND status = 'completed'";
 
@@ -515,14 +517,14 @@ public class OrderDAOImpl implements OrderDAO {
             stmt.setDate(2, Date.valueOf(endDate));
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return rs.getDouble(1);
+                    return Money.of(rs.getBigDecimal(1));
                 }
             }
         } catch (SQLException e) {
             System.err.println("Error getting revenue by date range: " + e.getMessage());
         }
 
-        return 0.0;
+        return Money.ZERO;
     }
 
     @Override
@@ -577,10 +579,32 @@ public class OrderDAOImpl implements OrderDAO {
         return 0;
     }
 
+    /**
+     * Load the items of all orders with one query
+     */
+    private void attachItems(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        Map<Integer, List<OrderItem>> itemsByOrder = new HashMap<>();
+        List<Integer> orderIds = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            orderIds.add(order.getId());
+            itemsByOrder.put(order.getId(), new ArrayList<>());
+        }
+        for (OrderItem item : orderItemDAO.findByOrderIds(orderIds)) {
+            itemsByOrder.get(item.getOrderId()).add(item);
+        }
+        for (Order order : orders) {
+            order.setOrderItems(itemsByOrder.get(order.getId()));
+        }
+    }
+
     /**
      * Map ResultSet row to Order object
+     * Package-private so the benchmarks module can drive it directly
      */
-    private Order mapResultSetToOrder(ResultSet rs) throws SQLException {
+    Order mapResultSetToOrder(ResultSet rs) throws SQLException {
         Order order = new Order();
         order.setId(rs.getInt("id"));
 
@@ -593,7 +617,7 @@ public class OrderDAOImpl implements OrderDAO {
         order.setCustomerName(rs.getString("customer_name"));
         order.setOrderType(rs.getString("order_type"));
         order.setStatus(rs.getString("status"));
-        order.setTotalAmount(rs.getBigDecimal("total_amount"));
+        order.setTotalAmount(Money.of(rs.getBigDecimal("total_amount")));
 
         Timestamp createdAt = rs.getTimestamp("created_at");
         if (createdAt != null) {
@@ -34,6 +34,14 @@ public interface OrderItemDAO {
      */
     List<OrderItem> findByOrderId(int orderId);
 
+    /**
+     * Find the order items of several orders in one query
+     * 
+     * @param orderIds Order IDs
+     * @return Order items of the orders, grouped by order ID, oldest item first
+     */
+    List<OrderItem> findByOrderIds(List<Integer> orderIds);
+
     /**
      * Find order items by status
      * 
@@ -63,6 +71,7 @@ public interface OrderItemDAO {
      * @param orderItem OrderItem object to insert
      * @return Generated ID or -1 if failed
      */
+    @Write
     int insert(OrderItem orderItem);
 
     /**
@@ -72,6 +81,7 @@ public interface OrderItemDAO {
      * @param orderItems List of order items to insert
      * @return True if all items inserted successfully
      */
+    @Write
     boolean insertBatch(int orderId, List<OrderItem> orderItems);
 
     /**
@@ -80,6 +90,7 @@ public interface OrderItemDAO {
      * @param orderItem OrderItem object to update
      * @return True if successful
      */
+    @Write
     boolean update(OrderItem orderItem);
 
     /**
@@ -89,6 +100,7 @@ public interface OrderItemDAO {
      * @param status New status
      * @return True if successful
      */
+    @Write
     boolean updateStatus(int id, String status);
 
     /**
@@ -98,6 +110,7 @@ public interface OrderItemDAO {
      * @param quantity New quantity
      * @return True if successful
      */
+    @Write
     boolean updateQuantity(int id, int quantity);
 
     /**
@@ -106,6 +119,7 @@ public interface OrderItemDAO {
      * @param id Order item ID
      * @return True if successful
      */
+    @Write
     boolean delete(int id);
 
     /**
@@ -114,6 +128,7 @@ public interface OrderItemDAO {
      * @param orderId Order ID
      * @return True if successful
      */
+    @Write
     boolean deleteByOrderId(int orderId);
 
     /**
@@ -137,5 +152,6 @@ public interface OrderItemDAO {
      * @param menuId Menu ID
      * @return Total quantity sold today
      */
+    @ReadMostly
     int getTodaySoldByMenuId(int menuId);
 }
@@ -2,11 +2,12 @@ package com.restos.dao;
 
 import com.restos.config.DatabaseConfig;
 import com.restos.model.Menu;
+import com.restos.model.Money;
 import com.restos.model.OrderItem;
 
-import java.math.BigDecimal;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -102,6 +103,39 @@ public class OrderItemDAOImpl implements OrderItemDAO {
         return orderItems;
     }
 
+    @Override
+    public List<OrderItem> findByOrderIds(List<Integer> orderIds) {
+        List<OrderItem> orderItems = new ArrayList<>();
+        if (orderIds.isEmpty()) {
+            return orderItems;
+        }
+        String sql = "SELECT oi.id, oi.order_id, oi.menu_id, oi.quantity, oi.price, oi.subtotal, " +
+                "oi.notes, oi.status, oi.created_at, " +
+                "m.name as menu_name, m.description as menu_description, m.price as menu_price, " +
+                "m.image_url, m.is_available " +
+                "FROM order_items oi " +
+                "LEFT JOIN menus m ON oi.menu_id = m.id " +
+                "WHERE oi.order_id IN (" + String.join(", ", Collections.nCopies(orderIds.size(), "?")) + ") " +
+                "ORDER BY oi.order_id, oi.created_at ASC, oi.id ASC";
+
+        try (Connection conn = dbConfig.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            for (int i = 0; i < orderIds.size(); i++) {
+                stmt.setInt(i + 1, orderIds.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    orderItems.add(mapResultSetToOrderItem(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error finding order items by order IDs: " + e.getMessage());
+        }
+
+        return orderItems;
+    }
+
     @Override
     public List<OrderItem> findByStatus(String status) {
         List<OrderItem> orderItems = new ArrayList<>();
@@ -199,8 +233,8 @@ public class OrderItemDAOImpl implements OrderItemDAO {
             stmt.setInt(1, orderItem.getOrderId());
             stmt.setInt(2, orderItem.getMenuId());
             stmt.setInt(3, orderItem.getQuantity());
-            stmt.setBigDecimal(4, orderItem.getPrice());
-            stmt.setBigDecimal(5, orderItem.getSubtotal());
+            stmt.setBigDecimal(4, orderItem.getPrice().toBigDecimal());
+            stmt.setBigDecimal(5, orderItem.getSubtotal().toBigDecimal());
             stmt.setString(6, orderItem.getNotes());
             stmt.setString(7, orderItem.getStatus() != null ? orderItem.getStatus() : OrderItem.STATUS_PENDING);
 
@@ -233,8 +267,8 @@ public class OrderItemDAOImpl implements OrderItemDAO {
                 stmt.setInt(1, orderId);
                 stmt.setInt(2, item.getMenuId());
                 stmt.setInt(3, item.getQuantity());
-                stmt.setBigDecimal(4, item.getPrice());
-                stmt.setBigDecimal(5, item.getSubtotal());
+                stmt.setBigDecimal(4, item.getPrice().toBigDecimal());
+                stmt.setBigDecimal(5, item.getSubtotal().toBigDecimal());
                 stmt.setString(6, item.getNotes());
                 stmt.setString(7, item.getStatus() != null ? item.getStatus() : OrderItem.STATUS_PENDING);
                 stmt.addBatch();
@@ -268,8 +302,8 @@ public class OrderItemDAOImpl implements OrderItemDAO {
 
             stmt.setInt(1, orderItem.getMenuId());
             stmt.setInt(2, orderItem.getQuantity());
-            stmt.setBigDecimal(3, orderItem.getPrice());
-            stmt.setBigDecimal(4, orderItem.getSubtotal());
+            stmt.setBigDecimal(3, orderItem.getPrice().toBigDecimal());
+            stmt.setBigDecimal(4, orderItem.getSubtotal().toBigDecimal());
             stmt.setString(5, orderItem.getNotes());
             stmt.setString(6, orderItem.getStatus());
             stmt.setInt(7, orderItem.getId());
@@ -307,7 +341,7 @@ public class OrderItemDAOImpl implements OrderItemDAO {
         if (item == null)
             return false;
 
-        BigDecimal newSubtotal = item.getPrice().multiply(BigDecimal.valueOf(quantity));
+        Money newSubtotal = item.getPrice().times(quantity);
 
         String sql = "UPDATE order_items SET quantity = ?, subtotal = ? WHERE id = ?";
 
@@ -315,7 +349,7 @@ public class OrderItemDAOImpl implements OrderItemDAO {
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, quantity);
-            stmt.setBigDecimal(2, newSubtotal);
+            stmt.setBigDecimal(2, newSubtotal.toBigDecimal());
             stmt.setInt(3, id);
 
             return stmt.executeUpdate() > 0;
@@ -421,15 +455,16 @@ public class OrderItemDAOImpl implements OrderItemDAO {
 
     /**
      * Map ResultSet row to OrderItem object
+     * Package-private so the benchmarks module can drive it directly
      */
-    private OrderItem mapResultSetToOrderItem(ResultSet rs) throws SQLException {
+    OrderItem mapResultSetToOrderItem(ResultSet rs) throws SQLException {
         OrderItem orderItem = new OrderItem();
         orderItem.setId(rs.getInt("id"));
         orderItem.setOrderId(rs.getInt("order_id"));
         orderItem.setMenuId(rs.getInt("menu_id"));
         orderItem.setQuantity(rs.getInt("quantity"));
-        orderItem.setPrice(rs.getBigDecimal("price"));
-        orderItem.setSubtotal(rs.getBigDecimal("subtotal"));
+        orderItem.setPrice(Money.of(rs.getBigDecimal("price")));
+        orderItem.setSubtotal(Money.of(rs.getBigDecimal("subtotal")));
         orderItem.setNotes(rs.getString("notes"));
         orderItem.setStatus(rs.getString("status"));
 
@@ -445,7 +480,7 @@ public class OrderItemDAOImpl implements OrderItemDAO {
             menu.setId(rs.getInt("menu_id"));
             menu.setName(menuName);
             menu.setDescription(rs.getString("menu_description"));
-            menu.setPrice(rs.getBigDecimal("menu_price"));
+            menu.setPrice(Money.of(rs.getBigDecimal("menu_price")));
             menu.setImageUrl(rs.getString("image_url"));
             menu.setIsAvailable(rs.getBoolean("is_available"));
             orderItem.setMenu(menu);
@@ -1,5 +1,6 @@
 package com.restos.dao;
 
+import com.restos.model.Money;
 import com.restos.model.Payment;
 import java.time.LocalDate;
 import java.util.List;
@@ -65,6 +66,7 @@ public interface PaymentDAO {
      * @param endDate   End date
      * @return List of payments within the date range
      */
+    @ReadMostly
     List<Payment> findByDateRange(LocalDate startDate, LocalDate endDate);
 
     /**
@@ -73,6 +75,7 @@ public interface PaymentDAO {
      * @param payment Payment object to insert
      * @return Generated ID or -1 if failed
      */
+    @Write
     int insert(Payment payment);
 
     /**
@@ -81,6 +84,7 @@ public interface PaymentDAO {
      * @param payment Payment object to update
      * @return True if successful
      */
+    @Write
     boolean update(Payment payment);
 
     /**
@@ -89,6 +93,7 @@ public interface PaymentDAO {
      * @param id Payment ID
      * @return True if successful
      */
+    @Write
     boolean delete(int id);
 
     /**
@@ -111,6 +116,7 @@ public interface PaymentDAO {
      * 
      * @return Number of payments today
      */
+    @ReadMostly
     int countToday();
 
     /**
@@ -119,6 +125,7 @@ public interface PaymentDAO {
      * @param paymentMethod Payment method
      * @return Number of payments with the method
      */
+    @ReadMostly
     int countByPaymentMethod(String paymentMethod);
 
     /**
@@ -126,7 +133,8 @@ public interface PaymentDAO {
      * 
      * @return Total amount paid today
      */
-    double getTodayRevenue();
+    @ReadMostly
+    Money getTodayRevenue();
 
     /**
      * Get revenue by date range
@@ -135,6 +143,7 @@ public interface PaymentDAO {
      * @param endDate   End date
      * @return Total amount paid in the date range
      */
+    @ReadMostly
     double getRevenueByDateRange(LocalDate startDate, LocalDate endDate);
 
     /**
@@ -143,6 +152,7 @@ public interface PaymentDAO {
      * @param paymentMethod Payment method
      * @return Total amount paid by the method today
      */
+    @ReadMostly
     double getTodayRevenueByPaymentMethod(String paymentMethod);
 
     /**
@@ -150,5 +160,6 @@ public interface PaymentDAO {
      * 
      * @return Total change amount today
      */
+    @ReadMostly
     double getTodayChangeGiven();
 }
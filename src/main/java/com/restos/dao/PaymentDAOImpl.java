@@ -1,6 +1,7 @@
 package com.restos.dao;
 
 import com.restos.config.DatabaseConfig;
+import com.restos.model.Money;
 import com.restos.model.Order;
 import com.restos.model.Payment;
 import com.restos.model.User;
@@ -225,8 +226,8 @@ public class PaymentDAOImpl implements PaymentDAO {
 
             stmt.setInt(1, payment.getOrderId());
             stmt.setInt(2, payment.getUserId());
-            stmt.setBigDecimal(3, payment.getAmountPaid());
-            stmt.setBigDecimal(4, payment.getChangeAmount());
+            stmt.setBigDecimal(3, payment.getAmountPaid().toBigDecimal());
+            stmt.setBigDecimal(4, payment.getChangeAmount().toBigDecimal());
             stmt.setString(5, payment.getPaymentMethod());
 
             int rowsAffected = stmt.executeUpdate();
@@ -254,8 +255,8 @@ public class PaymentDAOImpl implements PaymentDAO {
 
             stmt.setInt(1, payment.getOrderId());
             stmt.setInt(2, payment.getUserId());
-            stmt.setBigDecimal(3, payment.getAmountPaid());
-            stmt.setBigDecimal(4, payment.getChangeAmount());
+            stmt.setBigDecimal(3, payment.getAmountPaid().toBigDecimal());
+            stmt.setBigDecimal(4, payment.getChangeAmount().toBigDecimal());
             stmt.setString(5, payment.getPaymentMethod());
             stmt.setInt(6, payment.getId());
 
@@ -360,7 +361,7 @@ public class PaymentDAOImpl implements PaymentDAO {
     }
 
     @Override
-    public double getTodayRevenue() {
+    public Money getTodayRevenue() {
         String sql = "SELECT COALESCE(SUM(amount_paid), 0) - COALESCE(SUM(change_amount), 0) " +
                 "FROM payments WHERE DATE(created_at) = CURDATE()";
 
@@ -369,13 +370,13 @@ public class PaymentDAOImpl implements PaymentDAO {
                 ResultSet rs = stmt.executeQuery(sql)) {
 
             if (rs.next()) {
-                return rs.getDouble(1);
+                return Money.of(rs.getBigDecimal(1));
             }
         } catch (SQLException e) {
             System.err.println("Error getting today's revenue: " + e.getMessage());
         }
 
-        return 0.0;
+        return Money.ZERO;
     }
 
     @Override
@@ -447,8 +448,8 @@ public class PaymentDAOImpl implements PaymentDAO {
         payment.setId(rs.getInt("id"));
         payment.setOrderId(rs.getInt("order_id"));
         payment.setUserId(rs.getInt("user_id"));
-        payment.setAmountPaid(rs.getBigDecimal("amount_paid"));
-        payment.setChangeAmount(rs.getBigDecimal("change_amount"));
+        payment.setAmountPaid(Money.of(rs.getBigDecimal("amount_paid")));
+        payment.setChangeAmount(Money.of(rs.getBigDecimal("change_amount")));
         payment.setPaymentMethod(rs.getString("payment_method"));
 
         Timestamp createdAt = rs.getTimestamp("created_at");
@@ -464,7 +465,7 @@ public class PaymentDAOImpl implements PaymentDAO {
             order.setCustomerName(customerName);
             order.setOrderType(rs.getString("order_type"));
             order.setStatus(rs.getString("order_status"));
-            order.setTotalAmount(rs.getBigDecimal("total_amount"));
+            order.setTotalAmount(Money.of(rs.getBigDecimal("total_amount")));
 
             int tableId = rs.getInt("table_id");
             if (!rs.wasNull()) {
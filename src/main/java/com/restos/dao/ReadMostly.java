@@ -0,0 +1,21 @@
+package com.restos.dao;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a DAO read that tolerates a few seconds of staleness (reports,
+ * revenue totals, dashboard counters), so it may run on a read replica.
+ * Untagged reads always run on the primary.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ReadMostly {
+}
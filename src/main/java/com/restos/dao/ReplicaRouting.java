@@ -0,0 +1,70 @@
+package com.restos.dao;
+
+import com.restos.config.DatabaseConfig;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dynamic proxy that routes a DAO's connections by the annotations on
+ * its interface: @ReadMostly methods may read from a replica, @Write
+ * methods keep this terminal's reads on the primary for a while, and
+ * everything else uses the primary
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+final class ReplicaRouting implements InvocationHandler {
+
+    private enum Route {
+        PRIMARY, READ_MOSTLY, WRITE
+    }
+
+    private static final Map<Method, Route> ROUTES = new ConcurrentHashMap<>();
+
+    private final Object target;
+    private final DatabaseConfig config = DatabaseConfig.getInstance();
+
+    private ReplicaRouting(Object target) {
+        this.target = target;
+    }
+
+    static <T> T wrap(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[] { type },
+                new ReplicaRouting(target)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(target, args);
+        }
+
+        Route route = ROUTES.computeIfAbsent(method, ReplicaRouting::routeOf);
+        // A DAO called from inside another one routes by its own annotation
+        boolean previous = DatabaseConfig.setReadMostly(route == Route.READ_MOSTLY);
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            DatabaseConfig.setReadMostly(previous);
+            if (route == Route.WRITE) {
+                config.markWrite();
+            }
+        }
+    }
+
+    private static Route routeOf(Method method) {
+        if (method.isAnnotationPresent(Write.class)) {
+            return Route.WRITE;
+        }
+        return method.isAnnotationPresent(ReadMostly.class) ? Route.READ_MOSTLY : Route.PRIMARY;
+    }
+}
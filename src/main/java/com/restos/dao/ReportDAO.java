@@ -0,0 +1,134 @@
+package com.restos.dao;
+
+import com.restos.model.SalesSummary;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * Data Access Object interface for report exports
+ * Rows are streamed to a handler one at a time instead of being
+ * collected in a list, so a report over a long date range needs no more
+ * memory than a single row
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public interface ReportDAO {
+
+    /**
+     * Reports that can be exported; values in a row follow the column order
+     */
+    enum Report {
+        PAYMENTS("Laporan Pembayaran", "ID", "Waktu", "Order", "Meja", "Metode", "Total", "Dibayar",
+                "Kembalian", "Kasir"),
+        ORDERS("Laporan Pesanan", "ID", "Waktu", "Meja", "Pelanggan", "Tipe", "Status", "Waiter", "Total"),
+        ORDER_ITEMS("Laporan Item Pesanan", "Order", "Waktu", "Menu", "Jumlah", "Harga", "Subtotal",
+                "Status", "Catatan");
+
+        private final String title;
+        private final String[] columns;
+
+        Report(String title, String... columns) {
+            this.title = title;
+            this.columns = columns;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String[] getColumns() {
+            return columns.clone();
+        }
+
+        public int getColumnCount() {
+            return columns.length;
+        }
+    }
+
+    /**
+     * Receives the rows of a report
+     */
+    @FunctionalInterface
+    interface RowHandler {
+        /**
+         * Handle one row. The array is reused for the next row, so its
+         * values must be written out, not kept
+         *
+         * @param row Column values (String, Integer, BigDecimal, LocalDateTime or null)
+         * @return true to continue, false to stop reading
+         */
+        boolean handle(Object[] row);
+    }
+
+    /**
+     * Receives the items of completed orders, one call per item
+     */
+    @FunctionalInterface
+    interface SaleHandler {
+        /**
+         * @param hour       Hour the order was placed (0-23)
+         * @param weekday    Day of the order, 0 = Monday
+         * @param categoryId Category of the menu, 0 if the menu is gone
+         * @param menuId     Menu ID
+         * @param waiterId   User ID of the waiter
+         * @param takeAway   true for take-away orders
+         * @param quantity   Portions
+         * @param revenue    Subtotal in whole rupiah
+         */
+        void handle(int hour, int weekday, int categoryId, int menuId, int waiterId, boolean takeAway,
+                int quantity, long revenue);
+    }
+
+    /**
+     * Count the rows of a report (for progress)
+     *
+     * @param report    Report
+     * @param startDate Start date (inclusive)
+     * @param endDate   End date (inclusive)
+     * @return Number of rows or -1 if failed
+     */
+    @ReadMostly
+    int count(Report report, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Stream the rows of a report, oldest first
+     *
+     * @param report    Report
+     * @param startDate Start date (inclusive)
+     * @param endDate   End date (inclusive)
+     * @param handler   Row handler
+     * @return Number of rows handed to the handler
+     * @throws SQLException if the query fails; unlike the other DAOs the
+     *                      error is not swallowed, since a partly written
+     *                      report must not look complete
+     */
+    @ReadMostly
+    int stream(Report report, LocalDate startDate, LocalDate endDate, RowHandler handler) throws SQLException;
+
+    /**
+     * Summarize sales over a date range: order count, completed orders,
+     * their revenue and the portions sold per menu
+     *
+     * @param startDate Start date (inclusive)
+     * @param endDate   End date (inclusive)
+     * @return Summary
+     * @throws SQLException if a query fails, so that a branch whose
+     *                      database failed is not reported as having no sales
+     */
+    @ReadMostly
+    SalesSummary summarize(LocalDate startDate, LocalDate endDate) throws SQLException;
+
+    /**
+     * Stream the items of completed orders in a date range (for analytics)
+     *
+     * @param startDate Start date (inclusive)
+     * @param endDate   End date (inclusive)
+     * @param handler   Item handler
+     * @return Number of items handed to the handler
+     * @throws SQLException if the query fails
+     */
+    @ReadMostly
+    int streamSales(LocalDate startDate, LocalDate endDate, SaleHandler handler) throws SQLException;
+}
@@ -0,0 +1,323 @@
+package com.restos.dao;
+
+import com.restos.config.DatabaseConfig;
+import com.restos.model.Money;
+import com.restos.model.Order;
+import com.restos.model.SalesSummary;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of ReportDAO interface
+ *
+ * Rows are read from a forward-only, read-only statement with a fetch
+ * size of Integer.MIN_VALUE, which makes MySQL Connector/J stream the
+ * result row by row instead of loading it into memory first.
+ *
+ * A range that reaches into archived months (see ArchiveTables) reads
+ * the live tables and those months' archive tables in one UNION ALL
+ * statement, so rows being archived meanwhile are counted exactly once.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class ReportDAOImpl implements ReportDAO {
+
+    private static final String PAYMENTS_SELECT = "SELECT p.id, p.created_at, p.order_id, t.table_number, " +
+            "p.payment_method, o.total_amount, p.amount_paid, p.change_amount, u.full_name ";
+    // %1$s is the table suffix of the live set ("") or of an archived month
+    private static final String PAYMENTS_FROM = "FROM payments%1$s p " +
+            "LEFT JOIN orders%1$s o ON p.order_id = o.id " +
+            "LEFT JOIN tables t ON o.table_id = t.id " +
+            "LEFT JOIN users u ON p.user_id = u.id " +
+            "WHERE p.created_at >= ? AND p.created_at < ? ";
+    private static final String PAYMENTS_ORDER = "ORDER BY p.created_at, p.id";
+
+    private static final String ORDERS_SELECT = "SELECT o.id, o.created_at, t.table_number, o.customer_name, " +
+            "o.order_type, o.status, u.full_name, o.total_amount ";
+    private static final String ORDERS_FROM = "FROM orders%1$s o " +
+            "LEFT JOIN tables t ON o.table_id = t.id " +
+            "LEFT JOIN users u ON o.user_id = u.id " +
+            "WHERE o.created_at >= ? AND o.created_at < ? ";
+    private static final String ORDERS_ORDER = "ORDER BY o.created_at, o.id";
+
+    private static final String ITEMS_SELECT = "SELECT oi.order_id, o.created_at, m.name, oi.quantity, " +
+            "oi.price, oi.subtotal, oi.status, oi.notes ";
+    private static final String ITEMS_FROM = "FROM order_items%1$s oi " +
+            "JOIN orders%1$s o ON oi.order_id = o.id " +
+            "LEFT JOIN menus m ON oi.menu_id = m.id " +
+            "WHERE o.created_at >= ? AND o.created_at < ? ";
+    private static final String ITEMS_ORDER = "ORDER BY o.created_at, oi.order_id, oi.id";
+
+    // Time, then id (order id for items) of a union's rows
+    private static final String UNION_ORDER = "ORDER BY 2, 1";
+
+    private static final String SUMMARY_ORDERS = "SELECT COUNT(*) AS orders, " +
+            "COALESCE(SUM(CASE WHEN status = ? THEN 1 ELSE 0 END), 0) AS completed, " +
+            "COALESCE(SUM(CASE WHEN status = ? THEN total_amount ELSE 0 END), 0) AS revenue " +
+            "FROM orders%1$s WHERE created_at >= ? AND created_at < ?";
+    private static final String SUMMARY_ORDERS_UNION = "SELECT SUM(orders), SUM(completed), SUM(revenue) FROM (%s) s";
+    private static final String SUMMARY_MENUS = "SELECT oi.menu_id, m.name, SUM(oi.quantity) AS quantity, " +
+            "COALESCE(SUM(oi.subtotal), 0) AS revenue " +
+            "FROM order_items%1$s oi " +
+            "JOIN orders%1$s o ON oi.order_id = o.id " +
+            "LEFT JOIN menus m ON oi.menu_id = m.id " +
+            "WHERE o.status = ? AND o.created_at >= ? AND o.created_at < ? " +
+            "GROUP BY oi.menu_id, m.name";
+    private static final String SUMMARY_MENUS_UNION = "SELECT menu_id, name, SUM(quantity), SUM(revenue) " +
+            "FROM (%s) s GROUP BY menu_id, name";
+
+    // Hour and weekday are computed by the server, so a row has no object columns
+    private static final String SALES = "SELECT HOUR(o.created_at), WEEKDAY(o.created_at), m.category_id, " +
+            "oi.menu_id, o.user_id, o.order_type = ?, oi.quantity, oi.subtotal " +
+            "FROM order_items%1$s oi " +
+            "JOIN orders%1$s o ON oi.order_id = o.id " +
+            "LEFT JOIN menus m ON oi.menu_id = m.id " +
+            "WHERE o.status = ? AND o.created_at >= ? AND o.created_at < ?";
+
+    private final DatabaseConfig dbConfig;
+
+    public ReportDAOImpl() {
+        this.dbConfig = DatabaseConfig.getInstance();
+    }
+
+    @Override
+    public int count(Report report, LocalDate startDate, LocalDate endDate) {
+        try (Connection conn = dbConfig.getConnection()) {
+            List<String> sources = sources(conn, report, startDate, endDate);
+            String sql = sources.size() == 1
+                    ? "SELECT COUNT(*) " + String.format(from(report), "")
+                    : "SELECT SUM(n) FROM (" + union("SELECT COUNT(*) AS n ", from(report), sources) + ") c";
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                setDateRange(stmt, startDate, endDate, sources.size());
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        return rs.getInt(1);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error counting report rows: " + e.getMessage());
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int stream(Report report, LocalDate startDate, LocalDate endDate, RowHandler handler)
+            throws SQLException {
+        Object[] row = new Object[report.getColumnCount()];
+        int count = 0;
+        boolean stopped = false;
+
+        try (Connection conn = dbConfig.getConnection()) {
+            List<String> sources = sources(conn, report, startDate, endDate);
+            String sql = sources.size() == 1
+                    ? select(report) + String.format(from(report), "") + orderBy(report)
+                    : union(select(report), from(report), sources) + UNION_ORDER;
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+                stmt.setFetchSize(Integer.MIN_VALUE);
+                setDateRange(stmt, startDate, endDate, sources.size());
+
+                ResultSet rs = stmt.executeQuery();
+                try {
+                    while (rs.next()) {
+                        for (int i = 0; i < row.length; i++) {
+                            row[i] = value(rs.getObject(i + 1));
+                        }
+                        count++;
+                        if (!handler.handle(row)) {
+                            // Closing a streamed result reads the remaining rows
+                            // first; kill the query so the stop is immediate
+                            stopped = true;
+                            stmt.cancel();
+                            break;
+                        }
+                    }
+                } finally {
+                    closeQuietly(rs, stopped);
+                }
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public SalesSummary summarize(LocalDate startDate, LocalDate endDate) throws SQLException {
+        SalesSummary summary = new SalesSummary();
+        Timestamp start = Timestamp.valueOf(startDate.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(endDate.plusDays(1).atStartOfDay());
+
+        try (Connection conn = dbConfig.getConnection()) {
+            List<String> sources = sources(conn, null, startDate, endDate);
+            String ordersSql = sources.size() == 1
+                    ? String.format(SUMMARY_ORDERS, "")
+                    : String.format(SUMMARY_ORDERS_UNION, union("", SUMMARY_ORDERS, sources));
+            String menusSql = sources.size() == 1
+                    ? String.format(SUMMARY_MENUS, "")
+                    : String.format(SUMMARY_MENUS_UNION, union("", SUMMARY_MENUS, sources));
+
+            try (PreparedStatement stmt = conn.prepareStatement(ordersSql)) {
+                for (int i = 0; i < sources.size(); i++) {
+                    stmt.setString(4 * i + 1, Order.STATUS_COMPLETED);
+                    stmt.setString(4 * i + 2, Order.STATUS_COMPLETED);
+                    stmt.setTimestamp(4 * i + 3, start);
+                    stmt.setTimestamp(4 * i + 4, end);
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        summary.setOrderCount(rs.getInt(1));
+                        summary.setCompletedOrders(rs.getInt(2));
+                        summary.setRevenue(Money.of(rs.getBigDecimal(3)));
+                    }
+                }
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(menusSql)) {
+                for (int i = 0; i < sources.size(); i++) {
+                    stmt.setString(3 * i + 1, Order.STATUS_COMPLETED);
+                    stmt.setTimestamp(3 * i + 2, start);
+                    stmt.setTimestamp(3 * i + 3, end);
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        String name = rs.getString(2);
+                        summary.addMenu(name != null ? name : "Menu #" + rs.getInt(1),
+                                rs.getInt(3), Money.of(rs.getBigDecimal(4)));
+                    }
+                }
+            }
+        }
+
+        return summary;
+    }
+
+    @Override
+    public int streamSales(LocalDate startDate, LocalDate endDate, SaleHandler handler) throws SQLException {
+        Timestamp start = Timestamp.valueOf(startDate.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(endDate.plusDays(1).atStartOfDay());
+        int count = 0;
+
+        try (Connection conn = dbConfig.getConnection()) {
+            List<String> sources = sources(conn, null, startDate, endDate);
+            try (PreparedStatement stmt = conn.prepareStatement(union("", SALES, sources),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+                stmt.setFetchSize(Integer.MIN_VALUE);
+                for (int i = 0; i < sources.size(); i++) {
+                    stmt.setString(4 * i + 1, Order.TYPE_TAKE_AWAY);
+                    stmt.setString(4 * i + 2, Order.STATUS_COMPLETED);
+                    stmt.setTimestamp(4 * i + 3, start);
+                    stmt.setTimestamp(4 * i + 4, end);
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        handler.handle(rs.getInt(1), rs.getInt(2), rs.getInt(3), rs.getInt(4), rs.getInt(5),
+                                rs.getBoolean(6), rs.getInt(7), Money.of(rs.getBigDecimal(8)).getRupiah());
+                        count++;
+                    }
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Table suffixes to read a date range from: the live tables, then the
+     * archived months the range reaches into
+     *
+     * @param report Report, or null for the summary
+     */
+    private List<String> sources(Connection conn, Report report, LocalDate startDate, LocalDate endDate)
+            throws SQLException {
+        // A payment is archived with its order, which may be from the month before
+        LocalDate first = report == Report.PAYMENTS ? startDate.minusMonths(1) : startDate;
+        List<String> sources = new ArrayList<>();
+        sources.add("");
+        for (YearMonth month : ArchiveTables.months(conn, first, endDate)) {
+            sources.add(ArchiveTables.suffix(month));
+        }
+        return sources;
+    }
+
+    private String union(String select, String from, List<String> sources) {
+        StringBuilder sql = new StringBuilder();
+        for (String source : sources) {
+            if (sql.length() > 0) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append(select).append(String.format(from, source));
+        }
+        return sql.toString();
+    }
+
+    private void closeQuietly(ResultSet rs, boolean stopped) throws SQLException {
+        try {
+            rs.close();
+        } catch (SQLException e) {
+            // The cancelled query reports itself as interrupted
+            if (!stopped) {
+                throw e;
+            }
+        }
+    }
+
+    private Object value(Object value) {
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        return value;
+    }
+
+    private void setDateRange(PreparedStatement stmt, LocalDate startDate, LocalDate endDate, int sources)
+            throws SQLException {
+        // Half-open range on the column itself so an index on it can be used
+        for (int i = 0; i < sources; i++) {
+            stmt.setTimestamp(2 * i + 1, Timestamp.valueOf(startDate.atStartOfDay()));
+            stmt.setTimestamp(2 * i + 2, Timestamp.valueOf(endDate.plusDays(1).atStartOfDay()));
+        }
+    }
+
+    private String select(Report report) {
+        switch (report) {
+            case PAYMENTS:
+                return PAYMENTS_SELECT;
+            case ORDERS:
+                return ORDERS_SELECT;
+            default:
+                return ITEMS_SELECT;
+        }
+    }
+
+    private String from(Report report) {
+        switch (report) {
+            case PAYMENTS:
+                return PAYMENTS_FROM;
+            case ORDERS:
+                return ORDERS_FROM;
+            default:
+                return ITEMS_FROM;
+        }
+    }
+
+    private String orderBy(Report report) {
+        switch (report) {
+            case PAYMENTS:
+                return PAYMENTS_ORDER;
+            case ORDERS:
+                return ORDERS_ORDER;
+            default:
+                return ITEMS_ORDER;
+        }
+    }
+}
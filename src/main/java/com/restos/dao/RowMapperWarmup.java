@@ -0,0 +1,230 @@
+package com.restos.dao;
+
+import com.restos.model.Menu;
+import com.restos.model.Money;
+import com.restos.model.Order;
+import com.restos.model.OrderItem;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Row mapper warm-up
+ * Runs the order, order item and menu row mappers over in-memory row
+ * sets shaped like the DAO queries, so the JIT compiles them before the
+ * first dashboard refresh. Rows are built from the menu catalog; nothing
+ * is sent to the database.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public final class RowMapperWarmup {
+
+    // Columns selected by OrderDAOImpl queries
+    private static final String[] ORDER_COLUMNS = {
+            "id", "table_id", "user_id", "customer_name", "order_type", "status",
+            "total_amount", "created_at", "updated_at",
+            "table_number", "capacity", "table_status",
+            "username", "full_name"
+    };
+    private static final int[] ORDER_TYPES = {
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.DECIMAL, Types.TIMESTAMP, Types.TIMESTAMP,
+            Types.VARCHAR, Types.INTEGER, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR
+    };
+
+    // Columns selected by OrderItemDAOImpl queries
+    private static final String[] ORDER_ITEM_COLUMNS = {
+            "id", "order_id", "menu_id", "quantity", "price", "subtotal",
+            "notes", "status", "created_at",
+            "menu_name", "menu_description", "menu_price",
+            "image_url", "is_available"
+    };
+    private static final int[] ORDER_ITEM_TYPES = {
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.DECIMAL, Types.DECIMAL,
+            Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP,
+            Types.VARCHAR, Types.VARCHAR, Types.DECIMAL,
+            Types.VARCHAR, Types.BOOLEAN
+    };
+
+    // Columns selected by MenuDAOImpl queries
+    private static final String[] MENU_COLUMNS = {
+            "id", "category_id", "name", "description", "price", "image_url", "is_active", "created_at",
+            "category_name", "category_icon"
+    };
+    private static final int[] MENU_TYPES = {
+            Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.DECIMAL, Types.VARCHAR,
+            Types.BOOLEAN, Types.TIMESTAMP,
+            Types.VARCHAR, Types.VARCHAR
+    };
+
+    private static final String[] ORDER_STATUSES = {
+            Order.STATUS_PENDING, Order.STATUS_PROCESSING, Order.STATUS_DELIVERED
+    };
+    private static final String[] ITEM_STATUSES = {
+            OrderItem.STATUS_PENDING, OrderItem.STATUS_COOKING, OrderItem.STATUS_SERVED
+    };
+
+    // Items per sample order, as on a typical kitchen card
+    private static final int ITEMS_PER_ORDER = 3;
+
+    private final OrderDAOImpl orderDAO = new OrderDAOImpl();
+    private final OrderItemDAOImpl orderItemDAO = new OrderItemDAOImpl();
+    private final MenuDAOImpl menuDAO = new MenuDAOImpl();
+
+    private final CachedRowSet orderRows;
+    private final CachedRowSet orderItemRows;
+    private final CachedRowSet menuRows;
+
+    /**
+     * Build the row sets
+     *
+     * @param menus  Menu catalog the sample rows refer to (must not be empty)
+     * @param orders Number of sample orders
+     * @throws SQLException if a row set cannot be built
+     */
+    public RowMapperWarmup(List<Menu> menus, int orders) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        orderRows = createOrders(orders, now);
+        orderItemRows = createOrderItems(menus, orders, now);
+        menuRows = createMenus(menus, now);
+    }
+
+    /**
+     * Map every sample order
+     */
+    public List<Order> mapOrders() throws SQLException {
+        List<Order> orders = new ArrayList<>();
+        orderRows.beforeFirst();
+        while (orderRows.next()) {
+            orders.add(orderDAO.mapResultSetToOrder(orderRows));
+        }
+        return orders;
+    }
+
+    /**
+     * Map every sample order item
+     */
+    public List<OrderItem> mapOrderItems() throws SQLException {
+        List<OrderItem> items = new ArrayList<>();
+        orderItemRows.beforeFirst();
+        while (orderItemRows.next()) {
+            items.add(orderItemDAO.mapResultSetToOrderItem(orderItemRows));
+        }
+        return items;
+    }
+
+    /**
+     * Map the menu catalog rows
+     */
+    public List<Menu> mapMenus() throws SQLException {
+        List<Menu> menus = new ArrayList<>();
+        menuRows.beforeFirst();
+        while (menuRows.next()) {
+            menus.add(menuDAO.mapResultSetToMenu(menuRows));
+        }
+        return menus;
+    }
+
+    private static CachedRowSet createOrders(int orders, Timestamp now) throws SQLException {
+        CachedRowSet rs = create(ORDER_COLUMNS, ORDER_TYPES);
+        for (int i = 1; i <= orders; i++) {
+            int table = (i % 12) + 1;
+            rs.moveToInsertRow();
+            rs.updateInt("id", i);
+            rs.updateInt("table_id", table);
+            rs.updateInt("user_id", 1);
+            rs.updateString("customer_name", "Tamu " + i);
+            rs.updateString("order_type", i % 5 == 0 ? Order.TYPE_TAKE_AWAY : Order.TYPE_DINE_IN);
+            rs.updateString("status", ORDER_STATUSES[i % ORDER_STATUSES.length]);
+            rs.updateBigDecimal("total_amount", BigDecimal.valueOf(25_000L + (i * 1_500L)));
+            rs.updateTimestamp("created_at", now);
+            rs.updateTimestamp("updated_at", now);
+            rs.updateString("table_number", "T" + table);
+            rs.updateInt("capacity", 4);
+            rs.updateString("table_status", "occupied");
+            rs.updateString("username", "waiter");
+            rs.updateString("full_name", "Waiter");
+            rs.insertRow();
+        }
+        rs.moveToCurrentRow();
+        return rs;
+    }
+
+    private static CachedRowSet createOrderItems(List<Menu> menus, int orders, Timestamp now)
+            throws SQLException {
+        CachedRowSet rs = create(ORDER_ITEM_COLUMNS, ORDER_ITEM_TYPES);
+        int rows = orders * ITEMS_PER_ORDER;
+        for (int i = 1; i <= rows; i++) {
+            Menu menu = menus.get(i % menus.size());
+            Money price = menu.getPrice() != null ? menu.getPrice() : Money.ZERO;
+            int quantity = (i % 3) + 1;
+
+            rs.moveToInsertRow();
+            rs.updateInt("id", i);
+            rs.updateInt("order_id", ((i - 1) / ITEMS_PER_ORDER) + 1);
+            rs.updateInt("menu_id", menu.getId());
+            rs.updateInt("quantity", quantity);
+            rs.updateBigDecimal("price", price.toBigDecimal());
+            rs.updateBigDecimal("subtotal", price.times(quantity).toBigDecimal());
+            rs.updateString("notes", i % 4 == 0 ? "Tanpa pedas" : null);
+            rs.updateString("status", ITEM_STATUSES[i % ITEM_STATUSES.length]);
+            rs.updateTimestamp("created_at", now);
+            rs.updateString("menu_name", menu.getName());
+            rs.updateString("menu_description", menu.getDescription());
+            rs.updateBigDecimal("menu_price", price.toBigDecimal());
+            rs.updateString("image_url", menu.getImageUrl());
+            rs.updateBoolean("is_available", true);
+            rs.insertRow();
+        }
+        rs.moveToCurrentRow();
+        return rs;
+    }
+
+    private static CachedRowSet createMenus(List<Menu> menus, Timestamp now) throws SQLException {
+        CachedRowSet rs = create(MENU_COLUMNS, MENU_TYPES);
+        for (Menu menu : menus) {
+            rs.moveToInsertRow();
+            rs.updateInt("id", menu.getId());
+            rs.updateInt("category_id", menu.getCategoryId());
+            rs.updateString("name", menu.getName());
+            rs.updateString("description", menu.getDescription());
+            rs.updateBigDecimal("price", menu.getPrice().toBigDecimal());
+            rs.updateString("image_url", menu.getImageUrl());
+            rs.updateBoolean("is_active", true);
+            rs.updateTimestamp("created_at", now);
+            rs.updateString("category_name", menu.getCategoryName());
+            rs.updateString("category_icon", menu.getCategory() != null ? menu.getCategory().getIcon() : null);
+            rs.insertRow();
+        }
+        rs.moveToCurrentRow();
+        return rs;
+    }
+
+    /**
+     * Create an empty row set with the given columns
+     */
+    private static CachedRowSet create(String[] columns, int[] types) throws SQLException {
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        metaData.setColumnCount(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            metaData.setColumnName(i + 1, columns[i]);
+            metaData.setColumnLabel(i + 1, columns[i]);
+            metaData.setColumnType(i + 1, types[i]);
+            metaData.setNullable(i + 1, RowSetMetaDataImpl.columnNullable);
+        }
+
+        CachedRowSet rs = RowSetProvider.newFactory().createCachedRowSet();
+        rs.setMetaData(metaData);
+        return rs;
+    }
+}
@@ -55,6 +55,7 @@ public interface TableDAO {
      * @param table Table to insert
      * @return Generated ID or -1 if failed
      */
+    @Write
     int insert(Table table);
 
     /**
@@ -63,6 +64,7 @@ public interface TableDAO {
      * @param table Table to update
      * @return true if successful
      */
+    @Write
     boolean update(Table table);
 
     /**
@@ -72,6 +74,7 @@ public interface TableDAO {
      * @param status New status
      * @return true if successful
      */
+    @Write
     boolean updateStatus(int id, String status);
 
     /**
@@ -80,6 +83,7 @@ public interface TableDAO {
      * @param id Table ID
      * @return true if successful
      */
+    @Write
     boolean delete(int id);
 
     /**
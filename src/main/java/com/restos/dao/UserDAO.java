@@ -48,6 +48,7 @@ public interface UserDAO {
      * @param user User to insert
      * @return Generated ID or -1 if failed
      */
+    @Write
     int insert(User user);
 
     /**
@@ -56,6 +57,7 @@ public interface UserDAO {
      * @param user User to update
      * @return true if successful
      */
+    @Write
     boolean update(User user);
 
     /**
@@ -65,6 +67,7 @@ public interface UserDAO {
      * @param passwordHash New password hash
      * @return true if successful
      */
+    @Write
     boolean updatePassword(int id, String passwordHash);
 
     /**
@@ -73,6 +76,7 @@ public interface UserDAO {
      * @param id User ID
      * @return true if successful
      */
+    @Write
     boolean delete(int id);
 
     /**
@@ -114,5 +118,6 @@ public interface UserDAO {
      * @param isActive Active status
      * @return true if successful
      */
+    @Write
     boolean setActive(int id, boolean isActive);
 }
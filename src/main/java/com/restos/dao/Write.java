@@ -0,0 +1,21 @@
+package com.restos.dao;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a DAO method that changes data. It runs on the primary, and the
+ * terminal's @ReadMostly reads stay on the primary for a while after it,
+ * so the terminal sees its own change.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Write {
+}
@@ -0,0 +1,120 @@
+package com.restos.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Event Bus
+ * Publisher of order events. The services publish after their changes
+ * are saved; subscribers (the dashboards, the API event stream and the
+ * InvalidationBus, which relays them to the other terminals) are called
+ * on the publishing thread in sequence order, so they must only hand the
+ * event off and never block. Events made on other terminals come back in
+ * through publishRemote.
+ *
+ * The most recent events are kept so a client that reconnects can
+ * catch up on what it missed instead of reloading everything.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class EventBus {
+
+    private static EventBus instance;
+
+    private static final int HISTORY_SIZE = 1024;
+
+    private final List<Consumer<OrderEvent>> subscribers = new CopyOnWriteArrayList<>();
+    private final OrderEvent[] history = new OrderEvent[HISTORY_SIZE];
+    private long lastSequence;
+
+    /**
+     * Private constructor for Singleton pattern
+     */
+    private EventBus() {
+    }
+
+    /**
+     * Get singleton instance of EventBus
+     * @return EventBus instance
+     */
+    public static synchronized EventBus getInstance() {
+        if (instance == null) {
+            instance = new EventBus();
+        }
+        return instance;
+    }
+
+    public void subscribe(Consumer<OrderEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(Consumer<OrderEvent> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Publish an order event
+     *
+     * @param type    Event type (OrderEvent constants)
+     * @param orderId Order ID
+     * @param itemId  Order item ID, or 0
+     * @param tableId Table ID, or null
+     * @param status  New status
+     */
+    public void publish(String type, int orderId, int itemId, Integer tableId, String status) {
+        publish(type, orderId, itemId, tableId, status, false);
+    }
+
+    /**
+     * Publish an order event received from another terminal; it is
+     * delivered here but not relayed again
+     *
+     * @param type    Event type (OrderEvent constants)
+     * @param orderId Order ID
+     * @param itemId  Order item ID, or 0
+     * @param tableId Table ID, or null
+     * @param status  New status
+     */
+    public void publishRemote(String type, int orderId, int itemId, Integer tableId, String status) {
+        publish(type, orderId, itemId, tableId, status, true);
+    }
+
+    private void publish(String type, int orderId, int itemId, Integer tableId, String status, boolean remote) {
+        // Numbering and delivery share the lock so subscribers see events in order
+        synchronized (this) {
+            OrderEvent event = new OrderEvent(++lastSequence, type, orderId, itemId, tableId, status, remote);
+            history[(int) (event.getSequence() % HISTORY_SIZE)] = event;
+            for (Consumer<OrderEvent> subscriber : subscribers) {
+                try {
+                    subscriber.accept(event);
+                } catch (RuntimeException e) {
+                    System.err.println("Error delivering " + event + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the events published after the given one
+     *
+     * @param sequence Sequence number of the last event the caller has
+     * @return Newer events in order, or null if some of them are no longer kept
+     */
+    public synchronized List<OrderEvent> since(long sequence) {
+        if (sequence > lastSequence || sequence < lastSequence - HISTORY_SIZE) {
+            return null;
+        }
+        List<OrderEvent> events = new ArrayList<>((int) (lastSequence - sequence));
+        for (long s = sequence + 1; s <= lastSequence; s++) {
+            events.add(history[(int) (s % HISTORY_SIZE)]);
+        }
+        return events;
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+}
@@ -0,0 +1,92 @@
+package com.restos.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Order Event
+ * Something that happened to an order after it was saved. Events are
+ * numbered in publish order, so a client can tell which ones it missed.
+ * Events relayed from other terminals are numbered here as they arrive.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public final class OrderEvent {
+
+    public static final String ORDER_CREATED = "order-created";
+    public static final String ORDER_UPDATED = "order-updated";
+    public static final String ITEM_STATUS_CHANGED = "item-status-changed";
+    public static final String ORDER_DELIVERED = "order-delivered";
+    public static final String PAYMENT_SETTLED = "payment-settled";
+
+    private final long sequence;
+    private final String type;
+    private final int orderId;
+    private final int itemId;
+    private final Integer tableId;
+    private final String status;
+    private final LocalDateTime time;
+    private final boolean remote;
+
+    OrderEvent(long sequence, String type, int orderId, int itemId, Integer tableId, String status,
+            boolean remote) {
+        this.sequence = sequence;
+        this.type = type;
+        this.orderId = orderId;
+        this.itemId = itemId;
+        this.tableId = tableId;
+        this.status = status;
+        this.time = LocalDateTime.now();
+        this.remote = remote;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public int getOrderId() {
+        return orderId;
+    }
+
+    /**
+     * @return Order item ID for item events, 0 otherwise
+     */
+    public int getItemId() {
+        return itemId;
+    }
+
+    /**
+     * @return Table ID, or null when not known
+     */
+    public Integer getTableId() {
+        return tableId;
+    }
+
+    /**
+     * @return New status of the item (item events) or of the order
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getTime() {
+        return time;
+    }
+
+    /**
+     * @return true if the change was made on another terminal
+     */
+    public boolean isRemote() {
+        return remote;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderEvent{#" + sequence + " " + type + " order=" + orderId
+                + (itemId > 0 ? " item=" + itemId : "") + " status=" + status + (remote ? " remote" : "") + "}";
+    }
+}
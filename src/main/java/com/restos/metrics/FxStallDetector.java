@@ -0,0 +1,311 @@
+package com.restos.metrics;
+
+import javafx.application.Platform;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JavaFX Application Thread stall detector
+ *
+ * A watchdog thread posts a pulse with Platform.runLater and measures
+ * how long the FX thread takes to run it. When a pulse is late by more
+ * than the threshold the FX thread's stack is captured and the first
+ * controller frame (e.g. KitchenDashboardController.loadOrderQueue) is
+ * recorded as the blocker. Stalls and periodic duration histograms are
+ * written to a rolling log in ~/.restos/logs.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class FxStallDetector {
+
+    private static final String BLOCKER_PACKAGE = "com.restos.controller.";
+    private static final int MAX_LOGGED_FRAMES = 25;
+
+    // Rolling log: fx-stalls.log, fx-stalls.log.1 ... fx-stalls.log.N
+    private static final String LOG_NAME = "fx-stalls.log";
+    private static final long MAX_LOG_BYTES = 1024 * 1024;
+    private static final int MAX_LOG_FILES = 5;
+
+    // Upper bounds (ms) of the stall-duration histogram printed in the log
+    private static final long[] STALL_BOUNDS_MS = { 500, 1000, 2000, 5000, Long.MAX_VALUE };
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private static FxStallDetector instance;
+
+    private final long pulseMillis;
+    private final long thresholdMillis;
+    private final Path logDir;
+
+    private final ScheduledExecutorService watchdog;
+    private final LatencyHistogram dispatchLatency = new LatencyHistogram();
+    private final LatencyHistogram stallDuration = new LatencyHistogram();
+    private final AtomicLongArray stallBuckets = new AtomicLongArray(STALL_BOUNDS_MS.length);
+    private final Map<String, LongAdder> blockers = new ConcurrentHashMap<>();
+
+    private volatile Thread fxThread;
+    // Post time of the pulse waiting on the FX thread, 0 when none is pending
+    private volatile long pendingSince;
+    private volatile long capturedFor;
+    private volatile StackTraceElement[] capturedStack;
+
+    private FxStallDetector(long pulseMillis, long thresholdMillis, Path logDir) {
+        this.pulseMillis = pulseMillis;
+        this.thresholdMillis = thresholdMillis;
+        this.logDir = logDir;
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fx-stall-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start the detector (once) with settings from system properties:
+     * restos.stall.threshold.ms (default 250), restos.stall.pulse.ms (100)
+     * and restos.log.dir (~/.restos/logs)
+     */
+    public static synchronized void start() {
+        if (instance != null) {
+            return;
+        }
+        Path logDir = Path.of(System.getProperty("restos.log.dir",
+                Path.of(System.getProperty("user.home"), ".restos", "logs").toString()));
+        instance = new FxStallDetector(
+                Long.getLong("restos.stall.pulse.ms", 100),
+                Long.getLong("restos.stall.threshold.ms", 250),
+                logDir);
+        instance.schedule();
+    }
+
+    /**
+     * Stop the detector and append a final summary to the log
+     */
+    public static synchronized void stop() {
+        if (instance != null) {
+            instance.shutdown();
+            instance = null;
+        }
+    }
+
+    /**
+     * Get the running detector
+     * @return Detector, or null if not started
+     */
+    public static synchronized FxStallDetector getInstance() {
+        return instance;
+    }
+
+    private void schedule() {
+        watchdog.scheduleWithFixedDelay(this::check, pulseMillis, pulseMillis, TimeUnit.MILLISECONDS);
+        watchdog.scheduleAtFixedRate(() -> writeSummary("PERIODIC"), 10, 10, TimeUnit.MINUTES);
+    }
+
+    private void shutdown() {
+        watchdog.shutdownNow();
+        writeSummary("FINAL");
+    }
+
+    /**
+     * Watchdog tick: post a pulse, or capture the FX stack if the
+     * pending one is late
+     */
+    private void check() {
+        long posted = pendingSince;
+        if (posted == 0) {
+            long now = System.nanoTime();
+            pendingSince = now;
+            Platform.runLater(() -> pulse(now));
+            return;
+        }
+
+        long lateMillis = (System.nanoTime() - posted) / 1_000_000;
+        Thread thread = fxThread;
+        if (lateMillis >= thresholdMillis && capturedFor != posted && thread != null) {
+            capturedStack = thread.getStackTrace();
+            capturedFor = posted;
+        }
+    }
+
+    /**
+     * Runs on the FX thread
+     */
+    private void pulse(long posted) {
+        fxThread = Thread.currentThread();
+        long latencyNanos = System.nanoTime() - posted;
+        StackTraceElement[] stack = capturedFor == posted ? capturedStack : null;
+        pendingSince = 0;
+
+        dispatchLatency.record(latencyNanos / 1000);
+        if (latencyNanos / 1_000_000 >= thresholdMillis && !watchdog.isShutdown()) {
+            // Keep file IO off the FX thread
+            watchdog.execute(() -> recordStall(latencyNanos / 1_000_000, stack));
+        }
+    }
+
+    private void recordStall(long millis, StackTraceElement[] stack) {
+        stallDuration.record(millis * 1000);
+        for (int i = 0; i < STALL_BOUNDS_MS.length; i++) {
+            if (millis < STALL_BOUNDS_MS[i]) {
+                stallBuckets.incrementAndGet(i);
+                break;
+            }
+        }
+
+        String blocker = findBlocker(stack);
+        blockers.computeIfAbsent(blocker, key -> new LongAdder()).increment();
+
+        List<String> lines = new ArrayList<>();
+        lines.add(timestamp() + " STALL " + millis + " ms blocked in " + blocker);
+        if (stack != null) {
+            for (int i = 0; i < Math.min(stack.length, MAX_LOGGED_FRAMES); i++) {
+                lines.add("    at " + stack[i]);
+            }
+        }
+        append(lines);
+        System.err.println("[FX STALL] " + millis + " ms blocked in " + blocker);
+    }
+
+    /**
+     * Find the first application controller frame of a stack
+     */
+    private static String findBlocker(StackTraceElement[] stack) {
+        if (stack == null || stack.length == 0) {
+            return "<unknown>";
+        }
+        for (StackTraceElement frame : stack) {
+            if (frame.getClassName().startsWith(BLOCKER_PACKAGE)) {
+                String className = frame.getClassName().substring(BLOCKER_PACKAGE.length());
+                return className + "." + frame.getMethodName();
+            }
+        }
+        StackTraceElement top = stack[0];
+        return top.getClassName() + "." + top.getMethodName();
+    }
+
+    private void writeSummary(String kind) {
+        if (dispatchLatency.getCount() == 0) {
+            return;
+        }
+        long[] dispatch = dispatchLatency.getPercentiles(50, 99);
+        long[] stalls = stallDuration.getPercentiles(50, 95);
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "%s SUMMARY %s pulses=%d dispatch_p50=%.1fms dispatch_p99=%.1fms "
+                        + "stalls=%d stall_p50=%dms stall_p95=%dms stall_max=%dms",
+                timestamp(), kind, dispatchLatency.getCount(), dispatch[0] / 1000.0, dispatch[1] / 1000.0,
+                stallDuration.getCount(), stalls[0] / 1000, stalls[1] / 1000, stallDuration.getMax() / 1000));
+
+        StringJoiner histogram = new StringJoiner(" | ", "    histogram: ", "");
+        long lower = thresholdMillis;
+        for (int i = 0; i < STALL_BOUNDS_MS.length; i++) {
+            String range = STALL_BOUNDS_MS[i] == Long.MAX_VALUE
+                    ? ">=" + lower + "ms"
+                    : lower + "-" + STALL_BOUNDS_MS[i] + "ms";
+            histogram.add(range + ": " + stallBuckets.get(i));
+            lower = STALL_BOUNDS_MS[i];
+        }
+        lines.add(histogram.toString());
+
+        StringJoiner top = new StringJoiner(", ", "    blockers: ", "");
+        blockers.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+                .limit(10)
+                .forEach(e -> top.add(e.getKey() + "=" + e.getValue().sum()));
+        lines.add(top.toString());
+
+        append(lines);
+    }
+
+    /**
+     * Append lines to the log, rolling it over when it grows too large
+     */
+    private synchronized void append(List<String> lines) {
+        try {
+            Files.createDirectories(logDir);
+            Path log = logDir.resolve(LOG_NAME);
+            if (Files.exists(log) && Files.size(log) > MAX_LOG_BYTES) {
+                rollOver(log);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(log, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error writing stall log: " + e.getMessage());
+        }
+    }
+
+    private void rollOver(Path log) throws IOException {
+        Files.deleteIfExists(logDir.resolve(LOG_NAME + "." + MAX_LOG_FILES));
+        for (int i = MAX_LOG_FILES - 1; i >= 1; i--) {
+            Path older = logDir.resolve(LOG_NAME + "." + i);
+            if (Files.exists(older)) {
+                Files.move(older, logDir.resolve(LOG_NAME + "." + (i + 1)), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(log, logDir.resolve(LOG_NAME + ".1"), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static String timestamp() {
+        return LocalDateTime.now().format(TIMESTAMP);
+    }
+
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+    public long getStallCount() {
+        return stallDuration.getCount();
+    }
+
+    public long getMaxStallMillis() {
+        return stallDuration.getMax() / 1000;
+    }
+
+    /**
+     * Get the 99th percentile of the FX dispatch latency
+     */
+    public double getDispatchP99Millis() {
+        return dispatchLatency.getPercentiles(99)[0] / 1000.0;
+    }
+
+    /**
+     * Get the controller method that caused the most stalls
+     * @return Blocker description, or null if no stall was recorded
+     */
+    public String getTopBlocker() {
+        return blockers.entrySet().stream()
+                .max(Comparator.comparingLong(e -> e.getValue().sum()))
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+
+    public Path getLogFile() {
+        return logDir.resolve(LOG_NAME);
+    }
+}
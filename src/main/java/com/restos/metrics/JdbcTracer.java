@@ -0,0 +1,191 @@
+package com.restos.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * JDBC tracing layer
+ * Wraps connections so that every executed statement is counted
+ * towards the open QueryScope, statements slower than the threshold
+ * are logged with their bind parameters, and SQL errors are flagged
+ * on the DAO call being measured. Bind parameters of statements that
+ * touch a sensitive column (password hashes, and the legacy plaintext
+ * passwords they are compared with) are never logged.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class JdbcTracer {
+
+    // Longest bind value printed in the slow-query log
+    private static final int MAX_PARAM_LENGTH = 64;
+
+    // Columns whose statements are logged without bind values
+    private static final String[] SENSITIVE_COLUMNS = { "password_hash" };
+
+    private final long slowThresholdNanos;
+
+    /**
+     * Constructor
+     * @param slowThresholdMillis Statements taking at least this long are logged; negative disables the log
+     */
+    public JdbcTracer(long slowThresholdMillis) {
+        this.slowThresholdNanos = slowThresholdMillis < 0 ? Long.MAX_VALUE : slowThresholdMillis * 1_000_000;
+    }
+
+    /**
+     * Wrap a connection in a tracing proxy
+     * @param connection Connection to trace
+     * @return Traced connection; closing it closes the wrapped connection
+     */
+    public Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new ConnectionHandler(connection));
+    }
+
+    /**
+     * Called after every statement execution
+     */
+    private void executed(String sql, Map<Integer, Object> params, long nanos, SQLException error) {
+        QueryScope.countStatement();
+
+        if (error != null) {
+            MetricsProxy.markSqlFailure();
+            System.err.println("[SQL ERROR] " + error.getMessage() + " | " + describe(sql, params));
+        } else if (nanos >= slowThresholdNanos) {
+            QueryScope scope = QueryScope.current();
+            System.err.println(String.format("[SLOW SQL] %d ms%s | %s", nanos / 1_000_000,
+                    scope != null ? " in '" + scope.getAction() + "'" : "", describe(sql, params)));
+        }
+    }
+
+    private static String describe(String sql, Map<Integer, Object> params) {
+        String statement = sql == null ? "<batch>" : sql.replaceAll("\\s+", " ").trim();
+        if (params == null || params.isEmpty()) {
+            return statement;
+        }
+        boolean redact = isSensitive(statement);
+        StringJoiner joiner = new StringJoiner(", ", " [", "]");
+        for (Map.Entry<Integer, Object> param : params.entrySet()) {
+            joiner.add(param.getKey() + "=" + (redact ? "<redacted>" : formatParam(param.getValue())));
+        }
+        return statement + joiner;
+    }
+
+    private static boolean isSensitive(String statement) {
+        String lower = statement.toLowerCase();
+        for (String column : SENSITIVE_COLUMNS) {
+            if (lower.contains(column)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String formatParam(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        String text = value.toString();
+        if (text.length() > MAX_PARAM_LENGTH) {
+            text = text.substring(0, MAX_PARAM_LENGTH) + "...";
+        }
+        return "'" + text + "'";
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Hands out traced statements
+     */
+    private class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = JdbcTracer.invoke(connection, method, args);
+
+            if (result instanceof Statement) {
+                Class<?> type = method.getReturnType();
+                if (type == CallableStatement.class || type == PreparedStatement.class || type == Statement.class) {
+                    String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                    return Proxy.newProxyInstance(
+                            Connection.class.getClassLoader(),
+                            new Class<?>[] { type },
+                            new StatementHandler((Statement) result, sql, proxy));
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Records bind parameters and times executions
+     */
+    private class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final String preparedSql;
+        private final Object connectionProxy;
+        private final Map<Integer, Object> params = new TreeMap<>();
+
+        StatementHandler(Statement statement, String preparedSql, Object connectionProxy) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+            this.connectionProxy = connectionProxy;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                params.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                params.clear();
+            } else if (name.equals("getConnection")) {
+                return connectionProxy;
+            }
+
+            if (!name.startsWith("execute")) {
+                return JdbcTracer.invoke(statement, method, args);
+            }
+
+            // execute(), executeQuery(sql), executeBatch(), ...
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+            long start = System.nanoTime();
+            try {
+                Object result = JdbcTracer.invoke(statement, method, args);
+                executed(sql, params, System.nanoTime() - start, null);
+                return result;
+            } catch (SQLException e) {
+                executed(sql, params, System.nanoTime() - start, e);
+                throw e;
+            }
+        }
+    }
+}
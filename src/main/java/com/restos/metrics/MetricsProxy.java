@@ -0,0 +1,84 @@
+package com.restos.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dynamic proxy that times every interface method of a target
+ * and records it in the MetricsRegistry as "Prefix.method"
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class MetricsProxy implements InvocationHandler {
+
+    // Metrics per interface method, so calls do not build names
+    private static final Map<Method, OperationMetrics> METHOD_METRICS = new ConcurrentHashMap<>();
+
+    // Failure flag of the innermost call in progress on this thread;
+    // DAOs swallow SQLExceptions, so the JDBC layer reports them here
+    private static final ThreadLocal<boolean[]> SQL_FAILED = new ThreadLocal<>();
+
+    private final Object target;
+    private final String prefix;
+
+    private MetricsProxy(Object target, String prefix) {
+        this.target = target;
+        this.prefix = prefix;
+    }
+
+    /**
+     * Wrap an implementation in a timing proxy
+     *
+     * @param type   Interface to expose
+     * @param target Implementation
+     * @return Instrumented instance
+     */
+    public static <T> T wrap(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[] { type },
+                new MetricsProxy(target, type.getSimpleName())));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(target, args);
+        }
+
+        boolean[] previous = SQL_FAILED.get();
+        boolean[] sqlFailed = new boolean[1];
+        SQL_FAILED.set(sqlFailed);
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        Object result = null;
+        try {
+            result = method.invoke(target, args);
+            failed = false;
+            return result;
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            SQL_FAILED.set(previous);
+            METHOD_METRICS.computeIfAbsent(method,
+                    m -> MetricsRegistry.getInstance().operation(prefix + "." + m.getName()))
+                    .record(System.nanoTime() - start, MetricsRegistry.rowsOf(result), failed || sqlFailed[0]);
+        }
+    }
+
+    /**
+     * Flag the DAO call in progress on this thread as failed
+     */
+    static void markSqlFailure() {
+        boolean[] sqlFailed = SQL_FAILED.get();
+        if (sqlFailed != null) {
+            sqlFailed[0] = true;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.restos.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Metrics Registry
+ * Singleton holding per-operation call counts, errors, rows and
+ * latency histograms for DAO and service methods
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class MetricsRegistry {
+
+    private static MetricsRegistry instance;
+
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+    private volatile LocalDateTime since = LocalDateTime.now();
+
+    /**
+     * Private constructor for Singleton pattern
+     */
+    private MetricsRegistry() {
+    }
+
+    /**
+     * Get singleton instance of MetricsRegistry
+     * @return MetricsRegistry instance
+     */
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Get (or create) the metrics of an operation
+     * @param name Operation name, e.g. "OrderDAO.findById"
+     * @return Operation metrics
+     */
+    public OperationMetrics operation(String name) {
+        return operations.computeIfAbsent(name, OperationMetrics::new);
+    }
+
+    /**
+     * Time an operation and record its result
+     * @param name Operation name
+     * @param body Operation body
+     * @return Result of the body
+     */
+    public <T> T time(String name, Supplier<T> body) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        T result = null;
+        try {
+            result = body.get();
+            failed = false;
+            return result;
+        } finally {
+            operation(name).record(System.nanoTime() - start, rowsOf(result), failed);
+        }
+    }
+
+    /**
+     * Time an operation without a result
+     * @param name Operation name
+     * @param body Operation body
+     */
+    public void time(String name, Runnable body) {
+        time(name, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * Count the rows carried by a result: collection size, 1 for a
+     * single entity, 0 for null, counters and flags
+     */
+    static long rowsOf(Object result) {
+        if (result == null || result instanceof Number || result instanceof Boolean) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Map) {
+            return ((Map<?, ?>) result).size();
+        }
+        return 1;
+    }
+
+    /**
+     * Get snapshots of all operations, slowest total time first
+     * @return Operation snapshots
+     */
+    public List<OperationMetrics.Snapshot> snapshot() {
+        List<OperationMetrics.Snapshot> list = new ArrayList<>();
+        for (OperationMetrics metrics : operations.values()) {
+            list.add(metrics.snapshot());
+        }
+        list.sort(Comparator.comparingDouble(OperationMetrics.Snapshot::getTotal).reversed());
+        return list;
+    }
+
+    /**
+     * Reset all counters
+     */
+    public void reset() {
+        operations.values().forEach(OperationMetrics::reset);
+        since = LocalDateTime.now();
+    }
+
+    /**
+     * Get the time metrics have been collected since (start or last reset)
+     */
+    public LocalDateTime getSince() {
+        return since;
+    }
+
+    /**
+     * Export a snapshot as CSV
+     * @param file Target file
+     * @throws IOException if the file cannot be written
+     */
+    public void exportCsv(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# Restos metrics since " + since + ", exported " + LocalDateTime.now());
+            writer.newLine();
+            writer.write("operation,calls,errors,rows,mean_us,p50_us,p95_us,p99_us,max_us");
+            writer.newLine();
+            for (OperationMetrics.Snapshot s : snapshot()) {
+                writer.write(String.format(Locale.ROOT, "%s,%d,%d,%d,%.1f,%d,%d,%d,%d",
+                        s.getName(), s.getCalls(), s.getErrors(), s.getRows(), s.getMean(),
+                        s.getP50(), s.getP95(), s.getP99(), s.getMax()));
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.restos.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histogram for one instrumented operation
+ * (e.g. "OrderDAO.findForKitchen")
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class OperationMetrics {
+
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public OperationMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Record one call
+     *
+     * @param nanos  Elapsed time in nanoseconds
+     * @param rows   Rows returned (0 for non-query results)
+     * @param failed Whether the call failed
+     */
+    public void record(long nanos, long rows, boolean failed) {
+        calls.increment();
+        this.rows.add(rows);
+        if (failed) {
+            errors.increment();
+        }
+        latency.record(nanos / 1000);
+    }
+
+    /**
+     * Count an error without a separate call (e.g. a swallowed SQLException)
+     */
+    public void recordError() {
+        errors.increment();
+    }
+
+    /**
+     * Clear all counters
+     */
+    public void reset() {
+        calls.reset();
+        errors.reset();
+        rows.reset();
+        latency.reset();
+    }
+
+    /**
+     * Take a point-in-time snapshot for display or export
+     */
+    public Snapshot snapshot() {
+        long[] p = latency.getPercentiles(50, 95, 99);
+        return new Snapshot(name, calls.sum(), errors.sum(), rows.sum(),
+                latency.getMean(), p[0], p[1], p[2], latency.getMax());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Immutable view of an operation's metrics (latencies in microseconds)
+     */
+    public static class Snapshot {
+        private final String name;
+        private final long calls;
+        private final long errors;
+        private final long rows;
+        private final double mean;
+        private final long p50;
+        private final long p95;
+        private final long p99;
+        private final long max;
+
+        Snapshot(String name, long calls, long errors, long rows, double mean, long p50, long p95, long p99, long max) {
+            this.name = name;
+            this.calls = calls;
+            this.errors = errors;
+            this.rows = rows;
+            this.mean = mean;
+            this.p50 = p50;
+            this.p95 = p95;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP95() {
+            return p95;
+        }
+
+        public long getP99() {
+            return p99;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * Total time spent in this operation, in microseconds
+         */
+        public double getTotal() {
+            return mean * calls;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.restos.metrics;
+
+/**
+ * Counts the SQL statements executed by one logical UI action
+ * (e.g. "kitchen refresh", "submit order") on the current thread
+ *
+ * Scopes nest: a statement counts towards every open scope of the
+ * thread. When a scope with a budget is closed after executing more
+ * statements than allowed a warning is logged.
+ *
+ * <pre>
+ * try (QueryScope scope = QueryScope.open("kitchen refresh", 40)) {
+ *     loadOrderQueue();
+ * }
+ * </pre>
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class QueryScope implements AutoCloseable {
+
+    private static final ThreadLocal<QueryScope> CURRENT = new ThreadLocal<>();
+
+    private final String action;
+    private final int budget;
+    private final QueryScope parent;
+    private final long startNanos;
+    private int statementCount;
+    private boolean closed;
+
+    private QueryScope(String action, int budget, QueryScope parent) {
+        this.action = action;
+        this.budget = budget;
+        this.parent = parent;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Open a scope without a budget (counting only)
+     * @param action Action name
+     * @return Open scope, to be closed by the caller
+     */
+    public static QueryScope open(String action) {
+        return open(action, 0);
+    }
+
+    /**
+     * Open a scope with a statement budget
+     * @param action Action name
+     * @param budget Maximum number of statements, 0 for no limit
+     * @return Open scope, to be closed by the caller
+     */
+    public static QueryScope open(String action, int budget) {
+        QueryScope scope = new QueryScope(action, budget, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Get the innermost open scope of the current thread
+     * @return Current scope or null
+     */
+    public static QueryScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Count one executed statement towards all open scopes of this thread
+     */
+    static void countStatement() {
+        for (QueryScope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statementCount++;
+        }
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public boolean isOverBudget() {
+        return budget > 0 && statementCount > budget;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        // Restore the enclosing scope (scopes are closed innermost first)
+        if (CURRENT.get() == this) {
+            if (parent != null) {
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+
+        if (isOverBudget()) {
+            System.err.println(String.format("[QUERY BUDGET] '%s' executed %d statements (budget %d) in %d ms",
+                    action, statementCount, budget, (System.nanoTime() - startNanos) / 1_000_000));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return action + " (" + statementCount + (budget > 0 ? "/" + budget : "") + " statements)";
+    }
+}
@@ -0,0 +1,228 @@
+package com.restos.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Startup timeline
+ * Records the start offset and duration of each startup phase relative
+ * to JVM start, prints a report once startup is complete and appends it
+ * to ~/.restos/logs/startup-history.csv so runs of different releases
+ * can be compared
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class StartupTimeline {
+
+    private static final String HISTORY_NAME = "startup-history.csv";
+    private static final String HISTORY_HEADER = "run,version,phase,thread,start_ms,duration_ms";
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // Wall-clock process start, used as time zero for all phases
+    // (ProcessHandle avoids loading the JMX classes during startup)
+    private static final long JVM_START_MILLIS = ProcessHandle.current().info().startInstant()
+            .map(Instant::toEpochMilli)
+            .orElse(System.currentTimeMillis());
+    private static final long ORIGIN_NANOS = System.nanoTime()
+            - (System.currentTimeMillis() - JVM_START_MILLIS) * 1_000_000;
+
+    private static final List<Phase> phases = new ArrayList<>();
+    private static boolean reported;
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Record a phase that ends now
+     * @param name Phase name
+     * @param startNanos System.nanoTime() when the phase started
+     */
+    public static void record(String name, long startNanos) {
+        add(name, startNanos, System.nanoTime(), false);
+    }
+
+    /**
+     * Record a point in time (e.g. "login.shown"); its delta in the
+     * report compares the time since JVM start instead of the duration
+     * @param name Milestone name
+     */
+    public static void mark(String name) {
+        long now = System.nanoTime();
+        add(name, now, now, true);
+    }
+
+    private static void add(String name, long startNanos, long endNanos, boolean milestone) {
+        synchronized (phases) {
+            phases.add(new Phase(name, Thread.currentThread().getName(),
+                    (startNanos - ORIGIN_NANOS) / 1_000_000, (endNanos - startNanos) / 1_000_000, milestone));
+        }
+    }
+
+    /**
+     * Run a phase and record its duration
+     * @param name Phase name
+     * @param phase Work to run
+     * @return Result of the phase
+     */
+    public static <T> T time(String name, Supplier<T> phase) {
+        long start = System.nanoTime();
+        try {
+            return phase.get();
+        } finally {
+            record(name, start);
+        }
+    }
+
+    /**
+     * Run a phase and record its duration
+     * @param name Phase name
+     * @param phase Work to run
+     */
+    public static void time(String name, Runnable phase) {
+        time(name, () -> {
+            phase.run();
+            return null;
+        });
+    }
+
+    /**
+     * Get the time since JVM start in milliseconds
+     */
+    public static long getUptimeMillis() {
+        return (System.nanoTime() - ORIGIN_NANOS) / 1_000_000;
+    }
+
+    /**
+     * Print the timeline and append it to the history file (once)
+     * @param version Application version
+     */
+    public static void report(String version) {
+        List<Phase> snapshot;
+        synchronized (phases) {
+            if (reported) {
+                return;
+            }
+            reported = true;
+            snapshot = new ArrayList<>(phases);
+        }
+        snapshot.sort((a, b) -> Long.compare(a.startMillis, b.startMillis));
+
+        Path history = getHistoryFile();
+        Map<String, long[]> previous = new HashMap<>();
+        String previousRun = readLastRun(history, previous);
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "Startup timeline (v%s)%s%n", version,
+                previousRun != null ? ", compared with " + previousRun : ""));
+        report.append(String.format(Locale.ROOT, "  %-22s %-18s %8s %8s %8s%n",
+                "phase", "thread", "start", "ms", "delta"));
+        for (Phase phase : snapshot) {
+            long[] before = previous.get(phase.name);
+            String delta = "";
+            if (before != null) {
+                delta = String.format(Locale.ROOT, "%+d", phase.milestone
+                        ? phase.startMillis - before[0]
+                        : phase.durationMillis - before[1]);
+            }
+            report.append(String.format(Locale.ROOT, "  %-22s %-18s %8d %8d %8s%n",
+                    phase.name, phase.thread, phase.startMillis, phase.durationMillis, delta));
+        }
+        System.out.print(report);
+
+        appendHistory(history, version, snapshot);
+    }
+
+    public static Path getHistoryFile() {
+        return Path.of(System.getProperty("restos.log.dir",
+                Path.of(System.getProperty("user.home"), ".restos", "logs").toString()), HISTORY_NAME);
+    }
+
+    /**
+     * Read the phase start offsets and durations of the last run in the history file
+     * @return "v<version> @ <run>" of the last run, or null if there is none
+     */
+    private static String readLastRun(Path history, Map<String, long[]> timings) {
+        if (!Files.exists(history)) {
+            return null;
+        }
+        try {
+            List<String> lines = Files.readAllLines(history, StandardCharsets.UTF_8);
+            String lastRun = null;
+            String lastVersion = null;
+            // Rows of one run are contiguous, so walk back until the run changes
+            for (int i = lines.size() - 1; i >= 1; i--) {
+                String[] cols = lines.get(i).split(",", -1);
+                if (cols.length < 6) {
+                    continue;
+                }
+                if (lastRun == null) {
+                    lastRun = cols[0];
+                    lastVersion = cols[1];
+                } else if (!lastRun.equals(cols[0])) {
+                    break;
+                }
+                timings.putIfAbsent(cols[2], new long[] { Long.parseLong(cols[4]), Long.parseLong(cols[5]) });
+            }
+            return lastRun == null ? null : "v" + lastVersion + " @ " + lastRun;
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Error reading startup history: " + e.getMessage());
+            timings.clear();
+            return null;
+        }
+    }
+
+    private static void appendHistory(Path history, String version, List<Phase> snapshot) {
+        String run = LocalDateTime.now().format(TIMESTAMP);
+        try {
+            Files.createDirectories(history.getParent());
+            boolean header = !Files.exists(history);
+            try (BufferedWriter writer = Files.newBufferedWriter(history, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (header) {
+                    writer.write(HISTORY_HEADER);
+                    writer.newLine();
+                }
+                for (Phase phase : snapshot) {
+                    writer.write(String.join(",", run, version, phase.name, phase.thread,
+                            Long.toString(phase.startMillis), Long.toString(phase.durationMillis)));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error writing startup history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A recorded startup phase
+     */
+    private static class Phase {
+        final String name;
+        final String thread;
+        final long startMillis;
+        final long durationMillis;
+        final boolean milestone;
+
+        Phase(String name, String thread, long startMillis, long durationMillis, boolean milestone) {
+            this.name = name;
+            this.thread = thread;
+            this.startMillis = startMillis;
+            this.durationMillis = durationMillis;
+            this.milestone = milestone;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.restos.model;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -16,7 +15,7 @@ public class Menu {
     private int categoryId;
     private String name;
     private String description;
-    private BigDecimal price;
+    private Money price;
     private String imageUrl;
     private boolean isActive;
     private LocalDateTime createdAt;
@@ -30,7 +29,7 @@ public class Menu {
      */
     public Menu() {
         this.isActive = true;
-        this.price = BigDecimal.ZERO;
+        this.price = Money.ZERO;
     }
 
     /**
@@ -40,7 +39,7 @@ public class Menu {
      * @param name  Menu name
      * @param price Menu price
      */
-    public Menu(int id, String name, BigDecimal price) {
+    public Menu(int id, String name, Money price) {
         this.id = id;
         this.name = name;
         this.price = price;
@@ -60,7 +59,7 @@ public class Menu {
      * @param createdAt   Creation timestamp
      */
     public Menu(int id, int categoryId, String name, String description,
-            BigDecimal price, String imageUrl, boolean isActive, LocalDateTime createdAt) {
+            Money price, String imageUrl, boolean isActive, LocalDateTime createdAt) {
         this.id = id;
         this.categoryId = categoryId;
         this.name = name;
@@ -105,11 +104,11 @@ public class Menu {
         this.description = description;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(BigDecimal price) {
+    public void setPrice(Money price) {
         this.price = price;
     }
 
@@ -0,0 +1,177 @@
+package com.restos.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.regex.Pattern;
+
+/**
+ * Money Value - An amount of Indonesian Rupiah in whole rupiah
+ * Immutable and stored as a long, so adding up a cart or a day of
+ * payments is plain long arithmetic. Columns are still DECIMAL in the
+ * database; convert with of(BigDecimal) and toBigDecimal() at the JDBC
+ * boundary.
+ *
+ * Rounding rule: the database may hold fractions (e.g. older tax amounts),
+ * these are rounded half up to whole rupiah when read. Percentages (tax,
+ * service charge) are given in basis points and rounded half up, away
+ * from zero, to whole rupiah. Arithmetic that overflows a long throws
+ * ArithmeticException instead of wrapping.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    // 100% in basis points
+    public static final int BASIS_POINTS = 10_000;
+
+    // "25.000", "1.250.000" or "1.250.000,50": dots group thousands, a comma starts the decimals
+    private static final Pattern GROUPED = Pattern.compile("-?\\d{1,3}(\\.\\d{3})+(,\\d+)?");
+
+    private final long rupiah;
+
+    private Money(long rupiah) {
+        this.rupiah = rupiah;
+    }
+
+    /**
+     * Create an amount of whole rupiah
+     * @param rupiah Amount
+     * @return Money value
+     */
+    public static Money of(long rupiah) {
+        return rupiah == 0 ? ZERO : new Money(rupiah);
+    }
+
+    /**
+     * Convert a database or user amount, rounded half up to whole rupiah
+     * @param amount Amount, or null for zero
+     * @return Money value
+     */
+    public static Money of(BigDecimal amount) {
+        if (amount == null || amount.signum() == 0) {
+            return ZERO;
+        }
+        return of(amount.setScale(0, RoundingMode.HALF_UP).longValueExact());
+    }
+
+    /**
+     * Parse an amount typed by a user, e.g. "50000", "50.000", "Rp 50.000"
+     * or "50000.00". A dot is a thousands separator only when every dot is
+     * followed by exactly three digits; otherwise it is a decimal point.
+     * Decimals, after a comma or a decimal point, are rounded.
+     *
+     * @param text Text to parse
+     * @return Money value
+     * @throws NumberFormatException if the text is not an amount
+     */
+    public static Money parse(String text) {
+        if (text == null) {
+            throw new NumberFormatException("null");
+        }
+        String cleaned = text.trim();
+        if (cleaned.regionMatches(true, 0, "Rp", 0, 2)) {
+            cleaned = cleaned.substring(2).trim();
+        }
+        if (GROUPED.matcher(cleaned).matches()) {
+            cleaned = cleaned.replace(".", "").replace(',', '.');
+        } else if (cleaned.indexOf(',') >= 0) {
+            if (cleaned.indexOf('.') >= 0) {
+                throw new NumberFormatException("Ambiguous amount: " + text);
+            }
+            cleaned = cleaned.replace(',', '.');
+        }
+        if (cleaned.isEmpty()) {
+            throw new NumberFormatException("Empty amount: " + text);
+        }
+        return of(new BigDecimal(cleaned));
+    }
+
+    public long getRupiah() {
+        return rupiah;
+    }
+
+    /**
+     * Convert for a DECIMAL column
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(rupiah);
+    }
+
+    public double doubleValue() {
+        return rupiah;
+    }
+
+    public Money plus(Money other) {
+        return other.rupiah == 0 ? this : of(Math.addExact(rupiah, other.rupiah));
+    }
+
+    public Money minus(Money other) {
+        return other.rupiah == 0 ? this : of(Math.subtractExact(rupiah, other.rupiah));
+    }
+
+    public Money times(int quantity) {
+        return quantity == 1 ? this : of(Math.multiplyExact(rupiah, quantity));
+    }
+
+    /**
+     * Get a percentage of this amount, e.g. tax or service charge
+     * @param basisPoints Rate in basis points (1000 = 10%)
+     * @return Rounded amount
+     */
+    public Money percent(int basisPoints) {
+        return of(percent(rupiah, basisPoints));
+    }
+
+    public boolean isZero() {
+        return rupiah == 0;
+    }
+
+    public boolean isNegative() {
+        return rupiah < 0;
+    }
+
+    public boolean isLessThan(Money other) {
+        return rupiah < other.rupiah;
+    }
+
+    /**
+     * Get a percentage of a rupiah amount, rounded half up (away from zero)
+     * For loops that keep their total in a long instead of a Money.
+     *
+     * @param rupiah      Amount
+     * @param basisPoints Rate in basis points (1000 = 10%)
+     * @return Rounded amount
+     */
+    public static long percent(long rupiah, int basisPoints) {
+        long scaled = Math.multiplyExact(rupiah, (long) basisPoints);
+        long quotient = scaled / BASIS_POINTS;
+        long remainder = Math.abs(scaled % BASIS_POINTS);
+        if (remainder * 2 >= BASIS_POINTS) {
+            quotient += scaled < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(rupiah, other.rupiah);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Money && ((Money) obj).rupiah == rupiah;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(rupiah);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(rupiah);
+    }
+}
@@ -1,6 +1,5 @@
 package com.restos.model;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -31,7 +30,7 @@ public class Order {
     private String customerName;
     private String orderType;
     private String status;
-    private BigDecimal totalAmount;
+    private Money totalAmount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -47,7 +46,7 @@ public class Order {
     public Order() {
         this.orderType = TYPE_DINE_IN;
         this.status = STATUS_PENDING;
-        this.totalAmount = BigDecimal.ZERO;
+        this.totalAmount = Money.ZERO;
         this.orderItems = new ArrayList<>();
     }
 
@@ -65,7 +64,7 @@ public class Order {
         this.userId = userId;
         this.orderType = orderType;
         this.status = STATUS_PENDING;
-        this.totalAmount = BigDecimal.ZERO;
+        this.totalAmount = Money.ZERO;
         this.orderItems = new ArrayList<>();
     }
 
@@ -73,7 +72,7 @@ public class Order {
      * Full constructor
      */
     public Order(int id, Integer tableId, int userId, String customerName, String orderType,
-            String status, BigDecimal totalAmount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            String status, Money totalAmount, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.tableId = tableId;
         this.userId = userId;
@@ -136,11 +135,11 @@ public class Order {
         this.status = status;
     }
 
-    public BigDecimal getTotalAmount() {
+    public Money getTotalAmount() {
         return totalAmount;
     }
 
-    public void setTotalAmount(BigDecimal totalAmount) {
+    public void setTotalAmount(Money totalAmount) {
         this.totalAmount = totalAmount;
     }
 
@@ -230,15 +229,15 @@ public class Order {
      * Calculate and update total amount from items
      */
     public void calculateTotal() {
-        BigDecimal total = BigDecimal.ZERO;
+        long total = 0;
         if (orderItems != null) {
             for (OrderItem item : orderItems) {
                 if (item.getSubtotal() != null) {
-                    total = total.add(item.getSubtotal());
+                    total = Math.addExact(total, item.getSubtotal().getRupiah());
                 }
             }
         }
-        this.totalAmount = total;
+        this.totalAmount = Money.of(total);
     }
 
     /**
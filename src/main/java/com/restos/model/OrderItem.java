@@ -1,6 +1,5 @@
 package com.restos.model;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -21,8 +20,8 @@ public class OrderItem {
     private int orderId;
     private int menuId;
     private int quantity;
-    private BigDecimal priceAtTime; // Snapshot of price when ordered
-    private BigDecimal subtotal; // Generated column in DB
+    private Money priceAtTime; // Snapshot of price when ordered
+    private Money subtotal; // Generated column in DB
     private String specialNotes;
     private String status;
     private LocalDateTime createdAt;
@@ -37,7 +36,8 @@ public class OrderItem {
     public OrderItem() {
         this.quantity = 1;
         this.status = STATUS_PENDING;
-        this.priceAtTime = BigDecimal.ZERO;
+        this.priceAtTime = Money.ZERO;
+        this.subtotal = Money.ZERO;
     }
 
     /**
@@ -47,7 +47,7 @@ public class OrderItem {
      * @param quantity    Quantity
      * @param priceAtTime Price at time of order
      */
-    public OrderItem(int menuId, int quantity, BigDecimal priceAtTime) {
+    public OrderItem(int menuId, int quantity, Money priceAtTime) {
         this.menuId = menuId;
         this.quantity = quantity;
         this.priceAtTime = priceAtTime;
@@ -73,8 +73,8 @@ public class OrderItem {
     /**
      * Full constructor
      */
-    public OrderItem(int id, int orderId, int menuId, int quantity, BigDecimal priceAtTime,
-            BigDecimal subtotal, String specialNotes, String status) {
+    public OrderItem(int id, int orderId, int menuId, int quantity, Money priceAtTime,
+            Money subtotal, String specialNotes, String status) {
         this.id = id;
         this.orderId = orderId;
         this.menuId = menuId;
@@ -120,20 +120,20 @@ public class OrderItem {
         calculateSubtotal();
     }
 
-    public BigDecimal getPriceAtTime() {
+    public Money getPriceAtTime() {
         return priceAtTime;
     }
 
-    public void setPriceAtTime(BigDecimal priceAtTime) {
+    public void setPriceAtTime(Money priceAtTime) {
         this.priceAtTime = priceAtTime;
         calculateSubtotal();
     }
 
-    public BigDecimal getSubtotal() {
+    public Money getSubtotal() {
         return subtotal;
     }
 
-    public void setSubtotal(BigDecimal subtotal) {
+    public void setSubtotal(Money subtotal) {
         this.subtotal = subtotal;
     }
 
@@ -155,11 +155,11 @@ public class OrderItem {
     }
 
     // Alias for database column 'price'
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return priceAtTime;
     }
 
-    public void setPrice(BigDecimal price) {
+    public void setPrice(Money price) {
         this.priceAtTime = price;
         calculateSubtotal();
     }
@@ -209,7 +209,7 @@ public class OrderItem {
      */
     public void calculateSubtotal() {
         if (priceAtTime != null) {
-            this.subtotal = priceAtTime.multiply(BigDecimal.valueOf(quantity));
+            this.subtotal = priceAtTime.times(quantity);
         }
     }
 
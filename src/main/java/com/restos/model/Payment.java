@@ -1,6 +1,5 @@
 package com.restos.model;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -21,8 +20,8 @@ public class Payment {
     private int orderId;
     private int cashierId;
     private String paymentMethod;
-    private BigDecimal amountPaid;
-    private BigDecimal changeAmount;
+    private Money amountPaid;
+    private Money changeAmount;
     private LocalDateTime transactionDate;
 
     // Related objects
@@ -34,8 +33,8 @@ public class Payment {
      */
     public Payment() {
         this.paymentMethod = METHOD_CASH;
-        this.amountPaid = BigDecimal.ZERO;
-        this.changeAmount = BigDecimal.ZERO;
+        this.amountPaid = Money.ZERO;
+        this.changeAmount = Money.ZERO;
     }
 
     /**
@@ -46,19 +45,19 @@ public class Payment {
      * @param paymentMethod Payment method
      * @param amountPaid    Amount paid by customer
      */
-    public Payment(int orderId, int cashierId, String paymentMethod, BigDecimal amountPaid) {
+    public Payment(int orderId, int cashierId, String paymentMethod, Money amountPaid) {
         this.orderId = orderId;
         this.cashierId = cashierId;
         this.paymentMethod = paymentMethod;
         this.amountPaid = amountPaid;
-        this.changeAmount = BigDecimal.ZERO;
+        this.changeAmount = Money.ZERO;
     }
 
     /**
      * Full constructor
      */
     public Payment(int id, int orderId, int cashierId, String paymentMethod,
-            BigDecimal amountPaid, BigDecimal changeAmount, LocalDateTime transactionDate) {
+            Money amountPaid, Money changeAmount, LocalDateTime transactionDate) {
         this.id = id;
         this.orderId = orderId;
         this.cashierId = cashierId;
@@ -102,19 +101,19 @@ public class Payment {
         this.paymentMethod = paymentMethod;
     }
 
-    public BigDecimal getAmountPaid() {
+    public Money getAmountPaid() {
         return amountPaid;
     }
 
-    public void setAmountPaid(BigDecimal amountPaid) {
+    public void setAmountPaid(Money amountPaid) {
         this.amountPaid = amountPaid;
     }
 
-    public BigDecimal getChangeAmount() {
+    public Money getChangeAmount() {
         return changeAmount;
     }
 
-    public void setChangeAmount(BigDecimal changeAmount) {
+    public void setChangeAmount(Money changeAmount) {
         this.changeAmount = changeAmount;
     }
 
@@ -185,11 +184,11 @@ public class Payment {
      * 
      * @param orderTotal Total amount of the order
      */
-    public void calculateChange(BigDecimal orderTotal) {
+    public void calculateChange(Money orderTotal) {
         if (amountPaid != null && orderTotal != null) {
-            this.changeAmount = amountPaid.subtract(orderTotal);
-            if (this.changeAmount.compareTo(BigDecimal.ZERO) < 0) {
-                this.changeAmount = BigDecimal.ZERO;
+            this.changeAmount = amountPaid.minus(orderTotal);
+            if (this.changeAmount.isNegative()) {
+                this.changeAmount = Money.ZERO;
             }
         }
     }
@@ -0,0 +1,162 @@
+package com.restos.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Receipt Model - Everything printed on a payment receipt
+ * Built once from the order, payment and related rows, so showing,
+ * saving and printing a receipt need no further queries
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class Receipt {
+
+    private int orderId;
+    private LocalDateTime transactionDate;
+    private String tableNumber;
+    private String waiterName;
+    private String cashierName;
+    private String paymentMethod;
+    private Money totalAmount;
+    private Money amountPaid;
+    private Money changeAmount;
+    private final List<Line> lines = new ArrayList<>();
+
+    /**
+     * Default constructor
+     */
+    public Receipt() {
+        this.totalAmount = Money.ZERO;
+        this.amountPaid = Money.ZERO;
+        this.changeAmount = Money.ZERO;
+    }
+
+    /**
+     * Add an item line
+     *
+     * @param name      Menu name
+     * @param quantity  Quantity
+     * @param unitPrice Price per item at the time of the order
+     */
+    public void addLine(String name, int quantity, Money unitPrice) {
+        lines.add(new Line(name, quantity, unitPrice));
+    }
+
+    // Getters and Setters
+
+    public int getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(int orderId) {
+        this.orderId = orderId;
+    }
+
+    public LocalDateTime getTransactionDate() {
+        return transactionDate;
+    }
+
+    public void setTransactionDate(LocalDateTime transactionDate) {
+        this.transactionDate = transactionDate;
+    }
+
+    public String getTableNumber() {
+        return tableNumber;
+    }
+
+    public void setTableNumber(String tableNumber) {
+        this.tableNumber = tableNumber;
+    }
+
+    public String getWaiterName() {
+        return waiterName;
+    }
+
+    public void setWaiterName(String waiterName) {
+        this.waiterName = waiterName;
+    }
+
+    public String getCashierName() {
+        return cashierName;
+    }
+
+    public void setCashierName(String cashierName) {
+        this.cashierName = cashierName;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(String paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public Money getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(Money totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public Money getAmountPaid() {
+        return amountPaid;
+    }
+
+    public void setAmountPaid(Money amountPaid) {
+        this.amountPaid = amountPaid;
+    }
+
+    public Money getChangeAmount() {
+        return changeAmount;
+    }
+
+    public void setChangeAmount(Money changeAmount) {
+        this.changeAmount = changeAmount;
+    }
+
+    public List<Line> getLines() {
+        return Collections.unmodifiableList(lines);
+    }
+
+    @Override
+    public String toString() {
+        return "Receipt{orderId=" + orderId + ", lines=" + lines.size() + ", total=" + totalAmount + "}";
+    }
+
+    /**
+     * An item line on the receipt
+     */
+    public static class Line {
+        private final String name;
+        private final int quantity;
+        private final Money unitPrice;
+
+        public Line(String name, int quantity, Money unitPrice) {
+            this.name = name;
+            this.quantity = quantity;
+            this.unitPrice = unitPrice != null ? unitPrice : Money.ZERO;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public Money getUnitPrice() {
+            return unitPrice;
+        }
+
+        public Money getSubtotal() {
+            return unitPrice.times(quantity);
+        }
+    }
+}
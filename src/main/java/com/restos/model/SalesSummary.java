@@ -0,0 +1,117 @@
+package com.restos.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sales Summary Model - Order counts, revenue and sales per menu over a
+ * date range. Summaries of several branches can be merged; menus are
+ * matched by name, since every branch database numbers its menus itself.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class SalesSummary {
+
+    private int orderCount;
+    private int completedOrders;
+    private Money revenue = Money.ZERO;
+    private final Map<String, MenuSales> menus = new LinkedHashMap<>();
+
+    /**
+     * Add the sales of one menu (completed orders only)
+     *
+     * @param name     Menu name
+     * @param quantity Portions sold
+     * @param revenue  Subtotal of those portions
+     */
+    public void addMenu(String name, int quantity, Money revenue) {
+        MenuSales sales = menus.computeIfAbsent(name, MenuSales::new);
+        sales.quantity += quantity;
+        sales.revenue = sales.revenue.plus(revenue);
+    }
+
+    /**
+     * Add another summary (another branch) to this one
+     */
+    public void merge(SalesSummary other) {
+        orderCount += other.orderCount;
+        completedOrders += other.completedOrders;
+        revenue = revenue.plus(other.revenue);
+        for (MenuSales sales : other.menus.values()) {
+            addMenu(sales.name, sales.quantity, sales.revenue);
+        }
+    }
+
+    /**
+     * Get the best-selling menus, most portions first
+     *
+     * @param limit Maximum number of menus
+     * @return Best sellers
+     */
+    public List<MenuSales> getBestSellers(int limit) {
+        List<MenuSales> sorted = new ArrayList<>(menus.values());
+        sorted.sort(Comparator.comparingInt(MenuSales::getQuantity).reversed()
+                .thenComparing(sales -> sales.getRevenue().getRupiah(), Comparator.reverseOrder()));
+        return sorted.subList(0, Math.min(limit, sorted.size()));
+    }
+
+    public Collection<MenuSales> getMenus() {
+        return menus.values();
+    }
+
+    // Getters and Setters
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(int orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public int getCompletedOrders() {
+        return completedOrders;
+    }
+
+    public void setCompletedOrders(int completedOrders) {
+        this.completedOrders = completedOrders;
+    }
+
+    public Money getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(Money revenue) {
+        this.revenue = revenue;
+    }
+
+    /**
+     * Sales of one menu
+     */
+    public static final class MenuSales {
+        private final String name;
+        private int quantity;
+        private Money revenue = Money.ZERO;
+
+        private MenuSales(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public Money getRevenue() {
+            return revenue;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.restos.print;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+
+/**
+ * ESC/POS command builder
+ * Builds the raw bytes of one print job for a thermal printer: text in
+ * code page 437, alignment, bold and double size, fixed-width columns
+ * and a paper cut. Only commands every ESC/POS printer understands are
+ * used.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class EscPos {
+
+    private static final byte ESC = 0x1B;
+    private static final byte GS = 0x1D;
+    private static final byte LF = 0x0A;
+
+    private static final Charset CHARSET = Charset.forName("IBM437");
+
+    public static final int ALIGN_LEFT = 0;
+    public static final int ALIGN_CENTER = 1;
+    public static final int ALIGN_RIGHT = 2;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+    private final int width;
+
+    /**
+     * Start a job for a printer with the given number of characters per line
+     * @param width Characters per line (48 for 80 mm, 32 for 58 mm paper)
+     */
+    public EscPos(int width) {
+        this.width = width;
+        // Initialize, then select code page 437
+        write(ESC, '@');
+        write(ESC, 't', 0);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public EscPos align(int alignment) {
+        return write(ESC, 'a', alignment);
+    }
+
+    public EscPos bold(boolean on) {
+        return write(ESC, 'E', on ? 1 : 0);
+    }
+
+    /**
+     * Double width and height (halves the characters per line)
+     */
+    public EscPos doubleSize(boolean on) {
+        return write(GS, '!', on ? 0x11 : 0x00);
+    }
+
+    /**
+     * Print text and end the line
+     */
+    public EscPos line(String text) {
+        text(text);
+        out.write(LF);
+        return this;
+    }
+
+    /**
+     * Print a label on the left and a value on the right of one line
+     */
+    public EscPos columns(String left, String right) {
+        String value = right != null ? right : "";
+        int space = width - value.length();
+        String label = left != null ? left : "";
+        if (label.length() >= space) {
+            // Value does not fit behind the label; put it on its own line
+            line(label);
+            return line(pad("", width - value.length()) + value);
+        }
+        return line(pad(label, space) + value);
+    }
+
+    /**
+     * Print a full-width separator line
+     */
+    public EscPos separator(char c) {
+        return line(String.valueOf(c).repeat(width));
+    }
+
+    public EscPos feed(int lines) {
+        return write(ESC, 'd', lines);
+    }
+
+    /**
+     * Feed past the cutter and cut the paper (partial cut)
+     */
+    public EscPos cut() {
+        return write(GS, 'V', 66, 0);
+    }
+
+    public byte[] toByteArray() {
+        return out.toByteArray();
+    }
+
+    private void text(String text) {
+        if (text != null && !text.isEmpty()) {
+            // Unmappable characters become '?'
+            out.writeBytes(text.getBytes(CHARSET));
+        }
+    }
+
+    private EscPos write(int... bytes) {
+        for (int b : bytes) {
+            out.write(b);
+        }
+        return this;
+    }
+
+    private static String pad(String text, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(text);
+        while (sb.length() < length) {
+            sb.append(' ');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.restos.print;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Printing to a file: a printer device (e.g. /dev/usb/lp0) or a spool
+ * file that collects the raw jobs
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class FilePrinterTransport implements PrinterTransport {
+
+    private final Path path;
+
+    public FilePrinterTransport(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public void send(byte[] data) throws IOException {
+        Files.write(path, data, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public String toString() {
+        return "file:" + path;
+    }
+}
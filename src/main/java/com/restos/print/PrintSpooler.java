@@ -0,0 +1,239 @@
+package com.restos.print;
+
+import com.restos.config.DatabaseConfig;
+import com.restos.metrics.MetricsRegistry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Print Spooler
+ * Background printing for kitchen tickets and receipts. Every printer
+ * has its own bounded queue and thread, so a slow or offline printer
+ * never holds up another one, and submitting a job never waits: when the
+ * queue is full the job is rejected instead.
+ *
+ * Jobs that are waiting when the printer thread wakes up are sent
+ * together over one connection. A failed send is retried with growing
+ * delays before the jobs are dropped; jobs keep their order throughout.
+ * A batch that fails halfway may print its first tickets twice.
+ *
+ * Printers are configured in database.properties (or with -Dprinter.*):
+ * printer.kitchen / printer.receipt = tcp://host:9100 or file:/dev/usb/lp0,
+ * printer.width (characters per line), printer.retry.max (send attempts).
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class PrintSpooler {
+
+    private static PrintSpooler instance;
+
+    public static final String KITCHEN = "kitchen";
+    public static final String RECEIPT = "receipt";
+
+    private static final int QUEUE_CAPACITY = 100;
+    private static final int MAX_BATCH = 10;
+    private static final long RETRY_DELAY_MS = 1000;
+    private static final long MAX_RETRY_DELAY_MS = 30_000;
+
+    private final Map<String, PrinterQueue> printers = new ConcurrentHashMap<>();
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private final int width;
+    private final int maxAttempts;
+
+    /**
+     * Private constructor for Singleton pattern
+     */
+    private PrintSpooler() {
+        DatabaseConfig config = DatabaseConfig.getInstance();
+        this.width = config.getIntProperty("printer.width", 48);
+        this.maxAttempts = Math.max(1, config.getIntProperty("printer.retry.max", 5));
+
+        for (String name : new String[] { KITCHEN, RECEIPT }) {
+            String address = config.getProperty("printer." + name);
+            if (address == null || address.isBlank()) {
+                continue;
+            }
+            try {
+                register(name, PrinterTransport.of(address));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Error configuring printer '" + name + "': " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Get singleton instance of PrintSpooler
+     * @return PrintSpooler instance
+     */
+    public static synchronized PrintSpooler getInstance() {
+        if (instance == null) {
+            instance = new PrintSpooler();
+        }
+        return instance;
+    }
+
+    /**
+     * Add a printer, or replace the transport of an existing one
+     *
+     * @param name      Printer name (e.g. KITCHEN)
+     * @param transport Transport to the printer
+     */
+    public synchronized void register(String name, PrinterTransport transport) {
+        PrinterQueue printer = printers.get(name);
+        if (printer != null) {
+            printer.transport = transport;
+        } else {
+            printers.put(name, new PrinterQueue(name, transport));
+        }
+    }
+
+    /**
+     * Check if a printer is configured
+     * @param name Printer name
+     * @return true if jobs for the printer are printed
+     */
+    public boolean isEnabled(String name) {
+        return printers.containsKey(name);
+    }
+
+    /**
+     * Get the characters per line of the printers
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Get the number of jobs waiting for a printer
+     * @param name Printer name
+     * @return Waiting jobs (0 if the printer is not configured)
+     */
+    public int getPending(String name) {
+        PrinterQueue printer = printers.get(name);
+        return printer != null ? printer.jobs.size() : 0;
+    }
+
+    /**
+     * Queue a rendered job
+     *
+     * @param printer Printer name
+     * @param name    Job name for logs (e.g. "order #12")
+     * @param data    ESC/POS bytes
+     * @return true if queued, false if the printer is not configured or its queue is full
+     */
+    public boolean submit(String printer, String name, byte[] data) {
+        return submit(printer, name, () -> data);
+    }
+
+    /**
+     * Queue a job that is rendered on the printer thread, for jobs whose
+     * content still has to be loaded (e.g. a receipt)
+     *
+     * @param printer  Printer name
+     * @param name     Job name for logs
+     * @param renderer Produces the ESC/POS bytes
+     * @return true if queued, false if the printer is not configured or its queue is full
+     */
+    public boolean submit(String printer, String name, Callable<byte[]> renderer) {
+        PrinterQueue queue = printers.get(printer);
+        if (queue == null) {
+            return false;
+        }
+        if (!queue.jobs.offer(new Job(name, renderer))) {
+            System.err.println("Print queue '" + printer + "' is full, dropped " + name);
+            metrics.operation("PrintSpooler." + printer).recordError();
+            return false;
+        }
+        return true;
+    }
+
+    private static final class Job {
+        private final String name;
+        private final Callable<byte[]> renderer;
+
+        Job(String name, Callable<byte[]> renderer) {
+            this.name = name;
+            this.renderer = renderer;
+        }
+    }
+
+    /**
+     * Queue and thread of one printer
+     */
+    private final class PrinterQueue implements Runnable {
+        private final String name;
+        private final BlockingQueue<Job> jobs = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+        private volatile PrinterTransport transport;
+
+        PrinterQueue(String name, PrinterTransport transport) {
+            this.name = name;
+            this.transport = transport;
+            Thread thread = new Thread(this, "printer-" + name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            List<Job> batch = new ArrayList<>(MAX_BATCH);
+            while (true) {
+                try {
+                    batch.add(jobs.take());
+                    jobs.drainTo(batch, MAX_BATCH - 1);
+                    print(batch);
+                } catch (InterruptedException e) {
+                    return;
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        private void print(List<Job> batch) throws InterruptedException {
+            ByteArrayOutputStream data = new ByteArrayOutputStream();
+            int rendered = 0;
+            for (Job job : batch) {
+                try {
+                    data.writeBytes(job.renderer.call());
+                    rendered++;
+                } catch (Exception e) {
+                    System.err.println("Error rendering print job " + job.name + ": " + e.getMessage());
+                    metrics.operation("PrintSpooler." + name).recordError();
+                }
+            }
+            if (rendered == 0) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            long delay = RETRY_DELAY_MS;
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    transport.send(data.toByteArray());
+                    metrics.operation("PrintSpooler." + name).record(System.nanoTime() - start, rendered, false);
+                    return;
+                } catch (IOException e) {
+                    if (attempt >= maxAttempts) {
+                        System.err.println("Printer '" + name + "' (" + transport + ") failed, dropped "
+                                + rendered + " job(s): " + e.getMessage());
+                        metrics.operation("PrintSpooler." + name).record(System.nanoTime() - start, 0, true);
+                        return;
+                    }
+                    System.err.println("Printer '" + name + "' failed, retrying in " + delay + " ms: "
+                            + e.getMessage());
+                    Thread.sleep(delay);
+                    delay = Math.min(delay * 2, MAX_RETRY_DELAY_MS);
+                }
+            }
+        }
+    }
+}
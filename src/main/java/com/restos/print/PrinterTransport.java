@@ -0,0 +1,44 @@
+package com.restos.print;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+
+/**
+ * Connection to a printer
+ * A transport sends the raw bytes of one or more jobs; the spooler calls
+ * it from the printer's own thread, so implementations need not be
+ * thread-safe.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public interface PrinterTransport {
+
+    /**
+     * Send bytes to the printer
+     * @param data ESC/POS bytes
+     * @throws IOException if the printer cannot be reached or the write fails
+     */
+    void send(byte[] data) throws IOException;
+
+    /**
+     * Create a transport from a printer address:
+     * "tcp://host:port" (raw printing, port 9100 if omitted) or
+     * "file:/path" (a device such as /dev/usb/lp0, or a spool file)
+     *
+     * @param address Printer address
+     * @return Transport
+     * @throws IllegalArgumentException if the address is not understood
+     */
+    static PrinterTransport of(String address) {
+        URI uri = URI.create(address.trim());
+        if ("tcp".equalsIgnoreCase(uri.getScheme()) && uri.getHost() != null) {
+            return new TcpPrinterTransport(uri.getHost(), uri.getPort() > 0 ? uri.getPort() : 9100);
+        }
+        if ("file".equalsIgnoreCase(uri.getScheme())) {
+            return new FilePrinterTransport(Path.of(uri));
+        }
+        throw new IllegalArgumentException("Unknown printer address: " + address);
+    }
+}
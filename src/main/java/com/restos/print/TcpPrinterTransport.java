@@ -0,0 +1,47 @@
+package com.restos.print;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Raw TCP printing (JetDirect / port 9100)
+ * Opens a connection per send: network printers usually accept one
+ * connection at a time, so holding it would lock out other terminals.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class TcpPrinterTransport implements PrinterTransport {
+
+    private static final int CONNECT_TIMEOUT_MS = 3000;
+    private static final int WRITE_TIMEOUT_MS = 10000;
+
+    private final String host;
+    private final int port;
+
+    public TcpPrinterTransport(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    @Override
+    public void send(byte[] data) throws IOException {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MS);
+            socket.setSoTimeout(WRITE_TIMEOUT_MS);
+            socket.setTcpNoDelay(true);
+            OutputStream out = socket.getOutputStream();
+            out.write(data);
+            out.flush();
+            // Half-close so the printer sees the end of the job before the socket goes away
+            socket.shutdownOutput();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "tcp://" + host + ":" + port;
+    }
+}
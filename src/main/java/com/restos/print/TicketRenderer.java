@@ -0,0 +1,113 @@
+package com.restos.print;
+
+import com.restos.model.Money;
+import com.restos.model.Order;
+import com.restos.model.OrderItem;
+import com.restos.model.Receipt;
+import com.restos.util.CurrencyFormatter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Ticket Renderer
+ * Renders customer receipts and kitchen tickets as ESC/POS bytes.
+ * Stateless, so it can be used from any thread.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public final class TicketRenderer {
+
+    private static final String SHOP_NAME = "RESTOS";
+    private static final String SHOP_ADDRESS = "Jl. Restoran No. 123, Jakarta";
+    private static final String SHOP_PHONE = "Tel: (021) 123-4567";
+    private static final String THANK_YOU = "Thank you for dining with us!";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private TicketRenderer() {
+    }
+
+    /**
+     * Render a customer receipt
+     *
+     * @param receipt Receipt (see PaymentService.buildReceipt)
+     * @param width   Characters per line
+     * @return ESC/POS bytes
+     */
+    public static byte[] receipt(Receipt receipt, int width) {
+        EscPos pos = new EscPos(width);
+
+        pos.align(EscPos.ALIGN_CENTER)
+                .bold(true).doubleSize(true).line(SHOP_NAME).doubleSize(false).bold(false)
+                .line(SHOP_ADDRESS)
+                .line(SHOP_PHONE)
+                .align(EscPos.ALIGN_LEFT)
+                .separator('-');
+
+        pos.columns("Order #", String.valueOf(receipt.getOrderId()))
+                .columns("Date", receipt.getTransactionDate() != null
+                        ? receipt.getTransactionDate().format(DATE_FORMAT) : "-")
+                .columns("Table", receipt.getTableNumber())
+                .columns("Waiter", receipt.getWaiterName())
+                .columns("Cashier", receipt.getCashierName())
+                .separator('-');
+
+        for (Receipt.Line line : receipt.getLines()) {
+            pos.line(line.getName());
+            pos.columns("  " + line.getQuantity() + " x " + money(line.getUnitPrice()),
+                    money(line.getSubtotal()));
+        }
+        pos.separator('-');
+
+        pos.bold(true).columns("TOTAL", money(receipt.getTotalAmount())).bold(false)
+                .columns("Payment", receipt.getPaymentMethod() != null
+                        ? receipt.getPaymentMethod().toUpperCase() : "-")
+                .columns("Paid", money(receipt.getAmountPaid()))
+                .bold(true).columns("Change", money(receipt.getChangeAmount())).bold(false)
+                .separator('-');
+
+        return pos.align(EscPos.ALIGN_CENTER).line(THANK_YOU).feed(4).cut().toByteArray();
+    }
+
+    /**
+     * Render a kitchen ticket for newly submitted items
+     *
+     * @param order       Submitted order
+     * @param tableNumber Table number, or null for take away
+     * @param items       Items to cook
+     * @param update      true if the order was changed after it was first sent
+     * @param width       Characters per line
+     * @return ESC/POS bytes
+     */
+    public static byte[] kitchenTicket(Order order, String tableNumber, List<OrderItem> items,
+            boolean update, int width) {
+        EscPos pos = new EscPos(width);
+
+        pos.align(EscPos.ALIGN_CENTER).bold(true).doubleSize(true)
+                .line(update ? "UPDATE #" + order.getId() : "ORDER #" + order.getId())
+                .line(Order.TYPE_TAKE_AWAY.equals(order.getOrderType()) || tableNumber == null
+                        ? "TAKE AWAY" : "MEJA " + tableNumber)
+                .doubleSize(false).bold(false)
+                .align(EscPos.ALIGN_LEFT)
+                .columns(order.getCustomerName(), LocalDateTime.now().format(TIME_FORMAT))
+                .separator('=');
+
+        for (OrderItem item : items) {
+            String name = item.getMenu() != null ? item.getMenuName() : "Menu #" + item.getMenuId();
+            pos.bold(true).doubleSize(true).line(item.getQuantity() + "x " + name).doubleSize(false).bold(false);
+            if (item.getNotes() != null && !item.getNotes().isBlank()) {
+                pos.line("   * " + item.getNotes());
+            }
+        }
+
+        return pos.separator('=').feed(4).cut().toByteArray();
+    }
+
+    private static String money(Money amount) {
+        return CurrencyFormatter.formatShort(amount);
+    }
+}
@@ -0,0 +1,109 @@
+package com.restos.service;
+
+import com.restos.analytics.CubeQuery;
+import com.restos.analytics.CubeResult;
+import com.restos.analytics.SalesCube;
+import com.restos.dao.CategoryDAO;
+import com.restos.dao.DAOFactory;
+import com.restos.dao.MenuDAO;
+import com.restos.dao.ReportDAO;
+import com.restos.dao.UserDAO;
+import com.restos.metrics.MetricsRegistry;
+import com.restos.model.Category;
+import com.restos.model.Menu;
+import com.restos.model.User;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Analytics Service
+ * Loads the sales of a date range into a SalesCube (archived months
+ * included) and runs slice-and-dice queries on it. Loading reads every
+ * sold item once; the queries after that do not touch the database.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class AnalyticsService {
+
+    private static AnalyticsService instance;
+
+    private final ReportDAO reportDAO;
+    private final CategoryDAO categoryDAO;
+    private final MenuDAO menuDAO;
+    private final UserDAO userDAO;
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+    /**
+     * Private constructor for Singleton pattern
+     */
+    private AnalyticsService() {
+        this.reportDAO = DAOFactory.getReportDAO();
+        this.categoryDAO = DAOFactory.getCategoryDAO();
+        this.menuDAO = DAOFactory.getMenuDAO();
+        this.userDAO = DAOFactory.getUserDAO();
+    }
+
+    /**
+     * Get singleton instance of AnalyticsService
+     * @return AnalyticsService instance
+     */
+    public static synchronized AnalyticsService getInstance() {
+        if (instance == null) {
+            instance = new AnalyticsService();
+        }
+        return instance;
+    }
+
+    /**
+     * Load the items of completed orders in a date range
+     *
+     * @param startDate Start date (inclusive)
+     * @param endDate   End date (inclusive)
+     * @return Cube of the items
+     * @throws SQLException if the items cannot be read
+     */
+    public SalesCube load(LocalDate startDate, LocalDate endDate) throws SQLException {
+        long start = System.nanoTime();
+        boolean failed = true;
+        int rows = 0;
+        try {
+            SalesCube.Builder builder = new SalesCube.Builder(startDate, endDate);
+            rows = reportDAO.streamSales(startDate, endDate, builder);
+
+            // Names of menus and staff that were deleted since fall back to their ID
+            Map<Integer, String> categories = new HashMap<>();
+            for (Category category : categoryDAO.findAll()) {
+                categories.put(category.getId(), category.getName());
+            }
+            Map<Integer, String> menus = new HashMap<>();
+            for (Menu menu : menuDAO.findAll()) {
+                menus.put(menu.getId(), menu.getName());
+            }
+            Map<Integer, String> waiters = new HashMap<>();
+            for (User user : userDAO.findAll()) {
+                waiters.put(user.getId(), user.getDisplayName());
+            }
+
+            SalesCube cube = builder.build(categories, menus, waiters);
+            failed = false;
+            return cube;
+        } finally {
+            metrics.operation("AnalyticsService.load").record(System.nanoTime() - start, rows, failed);
+        }
+    }
+
+    /**
+     * Run a query on a loaded cube
+     *
+     * @param cube  Cube
+     * @param query Query
+     * @return Result
+     */
+    public CubeResult query(SalesCube cube, CubeQuery query) {
+        return metrics.time("AnalyticsService.query", () -> cube.query(query));
+    }
+}
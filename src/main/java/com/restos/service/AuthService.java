@@ -1,6 +1,7 @@
 package com.restos.service;
 
 import com.restos.config.DatabaseConfig;
+import com.restos.metrics.MetricsRegistry;
 import com.restos.model.User;
 import com.restos.util.PasswordUtil;
 
@@ -8,6 +9,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Authentication Service
@@ -19,6 +23,8 @@ import java.sql.SQLException;
 public class AuthService {
 
     private DatabaseConfig databaseConfig;
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private final PasswordHashingService hashing = PasswordHashingService.getInstance();
 
     /**
      * Constructor
@@ -34,6 +40,10 @@ public class AuthService {
      * @return User object if authentication successful, null otherwise
      */
     public User login(String username, String password) {
+        return metrics.time("AuthService.login", () -> doLogin(username, password));
+    }
+
+    private User doLogin(String username, String password) {
         String sql = "SELECT id, username, password_hash, role, full_name, created_at, updated_at " +
                      "FROM users WHERE username = ?";
 
@@ -47,7 +57,7 @@ public class AuthService {
                     String storedHash = rs.getString("password_hash");
                     
                     // Verify password
-                    if (PasswordUtil.verifyPassword(password, storedHash)) {
+                    if (hashing.verify(password, storedHash)) {
                         User user = new User();
                         user.setId(rs.getInt("id"));
                         user.setUsername(rs.getString("username"));
@@ -63,6 +73,7 @@ public class AuthService {
                         }
                         
                         System.out.println("Login successful for user: " + username);
+                        rehashIfNeeded(user.getId(), password, storedHash);
                         return user;
                     } else {
                         System.out.println("Invalid password for user: " + username);
@@ -79,12 +90,103 @@ public class AuthService {
         return null;
     }
 
+    /**
+     * Replace a hash whose cost differs from the calibrated target, in the
+     * background so the login does not wait for it
+     */
+    private void rehashIfNeeded(int userId, String password, String storedHash) {
+        if (!hashing.needsRehash(storedHash)) {
+            return;
+        }
+        hashing.hashAsync(password)
+                .thenAccept(newHash -> {
+                    if (replacePasswordHash(userId, storedHash, newHash)) {
+                        System.out.println("Password rehashed at cost " + hashing.getTargetCost()
+                                + " for user ID: " + userId);
+                    }
+                })
+                .exceptionally(e -> {
+                    System.err.println("Error rehashing password: " + e.getMessage());
+                    return null;
+                });
+    }
+
+    /**
+     * Convert every stored password that is not a BCrypt hash (plain text
+     * from older registrations, seed data) to BCrypt at the target cost,
+     * keeping the stored value as the password, as the old plain text
+     * comparison did. Run once per start in the background; finds nothing
+     * once all rows are converted
+     * @return Number of converted users
+     */
+    public int migrateLegacyPasswords() {
+        return metrics.time("AuthService.migrateLegacyPasswords", this::doMigrateLegacyPasswords);
+    }
+
+    private int doMigrateLegacyPasswords() {
+        String sql = "SELECT id, password_hash FROM users";
+        List<Integer> ids = new ArrayList<>();
+        List<String> legacy = new ArrayList<>();
+
+        try (Connection conn = databaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                String stored = rs.getString("password_hash");
+                if (stored != null && !PasswordUtil.isValidHash(stored)) {
+                    ids.add(rs.getInt("id"));
+                    legacy.add(stored);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error reading legacy passwords: " + e.getMessage());
+            return 0;
+        }
+
+        int migrated = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            String stored = legacy.get(i);
+            if (replacePasswordHash(ids.get(i), stored, hashing.hash(stored))) {
+                migrated++;
+            }
+        }
+        if (migrated > 0) {
+            System.out.println("Migrated " + migrated + " legacy password(s) to BCrypt");
+        }
+        return migrated;
+    }
+
+    /**
+     * Replace a password hash unless it was changed in the meantime
+     * @return true if the row was updated
+     */
+    private boolean replacePasswordHash(int userId, String oldHash, String newHash) {
+        String sql = "UPDATE users SET password_hash = ? WHERE id = ? AND password_hash = ?";
+
+        try (Connection conn = databaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, newHash);
+            stmt.setInt(2, userId);
+            stmt.setString(3, oldHash);
+            return stmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Error replacing password hash: " + e.getMessage());
+        }
+        return false;
+    }
+
     /**
      * Check if username exists
      * @param username Username to check
      * @return true if exists, false otherwise
      */
     public boolean usernameExists(String username) {
+        return metrics.time("AuthService.usernameExists", () -> doUsernameExists(username));
+    }
+
+    private boolean doUsernameExists(String username) {
         String sql = "SELECT COUNT(*) FROM users WHERE username = ?";
 
         try (Connection conn = databaseConfig.getConnection();
@@ -112,6 +214,10 @@ public class AuthService {
      * @return true if password changed successfully, false otherwise
      */
     public boolean changePassword(int userId, String currentPassword, String newPassword) {
+        return metrics.time("AuthService.changePassword", () -> doChangePassword(userId, currentPassword, newPassword));
+    }
+
+    private boolean doChangePassword(int userId, String currentPassword, String newPassword) {
         // First verify current password
         String verifySql = "SELECT password_hash FROM users WHERE id = ?";
         
@@ -124,7 +230,7 @@ public class AuthService {
                 if (rs.next()) {
                     String storedHash = rs.getString("password_hash");
                     
-                    if (!PasswordUtil.verifyPassword(currentPassword, storedHash)) {
+                    if (!hashing.verify(currentPassword, storedHash)) {
                         System.out.println("Current password is incorrect");
                         return false;
                     }
@@ -137,7 +243,7 @@ public class AuthService {
             // Update password
             String updateSql = "UPDATE users SET password_hash = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
             try (PreparedStatement updateStmt = conn.prepareStatement(updateSql)) {
-                String newHash = PasswordUtil.hashPassword(newPassword);
+                String newHash = hashing.hash(newPassword);
                 updateStmt.setString(1, newHash);
                 updateStmt.setInt(2, userId);
                 
@@ -162,12 +268,28 @@ public class AuthService {
      * @return true if password reset successfully, false otherwise
      */
     public boolean resetPassword(int userId, String newPassword) {
+        String newHash = hashing.hash(newPassword);
+        return metrics.time("AuthService.resetPassword", () -> doResetPassword(userId, newHash));
+    }
+
+    /**
+     * Reset user password without blocking the caller: the hash is computed
+     * on the hashing pool, then the row is updated
+     * @param userId User ID
+     * @param newPassword New plain text password
+     * @return Future with true if the password was reset
+     */
+    public CompletableFuture<Boolean> resetPasswordAsync(int userId, String newPassword) {
+        return hashing.hashAsync(newPassword).thenApply(newHash ->
+                metrics.time("AuthService.resetPassword", () -> doResetPassword(userId, newHash)));
+    }
+
+    private boolean doResetPassword(int userId, String newHash) {
         String updateSql = "UPDATE users SET password_hash = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
         
         try (Connection conn = databaseConfig.getConnection();
              PreparedStatement updateStmt = conn.prepareStatement(updateSql)) {
             
-            String newHash = PasswordUtil.hashPassword(newPassword);
             updateStmt.setString(1, newHash);
             updateStmt.setInt(2, userId);
             
@@ -193,12 +315,27 @@ public class AuthService {
      * @return Generated user ID or -1 if failed
      */
     public int register(String name, String email, String password, String phone, String role) {
+        String passwordHash = hashing.hash(password);
+        return metrics.time("AuthService.register", () -> doRegister(name, email, passwordHash, phone, role));
+    }
+
+    /**
+     * Register a new user without blocking the caller: the hash is computed
+     * on the hashing pool, then the row is inserted
+     * @return Future with the generated user ID or -1 if failed
+     */
+    public CompletableFuture<Integer> registerAsync(String name, String email, String password, String phone,
+            String role) {
+        return hashing.hashAsync(password).thenApply(passwordHash ->
+                metrics.time("AuthService.register", () -> doRegister(name, email, passwordHash, phone, role)));
+    }
+
+    private int doRegister(String name, String email, String passwordHash, String phone, String role) {
         String sql = "INSERT INTO users (username, password_hash, role, full_name) VALUES (?, ?, ?, ?)";
         
         try (Connection conn = databaseConfig.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, java.sql.Statement.RETURN_GENERATED_KEYS)) {
             
-            String passwordHash = PasswordUtil.hashPassword(password);
             stmt.setString(1, email);
             stmt.setString(2, passwordHash);
             stmt.setString(3, role);
@@ -227,6 +364,10 @@ public class AuthService {
      * @return User object or null if not found
      */
     public User getUserById(int userId) {
+        return metrics.time("AuthService.getUserById", () -> doGetUserById(userId));
+    }
+
+    private User doGetUserById(int userId) {
         String sql = "SELECT id, username, password_hash, role, full_name, created_at, updated_at " +
                      "FROM users WHERE id = ?";
 
@@ -0,0 +1,366 @@
+package com.restos.service;
+
+import com.restos.dao.DAOFactory;
+import com.restos.dao.MenuDAO;
+import com.restos.dao.OrderDAO;
+import com.restos.dao.PaymentDAO;
+import com.restos.dao.TableDAO;
+import com.restos.dao.UserDAO;
+import com.restos.metrics.MetricsRegistry;
+import com.restos.metrics.QueryScope;
+import com.restos.model.Menu;
+import com.restos.model.Money;
+import com.restos.model.Order;
+import com.restos.model.OrderItem;
+import com.restos.model.Table;
+import com.restos.model.User;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Dashboard data prefetch
+ * Starts loading the first screen of a role's dashboard as soon as the
+ * login succeeds, on a background thread, while the dashboard FXML is
+ * parsed on the FX thread. The dashboard controller takes the finished
+ * snapshot in onActivate() instead of querying the database itself.
+ *
+ * The snapshot classes are also what the dashboards load on their own
+ * refreshes, so a prefetched and a refreshed screen look the same.
+ * Disable with -Drestos.prefetch=false.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public final class DashboardPrefetch {
+
+    // Snapshots not taken within this time are considered stale
+    private static final long MAX_AGE_MILLIS = 10_000;
+
+    // Pending snapshots by snapshot type
+    private static final Map<Class<?>, Prefetch> pending = new ConcurrentHashMap<>();
+
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+    private DashboardPrefetch() {
+    }
+
+    /**
+     * Start loading the dashboard data of a role in the background
+     * @param role User role
+     */
+    public static void start(String role) {
+        if (!Boolean.parseBoolean(System.getProperty("restos.prefetch", "true")) || role == null) {
+            return;
+        }
+
+        switch (role.toLowerCase()) {
+            case "admin":
+                submit(AdminSnapshot.class, AdminSnapshot::load);
+                break;
+            case "waiter":
+                submit(WaiterSnapshot.class, WaiterSnapshot::load);
+                break;
+            case "kitchen":
+                submit(KitchenSnapshot.class, KitchenSnapshot::load);
+                break;
+            case "cashier":
+                submit(CashierSnapshot.class, CashierSnapshot::load);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Take the prefetched snapshot of a dashboard, waiting for it if the
+     * load is still running (FX thread)
+     *
+     * @param type Snapshot type
+     * @return Snapshot, or null if none was prefetched, it is stale or it failed
+     */
+    public static <T> T take(Class<T> type) {
+        Prefetch prefetch = pending.remove(type);
+        if (prefetch == null || System.currentTimeMillis() - prefetch.startedAt > MAX_AGE_MILLIS) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object snapshot = prefetch.future.join();
+            // Time the dashboard still had to wait after its FXML was ready
+            metrics.operation("DashboardPrefetch.wait").record(System.nanoTime() - start, 0, false);
+            return type.cast(snapshot);
+        } catch (CompletionException e) {
+            System.err.println("Error prefetching dashboard data: " + e.getCause());
+            return null;
+        }
+    }
+
+    private static void submit(Class<?> type, Supplier<Object> loader) {
+        String name = "DashboardPrefetch." + type.getSimpleName();
+        CompletableFuture<Object> future = CompletableFuture.supplyAsync(
+                () -> metrics.time(name, loader),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-prefetch");
+                    thread.setDaemon(true);
+                    thread.start();
+                });
+        pending.put(type, new Prefetch(future));
+    }
+
+    private static final class Prefetch {
+        private final CompletableFuture<Object> future;
+        private final long startedAt = System.currentTimeMillis();
+
+        Prefetch(CompletableFuture<Object> future) {
+            this.future = future;
+        }
+    }
+
+    /**
+     * Kitchen queue: open orders (oldest first) with their items, which
+     * also give the item counts for the stat cards; two queries however
+     * long the queue is
+     */
+    public static final class KitchenSnapshot {
+        private final List<Order> orders;
+        private final Map<Integer, List<OrderItem>> itemsByOrder;
+        private final List<OrderItem> kitchenItems;
+
+        private KitchenSnapshot(List<Order> orders, Map<Integer, List<OrderItem>> itemsByOrder,
+                List<OrderItem> kitchenItems) {
+            this.orders = orders;
+            this.itemsByOrder = itemsByOrder;
+            this.kitchenItems = kitchenItems;
+        }
+
+        /**
+         * Load the kitchen queue (any thread)
+         */
+        public static KitchenSnapshot load() {
+            OrderDAO orderDAO = DAOFactory.getOrderDAO();
+
+            try (QueryScope scope = QueryScope.open("kitchen refresh", 2)) {
+                List<Order> orders = orderDAO.findForKitchen();
+                // FIFO: oldest order first
+                orders.sort(Comparator.comparing(Order::getCreatedAt));
+
+                // findForKitchen loads all the items with one query
+                Map<Integer, List<OrderItem>> itemsByOrder = new HashMap<>();
+                List<OrderItem> kitchenItems = new ArrayList<>();
+                for (Order order : orders) {
+                    itemsByOrder.put(order.getId(), order.getOrderItems());
+                    kitchenItems.addAll(order.getOrderItems());
+                }
+                return new KitchenSnapshot(orders, itemsByOrder, kitchenItems);
+            }
+        }
+
+        public List<Order> getOrders() {
+            return orders;
+        }
+
+        public List<OrderItem> getItems(Order order) {
+            return itemsByOrder.getOrDefault(order.getId(), Collections.emptyList());
+        }
+
+        public List<OrderItem> getKitchenItems() {
+            return kitchenItems;
+        }
+    }
+
+    /**
+     * Waiter table grid
+     */
+    public static final class WaiterSnapshot {
+        private final List<Table> tables;
+
+        private WaiterSnapshot(List<Table> tables) {
+            this.tables = tables;
+        }
+
+        /**
+         * Load the table grid (any thread)
+         */
+        public static WaiterSnapshot load() {
+            try (QueryScope scope = QueryScope.open("table grid", 10)) {
+                return new WaiterSnapshot(DAOFactory.getTableDAO().findAll());
+            }
+        }
+
+        public List<Table> getTables() {
+            return tables;
+        }
+    }
+
+    /**
+     * Cashier queue: delivered orders with their table and waiter, and
+     * today's payment totals; five queries however many orders and
+     * payments there are
+     */
+    public static final class CashierSnapshot {
+        private final List<Order> deliveredOrders;
+        private final Map<Integer, Table> tables;
+        private final Map<Integer, User> waiters;
+        private final int paymentsToday;
+        private final Money revenueToday;
+
+        private CashierSnapshot(List<Order> deliveredOrders, Map<Integer, Table> tables,
+                Map<Integer, User> waiters, int paymentsToday, Money revenueToday) {
+            this.deliveredOrders = deliveredOrders;
+            this.tables = tables;
+            this.waiters = waiters;
+            this.paymentsToday = paymentsToday;
+            this.revenueToday = revenueToday;
+        }
+
+        /**
+         * Load the cashier queue (any thread)
+         */
+        public static CashierSnapshot load() {
+            OrderDAO orderDAO = DAOFactory.getOrderDAO();
+            TableDAO tableDAO = DAOFactory.getTableDAO();
+            UserDAO userDAO = DAOFactory.getUserDAO();
+            PaymentDAO paymentDAO = DAOFactory.getPaymentDAO();
+
+            try (QueryScope scope = QueryScope.open("cashier refresh", 5)) {
+                List<Order> deliveredOrders = orderDAO.findByStatus(Order.STATUS_DELIVERED);
+
+                // A restaurant has a few dozen tables and staff: one query each
+                Map<Integer, Table> tables = new HashMap<>();
+                Map<Integer, User> waiters = new HashMap<>();
+                if (!deliveredOrders.isEmpty()) {
+                    for (Table table : tableDAO.findAll()) {
+                        tables.put(table.getId(), table);
+                    }
+                    for (User user : userDAO.findAll()) {
+                        waiters.put(user.getId(), user);
+                    }
+                }
+
+                return new CashierSnapshot(deliveredOrders, tables, waiters, paymentDAO.countToday(),
+                        paymentDAO.getTodayRevenue());
+            }
+        }
+
+        public List<Order> getDeliveredOrders() {
+            return deliveredOrders;
+        }
+
+        public Table getTable(Order order) {
+            return tables.get(order.getTableId());
+        }
+
+        public User getWaiter(Order order) {
+            return waiters.get(order.getUserId());
+        }
+
+        public int getPaymentsToday() {
+            return paymentsToday;
+        }
+
+        public Money getRevenueToday() {
+            return revenueToday;
+        }
+    }
+
+    /**
+     * Admin KPIs: stat cards, weekly revenue, recent orders and the
+     * popular menu list
+     */
+    public static final class AdminSnapshot {
+        private Money todayRevenue;
+        private Money yesterdayRevenue;
+        private int todayOrders;
+        private int totalTables;
+        private int occupiedTables;
+        private int openOrders;
+        private Map<LocalDate, Double> weeklyRevenue;
+        private List<Order> recentOrders;
+        private List<Menu> popularMenus;
+
+        private AdminSnapshot() {
+        }
+
+        /**
+         * Load the admin dashboard data (any thread)
+         */
+        public static AdminSnapshot load() {
+            OrderDAO orderDAO = DAOFactory.getOrderDAO();
+            TableDAO tableDAO = DAOFactory.getTableDAO();
+            MenuDAO menuDAO = DAOFactory.getMenuDAO();
+            PaymentDAO paymentDAO = DAOFactory.getPaymentDAO();
+
+            try (QueryScope scope = QueryScope.open("admin dashboard", 30)) {
+                AdminSnapshot snapshot = new AdminSnapshot();
+
+                snapshot.todayRevenue = paymentDAO.getTodayRevenue();
+                LocalDate yesterday = LocalDate.now().minusDays(1);
+                snapshot.yesterdayRevenue = orderDAO.getRevenueByDateRange(yesterday, yesterday);
+                snapshot.todayOrders = orderDAO.countToday();
+
+                snapshot.totalTables = tableDAO.findAll().size();
+                snapshot.occupiedTables = tableDAO.findByStatus(Table.STATUS_OCCUPIED).size();
+                snapshot.openOrders = orderDAO.countByStatus(Order.STATUS_PENDING)
+                        + orderDAO.countByStatus(Order.STATUS_PROCESSING);
+
+                snapshot.weeklyRevenue = orderDAO.getWeeklyRevenue();
+
+                // Limit to 10 recent orders
+                List<Order> todayOrders = orderDAO.findToday();
+                snapshot.recentOrders = new ArrayList<>(todayOrders.subList(0, Math.min(10, todayOrders.size())));
+
+                // Top 5 menus (in real app, sort by sales)
+                List<Menu> menus = menuDAO.findAll();
+                snapshot.popularMenus = new ArrayList<>(menus.subList(0, Math.min(5, menus.size())));
+                return snapshot;
+            }
+        }
+
+        public Money getTodayRevenue() {
+            return todayRevenue;
+        }
+
+        public Money getYesterdayRevenue() {
+            return yesterdayRevenue;
+        }
+
+        public int getTodayOrders() {
+            return todayOrders;
+        }
+
+        public int getTotalTables() {
+            return totalTables;
+        }
+
+        public int getOccupiedTables() {
+            return occupiedTables;
+        }
+
+        public int getOpenOrders() {
+            return openOrders;
+        }
+
+        public Map<LocalDate, Double> getWeeklyRevenue() {
+            return weeklyRevenue;
+        }
+
+        public List<Order> getRecentOrders() {
+            return recentOrders;
+        }
+
+        public List<Menu> getPopularMenus() {
+            return popularMenus;
+        }
+    }
+}
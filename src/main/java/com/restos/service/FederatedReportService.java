@@ -0,0 +1,273 @@
+package com.restos.service;
+
+import com.restos.config.Branch;
+import com.restos.config.DatabaseConfig;
+import com.restos.dao.DAOFactory;
+import com.restos.dao.ReportDAO;
+import com.restos.metrics.MetricsRegistry;
+import com.restos.model.SalesSummary;
+import com.restos.util.SessionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Federated Report Service
+ * Summarizes sales of all branches (see DatabaseConfig.getBranches()):
+ * the same aggregate queries run on every branch database in parallel
+ * and their results are merged. Each branch gets db.branch.timeout.ms;
+ * a branch that is slower, unreachable or fails is left out and listed
+ * in the report, so head office still sees the branches that answered.
+ * A single branch can be summarized the same way; it defaults to the
+ * branch the current user signed in at.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class FederatedReportService {
+
+    private static FederatedReportService instance;
+
+    /**
+     * Outcome of one branch
+     */
+    public enum Status {
+        OK, TIMEOUT, FAILED
+    }
+
+    private final ReportDAO reportDAO;
+    private final DatabaseConfig config = DatabaseConfig.getInstance();
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private final ExecutorService executor;
+
+    /**
+     * Private constructor for Singleton pattern
+     */
+    private FederatedReportService() {
+        this.reportDAO = DAOFactory.getReportDAO();
+        AtomicInteger count = new AtomicInteger();
+        // Threads stuck on an unreachable branch end with its socket timeout
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "branch-report-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get singleton instance of FederatedReportService
+     * @return FederatedReportService instance
+     */
+    public static synchronized FederatedReportService getInstance() {
+        if (instance == null) {
+            instance = new FederatedReportService();
+        }
+        return instance;
+    }
+
+    /**
+     * Summarize the sales of every branch over a date range
+     *
+     * @param startDate Start date (inclusive)
+     * @param endDate   End date (inclusive)
+     * @return Per-branch results and their merged total
+     */
+    public FederatedReport summarize(LocalDate startDate, LocalDate endDate) {
+        return metrics.time("FederatedReportService.summarize",
+                () -> summarize(config.getBranches(), startDate, endDate));
+    }
+
+    /**
+     * Summarize the sales of one branch over a date range
+     *
+     * @param branchId  Branch ID, or null for the branch the current user signed in at
+     * @param startDate Start date (inclusive)
+     * @param endDate   End date (inclusive)
+     * @return Result of the branch, as the only entry of a report
+     * @throws IllegalArgumentException if the branch is not configured
+     */
+    public FederatedReport summarizeBranch(String branchId, LocalDate startDate, LocalDate endDate) {
+        String id = branchId != null ? branchId : SessionManager.getInstance().getCurrentBranchId();
+        for (Branch branch : config.getBranches()) {
+            if (id == null ? branch.isLocal() : branch.getId().equals(id)) {
+                return metrics.time("FederatedReportService.summarizeBranch",
+                        () -> summarize(List.of(branch), startDate, endDate));
+            }
+        }
+        throw new IllegalArgumentException("Unknown branch " + id);
+    }
+
+    private FederatedReport summarize(List<Branch> branches, LocalDate startDate, LocalDate endDate) {
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getBranchTimeoutMillis());
+        long deadline = System.nanoTime() + timeoutNanos;
+
+        Map<Branch, Future<BranchResult>> pending = new LinkedHashMap<>();
+        for (Branch branch : branches) {
+            pending.put(branch, executor.submit(() -> summarizeOne(branch, startDate, endDate)));
+        }
+
+        // Every branch shares the same deadline, so the report takes at most one timeout
+        FederatedReport report = new FederatedReport(startDate, endDate);
+        for (Map.Entry<Branch, Future<BranchResult>> entry : pending.entrySet()) {
+            Branch branch = entry.getKey();
+            Future<BranchResult> future = entry.getValue();
+            try {
+                report.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                report.add(new BranchResult(branch, Status.TIMEOUT, null,
+                        "Tidak menjawab dalam " + config.getBranchTimeoutMillis() + " ms",
+                        TimeUnit.NANOSECONDS.toMillis(timeoutNanos)));
+            } catch (ExecutionException e) {
+                String message = firstLine(e.getCause().getMessage());
+                System.err.println("Error summarizing branch " + branch.getId() + ": " + message);
+                report.add(new BranchResult(branch, Status.FAILED, null, message, -1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                report.add(new BranchResult(branch, Status.FAILED, null, "Dibatalkan", -1));
+            }
+        }
+        return report;
+    }
+
+    private BranchResult summarizeOne(Branch branch, LocalDate startDate, LocalDate endDate) throws Exception {
+        long start = System.nanoTime();
+        String previous = DatabaseConfig.setBranch(branch.getId());
+        try {
+            SalesSummary summary = reportDAO.summarize(startDate, endDate);
+            return new BranchResult(branch, Status.OK, summary, null,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            DatabaseConfig.setBranch(previous);
+        }
+    }
+
+    /**
+     * Driver messages can span several lines; the first says what happened
+     */
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "Kesalahan tidak diketahui";
+        }
+        int newline = message.indexOf('\n');
+        return newline > 0 ? message.substring(0, newline).trim() : message;
+    }
+
+    /**
+     * Result of one branch
+     */
+    public static final class BranchResult {
+        private final Branch branch;
+        private final Status status;
+        private final SalesSummary summary;
+        private final String error;
+        private final long elapsedMillis;
+
+        BranchResult(Branch branch, Status status, SalesSummary summary, String error, long elapsedMillis) {
+            this.branch = branch;
+            this.status = status;
+            this.summary = summary;
+            this.error = error;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public Branch getBranch() {
+            return branch;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        /**
+         * @return Summary, or null unless the status is OK
+         */
+        public SalesSummary getSummary() {
+            return summary;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        /**
+         * @return Time the branch took, or -1 if it failed
+         */
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+
+    /**
+     * Summary of all branches that answered
+     */
+    public static final class FederatedReport {
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final List<BranchResult> results = new ArrayList<>();
+        private final SalesSummary total = new SalesSummary();
+
+        FederatedReport(LocalDate startDate, LocalDate endDate) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+
+        void add(BranchResult result) {
+            results.add(result);
+            if (result.status == Status.OK) {
+                total.merge(result.summary);
+            }
+        }
+
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+
+        public List<BranchResult> getResults() {
+            return Collections.unmodifiableList(results);
+        }
+
+        /**
+         * @return Merged summary of the branches that answered
+         */
+        public SalesSummary getTotal() {
+            return total;
+        }
+
+        /**
+         * @return true if every branch answered
+         */
+        public boolean isComplete() {
+            return getMissingBranches().isEmpty();
+        }
+
+        /**
+         * @return Branches missing from the total
+         */
+        public List<Branch> getMissingBranches() {
+            List<Branch> missing = new ArrayList<>();
+            for (BranchResult result : results) {
+                if (result.status != Status.OK) {
+                    missing.add(result.branch);
+                }
+            }
+            return missing;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.restos.service;
+
+import com.restos.dao.DAOFactory;
+import com.restos.dao.RowMapperWarmup;
+import com.restos.metrics.MetricsRegistry;
+import com.restos.model.Menu;
+import com.restos.model.Order;
+import com.restos.model.OrderItem;
+import com.restos.util.CurrencyFormatter;
+import com.restos.util.DateTimeUtil;
+import com.restos.util.MenuFilter;
+import com.restos.util.ViewCache;
+import com.restos.util.ViewLifecycle;
+import com.restos.util.WarmupSample;
+
+import javafx.application.Platform;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JIT warm-up after login
+ * Runs the code behind the first dashboard refresh and order entry
+ * (row mappers, CurrencyFormatter, DateTimeUtil, MenuFilter and the
+ * dashboard's card factories) many times over sample data built from the
+ * menu catalog, so it is compiled before the first real order. Reads the
+ * catalog once and never writes to the database.
+ *
+ * Each round is timed in the MetricsRegistry ("JitWarmup.round",
+ * "JitWarmup.cards"; first vs. last round shows the effect) together with
+ * the total ("JitWarmup.total"). Disable with -Drestos.warmup=false.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public final class JitWarmup {
+
+    // Enough calls for the mappers and formatters to reach the optimizing compiler
+    private static final int ROUNDS = Integer.getInteger("restos.warmup.rounds", 200);
+
+    // Card rounds run on the FX thread with a pause in between, so each
+    // round only builds the cards of a few orders
+    private static final int CARD_ROUNDS = Integer.getInteger("restos.warmup.card.rounds", 50);
+    private static final int CARD_ORDERS = 4;
+    private static final long CARD_PAUSE_MILLIS = 20;
+
+    // Sample orders, a busy kitchen queue
+    private static final int SAMPLE_ORDERS = 20;
+
+    // Views warmed up in this process
+    private static final Set<String> warmed = ConcurrentHashMap.newKeySet();
+
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+    private JitWarmup() {
+    }
+
+    /**
+     * Warm up in the background after a dashboard is shown (FX thread)
+     * @param fxmlPath FXML path of the dashboard whose cards are warmed up
+     */
+    public static void start(String fxmlPath) {
+        if (!Boolean.parseBoolean(System.getProperty("restos.warmup", "true")) || !warmed.add(fxmlPath)) {
+            return;
+        }
+
+        ViewLifecycle view = null;
+        try {
+            Object controller = ViewCache.getInstance().get(fxmlPath).getController();
+            if (controller instanceof ViewLifecycle) {
+                view = (ViewLifecycle) controller;
+            }
+        } catch (Exception e) {
+            System.err.println("Error getting view for warm-up: " + e.getMessage());
+        }
+
+        ViewLifecycle target = view;
+        Thread thread = new Thread(() -> run(fxmlPath, target), "jit-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    private static void run(String fxmlPath, ViewLifecycle view) {
+        long start = System.nanoTime();
+        try {
+            List<Menu> menus = DAOFactory.getMenuDAO().findAllActive();
+            if (menus.isEmpty()) {
+                System.out.println("JIT warm-up skipped: menu catalog is empty");
+                return;
+            }
+
+            RowMapperWarmup mappers = new RowMapperWarmup(menus, SAMPLE_ORDERS);
+            WarmupSample sample = new WarmupSample(mappers.mapMenus(),
+                    mappers.mapOrders().subList(0, CARD_ORDERS), mappers.mapOrderItems());
+
+            double firstRound = 0;
+            double lastRound = 0;
+            for (int i = 0; i < ROUNDS; i++) {
+                long roundStart = System.nanoTime();
+                metrics.time("JitWarmup.round", () -> runRound(mappers));
+                lastRound = (System.nanoTime() - roundStart) / 1e6;
+                if (i == 0) {
+                    firstRound = lastRound;
+                }
+            }
+
+            double firstCards = 0;
+            double lastCards = 0;
+            if (view != null) {
+                for (int i = 0; i < CARD_ROUNDS; i++) {
+                    long roundStart = System.nanoTime();
+                    metrics.time("JitWarmup.cards",
+                            () -> CompletableFuture.runAsync(() -> view.warmUp(sample), Platform::runLater).join());
+                    lastCards = (System.nanoTime() - roundStart) / 1e6;
+                    if (i == 0) {
+                        firstCards = lastCards;
+                    }
+                    // Leave the FX thread free for input between rounds
+                    Thread.sleep(CARD_PAUSE_MILLIS);
+                }
+            }
+
+            long total = System.nanoTime() - start;
+            metrics.operation("JitWarmup.total").record(total, 0, false);
+            System.out.printf("JIT warm-up for %s: %d ms, round %.2f -> %.2f ms, cards %.2f -> %.2f ms%n",
+                    fxmlPath, total / 1_000_000, firstRound, lastRound, firstCards, lastCards);
+
+        } catch (SQLException | RuntimeException e) {
+            metrics.operation("JitWarmup.total").recordError();
+            System.err.println("Error during JIT warm-up: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * One round over the sample: map the rows, format amounts and times
+     * as the dashboards do, and filter the menu as the order page does
+     */
+    private static void runRound(RowMapperWarmup mappers) {
+        try {
+            List<Order> orders = mappers.mapOrders();
+            List<OrderItem> items = mappers.mapOrderItems();
+            List<Menu> menus = mappers.mapMenus();
+
+            for (Order order : orders) {
+                CurrencyFormatter.format(order.getTotalAmount());
+                DateTimeUtil.getElapsedTime(order.getCreatedAt());
+                DateTimeUtil.getRelativeTime(order.getCreatedAt());
+                DateTimeUtil.formatTime(order.getCreatedAt().toLocalTime());
+            }
+            for (OrderItem item : items) {
+                CurrencyFormatter.format(item.getSubtotal());
+                CurrencyFormatter.formatForReceipt(item.getPrice().doubleValue(), 12);
+            }
+
+            String category = menus.get(0).getCategoryName();
+            for (String sort : MenuFilter.getSortOptions()) {
+                MenuFilter.filter(menus, null, null, sort);
+                MenuFilter.filter(menus, category, "a", sort);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.restos.service;
+
+import com.restos.config.DatabaseConfig;
+import com.restos.dao.ArchiveDAO;
+import com.restos.dao.DAOFactory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Order Archive Service
+ * Moves completed and cancelled orders older than db.archive.after.days
+ * out of the live tables, so the order, kitchen and cashier queries only
+ * go through the orders still in use. Orders are moved in small batches
+ * with a pause in between, each batch in its own short transaction, so
+ * the terminals keep working while a backlog of months is archived.
+ * Archived orders stay available through OrderHistoryService and the
+ * reports.
+ *
+ * Only one terminal should run the archiver.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class OrderArchiveService {
+
+    // The dashboard's weekly chart reads only the live tables
+    public static final int MIN_AFTER_DAYS = 7;
+
+    private static OrderArchiveService instance;
+
+    private final ArchiveDAO archiveDAO;
+    private Thread thread;
+
+    /**
+     * Private constructor for Singleton pattern
+     */
+    private OrderArchiveService() {
+        this.archiveDAO = DAOFactory.getArchiveDAO();
+    }
+
+    /**
+     * Get singleton instance of OrderArchiveService
+     * @return OrderArchiveService instance
+     */
+    public static synchronized OrderArchiveService getInstance() {
+        if (instance == null) {
+            instance = new OrderArchiveService();
+        }
+        return instance;
+    }
+
+    /**
+     * Start archiving in the background when db.archive.after.days is set
+     * @return true if the archiver was started
+     */
+    public synchronized boolean startIfConfigured() {
+        DatabaseConfig config = DatabaseConfig.getInstance();
+        int afterDays = config.getIntProperty("db.archive.after.days", 0);
+        if (afterDays <= 0 || thread != null) {
+            return false;
+        }
+        if (afterDays < MIN_AFTER_DAYS) {
+            System.err.println("db.archive.after.days=" + afterDays + " raised to " + MIN_AFTER_DAYS);
+            afterDays = MIN_AFTER_DAYS;
+        }
+        int days = afterDays;
+        int batchSize = Math.max(1, config.getIntProperty("db.archive.batch.size", 200));
+        long pauseMs = Math.max(0, config.getIntProperty("db.archive.pause.ms", 200));
+        long intervalMs = Math.max(1, config.getIntProperty("db.archive.interval.minutes", 360)) * 60_000L;
+
+        thread = new Thread(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    archive(days, batchSize, pauseMs);
+                    Thread.sleep(intervalMs);
+                }
+            } catch (InterruptedException e) {
+                // Stopped
+            }
+        }, "order-archiver");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * Stop the archiver; a batch being moved is finished or rolled back
+     */
+    public synchronized void stop() {
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    /**
+     * Archive all finished orders created before today minus the given days
+     *
+     * @param afterDays Age in days of the orders to archive
+     * @param batchSize Orders moved per transaction
+     * @param pauseMs   Pause between batches
+     * @return Number of orders archived
+     * @throws InterruptedException if interrupted between batches
+     */
+    public int archive(int afterDays, int batchSize, long pauseMs) throws InterruptedException {
+        LocalDateTime before = LocalDate.now().minusDays(afterDays).atStartOfDay();
+        long start = System.nanoTime();
+        int total = 0;
+        int moved;
+        while ((moved = archiveDAO.archiveBatch(before, batchSize)) > 0) {
+            total += moved;
+            Thread.sleep(pauseMs);
+        }
+        if (total > 0) {
+            System.out.println("Archived " + total + " orders created before " + before.toLocalDate()
+                    + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+        return total;
+    }
+}
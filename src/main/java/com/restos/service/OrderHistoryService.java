@@ -0,0 +1,61 @@
+package com.restos.service;
+
+import com.restos.dao.ArchiveDAO;
+import com.restos.dao.DAOFactory;
+import com.restos.dao.OrderDAO;
+import com.restos.model.Order;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Order History Service
+ * Looks up orders regardless of whether they were archived: the live
+ * tables are read first and the archive tables only for the months a
+ * date range reaches into (see OrderArchiveService).
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class OrderHistoryService {
+
+    private final OrderDAO orderDAO;
+    private final ArchiveDAO archiveDAO;
+
+    public OrderHistoryService() {
+        this.orderDAO = DAOFactory.getOrderDAO();
+        this.archiveDAO = DAOFactory.getArchiveDAO();
+    }
+
+    /**
+     * Find live and archived orders by date range
+     *
+     * @param startDate Start date
+     * @param endDate   End date
+     * @return Orders in the date range, newest first
+     */
+    public List<Order> findByDateRange(LocalDate startDate, LocalDate endDate) {
+        List<Order> orders = new ArrayList<>(orderDAO.findByDateRange(startDate, endDate));
+        List<Order> archived = archiveDAO.findByDateRange(startDate, endDate);
+        if (!archived.isEmpty()) {
+            // Old unfinished orders stay live, so the two lists interleave
+            orders.addAll(archived);
+            orders.sort(Comparator.comparing(Order::getCreatedAt,
+                    Comparator.nullsLast(Comparator.reverseOrder())));
+        }
+        return orders;
+    }
+
+    /**
+     * Find a live or archived order by ID with items loaded
+     *
+     * @param id Order ID
+     * @return Order with items or null if not found
+     */
+    public Order findByIdWithItems(int id) {
+        Order order = orderDAO.findByIdWithItems(id);
+        return order != null ? order : archiveDAO.findByIdWithItems(id);
+    }
+}
@@ -0,0 +1,216 @@
+package com.restos.service;
+
+import com.restos.dao.*;
+import com.restos.event.EventBus;
+import com.restos.event.OrderEvent;
+import com.restos.metrics.MetricsRegistry;
+import com.restos.model.Inventory;
+import com.restos.model.Money;
+import com.restos.model.Order;
+import com.restos.model.OrderItem;
+import com.restos.model.Table;
+import com.restos.print.PrintSpooler;
+import com.restos.print.TicketRenderer;
+import com.restos.sync.Invalidation;
+import com.restos.sync.InvalidationBus;
+
+import java.util.List;
+
+/**
+ * Order Service
+ * Order submission and kitchen status flow shared by the waiter and
+ * kitchen screens (and the headless load generator)
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class OrderService {
+
+    // Tax rate applied on top of the order subtotal, in basis points (10%)
+    public static final int TAX_RATE_BASIS_POINTS = 1000;
+
+    private OrderDAO orderDAO;
+    private OrderItemDAO orderItemDAO;
+    private TableDAO tableDAO;
+    private InventoryDAO inventoryDAO;
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private final EventBus events = EventBus.getInstance();
+    private final InvalidationBus invalidations = InvalidationBus.getInstance();
+
+    /**
+     * Constructor
+     */
+    public OrderService() {
+        this.orderDAO = DAOFactory.getOrderDAO();
+        this.orderItemDAO = DAOFactory.getOrderItemDAO();
+        this.tableDAO = DAOFactory.getTableDAO();
+        this.inventoryDAO = DAOFactory.getInventoryDAO();
+    }
+
+    /**
+     * Calculate tax for a subtotal, rounded half up to whole rupiah
+     * @param subtotal Order subtotal
+     * @return Tax amount
+     */
+    public static Money calculateTax(Money subtotal) {
+        return subtotal.percent(TAX_RATE_BASIS_POINTS);
+    }
+
+    /**
+     * Calculate the total (subtotal plus tax) of a subtotal in rupiah
+     * @param subtotal Order subtotal
+     * @return Total amount
+     */
+    public static long calculateTotal(long subtotal) {
+        return Math.addExact(subtotal, Money.percent(subtotal, TAX_RATE_BASIS_POINTS));
+    }
+
+    /**
+     * Submit an order: create (or replace) the order and its items,
+     * occupy the table and deduct inventory stock
+     *
+     * @param order Order to submit; when its id is set the existing order is replaced
+     * @param table Table the order belongs to
+     * @param items Items with menu id, quantity, price and notes set
+     * @return Submitted order with id and total amount set
+     * @throws IllegalStateException if the order cannot be saved
+     */
+    public Order submitOrder(Order order, Table table, List<OrderItem> items) {
+        return metrics.time("OrderService.submitOrder", () -> doSubmitOrder(order, table, items));
+    }
+
+    private Order doSubmitOrder(Order order, Table table, List<OrderItem> items) {
+        // Calculate totals
+        long subtotal = 0;
+        for (OrderItem item : items) {
+            subtotal = Math.addExact(subtotal, Math.multiplyExact(item.getPrice().getRupiah(), item.getQuantity()));
+        }
+        order.setTotalAmount(Money.of(calculateTotal(subtotal)));
+
+        boolean existing = order.getId() > 0;
+        if (existing) {
+            orderDAO.update(order);
+            // Delete old items first
+            orderItemDAO.deleteByOrderId(order.getId());
+        } else {
+            order.setTableId(table.getId());
+            order.setStatus(Order.STATUS_PENDING);
+
+            int orderId = orderDAO.insert(order);
+            if (orderId <= 0) {
+                throw new IllegalStateException("Pesanan tidak dapat disimpan");
+            }
+            order.setId(orderId);
+
+            // Update table status
+            table.setStatus(Table.STATUS_OCCUPIED);
+            tableDAO.update(table);
+        }
+
+        for (OrderItem item : items) {
+            item.setOrderId(order.getId());
+            item.setStatus(OrderItem.STATUS_PENDING);
+            orderItemDAO.insert(item);
+
+            // Update inventory stock
+            Inventory inv = inventoryDAO.findByMenuId(item.getMenuId());
+            if (inv != null) {
+                int newStock = Math.max(0, inv.getRemainingStock() - item.getQuantity());
+                if (inventoryDAO.updateStock(inv.getId(), newStock)) {
+                    invalidations.publish(Invalidation.INVENTORY, item.getMenuId());
+                }
+            }
+        }
+
+        events.publish(existing ? OrderEvent.ORDER_UPDATED : OrderEvent.ORDER_CREATED,
+                order.getId(), 0, order.getTableId(), order.getStatus());
+        printKitchenTicket(order, table, items, existing);
+        return order;
+    }
+
+    /**
+     * Queue the kitchen ticket of a submitted order; it is only rendered
+     * here, the printer thread sends it
+     */
+    private void printKitchenTicket(Order order, Table table, List<OrderItem> items, boolean update) {
+        PrintSpooler spooler = PrintSpooler.getInstance();
+        if (spooler.isEnabled(PrintSpooler.KITCHEN)) {
+            spooler.submit(PrintSpooler.KITCHEN, "order #" + order.getId(), TicketRenderer.kitchenTicket(
+                    order, table != null ? table.getTableNumber() : null, items, update, spooler.getWidth()));
+        }
+    }
+
+    /**
+     * Update a single item status
+     * @param item Order item (with its order ID)
+     * @param status New status
+     * @return true if successful
+     */
+    public boolean updateItemStatus(OrderItem item, String status) {
+        return metrics.time("OrderService.updateItemStatus", () -> doUpdateItemStatus(item, status));
+    }
+
+    private boolean doUpdateItemStatus(OrderItem item, String status) {
+        boolean updated = orderItemDAO.updateStatus(item.getId(), status);
+        if (updated) {
+            events.publish(OrderEvent.ITEM_STATUS_CHANGED, item.getOrderId(), item.getId(), null, status);
+        }
+        return updated;
+    }
+
+    /**
+     * Start cooking all pending items and mark the order as processing
+     * @param orderId Order ID
+     * @param items Items of the order
+     */
+    public void startCookingAll(int orderId, List<OrderItem> items) {
+        metrics.time("OrderService.startCookingAll", () -> doStartCookingAll(orderId, items));
+    }
+
+    private void doStartCookingAll(int orderId, List<OrderItem> items) {
+        for (OrderItem item : items) {
+            if (OrderItem.STATUS_PENDING.equals(item.getStatus())
+                    && orderItemDAO.updateStatus(item.getId(), OrderItem.STATUS_COOKING)) {
+                events.publish(OrderEvent.ITEM_STATUS_CHANGED, orderId, item.getId(), null, OrderItem.STATUS_COOKING);
+            }
+        }
+        if (orderDAO.updateStatus(orderId, Order.STATUS_PROCESSING)) {
+            events.publish(OrderEvent.ORDER_UPDATED, orderId, 0, null, Order.STATUS_PROCESSING);
+        }
+    }
+
+    /**
+     * Mark all cooking items as served
+     * @param items Items of the order
+     */
+    public void completeAllItems(List<OrderItem> items) {
+        metrics.time("OrderService.completeAllItems", () -> doCompleteAllItems(items));
+    }
+
+    private void doCompleteAllItems(List<OrderItem> items) {
+        for (OrderItem item : items) {
+            if (OrderItem.STATUS_COOKING.equals(item.getStatus())
+                    && orderItemDAO.updateStatus(item.getId(), OrderItem.STATUS_SERVED)) {
+                events.publish(OrderEvent.ITEM_STATUS_CHANGED, item.getOrderId(), item.getId(), null,
+                        OrderItem.STATUS_SERVED);
+            }
+        }
+    }
+
+    /**
+     * Mark an order as delivered to the customer
+     * @param orderId Order ID
+     * @return true if successful
+     */
+    public boolean markDelivered(int orderId) {
+        return metrics.time("OrderService.markDelivered", () -> doMarkDelivered(orderId));
+    }
+
+    private boolean doMarkDelivered(int orderId) {
+        boolean updated = orderDAO.updateStatus(orderId, Order.STATUS_DELIVERED);
+        if (updated) {
+            events.publish(OrderEvent.ORDER_DELIVERED, orderId, 0, null, Order.STATUS_DELIVERED);
+        }
+        return updated;
+    }
+}
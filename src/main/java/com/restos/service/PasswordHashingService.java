@@ -0,0 +1,181 @@
+package com.restos.service;
+
+import com.restos.metrics.MetricsRegistry;
+import com.restos.util.PasswordUtil;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Password Hashing Service
+ * Runs all BCrypt work on a small bounded pool so logins at shift change
+ * queue up instead of competing for the CPU of a slow terminal, and
+ * picks the cost factor by timing BCrypt on this machine at startup
+ * (target -Drestos.hash.target.ms, default 250 ms; pin it with
+ * -Drestos.hash.cost, e.g. when terminals differ in speed).
+ *
+ * Hashes whose cost differs from the target are rehashed after a
+ * successful login (see AuthService).
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class PasswordHashingService {
+
+    private static PasswordHashingService instance;
+
+    // Accepted cost range; below 10 is too weak, above 14 too slow for a login
+    private static final int MIN_COST = 10;
+    private static final int MAX_COST = 14;
+
+    private static final long TARGET_MILLIS = Long.getLong("restos.hash.target.ms", 250);
+
+    // Hashes waiting for a worker before new requests are rejected
+    private static final int QUEUE_CAPACITY = 32;
+
+    private final ThreadPoolExecutor executor;
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+    private volatile int targetCost = PasswordUtil.DEFAULT_WORKLOAD;
+    private volatile boolean calibrated;
+
+    /**
+     * Private constructor for Singleton pattern
+     */
+    private PasswordHashingService() {
+        int threads = Integer.getInteger("restos.hash.threads",
+                Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() / 2)));
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Get singleton instance of PasswordHashingService
+     * @return PasswordHashingService instance
+     */
+    public static synchronized PasswordHashingService getInstance() {
+        if (instance == null) {
+            instance = new PasswordHashingService();
+        }
+        return instance;
+    }
+
+    /**
+     * Pick the cost factor (blocking, run once during startup).
+     * BCrypt time doubles with each cost step, so one measurement at the
+     * minimum cost is enough to find the highest cost within the target
+     */
+    public void calibrate() {
+        Integer pinned = Integer.getInteger("restos.hash.cost");
+        if (pinned != null) {
+            targetCost = Math.max(MIN_COST, Math.min(MAX_COST, pinned));
+            calibrated = true;
+            System.out.println("Password hashing: cost " + targetCost + " (pinned)");
+            return;
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            PasswordUtil.hashPassword("calibration", MIN_COST);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double minCostMillis = best / 1e6;
+
+        int cost = MIN_COST;
+        while (cost < MAX_COST && minCostMillis * (1L << (cost + 1 - MIN_COST)) <= TARGET_MILLIS) {
+            cost++;
+        }
+        targetCost = cost;
+        calibrated = true;
+        System.out.printf("Password hashing: cost %d (%.0f ms at cost %d, target %d ms)%n",
+                cost, minCostMillis, MIN_COST, TARGET_MILLIS);
+    }
+
+    /**
+     * Get the cost factor used for new hashes
+     */
+    public int getTargetCost() {
+        return targetCost;
+    }
+
+    /**
+     * Check whether a stored hash should be replaced by one at the target cost
+     * @param storedHash Stored BCrypt hash
+     * @return true if the cost differs from the calibrated target
+     */
+    public boolean needsRehash(String storedHash) {
+        int cost = PasswordUtil.getWorkload(storedHash);
+        return calibrated && cost > 0 && cost != targetCost;
+    }
+
+    /**
+     * Hash a password on the hashing pool
+     * @param plainPassword Plain text password
+     * @return Future with the BCrypt hash at the target cost
+     */
+    public CompletableFuture<String> hashAsync(String plainPassword) {
+        return submit("PasswordHashing.hash", () -> PasswordUtil.hashPassword(plainPassword, targetCost));
+    }
+
+    /**
+     * Verify a password on the hashing pool
+     * @param plainPassword Plain text password
+     * @param storedHash Stored BCrypt hash
+     * @return Future with true if the password matches
+     */
+    public CompletableFuture<Boolean> verifyAsync(String plainPassword, String storedHash) {
+        return submit("PasswordHashing.verify", () -> PasswordUtil.verifyPassword(plainPassword, storedHash));
+    }
+
+    /**
+     * Hash a password, waiting for the hashing pool (background threads only)
+     * @param plainPassword Plain text password
+     * @return BCrypt hash at the target cost
+     */
+    public String hash(String plainPassword) {
+        return join(hashAsync(plainPassword));
+    }
+
+    /**
+     * Verify a password, waiting for the hashing pool (background threads only)
+     * @param plainPassword Plain text password
+     * @param storedHash Stored BCrypt hash
+     * @return true if the password matches
+     */
+    public boolean verify(String plainPassword, String storedHash) {
+        return join(verifyAsync(plainPassword, storedHash));
+    }
+
+    private <T> CompletableFuture<T> submit(String operation, Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(() -> metrics.time(operation, work), executor);
+        } catch (RejectedExecutionException e) {
+            // Queue full: fail the request instead of blocking the caller
+            metrics.operation(operation).recordError();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.restos.service;
+
+import com.restos.dao.*;
+import com.restos.event.EventBus;
+import com.restos.event.OrderEvent;
+import com.restos.metrics.MetricsRegistry;
+import com.restos.model.Money;
+import com.restos.model.Order;
+import com.restos.model.OrderItem;
+import com.restos.model.Payment;
+import com.restos.model.Receipt;
+import com.restos.model.Table;
+import com.restos.model.User;
+import com.restos.print.PrintSpooler;
+import com.restos.print.TicketRenderer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Payment Service
+ * Settles delivered orders for the cashier screen and builds receipts
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class PaymentService {
+
+    private PaymentDAO paymentDAO;
+    private OrderDAO orderDAO;
+    private TableDAO tableDAO;
+    private UserDAO userDAO;
+    private OrderItemDAO orderItemDAO;
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private final EventBus events = EventBus.getInstance();
+
+    /**
+     * Constructor
+     */
+    public PaymentService() {
+        this.paymentDAO = DAOFactory.getPaymentDAO();
+        this.orderDAO = DAOFactory.getOrderDAO();
+        this.tableDAO = DAOFactory.getTableDAO();
+        this.userDAO = DAOFactory.getUserDAO();
+        this.orderItemDAO = DAOFactory.getOrderItemDAO();
+    }
+
+    /**
+     * Settle an order: record the payment, complete the order
+     * and free the table for dine-in orders
+     *
+     * @param order Order to settle
+     * @param cashierId Cashier user ID
+     * @param paymentMethod Payment method
+     * @param amountPaid Amount paid (must cover the total)
+     * @return Saved payment, or null if the payment could not be saved
+     */
+    public Payment settle(Order order, int cashierId, String paymentMethod, Money amountPaid) {
+        return metrics.time("PaymentService.settle", () -> doSettle(order, cashierId, paymentMethod, amountPaid));
+    }
+
+    private Payment doSettle(Order order, int cashierId, String paymentMethod, Money amountPaid) {
+        Payment payment = new Payment();
+        payment.setOrderId(order.getId());
+        payment.setCashierId(cashierId);
+        payment.setPaymentMethod(paymentMethod);
+        payment.setAmountPaid(amountPaid);
+        payment.setChangeAmount(amountPaid.minus(order.getTotalAmount()));
+        payment.setTransactionDate(LocalDateTime.now());
+
+        int paymentId = paymentDAO.insert(payment);
+        if (paymentId <= 0) {
+            return null;
+        }
+        payment.setId(paymentId);
+
+        // Update order status to completed
+        orderDAO.updateStatus(order.getId(), Order.STATUS_COMPLETED);
+
+        // Update table status to available (for dine-in)
+        if (Order.TYPE_DINE_IN.equals(order.getOrderType())) {
+            tableDAO.updateStatus(order.getTableId(), Table.STATUS_AVAILABLE);
+        }
+
+        events.publish(OrderEvent.PAYMENT_SETTLED, order.getId(), 0, order.getTableId(),
+                Order.STATUS_COMPLETED);
+        return payment;
+    }
+
+    /**
+     * Queue the receipt of a settled order for the receipt printer. The
+     * receipt is loaded and rendered on the printer thread, so settling
+     * does not wait for it
+     *
+     * @param order Paid order
+     * @param payment Payment of the order
+     * @return true if queued, false if no receipt printer is configured or its queue is full
+     */
+    public boolean printReceipt(Order order, Payment payment) {
+        PrintSpooler spooler = PrintSpooler.getInstance();
+        return spooler.submit(PrintSpooler.RECEIPT, "receipt #" + order.getId(),
+                () -> TicketRenderer.receipt(buildReceipt(order, payment), spooler.getWidth()));
+    }
+
+    /**
+     * Queue an already built receipt for the receipt printer (reprint)
+     *
+     * @param receipt Receipt
+     * @return true if queued, false if no receipt printer is configured or its queue is full
+     */
+    public boolean printReceipt(Receipt receipt) {
+        PrintSpooler spooler = PrintSpooler.getInstance();
+        return spooler.submit(PrintSpooler.RECEIPT, "receipt #" + receipt.getOrderId(),
+                TicketRenderer.receipt(receipt, spooler.getWidth()));
+    }
+
+    /**
+     * Build the receipt of a settled order
+     *
+     * @param order Paid order
+     * @param payment Payment of the order
+     * @return Receipt with table, waiter, cashier and item lines
+     */
+    public Receipt buildReceipt(Order order, Payment payment) {
+        Table table = tableDAO.findById(order.getTableId());
+        User waiter = userDAO.findById(order.getUserId());
+        User cashier = userDAO.findById(payment.getCashierId());
+        return buildReceipt(order, payment, table, waiter, cashier);
+    }
+
+    /**
+     * Build the receipts of all payments on a date. Nothing is read until
+     * the first hasNext(), so the iterator can be handed to a background
+     * thread; the day's payment rows are then read at once, and each
+     * order and receipt is built only when the iterator reaches it.
+     *
+     * @param date Transaction date
+     * @return Iterator over the receipts, oldest payment first
+     */
+    public Iterator<Receipt> receiptsFor(LocalDate date) {
+        // Tables and staff repeat across receipts
+        Map<Integer, Table> tables = new HashMap<>();
+        Map<Integer, User> users = new HashMap<>();
+
+        return new Iterator<>() {
+            private List<Payment> payments;
+            private int index;
+            private Receipt next;
+
+            private Receipt advance() {
+                if (payments == null) {
+                    payments = paymentDAO.findByDateRange(date, date);
+                    // Newest first from the DAO; reprints go in till order
+                    Collections.reverse(payments);
+                }
+                while (index < payments.size()) {
+                    Payment payment = payments.get(index++);
+                    Order order = orderDAO.findById(payment.getOrderId());
+                    if (order != null) {
+                        return buildReceipt(order, payment,
+                                tables.computeIfAbsent(order.getTableId(), tableDAO::findById),
+                                users.computeIfAbsent(order.getUserId(), userDAO::findById),
+                                users.computeIfAbsent(payment.getCashierId(), userDAO::findById));
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    next = advance();
+                }
+                return next != null;
+            }
+
+            @Override
+            public Receipt next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Receipt receipt = next;
+                next = null;
+                return receipt;
+            }
+        };
+    }
+
+    private Receipt buildReceipt(Order order, Payment payment, Table table, User waiter, User cashier) {
+        Receipt receipt = new Receipt();
+        receipt.setOrderId(order.getId());
+        receipt.setTransactionDate(payment.getTransactionDate());
+        receipt.setTableNumber(table != null ? table.getTableNumber() : "N/A");
+        receipt.setWaiterName(waiter != null ? waiter.getFullName() : "Unknown");
+        receipt.setCashierName(cashier != null ? cashier.getFullName() : "Unknown");
+        receipt.setPaymentMethod(payment.getPaymentMethod());
+        receipt.setTotalAmount(order.getTotalAmount());
+        receipt.setAmountPaid(payment.getAmountPaid());
+        receipt.setChangeAmount(payment.getChangeAmount());
+
+        // Menu names come with the items, no lookup per item
+        for (OrderItem item : orderItemDAO.findByOrderId(order.getId())) {
+            String name = item.getMenu() != null ? item.getMenuName() : "Menu #" + item.getMenuId();
+            receipt.addLine(name, item.getQuantity(), item.getPriceAtTime());
+        }
+        return receipt;
+    }
+}
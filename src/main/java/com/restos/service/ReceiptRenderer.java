@@ -0,0 +1,284 @@
+package com.restos.service;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Image;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.Utilities;
+import com.itextpdf.text.pdf.BaseFont;
+import com.itextpdf.text.pdf.ColumnText;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfTemplate;
+import com.itextpdf.text.pdf.PdfWriter;
+import com.itextpdf.text.pdf.draw.DottedLineSeparator;
+import com.restos.metrics.MetricsRegistry;
+import com.restos.model.Money;
+import com.restos.model.Receipt;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Receipt Renderer
+ * Renders receipts as PDF on an 80 mm roll, one receipt per page, on a
+ * single background thread. Fonts are created once for the whole
+ * application; the shop header is drawn once per document as a template
+ * and placed on every page, so a batch of reprints stays small and is
+ * written to the file page by page.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class ReceiptRenderer {
+
+    private static ReceiptRenderer instance;
+
+    private static final String SHOP_NAME = "RESTOS";
+    private static final String SHOP_ADDRESS = "Jl. Restoran No. 123, Jakarta";
+    private static final String SHOP_PHONE = "Tel: (021) 123-4567";
+    private static final String THANK_YOU = "Thank you for dining with us!";
+
+    // 80 mm thermal roll; the page grows with the number of item lines
+    private static final float PAGE_WIDTH = Utilities.millimetersToPoints(80);
+    private static final float MARGIN = 12;
+    private static final float CONTENT_WIDTH = PAGE_WIDTH - 2 * MARGIN;
+    private static final float HEADER_HEIGHT = 48;
+    private static final float BASE_HEIGHT = 300;
+    private static final float LINE_HEIGHT = 22;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private final Font titleFont;
+    private final Font normalFont;
+    private final Font boldFont;
+    private final Font smallFont;
+
+    // Only used on the render thread (DecimalFormat is not thread-safe)
+    private final DecimalFormat moneyFormat;
+
+    private final ExecutorService executor;
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+    /**
+     * Private constructor for Singleton pattern
+     */
+    private ReceiptRenderer() {
+        try {
+            BaseFont regular = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.CP1252, BaseFont.NOT_EMBEDDED);
+            BaseFont bold = BaseFont.createFont(BaseFont.HELVETICA_BOLD, BaseFont.CP1252, BaseFont.NOT_EMBEDDED);
+            titleFont = new Font(bold, 14);
+            normalFont = new Font(regular, 8);
+            boldFont = new Font(bold, 9);
+            smallFont = new Font(regular, 7, Font.NORMAL, BaseColor.GRAY);
+        } catch (DocumentException | IOException e) {
+            throw new IllegalStateException("Receipt fonts not available", e);
+        }
+
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(new Locale("id", "ID"));
+        symbols.setGroupingSeparator('.');
+        symbols.setDecimalSeparator(',');
+        moneyFormat = new DecimalFormat("Rp #,##0", symbols);
+
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "receipt-render");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get singleton instance of ReceiptRenderer
+     * @return ReceiptRenderer instance
+     */
+    public static synchronized ReceiptRenderer getInstance() {
+        if (instance == null) {
+            instance = new ReceiptRenderer();
+        }
+        return instance;
+    }
+
+    /**
+     * Render one receipt to a PDF file in the background
+     *
+     * @param receipt Receipt to render
+     * @param file    Target PDF file
+     * @return Future completed when the file is written
+     */
+    public CompletableFuture<Void> renderAsync(Receipt receipt, File file) {
+        return CompletableFuture.runAsync(() -> metrics.time("ReceiptRenderer.render", () -> {
+            write(Collections.singletonList(receipt).iterator(), file);
+        }), executor);
+    }
+
+    /**
+     * Render many receipts into one PDF in the background, one page each.
+     * Receipts are taken from the iterator while the document is written,
+     * so they can be built lazily (see PaymentService.receiptsFor)
+     *
+     * @param receipts Receipts to render (at least one)
+     * @param file     Target PDF file
+     * @return Future with the number of receipts written
+     */
+    public CompletableFuture<Integer> renderBatchAsync(Iterator<Receipt> receipts, File file) {
+        return CompletableFuture.supplyAsync(() -> metrics.time("ReceiptRenderer.batch",
+                () -> write(receipts, file)), executor);
+    }
+
+    private int write(Iterator<Receipt> receipts, File file) {
+        if (!receipts.hasNext()) {
+            throw new IllegalArgumentException("No receipts to render");
+        }
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            return write(receipts, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (DocumentException e) {
+            throw new IllegalStateException("Failed to render receipt: " + e.getMessage(), e);
+        }
+    }
+
+    private int write(Iterator<Receipt> receipts, OutputStream out) throws DocumentException {
+        Receipt receipt = receipts.next();
+        Document document = new Document(pageSize(receipt), MARGIN, MARGIN, MARGIN, MARGIN);
+        PdfWriter writer = PdfWriter.getInstance(document, out);
+        writer.setCloseStream(false);
+        document.open();
+
+        PdfTemplate header = createHeader(writer);
+        int count = 0;
+        try {
+            while (true) {
+                writeReceipt(document, header, receipt);
+                count++;
+                if (!receipts.hasNext()) {
+                    break;
+                }
+                receipt = receipts.next();
+                document.setPageSize(pageSize(receipt));
+                document.newPage();
+            }
+        } finally {
+            document.close();
+        }
+        return count;
+    }
+
+    private Rectangle pageSize(Receipt receipt) {
+        return new Rectangle(PAGE_WIDTH, BASE_HEIGHT + LINE_HEIGHT * receipt.getLines().size());
+    }
+
+    /**
+     * Draw the shop header once; every page refers to the same template
+     */
+    private PdfTemplate createHeader(PdfWriter writer) throws DocumentException {
+        PdfTemplate template = writer.getDirectContent().createTemplate(CONTENT_WIDTH, HEADER_HEIGHT);
+        ColumnText column = new ColumnText(template);
+        column.setSimpleColumn(0, 0, CONTENT_WIDTH, HEADER_HEIGHT);
+        column.addElement(centered(SHOP_NAME, titleFont));
+        column.addElement(centered(SHOP_ADDRESS, smallFont));
+        column.addElement(centered(SHOP_PHONE, smallFont));
+        column.go();
+        return template;
+    }
+
+    private void writeReceipt(Document document, PdfTemplate header, Receipt receipt) throws DocumentException {
+        Image headerImage = Image.getInstance(header);
+        headerImage.setAlignment(Element.ALIGN_CENTER);
+        document.add(headerImage);
+        document.add(divider());
+
+        // Order info
+        PdfPTable info = twoColumns();
+        addRow(info, "Order #", String.valueOf(receipt.getOrderId()), normalFont);
+        addRow(info, "Date", receipt.getTransactionDate() != null
+                ? receipt.getTransactionDate().format(DATE_FORMAT) : "-", normalFont);
+        addRow(info, "Table", receipt.getTableNumber(), normalFont);
+        addRow(info, "Waiter", receipt.getWaiterName(), normalFont);
+        addRow(info, "Cashier", receipt.getCashierName(), normalFont);
+        document.add(info);
+        document.add(divider());
+
+        // Items: name, then quantity x price and subtotal
+        PdfPTable items = twoColumns();
+        for (Receipt.Line line : receipt.getLines()) {
+            PdfPCell name = cell(line.getName(), boldFont, Element.ALIGN_LEFT);
+            name.setColspan(2);
+            items.addCell(name);
+            addRow(items, "  " + line.getQuantity() + " x " + money(line.getUnitPrice()),
+                    money(line.getSubtotal()), normalFont);
+        }
+        document.add(items);
+        document.add(divider());
+
+        // Totals
+        PdfPTable totals = twoColumns();
+        addRow(totals, "TOTAL", money(receipt.getTotalAmount()), boldFont);
+        addRow(totals, "Payment", receipt.getPaymentMethod() != null
+                ? receipt.getPaymentMethod().toUpperCase() : "-", normalFont);
+        addRow(totals, "Paid", money(receipt.getAmountPaid()), normalFont);
+        addRow(totals, "Change", money(receipt.getChangeAmount()), boldFont);
+        document.add(totals);
+        document.add(divider());
+
+        document.add(centered(THANK_YOU, normalFont));
+    }
+
+    private PdfPTable twoColumns() throws DocumentException {
+        PdfPTable table = new PdfPTable(2);
+        table.setWidthPercentage(100);
+        table.setWidths(new float[] { 3, 2 });
+        return table;
+    }
+
+    private void addRow(PdfPTable table, String label, String value, Font font) {
+        table.addCell(cell(label, font, Element.ALIGN_LEFT));
+        table.addCell(cell(value, font, Element.ALIGN_RIGHT));
+    }
+
+    private PdfPCell cell(String text, Font font, int alignment) {
+        PdfPCell cell = new PdfPCell(new Phrase(text != null ? text : "", font));
+        cell.setBorder(Rectangle.NO_BORDER);
+        cell.setHorizontalAlignment(alignment);
+        cell.setPadding(1.5f);
+        return cell;
+    }
+
+    private Paragraph centered(String text, Font font) {
+        Paragraph paragraph = new Paragraph(text, font);
+        paragraph.setAlignment(Element.ALIGN_CENTER);
+        return paragraph;
+    }
+
+    private Paragraph divider() {
+        DottedLineSeparator line = new DottedLineSeparator();
+        line.setGap(2);
+        line.setLineColor(BaseColor.GRAY);
+        Paragraph paragraph = new Paragraph();
+        paragraph.add(line);
+        paragraph.setSpacingAfter(4);
+        return paragraph;
+    }
+
+    private String money(Money amount) {
+        return moneyFormat.format(amount != null ? amount.getRupiah() : 0L);
+    }
+}
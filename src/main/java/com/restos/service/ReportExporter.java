@@ -0,0 +1,391 @@
+package com.restos.service;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.pdf.BaseFont;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfWriter;
+import com.restos.dao.DAOFactory;
+import com.restos.dao.ReportDAO;
+import com.restos.dao.ReportDAO.Report;
+import com.restos.metrics.MetricsRegistry;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Report Exporter
+ * Writes payment, order and order item reports over a date range as CSV
+ * or PDF. Rows go from the database stream (see ReportDAO) straight into
+ * a buffered file channel, so memory use does not grow with the range.
+ *
+ * The report is written to a ".part" file next to the target and moved
+ * into place when it is complete; a cancelled or failed export leaves
+ * nothing behind.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class ReportExporter {
+
+    private static ReportExporter instance;
+
+    /**
+     * Export file formats
+     */
+    public enum Format {
+        CSV("csv"),
+        PDF("pdf");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * Receives progress and is asked for cancellation while an export runs
+     */
+    public interface Listener {
+        /**
+         * @param done  Rows written so far
+         * @param total Expected rows, or -1 if unknown
+         */
+        void progress(int done, int total);
+
+        /**
+         * @return true to stop the export
+         */
+        boolean isCancelled();
+    }
+
+    // Progress is reported every this many rows
+    private static final int PROGRESS_INTERVAL = 500;
+
+    // PDF table rows kept in memory before they are written to the file
+    private static final int PDF_FLUSH_ROWS = 200;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final DateTimeFormatter CSV_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter PDF_DATE_TIME = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    private static final DateTimeFormatter PDF_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final ReportDAO reportDAO;
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+    private final Font titleFont;
+    private final Font headerFont;
+    private final Font cellFont;
+
+    /**
+     * Private constructor for Singleton pattern
+     */
+    private ReportExporter() {
+        this.reportDAO = DAOFactory.getReportDAO();
+        try {
+            BaseFont regular = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.CP1252, BaseFont.NOT_EMBEDDED);
+            BaseFont bold = BaseFont.createFont(BaseFont.HELVETICA_BOLD, BaseFont.CP1252, BaseFont.NOT_EMBEDDED);
+            titleFont = new Font(bold, 14);
+            headerFont = new Font(bold, 8, Font.NORMAL, BaseColor.WHITE);
+            cellFont = new Font(regular, 8);
+        } catch (DocumentException | IOException e) {
+            throw new IllegalStateException("Report fonts not available", e);
+        }
+    }
+
+    /**
+     * Get singleton instance of ReportExporter
+     * @return ReportExporter instance
+     */
+    public static synchronized ReportExporter getInstance() {
+        if (instance == null) {
+            instance = new ReportExporter();
+        }
+        return instance;
+    }
+
+    /**
+     * Export a report (blocking; call from a background thread)
+     *
+     * @param report    Report to export
+     * @param format    File format
+     * @param startDate Start date (inclusive)
+     * @param endDate   End date (inclusive)
+     * @param target    Target file
+     * @param listener  Progress listener
+     * @return Number of rows written
+     * @throws IOException           if the file cannot be written
+     * @throws SQLException          if the report query fails
+     * @throws CancellationException if the listener cancelled the export
+     */
+    public int export(Report report, Format format, LocalDate startDate, LocalDate endDate,
+            Path target, Listener listener) throws IOException, SQLException {
+        long start = System.nanoTime();
+        int rows = 0;
+        boolean failed = true;
+
+        int total = reportDAO.count(report, startDate, endDate);
+        listener.progress(0, total);
+
+        Path part = target.resolveSibling(target.getFileName() + ".part");
+        try {
+            try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                RowWriter writer = format == Format.PDF
+                        ? new PdfRowWriter(report, startDate, endDate, channel, total, listener)
+                        : new CsvRowWriter(report, channel, total, listener);
+                rows = reportDAO.stream(report, startDate, endDate, writer);
+                writer.finish();
+            }
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING);
+            failed = false;
+        } finally {
+            if (failed) {
+                Files.deleteIfExists(part);
+            }
+            metrics.operation("ReportExporter." + format.name().toLowerCase())
+                    .record(System.nanoTime() - start, rows, failed);
+        }
+
+        listener.progress(rows, total);
+        return rows;
+    }
+
+    /**
+     * Writes streamed rows to the file, reports progress and stops the
+     * stream when the export is cancelled or a write fails
+     */
+    private abstract static class RowWriter implements ReportDAO.RowHandler {
+        private final int total;
+        private final Listener listener;
+        private int rows;
+        private IOException failure;
+
+        RowWriter(int total, Listener listener) {
+            this.total = total;
+            this.listener = listener;
+        }
+
+        @Override
+        public boolean handle(Object[] row) {
+            try {
+                write(row);
+            } catch (IOException e) {
+                failure = e;
+                return false;
+            }
+            if (++rows % PROGRESS_INTERVAL == 0) {
+                listener.progress(rows, total);
+            }
+            return !listener.isCancelled();
+        }
+
+        /**
+         * Complete the file once the stream has ended
+         */
+        void finish() throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            if (listener.isCancelled()) {
+                throw new CancellationException("Export cancelled");
+            }
+            close(rows);
+        }
+
+        abstract void write(Object[] row) throws IOException;
+
+        abstract void close(int rows) throws IOException;
+    }
+
+    // ==================== CSV ====================
+
+    private static final class CsvRowWriter extends RowWriter {
+        private final Writer writer;
+        private final String[] cells;
+
+        CsvRowWriter(Report report, FileChannel channel, int total, Listener listener) throws IOException {
+            super(total, listener);
+            this.writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), BUFFER_SIZE);
+            this.cells = new String[report.getColumnCount()];
+            writeLine(report.getColumns());
+        }
+
+        @Override
+        void write(Object[] row) throws IOException {
+            for (int i = 0; i < row.length; i++) {
+                cells[i] = value(row[i]);
+            }
+            writeLine(cells);
+        }
+
+        @Override
+        void close(int rows) throws IOException {
+            writer.flush();
+        }
+
+        private void writeLine(String[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        private static String value(Object value) {
+            if (value == null) {
+                return "";
+            }
+            if (value instanceof LocalDateTime) {
+                return ((LocalDateTime) value).format(CSV_DATE_TIME);
+            }
+            if (value instanceof BigDecimal) {
+                return ((BigDecimal) value).toPlainString();
+            }
+            return value.toString();
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    // ==================== PDF ====================
+
+    /**
+     * Landscape A4 table; rows are handed to iText as an incomplete table
+     * every PDF_FLUSH_ROWS rows, which writes and releases them
+     */
+    private final class PdfRowWriter extends RowWriter {
+        private final OutputStream out;
+        private final Document document;
+        private final PdfPTable table;
+        private final DecimalFormat moneyFormat;
+        private int pending;
+
+        PdfRowWriter(Report report, LocalDate startDate, LocalDate endDate, FileChannel channel,
+                int total, Listener listener) throws IOException {
+            super(total, listener);
+            this.out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            this.document = new Document(PageSize.A4.rotate(), 24, 24, 24, 24);
+
+            DecimalFormatSymbols symbols = new DecimalFormatSymbols(new Locale("id", "ID"));
+            symbols.setGroupingSeparator('.');
+            symbols.setDecimalSeparator(',');
+            this.moneyFormat = new DecimalFormat("#,##0", symbols);
+
+            this.table = new PdfPTable(report.getColumnCount());
+            table.setWidthPercentage(100);
+            table.setHeaderRows(1);
+            table.setComplete(false);
+            for (String column : report.getColumns()) {
+                PdfPCell cell = new PdfPCell(new Phrase(column, headerFont));
+                cell.setBackgroundColor(BaseColor.DARK_GRAY);
+                cell.setPadding(4);
+                table.addCell(cell);
+            }
+
+            try {
+                PdfWriter writer = PdfWriter.getInstance(document, out);
+                writer.setCloseStream(false);
+                document.open();
+                Paragraph title = new Paragraph(report.getTitle() + "  " + startDate.format(PDF_DATE)
+                        + " - " + endDate.format(PDF_DATE), titleFont);
+                title.setSpacingAfter(12);
+                document.add(title);
+            } catch (DocumentException e) {
+                throw new IOException("Failed to start PDF: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        void write(Object[] row) throws IOException {
+            for (Object value : row) {
+                PdfPCell cell = new PdfPCell(new Phrase(value(value), cellFont));
+                cell.setPadding(3);
+                if (value instanceof Number) {
+                    cell.setHorizontalAlignment(Element.ALIGN_RIGHT);
+                }
+                table.addCell(cell);
+            }
+            if (++pending >= PDF_FLUSH_ROWS) {
+                addTable();
+                pending = 0;
+            }
+        }
+
+        @Override
+        void close(int rows) throws IOException {
+            table.setComplete(true);
+            addTable();
+            try {
+                Paragraph summary = new Paragraph("Jumlah baris: " + rows, cellFont);
+                summary.setSpacingBefore(8);
+                document.add(summary);
+            } catch (DocumentException e) {
+                throw new IOException("Failed to write PDF: " + e.getMessage(), e);
+            }
+            document.close();
+            out.flush();
+        }
+
+        private void addTable() throws IOException {
+            try {
+                document.add(table);
+            } catch (DocumentException e) {
+                throw new IOException("Failed to write PDF: " + e.getMessage(), e);
+            }
+        }
+
+        private String value(Object value) {
+            if (value == null) {
+                return "";
+            }
+            if (value instanceof LocalDateTime) {
+                return ((LocalDateTime) value).format(PDF_DATE_TIME);
+            }
+            if (value instanceof BigDecimal) {
+                return moneyFormat.format(value);
+            }
+            return value.toString();
+        }
+    }
+}
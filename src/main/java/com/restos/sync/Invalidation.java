@@ -0,0 +1,113 @@
+package com.restos.sync;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Invalidation message: "entity X with id N changed, version V"
+ *
+ * On the wire a message is a fixed 16-byte frame: magic "RI", frame
+ * kind, entity type, id (int) and version (long), big-endian. Order
+ * events share the connection in frames of the same size (OrderEventFrame).
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public final class Invalidation {
+
+    // Entity types
+    /** Everything: after reconnecting or a full queue, when messages may have been missed */
+    public static final byte ALL = 0;
+    public static final byte MENU = 1;
+    /** Stock of a menu; the id is the menu ID */
+    public static final byte INVENTORY = 2;
+
+    static final int FRAME_SIZE = 16;
+
+    static final byte MAGIC_0 = 'R';
+    static final byte MAGIC_1 = 'I';
+    private static final byte KIND_INVALIDATE = 1;
+    private static final byte KIND_HEARTBEAT = 2;
+    static final byte KIND_ORDER_EVENT = 3;
+
+    private final byte entity;
+    private final int id;
+    private final long version;
+
+    public Invalidation(byte entity, int id, long version) {
+        this.entity = entity;
+        this.id = id;
+        this.version = version;
+    }
+
+    public byte getEntity() {
+        return entity;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isAll() {
+        return entity == ALL;
+    }
+
+    byte[] encode() {
+        return frame(KIND_INVALIDATE, entity, id, version);
+    }
+
+    static byte[] heartbeat() {
+        return frame(KIND_HEARTBEAT, ALL, 0, 0);
+    }
+
+    /**
+     * Decode a frame
+     * @return Message, or null for a heartbeat
+     * @throws IllegalArgumentException if the frame is not an invalidation frame
+     */
+    static Invalidation decode(byte[] frame) {
+        ByteBuffer buffer = ByteBuffer.wrap(frame);
+        if (buffer.get() != MAGIC_0 || buffer.get() != MAGIC_1) {
+            throw new IllegalArgumentException("Not an invalidation frame");
+        }
+        byte kind = buffer.get();
+        if (kind == KIND_HEARTBEAT) {
+            return null;
+        }
+        if (kind != KIND_INVALIDATE) {
+            throw new IllegalArgumentException("Unknown frame kind " + kind);
+        }
+        return new Invalidation(buffer.get(), buffer.getInt(), buffer.getLong());
+    }
+
+    /**
+     * Check the frame kind without decoding (for the hub)
+     */
+    static boolean isHeartbeat(byte[] frame) {
+        return frame[2] == KIND_HEARTBEAT;
+    }
+
+    static boolean isOrderEvent(byte[] frame) {
+        return frame[2] == KIND_ORDER_EVENT;
+    }
+
+    static boolean isValid(byte[] frame) {
+        return frame[0] == MAGIC_0 && frame[1] == MAGIC_1
+                && (frame[2] == KIND_INVALIDATE || frame[2] == KIND_HEARTBEAT || frame[2] == KIND_ORDER_EVENT);
+    }
+
+    private static byte[] frame(byte kind, byte entity, int id, long version) {
+        return ByteBuffer.allocate(FRAME_SIZE)
+                .put(MAGIC_0).put(MAGIC_1).put(kind).put(entity)
+                .putInt(id).putLong(version)
+                .array();
+    }
+
+    @Override
+    public String toString() {
+        return "Invalidation{entity=" + entity + ", id=" + id + ", version=" + version + "}";
+    }
+}
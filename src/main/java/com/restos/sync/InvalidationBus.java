@@ -0,0 +1,337 @@
+package com.restos.sync;
+
+import com.restos.config.DatabaseConfig;
+import com.restos.event.EventBus;
+import com.restos.event.OrderEvent;
+import com.restos.metrics.MetricsRegistry;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation Bus
+ * Tells the caches of this terminal and of the other terminals what
+ * changed, so they evict only that entity instead of reloading whole
+ * tables. Messages go to local subscribers directly and to the other
+ * terminals through the InvalidationHub.
+ *
+ * While connected, the bus also relays the order events of this
+ * terminal's EventBus to the others and publishes theirs locally, so
+ * kitchen and cashier screens (and the API event stream) see orders
+ * taken and paid on any terminal.
+ *
+ * Subscribers are called on the publishing or network thread and must
+ * hand the work off (e.g. Platform.runLater). After (re)connecting to the
+ * hub, subscribers get an ALL message, since messages may have been
+ * missed while disconnected; the other terminals get one when this
+ * terminal could not send all its messages.
+ *
+ * Configured in database.properties (or with -Dsync.*):
+ * sync.hub = host:port of the hub (empty keeps invalidation local),
+ * sync.hub.port = port to run the hub on in this application.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class InvalidationBus {
+
+    private static InvalidationBus instance;
+
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final int CONNECT_TIMEOUT_MS = 3000;
+    private static final long HEARTBEAT_MS = 15_000;
+    private static final long RETRY_DELAY_MS = 1000;
+    private static final long MAX_RETRY_DELAY_MS = 30_000;
+
+    private final List<Consumer<Invalidation>> subscribers = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<byte[]> outbound = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    // Last version delivered per entity and id (key: entity << 32 | id);
+    // only repeats are dropped, clocks of different terminals may disagree
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private final Consumer<OrderEvent> orderEventRelay = this::relay;
+
+    private long lastVersion;
+    private InvalidationHub hub;
+    private Thread connection;
+    private volatile Socket socket;
+    private volatile boolean running;
+
+    /**
+     * Private constructor for Singleton pattern
+     */
+    private InvalidationBus() {
+    }
+
+    /**
+     * Get singleton instance of InvalidationBus
+     * @return InvalidationBus instance
+     */
+    public static synchronized InvalidationBus getInstance() {
+        if (instance == null) {
+            instance = new InvalidationBus();
+        }
+        return instance;
+    }
+
+    /**
+     * Start the hub and the hub connection configured in database.properties
+     */
+    public synchronized void startIfConfigured() {
+        DatabaseConfig config = DatabaseConfig.getInstance();
+        int hubPort = config.getIntProperty("sync.hub.port", 0);
+        if (hubPort > 0 && hub == null) {
+            try {
+                hub = new InvalidationHub(config.getProperty("sync.hub.bind"), hubPort);
+                System.out.println("Invalidation hub listening on port " + hub.getPort());
+            } catch (IOException e) {
+                System.err.println("Error starting invalidation hub on port " + hubPort + ": " + e.getMessage());
+            }
+        }
+
+        String address = config.getProperty("sync.hub");
+        if (address != null && !address.isBlank()) {
+            try {
+                connect(parseAddress(address.trim()));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Error configuring invalidation hub: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Connect to a hub; reconnects with growing delays until stopped
+     * @param address Hub address
+     */
+    public synchronized void connect(InetSocketAddress address) {
+        if (connection != null) {
+            return;
+        }
+        running = true;
+        EventBus.getInstance().subscribe(orderEventRelay);
+        connection = new Thread(() -> run(address), "sync-client");
+        connection.setDaemon(true);
+        connection.start();
+    }
+
+    /**
+     * Disconnect from the hub and stop the hub if it runs here
+     */
+    public synchronized void stop() {
+        running = false;
+        EventBus.getInstance().unsubscribe(orderEventRelay);
+        if (connection != null) {
+            connection.interrupt();
+            closeSocket();
+            connection = null;
+        }
+        if (hub != null) {
+            hub.stop();
+            hub = null;
+        }
+    }
+
+    /**
+     * @return true while connected to a hub
+     */
+    public boolean isConnected() {
+        Socket s = socket;
+        return s != null && !s.isClosed();
+    }
+
+    public void subscribe(Consumer<Invalidation> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(Consumer<Invalidation> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Announce that an entity changed (after the change is saved)
+     * @param entity Entity type (Invalidation constants)
+     * @param id     Entity ID
+     */
+    public void publish(byte entity, int id) {
+        Invalidation invalidation = new Invalidation(entity, id, nextVersion());
+        deliver(invalidation);
+        send(invalidation.encode());
+    }
+
+    /**
+     * Pass an order event of this terminal on to the others
+     */
+    private void relay(OrderEvent event) {
+        if (!event.isRemote()) {
+            byte[] frame = OrderEventFrame.encode(event);
+            if (frame != null) {
+                send(frame);
+            }
+        }
+    }
+
+    private void send(byte[] frame) {
+        if (running && !outbound.offer(frame)) {
+            // Hub unreachable or too slow: replace the backlog with one
+            // message telling the other terminals to reload everything
+            outbound.clear();
+            outbound.offer(new Invalidation(Invalidation.ALL, 0, nextVersion()).encode());
+            System.err.println("Invalidation queue is full, other terminals will reload everything");
+            metrics.operation("InvalidationBus.publish").recordError();
+        }
+    }
+
+    /**
+     * Versions only have to grow per sender: the clock, bumped when two
+     * changes fall in the same millisecond
+     */
+    private synchronized long nextVersion() {
+        lastVersion = Math.max(lastVersion + 1, System.currentTimeMillis());
+        return lastVersion;
+    }
+
+    private void deliver(Invalidation invalidation) {
+        if (!invalidation.isAll()) {
+            long key = ((long) invalidation.getEntity() << 32) | (invalidation.getId() & 0xFFFFFFFFL);
+            Long previous = versions.put(key, invalidation.getVersion());
+            if (previous != null && previous == invalidation.getVersion()) {
+                return;
+            }
+        }
+        for (Consumer<Invalidation> subscriber : subscribers) {
+            try {
+                subscriber.accept(invalidation);
+            } catch (RuntimeException e) {
+                System.err.println("Error handling " + invalidation + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // ==================== HUB CONNECTION ====================
+
+    /**
+     * Connection thread: connects, starts a reader thread and sends queued
+     * messages (and heartbeats) until the connection drops
+     */
+    private void run(InetSocketAddress address) {
+        long delay = RETRY_DELAY_MS;
+        boolean reported = false;
+        byte[] unsent = null;
+        while (running) {
+            try (Socket s = new Socket()) {
+                s.connect(address, CONNECT_TIMEOUT_MS);
+                s.setTcpNoDelay(true);
+                s.setKeepAlive(true);
+                socket = s;
+                delay = RETRY_DELAY_MS;
+                reported = false;
+                System.out.println("Connected to invalidation hub " + address);
+
+                Thread reader = new Thread(() -> read(s), "sync-reader");
+                reader.setDaemon(true);
+                reader.start();
+                // Changes made by others while disconnected are unknown
+                deliver(new Invalidation(Invalidation.ALL, 0, 0));
+
+                OutputStream out = new BufferedOutputStream(s.getOutputStream());
+                long lastWrite = System.currentTimeMillis();
+                while (!s.isClosed()) {
+                    if (unsent == null) {
+                        unsent = outbound.poll(1, TimeUnit.SECONDS);
+                    }
+                    if (unsent != null) {
+                        out.write(unsent);
+                        unsent = outbound.poll();
+                        while (unsent != null) {
+                            out.write(unsent);
+                            unsent = outbound.poll();
+                        }
+                        out.flush();
+                        lastWrite = System.currentTimeMillis();
+                    } else if (System.currentTimeMillis() - lastWrite >= HEARTBEAT_MS) {
+                        out.write(Invalidation.heartbeat());
+                        out.flush();
+                        lastWrite = System.currentTimeMillis();
+                    }
+                }
+            } catch (IOException e) {
+                if (running && !reported) {
+                    System.err.println("Invalidation hub " + address + " unavailable: " + e.getMessage());
+                    reported = true;
+                }
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                socket = null;
+            }
+
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                return;
+            }
+            delay = Math.min(delay * 2, MAX_RETRY_DELAY_MS);
+        }
+    }
+
+    private void read(Socket s) {
+        try {
+            DataInputStream in = new DataInputStream(s.getInputStream());
+            byte[] frame = new byte[Invalidation.FRAME_SIZE];
+            EventBus events = EventBus.getInstance();
+            while (true) {
+                in.readFully(frame);
+                if (Invalidation.isOrderEvent(frame)) {
+                    OrderEventFrame.publish(frame, events);
+                    continue;
+                }
+                Invalidation invalidation = Invalidation.decode(frame);
+                if (invalidation != null) {
+                    deliver(invalidation);
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // Hub disconnected (or sent garbage); the connection thread reconnects
+            try {
+                s.close();
+            } catch (IOException ignored) {
+                // Closing anyway
+            }
+        }
+    }
+
+    private void closeSocket() {
+        Socket s = socket;
+        if (s != null) {
+            try {
+                s.close();
+            } catch (IOException e) {
+                // Closing anyway
+            }
+        }
+    }
+
+    static InetSocketAddress parseAddress(String address) {
+        int colon = address.lastIndexOf(':');
+        if (colon <= 0) {
+            throw new IllegalArgumentException("Expected host:port, got '" + address + "'");
+        }
+        try {
+            return new InetSocketAddress(address.substring(0, colon), Integer.parseInt(address.substring(colon + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid port in '" + address + "'");
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.restos.sync;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Invalidation Hub
+ * Small TCP relay for invalidation and order event frames: every frame a
+ * terminal sends is passed on to all other connected terminals. The hub
+ * keeps no state and does not decode messages.
+ *
+ * Each terminal has a bounded send queue and its own writer thread, so a
+ * terminal that stops reading never holds up the others; when its queue
+ * overflows it is disconnected, and it evicts everything when it
+ * reconnects.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class InvalidationHub {
+
+    private static final int QUEUE_CAPACITY = 1024;
+
+    private final ServerSocket serverSocket;
+    private final Set<Peer> peers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger peerCount = new AtomicInteger();
+    private volatile boolean running = true;
+
+    /**
+     * Start a hub
+     * @param bind Address to listen on, or null for all interfaces
+     * @param port Port (0 picks a free port)
+     * @throws IOException if the port cannot be bound
+     */
+    public InvalidationHub(String bind, int port) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(bind == null || bind.isBlank()
+                ? new InetSocketAddress(port)
+                : new InetSocketAddress(bind.trim(), port));
+
+        Thread thread = new Thread(this::accept, "sync-hub");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * @return Number of connected terminals
+     */
+    public int getPeerCount() {
+        return peers.size();
+    }
+
+    public void stop() {
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // Closing anyway
+        }
+        for (Peer peer : peers) {
+            peer.close();
+        }
+    }
+
+    private void accept() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                socket.setKeepAlive(true);
+                Peer peer = new Peer(socket, peerCount.incrementAndGet());
+                peers.add(peer);
+                peer.start();
+            } catch (IOException e) {
+                if (running) {
+                    System.err.println("Error accepting invalidation peer: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void relay(Peer from, byte[] frame) {
+        for (Peer peer : peers) {
+            if (peer != from && !peer.queue.offer(frame)) {
+                System.err.println("Invalidation peer " + peer + " is not reading, disconnecting it");
+                peer.close();
+            }
+        }
+    }
+
+    /**
+     * One connected terminal: a reader thread relaying its frames and a
+     * writer thread sending it the frames of the others
+     */
+    private final class Peer {
+        private final Socket socket;
+        private final int number;
+        private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+        Peer(Socket socket, int number) {
+            this.socket = socket;
+            this.number = number;
+        }
+
+        void start() {
+            Thread reader = new Thread(this::read, "sync-hub-read-" + number);
+            reader.setDaemon(true);
+            reader.start();
+            Thread writer = new Thread(this::write, "sync-hub-write-" + number);
+            writer.setDaemon(true);
+            writer.start();
+        }
+
+        private void read() {
+            try {
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                byte[] frame = new byte[Invalidation.FRAME_SIZE];
+                while (true) {
+                    in.readFully(frame);
+                    if (!Invalidation.isValid(frame)) {
+                        System.err.println("Invalid frame from invalidation peer " + this + ", disconnecting it");
+                        break;
+                    }
+                    // Heartbeats only keep the connection checked
+                    if (!Invalidation.isHeartbeat(frame)) {
+                        relay(this, frame.clone());
+                    }
+                }
+            } catch (IOException e) {
+                // Peer disconnected
+            } finally {
+                close();
+            }
+        }
+
+        private void write() {
+            try {
+                OutputStream out = socket.getOutputStream();
+                while (!socket.isClosed()) {
+                    byte[] frame = queue.take();
+                    out.write(frame);
+                    byte[] next;
+                    while ((next = queue.poll()) != null) {
+                        out.write(next);
+                    }
+                    out.flush();
+                }
+            } catch (IOException | InterruptedException e) {
+                close();
+            }
+        }
+
+        void close() {
+            if (peers.remove(this)) {
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    // Closing anyway
+                }
+                // Wake the writer
+                queue.clear();
+                queue.offer(Invalidation.heartbeat());
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "#" + number + " " + socket.getRemoteSocketAddress();
+        }
+    }
+}
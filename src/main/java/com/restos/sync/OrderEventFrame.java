@@ -0,0 +1,83 @@
+package com.restos.sync;
+
+import com.restos.event.EventBus;
+import com.restos.event.OrderEvent;
+import com.restos.model.Order;
+import com.restos.model.OrderItem;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Order events on the wire, so the kitchen and cashier screens of every
+ * terminal see what happened on the others without polling
+ *
+ * An event uses the same 16-byte frame as an invalidation: magic "RI",
+ * frame kind 3, event type code, order ID (int), item ID (int), table ID
+ * (short, -1 for none) and status code, big-endian. Types and statuses
+ * are sent as their index in the tables below; new values go at the end.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+final class OrderEventFrame {
+
+    private static final String[] TYPES = {
+            OrderEvent.ORDER_CREATED, OrderEvent.ORDER_UPDATED, OrderEvent.ITEM_STATUS_CHANGED,
+            OrderEvent.ORDER_DELIVERED, OrderEvent.PAYMENT_SETTLED };
+
+    private static final String[] STATUSES = {
+            Order.STATUS_PENDING, Order.STATUS_PROCESSING, Order.STATUS_DELIVERED,
+            Order.STATUS_COMPLETED, Order.STATUS_CANCELLED,
+            OrderItem.STATUS_COOKING, OrderItem.STATUS_SERVED };
+
+    private OrderEventFrame() {
+    }
+
+    /**
+     * Encode an event
+     * @return Frame, or null for an event type this version cannot send
+     */
+    static byte[] encode(OrderEvent event) {
+        int type = indexOf(TYPES, event.getType());
+        if (type < 0) {
+            return null;
+        }
+        Integer tableId = event.getTableId();
+        short table = tableId != null && tableId >= 0 && tableId <= Short.MAX_VALUE ? tableId.shortValue() : -1;
+        return ByteBuffer.allocate(Invalidation.FRAME_SIZE)
+                .put(Invalidation.MAGIC_0).put(Invalidation.MAGIC_1).put(Invalidation.KIND_ORDER_EVENT)
+                .put((byte) type)
+                .putInt(event.getOrderId())
+                .putInt(event.getItemId())
+                .putShort(table)
+                .put((byte) indexOf(STATUSES, event.getStatus()))
+                .array();
+    }
+
+    /**
+     * Decode a frame and publish it on the local EventBus as a remote event
+     * @throws IllegalArgumentException if the event type is unknown
+     */
+    static void publish(byte[] frame, EventBus events) {
+        ByteBuffer buffer = ByteBuffer.wrap(frame, 3, Invalidation.FRAME_SIZE - 3);
+        int type = buffer.get();
+        if (type < 0 || type >= TYPES.length) {
+            throw new IllegalArgumentException("Unknown order event type " + type);
+        }
+        int orderId = buffer.getInt();
+        int itemId = buffer.getInt();
+        short table = buffer.getShort();
+        int status = buffer.get();
+        events.publishRemote(TYPES[type], orderId, itemId, table >= 0 ? Integer.valueOf(table) : null,
+                status >= 0 && status < STATUSES.length ? STATUSES[status] : null);
+    }
+
+    private static int indexOf(String[] values, String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
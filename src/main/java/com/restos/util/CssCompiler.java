@@ -0,0 +1,55 @@
+package com.restos.util;
+
+import javafx.css.Stylesheet;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Build-time stylesheet compiler
+ * Converts every .css file in a directory to JavaFX binary CSS (.bss)
+ * next to it. When a scene asks for a .css URL, JavaFX loads the .bss
+ * sibling instead of parsing the text, and falls back to the .css if
+ * the binary is missing or unreadable (or when run with -Dbinary.css=false).
+ *
+ * Run by the exec-maven-plugin in the process-classes phase.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public final class CssCompiler {
+
+    private CssCompiler() {
+    }
+
+    /**
+     * @param args Directory containing the stylesheets (default target/classes/css)
+     */
+    public static void main(String[] args) throws IOException {
+        Path dir = Path.of(args.length > 0 ? args[0] : "target/classes/css");
+        if (!Files.isDirectory(dir)) {
+            System.err.println("Stylesheet directory not found: " + dir);
+            return;
+        }
+
+        int compiled = 0;
+        int upToDate = 0;
+        try (DirectoryStream<Path> sheets = Files.newDirectoryStream(dir, "*.css")) {
+            for (Path css : sheets) {
+                String name = css.getFileName().toString();
+                Path bss = css.resolveSibling(name.substring(0, name.length() - 4) + ".bss");
+
+                if (Files.exists(bss)
+                        && Files.getLastModifiedTime(bss).compareTo(Files.getLastModifiedTime(css)) >= 0) {
+                    upToDate++;
+                    continue;
+                }
+                Stylesheet.convertToBinary(css.toFile(), bss.toFile());
+                compiled++;
+            }
+        }
+        System.out.println("Binary CSS: " + compiled + " compiled, " + upToDate + " up to date in " + dir);
+    }
+}
@@ -1,113 +1,152 @@
 package com.restos.util;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.text.NumberFormat;
-import java.util.Locale;
+import com.restos.model.Money;
 
 /**
  * Utility class for formatting currency values
  * Uses Indonesian Rupiah (IDR) format
- * 
+ *
+ * Digits are written by hand into a per-thread StringBuilder instead of
+ * going through a shared NumberFormat, so every method is safe to call
+ * from any thread. Money amounts that were formatted recently (menu
+ * prices, common totals) are served from a small cache.
+ *
  * @author Restos Team
  * @version 1.0.0
  */
 public class CurrencyFormatter {
 
-    private static final Locale INDONESIA = new Locale("id", "ID");
-    private static final NumberFormat CURRENCY_FORMAT = NumberFormat.getCurrencyInstance(INDONESIA);
-    private static final DecimalFormat DECIMAL_FORMAT;
+    private static final String PREFIX = "Rp";
 
-    static {
-        DecimalFormatSymbols symbols = new DecimalFormatSymbols(INDONESIA);
-        symbols.setGroupingSeparator('.');
-        symbols.setDecimalSeparator(',');
-        DECIMAL_FORMAT = new DecimalFormat("#,##0", symbols);
-    }
+    // Direct-mapped cache of recent format(Money) / formatShort(Money) results
+    private static final int CACHE_SIZE = 512;
+    private static final CachedText[] FORMAT_CACHE = new CachedText[CACHE_SIZE];
+    private static final CachedText[] SHORT_CACHE = new CachedText[CACHE_SIZE];
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
 
     /**
      * Format amount to Indonesian Rupiah currency format
      * Example: 50000 -> Rp50.000
-     * 
+     *
      * @param amount Amount to format
      * @return Formatted currency string
      */
     public static String format(double amount) {
-        return CURRENCY_FORMAT.format(amount);
+        if (!Double.isFinite(amount)) {
+            return PREFIX + amount;
+        }
+        return appendRupiah(buffer(), wholeRupiah(amount)).toString();
     }
 
     /**
      * Format BigDecimal amount to Indonesian Rupiah currency format
      * Example: 50000 -> Rp50.000
-     * 
+     *
      * @param amount Amount to format
      * @return Formatted currency string
      */
     public static String format(java.math.BigDecimal amount) {
-        if (amount == null)
-            return CURRENCY_FORMAT.format(0);
-        return CURRENCY_FORMAT.format(amount.doubleValue());
+        return format(Money.of(amount));
+    }
+
+    /**
+     * Format Money to Indonesian Rupiah currency format
+     * Example: 50000 -> Rp50.000
+     *
+     * @param amount Amount to format
+     * @return Formatted currency string
+     */
+    public static String format(Money amount) {
+        long rupiah = amount != null ? amount.getRupiah() : 0;
+        CachedText cached = lookup(FORMAT_CACHE, rupiah);
+        if (cached != null) {
+            return cached.text;
+        }
+        return store(FORMAT_CACHE, rupiah, appendRupiah(buffer(), rupiah).toString());
     }
 
     /**
      * Format amount with "Rp" prefix
      * Example: 50000 -> Rp 50.000
-     * 
+     *
      * @param amount Amount to format
      * @return Formatted currency string
      */
     public static String formatWithPrefix(double amount) {
-        return "Rp " + DECIMAL_FORMAT.format(amount);
+        return formatShort(amount);
     }
 
     /**
      * Format amount without currency symbol
      * Example: 50000 -> 50.000
-     * 
+     *
      * @param amount Amount to format
      * @return Formatted number string
      */
     public static String formatNumber(double amount) {
-        return DECIMAL_FORMAT.format(amount);
+        if (!Double.isFinite(amount)) {
+            return String.valueOf(amount);
+        }
+        return appendNumber(buffer(), wholeRupiah(amount)).toString();
     }
 
     /**
      * Format amount with full currency text
      * Example: 50000 -> Rp 50.000,00
-     * 
+     *
      * @param amount Amount to format
      * @return Formatted currency string with decimals
      */
     public static String formatFull(double amount) {
-        DecimalFormatSymbols symbols = new DecimalFormatSymbols(INDONESIA);
-        symbols.setGroupingSeparator('.');
-        symbols.setDecimalSeparator(',');
-        DecimalFormat df = new DecimalFormat("Rp #,##0.00", symbols);
-        return df.format(amount);
+        if (!Double.isFinite(amount)) {
+            return PREFIX + " " + amount;
+        }
+        long cents = (long) Math.rint(amount * 100);
+        StringBuilder sb = buffer();
+        if (cents < 0) {
+            sb.append('-');
+        }
+        appendDigits(sb.append(PREFIX).append(' '), cents / 100);
+        long fraction = Math.abs(cents % 100);
+        return sb.append(',').append((char) ('0' + fraction / 10)).append((char) ('0' + fraction % 10)).toString();
     }
 
     /**
      * Format amount for display in compact form
-     * Example: 1500000 -> 1.5jt
-     * 
+     * Example: 1500000 -> 1,5jt
+     *
      * @param amount Amount to format
      * @return Compact formatted string
      */
     public static String formatCompact(double amount) {
-        if (amount >= 1_000_000_000) {
-            return String.format("%.1fM", amount / 1_000_000_000);
-        } else if (amount >= 1_000_000) {
-            return String.format("%.1fjt", amount / 1_000_000);
-        } else if (amount >= 1_000) {
-            return String.format("%.1frb", amount / 1_000);
+        if (!Double.isFinite(amount)) {
+            return String.valueOf(amount);
         }
-        return DECIMAL_FORMAT.format(amount);
+        return appendCompact(buffer(), wholeRupiah(amount)).toString();
+    }
+
+    /**
+     * Format Money in compact form with Rp prefix, for cards and charts
+     * Example: 1250000 -> Rp1,3jt
+     *
+     * @param amount Amount to format
+     * @return Compact formatted string
+     */
+    public static String formatCompact(Money amount) {
+        long rupiah = amount != null ? amount.getRupiah() : 0;
+        StringBuilder sb = buffer();
+        if (rupiah < 0) {
+            sb.append('-');
+        }
+        sb.append(PREFIX);
+        return appendCompact(sb, Math.abs(rupiah)).toString();
     }
 
     /**
      * Parse currency string to double
      * Handles Indonesian format (Rp, dots, commas)
-     * 
+     *
      * @param currencyString Currency string to parse
      * @return Parsed double value
      */
@@ -134,37 +173,193 @@ public class CurrencyFormatter {
     /**
      * Format price for receipt
      * Right-aligned with fixed width
-     * 
+     *
      * @param amount Amount to format
      * @param width  Total width for padding
      * @return Padded formatted string
      */
     public static String formatForReceipt(double amount, int width) {
-        String formatted = formatWithPrefix(amount);
-        return String.format("%" + width + "s", formatted);
+        StringBuilder sb = buffer();
+        if (Double.isFinite(amount)) {
+            sb.append(PREFIX).append(' ');
+            appendNumber(sb, wholeRupiah(amount));
+        } else {
+            sb.append(PREFIX).append(' ').append(amount);
+        }
+        while (sb.length() < width) {
+            sb.insert(0, ' ');
+        }
+        return sb.toString();
     }
 
     /**
      * Format amount in short format with Rp prefix
      * Example: 50000 -> Rp 50.000
-     * 
+     *
      * @param amount Amount to format
      * @return Formatted currency string
      */
     public static String formatShort(java.math.BigDecimal amount) {
-        if (amount == null)
-            return "Rp 0";
-        return "Rp " + DECIMAL_FORMAT.format(amount.doubleValue());
+        return formatShort(Money.of(amount));
     }
 
     /**
      * Format amount in short format with Rp prefix
      * Example: 50000 -> Rp 50.000
-     * 
+     *
      * @param amount Amount to format
      * @return Formatted currency string
      */
     public static String formatShort(double amount) {
-        return "Rp " + DECIMAL_FORMAT.format(amount);
+        if (!Double.isFinite(amount)) {
+            return PREFIX + " " + amount;
+        }
+        return appendNumber(buffer().append(PREFIX).append(' '), wholeRupiah(amount)).toString();
+    }
+
+    /**
+     * Format Money in short format with Rp prefix
+     * Example: 50000 -> Rp 50.000
+     *
+     * @param amount Amount to format
+     * @return Formatted currency string
+     */
+    public static String formatShort(Money amount) {
+        long rupiah = amount != null ? amount.getRupiah() : 0;
+        CachedText cached = lookup(SHORT_CACHE, rupiah);
+        if (cached != null) {
+            return cached.text;
+        }
+        StringBuilder sb = buffer().append(PREFIX).append(' ');
+        return store(SHORT_CACHE, rupiah, appendNumber(sb, rupiah).toString());
+    }
+
+    /**
+     * Append an amount in currency format, e.g. Rp50.000 or -Rp50.000
+     * For callers that build a longer label in their own StringBuilder.
+     *
+     * @param sb     Target
+     * @param rupiah Amount in whole rupiah
+     * @return The target
+     */
+    public static StringBuilder appendRupiah(StringBuilder sb, long rupiah) {
+        if (rupiah < 0) {
+            sb.append('-');
+        }
+        sb.append(PREFIX);
+        return appendDigits(sb, rupiah);
+    }
+
+    /**
+     * Append an amount with '.' between thousands, e.g. 50.000 or -50.000
+     *
+     * @param sb     Target
+     * @param amount Amount
+     * @return The target
+     */
+    public static StringBuilder appendNumber(StringBuilder sb, long amount) {
+        if (amount < 0) {
+            sb.append('-');
+        }
+        return appendDigits(sb, amount);
+    }
+
+    /**
+     * Append the digits of an amount with '.' between thousands (sign not included)
+     */
+    private static StringBuilder appendDigits(StringBuilder sb, long amount) {
+        if (amount == Long.MIN_VALUE) {
+            // No positive counterpart; not a real amount
+            return sb.append("9.223.372.036.854.775.808");
+        }
+        long value = Math.abs(amount);
+        long divisor = 1;
+        int groups = 0;
+        while (value / divisor >= 1000) {
+            divisor *= 1000;
+            groups++;
+        }
+        sb.append(value / divisor);
+        while (groups-- > 0) {
+            value %= divisor;
+            divisor /= 1000;
+            int group = (int) (value / divisor);
+            sb.append('.')
+                    .append((char) ('0' + group / 100))
+                    .append((char) ('0' + group / 10 % 10))
+                    .append((char) ('0' + group % 10));
+        }
+        return sb;
+    }
+
+    /**
+     * Append 1,5jt / 12,3rb style text: one decimal, rounded half up, with
+     * "M" (miliar), "jt" (juta) or "rb" (ribu)
+     */
+    private static StringBuilder appendCompact(StringBuilder sb, long amount) {
+        long value = Math.abs(amount);
+        long unit;
+        String suffix;
+        // Use the next unit when rounding reaches 1000 of this one (999.960 -> 1,0jt)
+        if (value >= 999_950_000L) {
+            unit = 1_000_000_000L;
+            suffix = "M";
+        } else if (value >= 999_950L) {
+            unit = 1_000_000L;
+            suffix = "jt";
+        } else if (value >= 1_000L) {
+            unit = 1_000L;
+            suffix = "rb";
+        } else {
+            return appendNumber(sb, amount);
+        }
+        if (amount < 0) {
+            sb.append('-');
+        }
+        long tenths = (value / (unit / 10)) + ((value % (unit / 10)) * 2 >= unit / 10 ? 1 : 0);
+        return sb.append(tenths / 10).append(',').append(tenths % 10).append(suffix);
+    }
+
+    /**
+     * Round a double to whole rupiah the way DecimalFormat does (half even)
+     */
+    private static long wholeRupiah(double amount) {
+        return (long) Math.rint(amount);
+    }
+
+    private static StringBuilder buffer() {
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        return sb;
+    }
+
+    private static CachedText lookup(CachedText[] cache, long rupiah) {
+        CachedText cached = cache[slot(rupiah)];
+        return cached != null && cached.rupiah == rupiah ? cached : null;
+    }
+
+    private static String store(CachedText[] cache, long rupiah, String text) {
+        cache[slot(rupiah)] = new CachedText(rupiah, text);
+        return text;
+    }
+
+    private static int slot(long rupiah) {
+        // Prices are mostly multiples of 500 or 1000; mix the bits before masking
+        long h = rupiah * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 40) & (CACHE_SIZE - 1);
+    }
+
+    /**
+     * Cache entry; immutable, so entries can be shared between threads
+     * without locking (a lost update only costs a cache miss)
+     */
+    private static final class CachedText {
+        private final long rupiah;
+        private final String text;
+
+        CachedText(long rupiah, String text) {
+            this.rupiah = rupiah;
+            this.text = text;
+        }
     }
 }
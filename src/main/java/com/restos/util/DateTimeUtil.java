@@ -1,6 +1,5 @@
 package com.restos.util;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -10,6 +9,10 @@ import java.sql.Timestamp;
 
 /**
  * Utility class for date and time formatting and manipulation
+ * The format methods write digits into a per-thread StringBuilder instead
+ * of going through DateTimeFormatter or String.format, so row labels can
+ * be formatted on any thread without extra garbage. The formatter
+ * constants stay for parsing and other patterns.
  * 
  * @author Restos Team
  * @version 1.0.0
@@ -30,6 +33,8 @@ public class DateTimeUtil {
         "Minggu", "Senin", "Selasa", "Rabu", "Kamis", "Jumat", "Sabtu"
     };
 
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
     // Indonesian month names
     private static final String[] MONTH_NAMES = {
         "Januari", "Februari", "Maret", "April", "Mei", "Juni",
@@ -42,7 +47,7 @@ public class DateTimeUtil {
      * @return Formatted date string
      */
     public static String formatDate(LocalDate date) {
-        return date != null ? date.format(DATE_FORMAT) : "";
+        return date != null ? appendDate(buffer(), date).toString() : "";
     }
 
     /**
@@ -51,7 +56,7 @@ public class DateTimeUtil {
      * @return Formatted time string
      */
     public static String formatTime(LocalTime time) {
-        return time != null ? time.format(TIME_FORMAT) : "";
+        return time != null ? appendTime(buffer(), time.getHour(), time.getMinute()).toString() : "";
     }
 
     /**
@@ -60,7 +65,7 @@ public class DateTimeUtil {
      * @return Formatted datetime string
      */
     public static String formatDateTime(LocalDateTime dateTime) {
-        return dateTime != null ? dateTime.format(DATETIME_FORMAT) : "";
+        return dateTime != null ? appendDateTime(buffer(), dateTime).toString() : "";
     }
 
     /**
@@ -69,7 +74,36 @@ public class DateTimeUtil {
      * @return Formatted datetime string
      */
     public static String formatDateTimeFull(LocalDateTime dateTime) {
-        return dateTime != null ? dateTime.format(DATETIME_FORMAT_FULL) : "";
+        if (dateTime == null) return "";
+        StringBuilder sb = appendDateTime(buffer(), dateTime).append(':');
+        return appendTwoDigits(sb, dateTime.getSecond()).toString();
+    }
+
+    /**
+     * Append a date as dd/MM/yyyy
+     * @param sb   Target
+     * @param date Date
+     * @return The target
+     */
+    public static StringBuilder appendDate(StringBuilder sb, LocalDate date) {
+        appendTwoDigits(sb, date.getDayOfMonth()).append('/');
+        appendTwoDigits(sb, date.getMonthValue()).append('/');
+        int year = date.getYear();
+        if (year >= 0 && year < 1000) {
+            sb.append(year < 10 ? "000" : year < 100 ? "00" : "0");
+        }
+        return sb.append(year);
+    }
+
+    /**
+     * Append a datetime as dd/MM/yyyy HH:mm
+     * @param sb       Target
+     * @param dateTime Datetime
+     * @return The target
+     */
+    public static StringBuilder appendDateTime(StringBuilder sb, LocalDateTime dateTime) {
+        appendDate(sb, dateTime.toLocalDate()).append(' ');
+        return appendTime(sb, dateTime.getHour(), dateTime.getMinute());
     }
 
     /**
@@ -140,10 +174,7 @@ public class DateTimeUtil {
     public static String formatIndonesian(LocalDate date) {
         if (date == null) return "";
         
-        String dayName = getDayName(date);
-        String monthName = getMonthName(date.getMonthValue());
-        return String.format("%s, %d %s %d", 
-            dayName, date.getDayOfMonth(), monthName, date.getYear());
+        return appendIndonesian(buffer(), date).toString();
     }
 
     /**
@@ -155,7 +186,15 @@ public class DateTimeUtil {
     public static String formatIndonesian(LocalDateTime dateTime) {
         if (dateTime == null) return "";
         
-        return formatIndonesian(dateTime.toLocalDate()) + " " + formatTime(dateTime.toLocalTime());
+        StringBuilder sb = appendIndonesian(buffer(), dateTime.toLocalDate()).append(' ');
+        return appendTime(sb, dateTime.getHour(), dateTime.getMinute()).toString();
+    }
+
+    private static StringBuilder appendIndonesian(StringBuilder sb, LocalDate date) {
+        return sb.append(getDayName(date)).append(", ")
+                .append(date.getDayOfMonth()).append(' ')
+                .append(getMonthName(date.getMonthValue())).append(' ')
+                .append(date.getYear());
     }
 
     /**
@@ -166,11 +205,8 @@ public class DateTimeUtil {
     public static String getRelativeTime(LocalDateTime dateTime) {
         if (dateTime == null) return "";
 
-        LocalDateTime now = LocalDateTime.now();
-        Duration duration = Duration.between(dateTime, now);
+        long seconds = ChronoUnit.SECONDS.between(dateTime, LocalDateTime.now());
 
-        long seconds = duration.getSeconds();
-        
         if (seconds < 0) {
             // Future time
             seconds = Math.abs(seconds);
@@ -209,12 +245,18 @@ public class DateTimeUtil {
     public static String getElapsedTime(LocalDateTime startTime) {
         if (startTime == null) return "00:00";
 
-        Duration duration = Duration.between(startTime, LocalDateTime.now());
-        long totalSeconds = duration.getSeconds();
+        long totalSeconds = ChronoUnit.SECONDS.between(startTime, LocalDateTime.now());
+        StringBuilder sb = buffer();
+        if (totalSeconds < 0) {
+            sb.append('-');
+            totalSeconds = -totalSeconds;
+        }
         long minutes = totalSeconds / 60;
-        long seconds = totalSeconds % 60;
-
-        return String.format("%02d:%02d", minutes, seconds);
+        if (minutes < 10) {
+            sb.append('0');
+        }
+        sb.append(minutes).append(':');
+        return appendTwoDigits(sb, (int) (totalSeconds % 60)).toString();
     }
 
     /**
@@ -254,4 +296,19 @@ public class DateTimeUtil {
     public static LocalDateTime endOfDay(LocalDate date) {
         return date.atTime(LocalTime.MAX);
     }
+
+    private static StringBuilder appendTime(StringBuilder sb, int hour, int minute) {
+        appendTwoDigits(sb, hour).append(':');
+        return appendTwoDigits(sb, minute);
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder sb, int value) {
+        return sb.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static StringBuilder buffer() {
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        return sb;
+    }
 }
@@ -0,0 +1,93 @@
+package com.restos.util;
+
+import com.restos.model.Menu;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Utility class for filtering and sorting the menu catalog
+ * Shared by the waiter order page and the benchmark suite
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class MenuFilter {
+
+    // Sort options (as shown in the sort combo box)
+    public static final String SORT_NAME_ASC = "Nama A-Z";
+    public static final String SORT_NAME_DESC = "Nama Z-A";
+    public static final String SORT_PRICE_ASC = "Harga Terendah";
+    public static final String SORT_PRICE_DESC = "Harga Tertinggi";
+
+    private static final Comparator<Menu> BY_NAME = Comparator.comparing(Menu::getName);
+    private static final Comparator<Menu> BY_PRICE = Comparator.comparing(Menu::getPrice);
+
+    /**
+     * Get all sort options in display order
+     *
+     * @return Sort option labels
+     */
+    public static List<String> getSortOptions() {
+        return List.of(SORT_NAME_ASC, SORT_NAME_DESC, SORT_PRICE_ASC, SORT_PRICE_DESC);
+    }
+
+    /**
+     * Filter menus by category and search text, then sort
+     *
+     * @param menus      Menus to filter
+     * @param category   Category name or null for all categories
+     * @param searchText Search text (case-insensitive), may be null
+     * @param sortOption One of the SORT_* options, may be null
+     * @return New filtered and sorted list
+     */
+    public static List<Menu> filter(List<Menu> menus, String category, String searchText, String sortOption) {
+        String search = searchText != null ? searchText.toLowerCase().trim() : "";
+
+        List<Menu> filtered = new ArrayList<>();
+        for (Menu menu : menus) {
+            // Category filter
+            if (category != null && !category.equals(menu.getCategoryName())) {
+                continue;
+            }
+
+            // Search filter
+            if (!search.isEmpty() && !menu.getName().toLowerCase().contains(search)) {
+                continue;
+            }
+
+            filtered.add(menu);
+        }
+
+        sort(filtered, sortOption);
+        return filtered;
+    }
+
+    /**
+     * Sort menus in place
+     *
+     * @param menus      Menus to sort
+     * @param sortOption One of the SORT_* options, may be null
+     */
+    public static void sort(List<Menu> menus, String sortOption) {
+        if (sortOption == null) {
+            return;
+        }
+
+        switch (sortOption) {
+            case SORT_NAME_ASC:
+                menus.sort(BY_NAME);
+                break;
+            case SORT_NAME_DESC:
+                menus.sort(BY_NAME.reversed());
+                break;
+            case SORT_PRICE_ASC:
+                menus.sort(BY_PRICE);
+                break;
+            case SORT_PRICE_DESC:
+                menus.sort(BY_PRICE.reversed());
+                break;
+        }
+    }
+}
@@ -4,60 +4,82 @@ import org.mindrot.jbcrypt.BCrypt;
 
 /**
  * Utility class for password hashing and verification
- * Uses BCrypt algorithm for secure password storage
- * 
+ * Uses BCrypt algorithm for secure password storage. Application code
+ * hashes through PasswordHashingService, which picks the cost factor and
+ * runs the work on its own threads; legacy (non-BCrypt) values are
+ * converted once by AuthService.migrateLegacyPasswords().
+ *
  * @author Restos Team
  * @version 1.0.0
  */
 public class PasswordUtil {
 
-    // BCrypt workload (cost factor)
-    private static final int WORKLOAD = 12;
+    // BCrypt workload (cost factor) used when no calibrated cost is available
+    public static final int DEFAULT_WORKLOAD = 12;
 
     /**
-     * Hash a plain text password using BCrypt
-     * 
+     * Hash a plain text password using BCrypt with the default cost
+     *
      * @param plainPassword Plain text password to hash
      * @return Hashed password string
      */
     public static String hashPassword(String plainPassword) {
-        String salt = BCrypt.gensalt(WORKLOAD);
+        return hashPassword(plainPassword, DEFAULT_WORKLOAD);
+    }
+
+    /**
+     * Hash a plain text password using BCrypt
+     *
+     * @param plainPassword Plain text password to hash
+     * @param workload      BCrypt cost factor (log2 rounds)
+     * @return Hashed password string
+     */
+    public static String hashPassword(String plainPassword, int workload) {
+        String salt = BCrypt.gensalt(workload);
         return BCrypt.hashpw(plainPassword, salt);
     }
 
     /**
-     * Verify a plain text password against stored password
-     * Supports both plain text and BCrypt hashed passwords
-     * 
+     * Verify a plain text password against a stored BCrypt hash
+     * Values that are not BCrypt hashes never match
+     *
      * @param plainPassword  Plain text password to verify
-     * @param storedPassword Stored password (plain text or hashed)
+     * @param storedPassword Stored BCrypt hash
      * @return true if password matches, false otherwise
      */
     public static boolean verifyPassword(String plainPassword, String storedPassword) {
-        if (plainPassword == null || storedPassword == null) {
+        if (plainPassword == null || !isValidHash(storedPassword)) {
             return false;
         }
 
-        // First, try plain text comparison
-        if (plainPassword.equals(storedPassword)) {
-            return true;
-        }
-
-        // Then try BCrypt verification for legacy hashed passwords
         try {
-            if (isValidHash(storedPassword)) {
-                return BCrypt.checkpw(plainPassword, storedPassword);
-            }
+            return BCrypt.checkpw(plainPassword, storedPassword);
         } catch (IllegalArgumentException e) {
-            // Invalid hash format, ignore
+            // Invalid hash format
+            return false;
         }
+    }
 
-        return false;
+    /**
+     * Get the cost factor of a BCrypt hash
+     *
+     * @param hash BCrypt hash
+     * @return Cost factor, or -1 if the value is not a BCrypt hash
+     */
+    public static int getWorkload(String hash) {
+        if (!isValidHash(hash)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hash.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
     }
 
     /**
      * Check if a string is a valid BCrypt hash
-     * 
+     *
      * @param hash String to check
      * @return true if valid BCrypt hash, false otherwise
      */
@@ -1,19 +1,59 @@
 package com.restos.util;
 
+import com.restos.config.DatabaseConfig;
 import com.restos.model.User;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 /**
- * Session Manager - Singleton class to manage user session
+ * Session Manager - Singleton class to manage user sessions
  * Stores current logged-in user information throughout the application
- * 
+ *
+ * A shared terminal can keep several signed-in users at once. One of
+ * them is current; the others are suspended and can be resumed with a
+ * short PIN instead of a full BCrypt login. The PIN is only kept as an
+ * HMAC under a random per-session key, in memory, and a session is
+ * closed after too many wrong PINs. Each session has its own ViewCache
+ * scope so the user's dashboard stays loaded while they are away.
+ * A session also records the branch the user signed in at; branch-aware
+ * code (DatabaseConfig.setBranch, FederatedReportService) defaults to it.
+ *
+ * Limits: -Drestos.session.max (default 4 sessions per terminal) and
+ * -Drestos.session.idle.minutes (default 240).
+ *
  * @author Restos Team
  * @version 1.0.0
  */
 public class SessionManager {
 
     private static SessionManager instance;
-    private User currentUser;
-    private long loginTime;
+
+    private static final int MAX_SESSIONS = Math.max(1, Integer.getInteger("restos.session.max", 4));
+    private static final long IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(
+            Long.getLong("restos.session.idle.minutes", 240));
+
+    // Wrong PINs before a session is closed and needs the password again
+    private static final int MAX_PIN_ATTEMPTS = 5;
+
+    private static final String PIN_ALGORITHM = "HmacSHA256";
+
+    // Live sessions by user ID (guarded by this)
+    private final Map<Integer, Session> sessions = new LinkedHashMap<>();
+    private final SecureRandom random = new SecureRandom();
+
+    private volatile Session current;
 
     /**
      * Private constructor for Singleton pattern
@@ -37,8 +77,122 @@ public class SessionManager {
      * @param user User object
      */
     public void setCurrentUser(User user) {
-        this.currentUser = user;
-        this.loginTime = System.currentTimeMillis();
+        startSession(user, null);
+    }
+
+    /**
+     * Start (or resume) the session of a user who logged in with a password
+     * at this terminal's branch and make it current
+     *
+     * @param user Authenticated user
+     * @param pin  Quick-switch PIN (4-6 digits), or null/empty to keep the current one
+     */
+    public void startSession(User user, String pin) {
+        startSession(user, pin, DatabaseConfig.getInstance().getLocalBranchId());
+    }
+
+    /**
+     * Start (or resume) the session of a user who logged in with a password
+     * and make it current. A user who still has a live session gets it back,
+     * including their cached views
+     *
+     * @param user     Authenticated user
+     * @param pin      Quick-switch PIN (4-6 digits), or null/empty to keep the current one
+     * @param branchId Branch whose database authenticated the user
+     */
+    public synchronized void startSession(User user, String pin, String branchId) {
+        expireIdleSessions();
+
+        Session session = sessions.get(user.getId());
+        if (session == null) {
+            if (sessions.size() >= MAX_SESSIONS) {
+                evictLeastRecentlyUsed();
+            }
+            session = new Session(user);
+            sessions.put(user.getId(), session);
+        } else {
+            session.user = user;
+        }
+        session.branchId = branchId;
+
+        if (ValidationUtil.isValidPin(pin)) {
+            session.setPin(pin);
+        }
+        session.failedAttempts = 0;
+        activate(session);
+    }
+
+    /**
+     * Switch to a suspended session with its PIN
+     *
+     * @param userId User ID of the session
+     * @param pin    PIN entered
+     * @return true if the session is now current, false if the PIN is wrong,
+     *         the session has no PIN or it no longer exists
+     */
+    public synchronized boolean switchTo(int userId, String pin) {
+        expireIdleSessions();
+
+        Session session = sessions.get(userId);
+        if (session == null || !session.hasPin()) {
+            return false;
+        }
+
+        if (session.matches(pin)) {
+            session.failedAttempts = 0;
+            activate(session);
+            return true;
+        }
+
+        if (++session.failedAttempts >= MAX_PIN_ATTEMPTS) {
+            endSession(session);
+        }
+        return false;
+    }
+
+    /**
+     * Leave the current session without ending it (switch user)
+     */
+    public synchronized void suspend() {
+        if (current != null) {
+            current.lastActive = System.currentTimeMillis();
+            current = null;
+        }
+        ViewCache.getInstance().setScope(null);
+    }
+
+    /**
+     * Get the users with a live session, most recently active first
+     * @return List of users (empty if none)
+     */
+    public synchronized List<User> getActiveUsers() {
+        expireIdleSessions();
+
+        List<Session> ordered = new ArrayList<>(sessions.values());
+        ordered.sort(Comparator.comparingLong((Session s) -> s.lastActive).reversed());
+
+        List<User> users = new ArrayList<>();
+        for (Session session : ordered) {
+            users.add(session.user);
+        }
+        return users;
+    }
+
+    /**
+     * Check if a user's session can be resumed with a PIN
+     * @param userId User ID
+     * @return true if the user has a live session with a PIN
+     */
+    public synchronized boolean hasPin(int userId) {
+        Session session = sessions.get(userId);
+        return session != null && session.hasPin();
+    }
+
+    /**
+     * Get the number of live sessions on this terminal
+     */
+    public synchronized int getSessionCount() {
+        return sessions.size();
     }
 
     /**
@@ -46,7 +200,8 @@ public class SessionManager {
      * @return Current User or null if not logged in
      */
     public User getCurrentUser() {
-        return currentUser;
+        Session session = current;
+        return session != null ? session.user : null;
     }
 
     /**
@@ -54,6 +209,7 @@ public class SessionManager {
      * @return User ID or -1 if not logged in
      */
     public int getCurrentUserId() {
+        User currentUser = getCurrentUser();
         return currentUser != null ? currentUser.getId() : -1;
     }
 
@@ -62,6 +218,7 @@ public class SessionManager {
      * @return Username or null if not logged in
      */
     public String getCurrentUsername() {
+        User currentUser = getCurrentUser();
         return currentUser != null ? currentUser.getUsername() : null;
     }
 
@@ -70,6 +227,7 @@ public class SessionManager {
      * @return Role string or null if not logged in
      */
     public String getCurrentUserRole() {
+        User currentUser = getCurrentUser();
         return currentUser != null ? currentUser.getRole() : null;
     }
 
@@ -78,15 +236,26 @@ public class SessionManager {
      * @return Full name or null if not logged in
      */
     public String getCurrentUserFullName() {
+        User currentUser = getCurrentUser();
         return currentUser != null ? currentUser.getFullName() : null;
     }
 
+    /**
+     * Get the branch the current user signed in at
+     * User IDs are only meaningful in that branch's database
+     * @return Branch ID or null if not logged in
+     */
+    public String getCurrentBranchId() {
+        Session session = current;
+        return session != null ? session.branchId : null;
+    }
+
     /**
      * Check if user is logged in
      * @return true if user is logged in, false otherwise
      */
     public boolean isLoggedIn() {
-        return currentUser != null;
+        return getCurrentUser() != null;
     }
 
     /**
@@ -94,7 +263,7 @@ public class SessionManager {
      * @return true if admin, false otherwise
      */
     public boolean isAdmin() {
-        return currentUser != null && "admin".equalsIgnoreCase(currentUser.getRole());
+        return hasRole("admin");
     }
 
     /**
@@ -102,7 +271,7 @@ public class SessionManager {
      * @return true if waiter, false otherwise
      */
     public boolean isWaiter() {
-        return currentUser != null && "waiter".equalsIgnoreCase(currentUser.getRole());
+        return hasRole("waiter");
     }
 
     /**
@@ -110,7 +279,7 @@ public class SessionManager {
      * @return true if kitchen, false otherwise
      */
     public boolean isKitchen() {
-        return currentUser != null && "kitchen".equalsIgnoreCase(currentUser.getRole());
+        return hasRole("kitchen");
     }
 
     /**
@@ -118,7 +287,12 @@ public class SessionManager {
      * @return true if cashier, false otherwise
      */
     public boolean isCashier() {
-        return currentUser != null && "cashier".equalsIgnoreCase(currentUser.getRole());
+        return hasRole("cashier");
+    }
+
+    private boolean hasRole(String role) {
+        User currentUser = getCurrentUser();
+        return currentUser != null && role.equalsIgnoreCase(currentUser.getRole());
     }
 
     /**
@@ -126,7 +300,8 @@ public class SessionManager {
      * @return Login time in milliseconds or 0 if not logged in
      */
     public long getLoginTime() {
-        return loginTime;
+        Session session = current;
+        return session != null ? session.loginTime : 0;
     }
 
     /**
@@ -134,6 +309,7 @@ public class SessionManager {
      * @return Session duration or 0 if not logged in
      */
     public long getSessionDuration() {
+        long loginTime = getLoginTime();
         if (loginTime == 0) {
             return 0;
         }
@@ -142,10 +318,13 @@ public class SessionManager {
 
     /**
      * Clear current session (logout)
+     * Other users' sessions on this terminal stay alive
      */
-    public void clearSession() {
-        this.currentUser = null;
-        this.loginTime = 0;
+    public synchronized void clearSession() {
+        if (current != null) {
+            endSession(current);
+        }
+        ViewCache.getInstance().setScope(null);
     }
 
     /**
@@ -154,4 +333,108 @@ public class SessionManager {
     public void logout() {
         clearSession();
     }
+
+    /**
+     * End every session on this terminal (e.g. at closing time)
+     */
+    public synchronized void clearAllSessions() {
+        for (Session session : new ArrayList<>(sessions.values())) {
+            endSession(session);
+        }
+        ViewCache.getInstance().setScope(null);
+    }
+
+    private void activate(Session session) {
+        session.lastActive = System.currentTimeMillis();
+        current = session;
+        ViewCache.getInstance().setScope(session.scope());
+    }
+
+    private void endSession(Session session) {
+        sessions.remove(session.user.getId());
+        session.clearPin();
+        if (current == session) {
+            current = null;
+        }
+        ViewCache.getInstance().invalidateScope(session.scope());
+    }
+
+    private void evictLeastRecentlyUsed() {
+        Session oldest = null;
+        for (Session session : sessions.values()) {
+            if (session != current && (oldest == null || session.lastActive < oldest.lastActive)) {
+                oldest = session;
+            }
+        }
+        if (oldest != null) {
+            endSession(oldest);
+        }
+    }
+
+    private void expireIdleSessions() {
+        long cutoff = System.currentTimeMillis() - IDLE_TIMEOUT_MILLIS;
+        for (Session session : new ArrayList<>(sessions.values())) {
+            if (session != current && session.lastActive < cutoff) {
+                endSession(session);
+            }
+        }
+    }
+
+    /**
+     * A signed-in user on this terminal
+     */
+    private final class Session {
+        private User user;
+        private String branchId;
+        private final long loginTime = System.currentTimeMillis();
+        private long lastActive = loginTime;
+        private int failedAttempts;
+
+        // PIN as HMAC under a key that only lives as long as the session
+        private byte[] pinKey;
+        private byte[] pinMac;
+
+        Session(User user) {
+            this.user = user;
+        }
+
+        String scope() {
+            return "user-" + user.getId();
+        }
+
+        boolean hasPin() {
+            return pinMac != null;
+        }
+
+        void setPin(String pin) {
+            pinKey = new byte[32];
+            random.nextBytes(pinKey);
+            pinMac = mac(pinKey, pin);
+        }
+
+        boolean matches(String pin) {
+            if (pinMac == null || !ValidationUtil.isValidPin(pin)) {
+                return false;
+            }
+            return MessageDigest.isEqual(pinMac, mac(pinKey, pin));
+        }
+
+        void clearPin() {
+            if (pinKey != null) {
+                Arrays.fill(pinKey, (byte) 0);
+            }
+            pinKey = null;
+            pinMac = null;
+        }
+
+        private byte[] mac(byte[] key, String pin) {
+            try {
+                Mac mac = Mac.getInstance(PIN_ALGORITHM);
+                mac.init(new SecretKeySpec(key, PIN_ALGORITHM));
+                return mac.doFinal(pin.getBytes(StandardCharsets.UTF_8));
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC not available", e);
+            }
+        }
+    }
 }
@@ -168,24 +168,19 @@ public class UIFeedback {
     public static StackPane showLoading(StackPane container, String message) {
         StackPane overlay = new StackPane();
         overlay.getStyleClass().add("loading-overlay");
-        overlay.setStyle("-fx-background-color: rgba(255, 255, 255, 0.9);");
 
         VBox loadingBox = new VBox(15);
         loadingBox.getStyleClass().add("loading-container");
         loadingBox.setAlignment(Pos.CENTER);
         loadingBox.setMaxWidth(200);
         loadingBox.setMaxHeight(150);
-        loadingBox.setStyle("-fx-background-color: white; -fx-background-radius: 15; -fx-padding: 30; " +
-                "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.15), 20, 0, 0, 5);");
 
         ProgressIndicator spinner = new ProgressIndicator();
         spinner.getStyleClass().add("loading-spinner");
         spinner.setPrefSize(50, 50);
-        spinner.setStyle("-fx-progress-color: #F97316;");
 
         Label loadingLabel = new Label(message);
         loadingLabel.getStyleClass().add("loading-text");
-        loadingLabel.setStyle("-fx-font-size: 14px; -fx-text-fill: #6B7280;");
 
         loadingBox.getChildren().addAll(spinner, loadingLabel);
         overlay.getChildren().add(loadingBox);
@@ -234,19 +229,16 @@ public class UIFeedback {
         VBox emptyState = new VBox(10);
         emptyState.getStyleClass().add("empty-state");
         emptyState.setAlignment(Pos.CENTER);
-        emptyState.setStyle("-fx-padding: 40;");
 
+        // Own icon class so module .empty-state-icon rules do not resize it
         Label iconLabel = new Label(icon);
-        iconLabel.getStyleClass().add("empty-state-icon");
-        iconLabel.setStyle("-fx-font-size: 64px; -fx-opacity: 0.7;");
+        iconLabel.getStyleClass().add("empty-state-hero-icon");
 
         Label titleLabel = new Label(title);
         titleLabel.getStyleClass().add("empty-state-title");
-        titleLabel.setStyle("-fx-font-size: 20px; -fx-font-weight: bold; -fx-text-fill: #374151;");
 
         Label subtitleLabel = new Label(subtitle);
         subtitleLabel.getStyleClass().add("empty-state-subtitle");
-        subtitleLabel.setStyle("-fx-font-size: 14px; -fx-text-fill: #6B7280;");
         subtitleLabel.setWrapText(true);
 
         emptyState.getChildren().addAll(iconLabel, titleLabel, subtitleLabel);
@@ -263,27 +255,17 @@ public class UIFeedback {
      */
     public static Label createBadge(String text, String type) {
         Label badge = new Label(text);
-        badge.getStyleClass().addAll("badge", "badge-" + type);
-        badge.setStyle("-fx-padding: 4 12; -fx-background-radius: 20; -fx-font-size: 12px; -fx-font-weight: bold;");
 
         switch (type) {
             case "primary":
-                badge.setStyle(badge.getStyle() + "-fx-background-color: #FFEDD5; -fx-text-fill: #C2410C;");
-                break;
             case "success":
-                badge.setStyle(badge.getStyle() + "-fx-background-color: #DCFCE7; -fx-text-fill: #166534;");
-                break;
             case "warning":
-                badge.setStyle(badge.getStyle() + "-fx-background-color: #FEF3C7; -fx-text-fill: #854D0E;");
-                break;
             case "danger":
-                badge.setStyle(badge.getStyle() + "-fx-background-color: #FEE2E2; -fx-text-fill: #991B1B;");
-                break;
             case "info":
-                badge.setStyle(badge.getStyle() + "-fx-background-color: #DBEAFE; -fx-text-fill: #1E40AF;");
+                badge.getStyleClass().addAll("badge", "badge-" + type);
                 break;
             default:
-                badge.setStyle(badge.getStyle() + "-fx-background-color: #F3F4F6; -fx-text-fill: #374151;");
+                badge.getStyleClass().addAll("badge", "badge-neutral");
         }
 
         return badge;
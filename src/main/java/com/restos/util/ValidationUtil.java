@@ -21,6 +21,9 @@ public class ValidationUtil {
     private static final Pattern USERNAME_PATTERN = Pattern.compile(
             "^[a-zA-Z0-9_]{3,20}$");
 
+    private static final Pattern PIN_PATTERN = Pattern.compile(
+            "^[0-9]{4,6}$");
+
     private static final Pattern NUMERIC_PATTERN = Pattern.compile(
             "^[0-9]+$");
 
@@ -94,6 +97,16 @@ public class ValidationUtil {
         return password != null && password.length() >= 6;
     }
 
+    /**
+     * Check if a quick-switch PIN is valid
+     * 
+     * @param pin PIN to validate
+     * @return true if PIN is 4-6 digits
+     */
+    public static boolean isValidPin(String pin) {
+        return pin != null && PIN_PATTERN.matcher(pin).matches();
+    }
+
     /**
      * Check if password meets strong requirements
      * 
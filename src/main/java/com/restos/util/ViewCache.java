@@ -0,0 +1,260 @@
+package com.restos.util;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * View Cache
+ * Keeps loaded FXML views (root node, controller and scene) by FXML
+ * path so navigation does not re-parse FXML and re-apply stylesheets.
+ * Only views whose controller implements ViewLifecycle are cached.
+ * Views can be preloaded on a background thread.
+ *
+ * Cached views belong to a scope (the signed-in user, set by
+ * SessionManager), so each user on a shared terminal keeps their own
+ * warm dashboard and switching back to it does not reload anything.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class ViewCache {
+
+    private static ViewCache instance;
+
+    private static final String SCOPE_SEPARATOR = "|";
+
+    private final Map<String, CompletableFuture<View>> views = new ConcurrentHashMap<>();
+
+    private volatile String scope = "";
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder preloads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    /**
+     * Private constructor for Singleton pattern
+     */
+    private ViewCache() {
+    }
+
+    /**
+     * Get singleton instance of ViewCache
+     * @return ViewCache instance
+     */
+    public static synchronized ViewCache getInstance() {
+        if (instance == null) {
+            instance = new ViewCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Get a view, loading it if it is not cached (FX thread)
+     * @param fxmlPath FXML resource path
+     * @return Loaded view
+     * @throws IOException if the FXML cannot be loaded
+     */
+    public View get(String fxmlPath) throws IOException {
+        String key = key(fxmlPath);
+        CompletableFuture<View> cached = views.get(key);
+        if (cached != null) {
+            try {
+                // Waits if the view is still being preloaded
+                View view = cached.join();
+                if (!view.isCacheable()) {
+                    // Preloaded once, but reloaded on every later navigation
+                    views.remove(key, cached);
+                }
+                hits.increment();
+                return view;
+            } catch (CompletionException e) {
+                // Preload failed (e.g. a control that must be created on the FX thread)
+                views.remove(key, cached);
+            }
+        }
+
+        misses.increment();
+        View view = load(fxmlPath);
+        if (view.isCacheable()) {
+            views.put(key, CompletableFuture.completedFuture(view));
+        }
+        return view;
+    }
+
+    /**
+     * Load views on a background thread so the first navigation is instant
+     * @param fxmlPaths FXML resource paths
+     */
+    public void preload(String... fxmlPaths) {
+        for (String fxmlPath : fxmlPaths) {
+            views.computeIfAbsent(key(fxmlPath), key -> {
+                preloads.increment();
+                return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return load(fxmlPath);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, runnable -> {
+                    Thread thread = new Thread(runnable, "view-preload");
+                    thread.setDaemon(true);
+                    thread.start();
+                });
+            });
+        }
+    }
+
+    private View load(String fxmlPath) throws IOException {
+        URL resource = ViewCache.class.getResource(fxmlPath);
+        if (resource == null) {
+            throw new IOException("FXML not found: " + fxmlPath);
+        }
+        long start = System.nanoTime();
+        FXMLLoader loader = new FXMLLoader(resource);
+        Parent root = loader.load();
+        loadNanos.add(System.nanoTime() - start);
+        loads.increment();
+        return new View(fxmlPath, root, loader.getController());
+    }
+
+    /**
+     * Remove a view from the cache
+     * @param fxmlPath FXML resource path
+     */
+    public void invalidate(String fxmlPath) {
+        views.remove(key(fxmlPath));
+    }
+
+    /**
+     * Set the scope used by get, preload and invalidate
+     * @param scope Scope name, or null/empty for the shared scope
+     */
+    public void setScope(String scope) {
+        this.scope = scope != null ? scope : "";
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    /**
+     * Remove all views of a scope (e.g. when a user signs out)
+     * @param scope Scope name
+     */
+    public void invalidateScope(String scope) {
+        String prefix = (scope != null ? scope : "") + SCOPE_SEPARATOR;
+        views.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private String key(String fxmlPath) {
+        return scope + SCOPE_SEPARATOR + fxmlPath;
+    }
+
+    /**
+     * Remove all views from the cache
+     */
+    public void clear() {
+        views.clear();
+    }
+
+    public int getSize() {
+        return views.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getPreloads() {
+        return preloads.sum();
+    }
+
+    /**
+     * Get the average FXML load time in milliseconds
+     */
+    public double getAverageLoadMillis() {
+        long count = loads.sum();
+        return count == 0 ? 0 : loadNanos.sum() / 1e6 / count;
+    }
+
+    /**
+     * A loaded FXML view
+     */
+    public static class View {
+        private final String fxmlPath;
+        private final Parent root;
+        private final Object controller;
+        private Scene scene;
+        private boolean active;
+
+        View(String fxmlPath, Parent root, Object controller) {
+            this.fxmlPath = fxmlPath;
+            this.root = root;
+            this.controller = controller;
+        }
+
+        public String getFxmlPath() {
+            return fxmlPath;
+        }
+
+        public Parent getRoot() {
+            return root;
+        }
+
+        public Object getController() {
+            return controller;
+        }
+
+        /**
+         * Get the scene built for this view as a top-level page
+         * @return Scene or null if none was built yet
+         */
+        public Scene getScene() {
+            return scene;
+        }
+
+        public void setScene(Scene scene) {
+            this.scene = scene;
+        }
+
+        public boolean isCacheable() {
+            return controller instanceof ViewLifecycle;
+        }
+
+        /**
+         * Notify the controller that the view is shown
+         */
+        public void activate() {
+            if (!active && controller instanceof ViewLifecycle) {
+                active = true;
+                ((ViewLifecycle) controller).onActivate();
+            }
+        }
+
+        /**
+         * Notify the controller that the view is hidden
+         */
+        public void deactivate() {
+            if (active && controller instanceof ViewLifecycle) {
+                active = false;
+                ((ViewLifecycle) controller).onDeactivate();
+            }
+        }
+    }
+}
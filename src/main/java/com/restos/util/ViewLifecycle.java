@@ -0,0 +1,36 @@
+package com.restos.util;
+
+/**
+ * Lifecycle hooks for controllers whose views are kept in the ViewCache
+ *
+ * A cached view is loaded once and then shown and hidden many times:
+ * initialize() should only build the view, while loading data and
+ * starting timers belongs in onActivate() and stopping them in
+ * onDeactivate(). Controllers that do not implement this interface are
+ * reloaded on every navigation.
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public interface ViewLifecycle {
+
+    /**
+     * Called on the FX thread each time the view is shown
+     */
+    void onActivate();
+
+    /**
+     * Called on the FX thread when the view is hidden
+     */
+    default void onDeactivate() {
+    }
+
+    /**
+     * Called on the FX thread by the JIT warm-up after login: build the
+     * view's cards from the sample and discard them. Must not touch the
+     * database or the visible view
+     * @param sample Sample orders, items, tables and menus
+     */
+    default void warmUp(WarmupSample sample) {
+    }
+}
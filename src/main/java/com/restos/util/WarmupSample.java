@@ -0,0 +1,67 @@
+package com.restos.util;
+
+import com.restos.model.Menu;
+import com.restos.model.Order;
+import com.restos.model.OrderItem;
+import com.restos.model.Table;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sample data for the JIT warm-up
+ * Orders, order items and tables built from the menu catalog, passed to
+ * ViewLifecycle.warmUp() so controllers can build their cards without
+ * querying the database
+ *
+ * @author Restos Team
+ * @version 1.0.0
+ */
+public class WarmupSample {
+
+    private final List<Menu> menus;
+    private final List<Order> orders;
+    private final Map<Integer, List<OrderItem>> itemsByOrder = new HashMap<>();
+    private final List<Table> tables = new ArrayList<>();
+
+    public WarmupSample(List<Menu> menus, List<Order> orders, List<OrderItem> items) {
+        this.menus = menus;
+        this.orders = orders;
+        for (OrderItem item : items) {
+            itemsByOrder.computeIfAbsent(item.getOrderId(), id -> new ArrayList<>()).add(item);
+        }
+        for (Order order : orders) {
+            if (order.getTable() != null) {
+                tables.add(order.getTable());
+            }
+        }
+        // A few free tables so every table card variant is built
+        for (int i = 1; i <= 4; i++) {
+            tables.add(new Table(100 + i, "F" + i, 2 * i, Table.STATUS_AVAILABLE, null));
+        }
+    }
+
+    public List<Menu> getMenus() {
+        return menus;
+    }
+
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    /**
+     * Get the sample items of an order
+     * @param order Sample order
+     * @return Items, empty if none
+     */
+    public List<OrderItem> getItems(Order order) {
+        return itemsByOrder.getOrDefault(order.getId(), Collections.emptyList());
+    }
+
+    public List<Table> getTables() {
+        return tables;
+    }
+}